@@ -0,0 +1,128 @@
+package benchmarks.org.optimizationBenchmarking.utils.collections.maps;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optimizationBenchmarking.utils.collections.maps.ObjectMap;
+import org.optimizationBenchmarking.utils.collections.maps.ObjectMapEntry;
+import org.optimizationBenchmarking.utils.collections.maps.StringMap;
+
+/**
+ * A benchmark for filling and querying {@link ObjectMap}-based maps,
+ * compared to {@link HashMap}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapsBenchmark {
+
+  /** the map implementation */
+  @Param({ "StringMap", "ObjectMap", "HashMap" })
+  String m_map;
+
+  /** the number of keys */
+  @Param({ "16", "4096" })
+  int m_size;
+
+  /** the keys */
+  private String[] m_keys;
+  /** the filled map */
+  private Map<String, Object> m_filled;
+
+  /** create */
+  public MapsBenchmark() {
+    super();
+  }
+
+  /**
+   * create a new map
+   *
+   * @return the map
+   */
+  private final Map<String, Object> __create() {
+    switch (this.m_map) {
+      case "StringMap": { //$NON-NLS-1$
+        return new StringMap<Object>();
+      }
+      case "ObjectMap": { //$NON-NLS-1$
+        return new ObjectMap<String, Object, ObjectMapEntry<String, Object>>();
+      }
+      default: {
+        return new HashMap<String, Object>();
+      }
+    }
+  }
+
+  /** set up the data */
+  @Setup
+  public void setup() {
+    final Random random;
+
+    random = new Random(1L);
+    this.m_keys = new String[this.m_size];
+    for (int i = this.m_size; (--i) >= 0;) {
+      this.m_keys[i] = ("key" + Long.toString(random.nextLong(), 36)); //$NON-NLS-1$
+    }
+    this.m_filled = this.__create();
+    for (final String key : this.m_keys) {
+      this.m_filled.put(key, key);
+    }
+  }
+
+  /**
+   * fill a new map
+   *
+   * @return the map
+   */
+  @Benchmark
+  public Map<String, Object> put() {
+    final Map<String, Object> map;
+
+    map = this.__create();
+    for (final String key : this.m_keys) {
+      map.put(key, key);
+    }
+    return map;
+  }
+
+  /**
+   * query a filled map
+   *
+   * @param blackhole
+   *          the black hole
+   */
+  @Benchmark
+  public void get(final Blackhole blackhole) {
+    final Map<String, Object> map;
+
+    map = this.m_filled;
+    for (final String key : this.m_keys) {
+      blackhole.consume(map.get(key));
+    }
+  }
+
+  /**
+   * iterate over a filled map
+   *
+   * @param blackhole
+   *          the black hole
+   */
+  @Benchmark
+  public void iterate(final Blackhole blackhole) {
+    for (final Map.Entry<String, Object> entry : this.m_filled
+        .entrySet()) {
+      blackhole.consume(entry.getValue());
+    }
+  }
+}
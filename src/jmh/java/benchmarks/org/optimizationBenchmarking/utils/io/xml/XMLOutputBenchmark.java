@@ -0,0 +1,99 @@
+package benchmarks.org.optimizationBenchmarking.utils.io.xml;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.optimizationBenchmarking.utils.io.xml.XMLDocument;
+import org.optimizationBenchmarking.utils.io.xml.XMLElement;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+/**
+ * A benchmark for writing XML documents via the
+ * {@link org.optimizationBenchmarking.utils.io.xml XML API} into memory.
+ * The hand-written
+ * {@code examples.org.optimizationBenchmarking.utils.io.xml.performance.XMLPerformanceTest}
+ * compares the API with other XML serialization methods on different
+ * output destinations, whereas this benchmark tracks the cost of the API
+ * itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class XMLOutputBenchmark {
+
+  /** the namespace */
+  private static final URI NAMESPACE = URI
+      .create("http://www.optimizationBenchmarking.org/benchmark"); //$NON-NLS-1$
+
+  /** the number of child elements of the root element */
+  @Param({ "10", "1000" })
+  int m_children;
+
+  /** the number of grand-children of each child */
+  @Param({ "1", "10" })
+  int m_grandChildren;
+
+  /** should the document be confined to a single thread? */
+  @Param({ "false", "true" })
+  boolean m_singleThreaded;
+
+  /** the output */
+  private MemoryTextOutput m_out;
+
+  /** create */
+  public XMLOutputBenchmark() {
+    super();
+  }
+
+  /** set up the output */
+  @Setup
+  public void setup() {
+    this.m_out = new MemoryTextOutput();
+  }
+
+  /**
+   * write a document
+   *
+   * @return the length of the document
+   */
+  @Benchmark
+  public int writeDocument() {
+    final MemoryTextOutput out;
+
+    out = this.m_out;
+    out.clear();
+
+    try (final XMLDocument doc = new XMLDocument(out,
+        this.m_singleThreaded)) {
+      try (final XMLElement root = doc.element()) {
+        root.namespaceSetPrefix(XMLOutputBenchmark.NAMESPACE, "b"); //$NON-NLS-1$
+        root.name(XMLOutputBenchmark.NAMESPACE, "root"); //$NON-NLS-1$
+        for (int i = 0; i < this.m_children; i++) {
+          try (final XMLElement child = root.element()) {
+            child.name(XMLOutputBenchmark.NAMESPACE, "child"); //$NON-NLS-1$
+            child.attributeRaw(XMLOutputBenchmark.NAMESPACE, "index", //$NON-NLS-1$
+                Integer.toString(i));
+            for (int j = 0; j < this.m_grandChildren; j++) {
+              try (final XMLElement grandChild = child.element()) {
+                grandChild.name(XMLOutputBenchmark.NAMESPACE, "value"); //$NON-NLS-1$
+                grandChild.attributeEncoded(XMLOutputBenchmark.NAMESPACE,
+                    "text", "a < b & c > d"); //$NON-NLS-1$//$NON-NLS-2$
+                grandChild.textRaw().append(i * j);
+              }
+            }
+          }
+        }
+      }
+    }
+
+    return out.length();
+  }
+}
@@ -0,0 +1,17 @@
+/**
+ * <p>
+ * Micro benchmarks for the hot paths of the utilities, based on the
+ * <a href="http://openjdk.java.net/projects/code-tools/jmh/">Java
+ * Microbenchmark Harness (JMH)</a>.
+ * </p>
+ * <p>
+ * The benchmarks are only compiled if the Maven profile {@code jmh} is
+ * active. They can be run via
+ * {@code mvn -P jmh test-compile exec:exec}. Arguments for the JMH runner
+ * can be specified via the property {@code jmh.args}, e.g.,
+ * {@code -Djmh.args="-f 1 -wi 3 -i 5 Parsers"} runs only the parser
+ * benchmarks with a single fork, three warm-up iterations, and five
+ * measurement iterations.
+ * </p>
+ */
+package benchmarks.org.optimizationBenchmarking.utils;
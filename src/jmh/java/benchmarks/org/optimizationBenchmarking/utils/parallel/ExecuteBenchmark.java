@@ -0,0 +1,100 @@
+package benchmarks.org.optimizationBenchmarking.utils.parallel;
+
+import java.util.ArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * A benchmark for the overhead of submitting tasks to and joining them
+ * via {@link Execute}, compared to running the same work in the calling
+ * thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExecuteBenchmark {
+
+  /** the number of tasks to submit */
+  @Param({ "1", "16", "256" })
+  int m_tasks;
+
+  /** the amount of work done by each task */
+  @Param({ "10", "1000" })
+  int m_work;
+
+  /** create */
+  public ExecuteBenchmark() {
+    super();
+  }
+
+  /**
+   * Run all tasks in the calling thread
+   *
+   * @param blackhole
+   *          the black hole
+   */
+  @Benchmark
+  public void sequential(final Blackhole blackhole) {
+    for (int i = this.m_tasks; (--i) >= 0;) {
+      new __Task(this.m_work, blackhole).run();
+    }
+  }
+
+  /**
+   * Submit all tasks via {@link Execute#parallel(Runnable)} and join
+   * them
+   *
+   * @param blackhole
+   *          the black hole
+   */
+  @Benchmark
+  public void parallel(final Blackhole blackhole) {
+    final ArrayList<Future<Void>> futures;
+
+    futures = new ArrayList<>(this.m_tasks);
+    for (int i = this.m_tasks; (--i) >= 0;) {
+      futures.add(Execute.parallel(new __Task(this.m_work, blackhole)));
+    }
+    Execute.join(futures);
+  }
+
+  /** a task consuming some cpu time */
+  private static final class __Task implements Runnable {
+
+    /** the amount of work */
+    private final int m_work;
+    /** the black hole */
+    private final Blackhole m_blackhole;
+
+    /**
+     * create
+     *
+     * @param work
+     *          the amount of work
+     * @param blackhole
+     *          the black hole
+     */
+    __Task(final int work, final Blackhole blackhole) {
+      super();
+      this.m_work = work;
+      this.m_blackhole = blackhole;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      Blackhole.consumeCPU(this.m_work);
+      this.m_blackhole.consume(this);
+    }
+  }
+}
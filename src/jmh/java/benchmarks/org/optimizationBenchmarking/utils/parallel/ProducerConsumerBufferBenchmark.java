@@ -0,0 +1,78 @@
+package benchmarks.org.optimizationBenchmarking.utils.parallel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.ByteRingBuffer;
+
+/**
+ * A benchmark for passing chunks of bytes through a
+ * {@link ByteProducerConsumerBuffer} and a {@link ByteRingBuffer}, as done
+ * when buffering the streams of external processes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProducerConsumerBufferBenchmark {
+
+  /** the size of the chunks written and read */
+  @Param({ "16", "1024", "65536" })
+  int m_chunk;
+
+  /** the source data */
+  private byte[] m_source;
+  /** the destination data */
+  private byte[] m_dest;
+  /** the producer-consumer buffer */
+  private ByteProducerConsumerBuffer m_buffer;
+  /** the ring buffer */
+  private ByteRingBuffer m_ring;
+
+  /** create */
+  public ProducerConsumerBufferBenchmark() {
+    super();
+  }
+
+  /** set up the buffers */
+  @Setup
+  public void setup() {
+    this.m_source = new byte[this.m_chunk];
+    for (int i = this.m_chunk; (--i) >= 0;) {
+      this.m_source[i] = ((byte) i);
+    }
+    this.m_dest = new byte[this.m_chunk];
+    this.m_buffer = new ByteProducerConsumerBuffer();
+    this.m_ring = new ByteRingBuffer();
+  }
+
+  /**
+   * Write a chunk to the producer-consumer buffer and read it back
+   *
+   * @return the number of bytes read
+   */
+  @Benchmark
+  public int producerConsumerBuffer() {
+    this.m_buffer.writeToBuffer(this.m_source, 0, this.m_chunk);
+    return this.m_buffer.readFromBufferFully(this.m_dest, 0,
+        this.m_chunk);
+  }
+
+  /**
+   * Write a chunk to the ring buffer and read it back
+   *
+   * @return the number of bytes read
+   */
+  @Benchmark
+  public int ringBuffer() {
+    this.m_ring.writeToBuffer(this.m_source, 0, this.m_chunk);
+    return this.m_ring.readFromBufferFully(this.m_dest, 0, this.m_chunk);
+  }
+}
@@ -0,0 +1,141 @@
+package benchmarks.org.optimizationBenchmarking.utils.parsers;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optimizationBenchmarking.utils.parsers.AnyNumberParser;
+import org.optimizationBenchmarking.utils.parsers.LooseDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LooseIntParser;
+import org.optimizationBenchmarking.utils.parsers.LooseLongParser;
+
+/**
+ * A benchmark for the number parsers, both on plain number strings which
+ * Java could parse directly and on the looser syntaxes (white space,
+ * underscores, base prefixes, constants, and percent signs).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParsersBenchmark {
+
+  /** the syntax of the strings to parse */
+  @Param({ "plain", "loose" })
+  String m_syntax;
+
+  /** the number of strings to parse */
+  private static final int COUNT = 1024;
+
+  /** the integer strings */
+  private String[] m_integers;
+  /** the floating point strings */
+  private String[] m_doubles;
+
+  /** create */
+  public ParsersBenchmark() {
+    super();
+  }
+
+  /** set up the data */
+  @Setup
+  public void setup() {
+    final Random random;
+    final boolean loose;
+    long value;
+
+    loose = "loose".equals(this.m_syntax); //$NON-NLS-1$
+    random = new Random(1L);
+    this.m_integers = new String[ParsersBenchmark.COUNT];
+    this.m_doubles = new String[ParsersBenchmark.COUNT];
+    for (int i = ParsersBenchmark.COUNT; (--i) >= 0;) {
+      value = random.nextInt();
+      if (loose) {
+        switch (i & 3) {
+          case 0: {
+            this.m_integers[i] = ("0x" + Long.toHexString(Math.abs(value))); //$NON-NLS-1$
+            this.m_doubles[i] = (" " + value + " "); //$NON-NLS-1$//$NON-NLS-2$
+            break;
+          }
+          case 1: {
+            this.m_integers[i] = ("1_" + (Math.abs(value) % 1000000)); //$NON-NLS-1$
+            this.m_doubles[i] = ((value % 1000) + "%"); //$NON-NLS-1$
+            break;
+          }
+          case 2: {
+            this.m_integers[i] = "Integer#MAX_VALUE"; //$NON-NLS-1$
+            this.m_doubles[i] = "Math#PI"; //$NON-NLS-1$
+            break;
+          }
+          default: {
+            this.m_integers[i] = (" - " + Math.abs(value)); //$NON-NLS-1$
+            this.m_doubles[i] = (random.nextGaussian() + "d"); //$NON-NLS-1$
+          }
+        }
+      } else {
+        this.m_integers[i] = Long.toString(value);
+        this.m_doubles[i] = Double.toString(random.nextGaussian()
+            * Math.pow(10d, (random.nextInt(40) - 20)));
+      }
+    }
+  }
+
+  /**
+   * parse {@code int}s
+   *
+   * @param blackhole
+   *          the black hole
+   */
+  @Benchmark
+  public void parseInt(final Blackhole blackhole) {
+    for (final String string : this.m_integers) {
+      blackhole.consume(LooseIntParser.INSTANCE.parseInt(string));
+    }
+  }
+
+  /**
+   * parse {@code long}s
+   *
+   * @param blackhole
+   *          the black hole
+   */
+  @Benchmark
+  public void parseLong(final Blackhole blackhole) {
+    for (final String string : this.m_integers) {
+      blackhole.consume(LooseLongParser.INSTANCE.parseLong(string));
+    }
+  }
+
+  /**
+   * parse {@code double}s
+   *
+   * @param blackhole
+   *          the black hole
+   */
+  @Benchmark
+  public void parseDouble(final Blackhole blackhole) {
+    for (final String string : this.m_doubles) {
+      blackhole.consume(LooseDoubleParser.INSTANCE.parseDouble(string));
+    }
+  }
+
+  /**
+   * parse arbitrary numbers
+   *
+   * @param blackhole
+   *          the black hole
+   */
+  @Benchmark
+  public void parseAnyNumber(final Blackhole blackhole) {
+    for (final String string : this.m_doubles) {
+      blackhole.consume(AnyNumberParser.INSTANCE.parseString(string));
+    }
+  }
+}
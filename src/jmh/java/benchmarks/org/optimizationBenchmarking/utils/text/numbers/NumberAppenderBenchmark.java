@@ -0,0 +1,117 @@
+package benchmarks.org.optimizationBenchmarking.utils.text.numbers;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.optimizationBenchmarking.utils.text.ETextCase;
+import org.optimizationBenchmarking.utils.text.numbers.InTextNumberAppender;
+import org.optimizationBenchmarking.utils.text.numbers.NumberAppender;
+import org.optimizationBenchmarking.utils.text.numbers.SimpleNumberAppender;
+import org.optimizationBenchmarking.utils.text.numbers.TextNumberAppender;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+/**
+ * A benchmark for the {@link NumberAppender number appenders}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NumberAppenderBenchmark {
+
+  /** the number appender to use */
+  @Param({ "simple", "inText", "text" })
+  String m_appender;
+
+  /** the number of values to append */
+  private static final int COUNT = 1024;
+
+  /** the appender */
+  private NumberAppender m_use;
+  /** the long values */
+  private long[] m_longs;
+  /** the double values */
+  private double[] m_doubles;
+  /** the output */
+  private MemoryTextOutput m_out;
+
+  /** create */
+  public NumberAppenderBenchmark() {
+    super();
+  }
+
+  /** set up the data */
+  @Setup
+  public void setup() {
+    final Random random;
+
+    switch (this.m_appender) {
+      case "inText": { //$NON-NLS-1$
+        this.m_use = InTextNumberAppender.INSTANCE;
+        break;
+      }
+      case "text": { //$NON-NLS-1$
+        this.m_use = TextNumberAppender.INSTANCE;
+        break;
+      }
+      default: {
+        this.m_use = SimpleNumberAppender.INSTANCE;
+      }
+    }
+
+    random = new Random(1L);
+    this.m_longs = new long[NumberAppenderBenchmark.COUNT];
+    this.m_doubles = new double[NumberAppenderBenchmark.COUNT];
+    for (int i = NumberAppenderBenchmark.COUNT; (--i) >= 0;) {
+      this.m_longs[i] = (random.nextLong() >> random.nextInt(64));
+      this.m_doubles[i] = (random.nextGaussian()
+          * Math.pow(10d, (random.nextInt(20) - 10)));
+    }
+    this.m_out = new MemoryTextOutput();
+  }
+
+  /**
+   * append {@code long} values
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int appendLongs() {
+    final MemoryTextOutput out;
+    final NumberAppender use;
+
+    out = this.m_out;
+    out.clear();
+    use = this.m_use;
+    for (final long value : this.m_longs) {
+      use.appendTo(value, ETextCase.IN_SENTENCE, out);
+    }
+    return out.length();
+  }
+
+  /**
+   * append {@code double} values
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int appendDoubles() {
+    final MemoryTextOutput out;
+    final NumberAppender use;
+
+    out = this.m_out;
+    out.clear();
+    use = this.m_use;
+    for (final double value : this.m_doubles) {
+      use.appendTo(value, ETextCase.IN_SENTENCE, out);
+    }
+    return out.length();
+  }
+}
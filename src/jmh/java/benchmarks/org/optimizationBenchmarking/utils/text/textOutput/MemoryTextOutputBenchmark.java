@@ -0,0 +1,156 @@
+package benchmarks.org.optimizationBenchmarking.utils.text.textOutput;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+/**
+ * A benchmark for appending strings and primitive values to a
+ * {@link MemoryTextOutput}, compared to a {@link StringBuilder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemoryTextOutputBenchmark {
+
+  /** the number of elements to append */
+  @Param({ "16", "4096" })
+  int m_count;
+
+  /** the strings to append */
+  private String[] m_strings;
+  /** the integers to append */
+  private int[] m_ints;
+  /** the longs to append */
+  private long[] m_longs;
+  /** the doubles to append */
+  private double[] m_doubles;
+
+  /** create */
+  public MemoryTextOutputBenchmark() {
+    super();
+  }
+
+  /** set up the data */
+  @Setup
+  public void setup() {
+    final Random random;
+
+    random = new Random(1L);
+    this.m_strings = new String[this.m_count];
+    this.m_ints = new int[this.m_count];
+    this.m_longs = new long[this.m_count];
+    this.m_doubles = new double[this.m_count];
+    for (int i = this.m_count; (--i) >= 0;) {
+      this.m_ints[i] = random.nextInt();
+      this.m_longs[i] = random.nextLong();
+      this.m_doubles[i] = (random.nextGaussian() * 1e5d);
+      this.m_strings[i] = Long.toString(this.m_longs[i], 36);
+    }
+  }
+
+  /**
+   * append strings to a memory text output
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int appendStrings() {
+    final MemoryTextOutput out;
+
+    out = new MemoryTextOutput();
+    for (final String string : this.m_strings) {
+      out.append(string);
+    }
+    return out.length();
+  }
+
+  /**
+   * append strings to a string builder
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int appendStringsBaseline() {
+    final StringBuilder out;
+
+    out = new StringBuilder();
+    for (final String string : this.m_strings) {
+      out.append(string);
+    }
+    return out.length();
+  }
+
+  /**
+   * append integers to a memory text output
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int appendInts() {
+    final MemoryTextOutput out;
+
+    out = new MemoryTextOutput();
+    for (final int value : this.m_ints) {
+      out.append(value);
+    }
+    return out.length();
+  }
+
+  /**
+   * append longs to a memory text output
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int appendLongs() {
+    final MemoryTextOutput out;
+
+    out = new MemoryTextOutput();
+    for (final long value : this.m_longs) {
+      out.append(value);
+    }
+    return out.length();
+  }
+
+  /**
+   * append doubles to a memory text output
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int appendDoubles() {
+    final MemoryTextOutput out;
+
+    out = new MemoryTextOutput();
+    for (final double value : this.m_doubles) {
+      out.append(value);
+    }
+    return out.length();
+  }
+
+  /**
+   * append doubles to a string builder
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int appendDoublesBaseline() {
+    final StringBuilder out;
+
+    out = new StringBuilder();
+    for (final double value : this.m_doubles) {
+      out.append(value);
+    }
+    return out.length();
+  }
+}
@@ -0,0 +1,113 @@
+package benchmarks.org.optimizationBenchmarking.utils.text.transformations;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.optimizationBenchmarking.utils.text.textOutput.AbstractTextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+import org.optimizationBenchmarking.utils.text.transformations.CharTransformer;
+import org.optimizationBenchmarking.utils.text.transformations.JavaCharTransformer;
+import org.optimizationBenchmarking.utils.text.transformations.LaTeXCharTransformer;
+import org.optimizationBenchmarking.utils.text.transformations.XMLCharTransformer;
+
+/**
+ * A benchmark for the {@link CharTransformer character transformers}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CharTransformerBenchmark {
+
+  /** the transformer to use */
+  @Param({ "XML", "LaTeX", "Java" })
+  String m_transformer;
+
+  /** the fraction of characters which need to be transformed, in percent */
+  @Param({ "0", "10", "100" })
+  int m_special;
+
+  /** the length of the text */
+  private static final int LENGTH = 4096;
+
+  /** the characters which need to be transformed */
+  private static final String SPECIAL = "<>&\"'\\{}$%_#\u00e4\u00f6\u00fc\u00df\u03b1\u2264"; //$NON-NLS-1$
+
+  /** the transformer */
+  private CharTransformer m_use;
+  /** the text */
+  private String m_text;
+  /** the output */
+  private MemoryTextOutput m_out;
+
+  /** create */
+  public CharTransformerBenchmark() {
+    super();
+  }
+
+  /** set up the data */
+  @Setup
+  public void setup() {
+    final Random random;
+    final char[] text;
+
+    switch (this.m_transformer) {
+      case "LaTeX": { //$NON-NLS-1$
+        this.m_use = LaTeXCharTransformer.getInstance();
+        break;
+      }
+      case "Java": { //$NON-NLS-1$
+        this.m_use = JavaCharTransformer.getInstance();
+        break;
+      }
+      default: {
+        this.m_use = XMLCharTransformer.getInstance();
+      }
+    }
+
+    random = new Random(1L);
+    text = new char[CharTransformerBenchmark.LENGTH];
+    for (int i = text.length; (--i) >= 0;) {
+      if (random.nextInt(100) < this.m_special) {
+        text[i] = CharTransformerBenchmark.SPECIAL.charAt(
+            random.nextInt(CharTransformerBenchmark.SPECIAL.length()));
+      } else {
+        text[i] = ((char) ('a' + random.nextInt(26)));
+      }
+    }
+    this.m_text = String.valueOf(text);
+    this.m_out = new MemoryTextOutput();
+  }
+
+  /**
+   * transform a string into a new string
+   *
+   * @return the result
+   */
+  @Benchmark
+  public String transformString() {
+    return this.m_use.transform(this.m_text);
+  }
+
+  /**
+   * transform a string into a text output
+   *
+   * @return the result
+   */
+  @Benchmark
+  public int transformToOutput() {
+    final AbstractTextOutput out;
+
+    this.m_out.clear();
+    out = this.m_use.transform(this.m_out);
+    out.append(this.m_text);
+    return this.m_out.length();
+  }
+}
@@ -0,0 +1,138 @@
+package org.optimizationBenchmarking.utils.collections.cache;
+
+import org.optimizationBenchmarking.utils.text.Textable;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+
+/**
+ * An immutable snapshot of the statistics of a cache, such as the one
+ * returned by {@link ConcurrentMapCache#getStatistics()}.
+ */
+public final class CacheStatistics extends Textable {
+
+  /** the number of entries */
+  private final long m_size;
+  /** the total weight of the entries */
+  private final long m_weight;
+  /** the number of successful look-ups */
+  private final long m_hits;
+  /** the number of failed look-ups */
+  private final long m_misses;
+  /** the number of entries evicted due to the size or weight limit */
+  private final long m_evictions;
+  /** the number of entries removed because they had expired */
+  private final long m_expirations;
+
+  /**
+   * create the statistics record
+   *
+   * @param size
+   *          the number of entries
+   * @param weight
+   *          the total weight of the entries
+   * @param hits
+   *          the number of successful look-ups
+   * @param misses
+   *          the number of failed look-ups
+   * @param evictions
+   *          the number of entries evicted due to the size or weight
+   *          limit
+   * @param expirations
+   *          the number of entries removed because they had expired
+   */
+  CacheStatistics(final long size, final long weight, final long hits,
+      final long misses, final long evictions, final long expirations) {
+    super();
+    this.m_size = size;
+    this.m_weight = weight;
+    this.m_hits = hits;
+    this.m_misses = misses;
+    this.m_evictions = evictions;
+    this.m_expirations = expirations;
+  }
+
+  /**
+   * Get the number of entries in the cache
+   *
+   * @return the number of entries in the cache
+   */
+  public final long getSize() {
+    return this.m_size;
+  }
+
+  /**
+   * Get the total weight of the entries in the cache. If the cache has no
+   * {@link ICacheWeigher weigher}, each entry has weight {@code 1}.
+   *
+   * @return the total weight of the entries in the cache
+   */
+  public final long getWeight() {
+    return this.m_weight;
+  }
+
+  /**
+   * Get the number of look-ups which found a value
+   *
+   * @return the number of look-ups which found a value
+   */
+  public final long getHits() {
+    return this.m_hits;
+  }
+
+  /**
+   * Get the number of look-ups which did not find a value
+   *
+   * @return the number of look-ups which did not find a value
+   */
+  public final long getMisses() {
+    return this.m_misses;
+  }
+
+  /**
+   * Get the fraction of look-ups which found a value
+   *
+   * @return the hit rate, a value in {@code [0,1]}, or {@code 0} if there
+   *         have not been any look-ups yet
+   */
+  public final double getHitRate() {
+    final long total;
+    total = (this.m_hits + this.m_misses);
+    return ((total > 0L) ? (this.m_hits / ((double) total)) : 0d);
+  }
+
+  /**
+   * Get the number of entries evicted because the cache exceeded its size
+   * or weight limit
+   *
+   * @return the number of evicted entries
+   */
+  public final long getEvictions() {
+    return this.m_evictions;
+  }
+
+  /**
+   * Get the number of entries removed because their time-to-live had
+   * passed
+   *
+   * @return the number of expired entries
+   */
+  public final long getExpirations() {
+    return this.m_expirations;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void toText(final ITextOutput textOut) {
+    textOut.append("size="); //$NON-NLS-1$
+    textOut.append(this.m_size);
+    textOut.append(", weight="); //$NON-NLS-1$
+    textOut.append(this.m_weight);
+    textOut.append(", hits="); //$NON-NLS-1$
+    textOut.append(this.m_hits);
+    textOut.append(", misses="); //$NON-NLS-1$
+    textOut.append(this.m_misses);
+    textOut.append(", evictions="); //$NON-NLS-1$
+    textOut.append(this.m_evictions);
+    textOut.append(", expirations="); //$NON-NLS-1$
+    textOut.append(this.m_expirations);
+  }
+}
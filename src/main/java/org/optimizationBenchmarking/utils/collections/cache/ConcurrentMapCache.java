@@ -0,0 +1,410 @@
+package org.optimizationBenchmarking.utils.collections.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A bounded cache that can store key-value pairs and be accessed by many
+ * threads concurrently. It offers the same {@link #get(Object)} and
+ * {@link #put(Object, Object, boolean)} methods as {@link MapCache}, but
+ * instead of relying on the garbage collector, it keeps strong references
+ * to a limited number (or total {@linkplain ICacheWeigher weight}) of
+ * entries and evicts the least-recently used ones if this limit is
+ * exceeded. Optionally, entries can also expire a given time after they
+ * were stored.
+ * </p>
+ * <p>
+ * The cache is divided into independently locked segments, each of which
+ * is an access-ordered {@link java.util.LinkedHashMap} holding the entries
+ * whose keys hash into it and a fraction of the total size or weight
+ * limit. Threads accessing keys in different segments therefore do not
+ * contend, and the least-recently used entry of a segment can be found in
+ * constant time. The hit, miss, eviction, and expiration counters are also
+ * kept per segment and updated under its lock, so they do not add any
+ * synchronization either. They can be obtained via
+ * {@link #getStatistics()}.
+ * </p>
+ *
+ * @param <K>
+ *          the key type
+ * @param <V>
+ *          the value type
+ */
+public final class ConcurrentMapCache<K, V> extends Cache {
+
+  /** the default maximum number of entries: {@value} */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /** the maximum number of segments */
+  private static final int MAX_SEGMENTS = 64;
+
+  /** the segments */
+  private final __Segment<K, V>[] m_segments;
+
+  /** the weigher, or {@code null} if each entry has weight 1 */
+  private final ICacheWeigher<? super K, ? super V> m_weigher;
+
+  /** the time to live in nanoseconds, or {@code 0} for no expiration */
+  private final long m_timeToLive;
+
+  /**
+   * create a cache with the given maximum weight and expiry time
+   *
+   * @param maxWeight
+   *          the maximum total weight of all entries, or, if
+   *          {@code weigher==null}, the maximum number of entries
+   * @param weigher
+   *          the weigher computing the weight of each entry, or
+   *          {@code null} if each entry should have weight {@code 1}
+   * @param timeToLive
+   *          the time after which an entry expires, or {@code 0} if
+   *          entries should never expire
+   * @param unit
+   *          the unit of {@code timeToLive}
+   */
+  public ConcurrentMapCache(final long maxWeight,
+      final ICacheWeigher<? super K, ? super V> weigher,
+      final long timeToLive, final TimeUnit unit) {
+    super();
+
+    final long segmentWeight;
+    int segments;
+
+    if (maxWeight <= 0L) {
+      throw new IllegalArgumentException(//
+          "Maximum weight of cache must be positive, but is " //$NON-NLS-1$
+              + maxWeight + '.');
+    }
+    if (timeToLive < 0L) {
+      throw new IllegalArgumentException(//
+          "Time to live of cache entries must not be negative, but is " //$NON-NLS-1$
+              + timeToLive + '.');
+    }
+    if ((timeToLive > 0L) && (unit == null)) {
+      throw new IllegalArgumentException(//
+          "Time unit must not be null if a time to live is specified."); //$NON-NLS-1$
+    }
+
+    // choose the number of segments as a power of two which is about
+    // four times the number of processors, but such that each segment
+    // can hold a reasonable amount of weight
+    segments = 1;
+    while ((segments < ConcurrentMapCache.MAX_SEGMENTS)
+        && (segments < (Runtime.getRuntime().availableProcessors() << 2))
+        && ((maxWeight / (segments << 1)) >= 16L)) {
+      segments <<= 1;
+    }
+
+    segmentWeight = (((maxWeight + segments) - 1L) / segments);
+    this.m_segments = ConcurrentMapCache.__newSegments(segments);
+    for (; (--segments) >= 0;) {
+      this.m_segments[segments] = new __Segment<>(segmentWeight);
+    }
+
+    this.m_weigher = weigher;
+    this.m_timeToLive = ((timeToLive > 0L) ? unit.toNanos(timeToLive)
+        : 0L);
+  }
+
+  /**
+   * create a cache holding at most the given number of entries
+   *
+   * @param capacity
+   *          the maximum number of entries
+   */
+  public ConcurrentMapCache(final int capacity) {
+    this(capacity, null, 0L, null);
+  }
+
+  /**
+   * create a cache holding at most
+   * {@link #DEFAULT_CAPACITY} entries
+   */
+  public ConcurrentMapCache() {
+    this(ConcurrentMapCache.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create an array of segments
+   *
+   * @param size
+   *          the size of the array
+   * @return the array
+   * @param <K>
+   *          the key type
+   * @param <V>
+   *          the value type
+   */
+  @SuppressWarnings("unchecked")
+  private static final <K, V> __Segment<K, V>[] __newSegments(
+      final int size) {
+    return ((__Segment<K, V>[]) //
+    (new __Segment<?, ?>[size]));
+  }
+
+  /**
+   * Get the segment for a given key
+   *
+   * @param key
+   *          the key
+   * @return the segment
+   */
+  private final __Segment<K, V> __segment(final Object key) {
+    int hash;
+
+    hash = key.hashCode();
+    hash ^= (hash >>> 16);
+    hash *= 0x85ebca6b;
+    hash ^= (hash >>> 13);
+    return this.m_segments[hash & (this.m_segments.length - 1)];
+  }
+
+  /**
+   * Get the value belonging to a given key
+   *
+   * @param key
+   *          the key
+   * @return the value, or {@code null} if no (unexpired) value is stored
+   *         for the key
+   */
+  public final V get(final K key) {
+    final __Segment<K, V> segment;
+    final __Entry<V> entry;
+
+    if (key == null) {
+      return null;
+    }
+
+    segment = this.__segment(key);
+    synchronized (segment) {
+      entry = segment.get(key);
+      if (entry != null) {
+        if ((entry.m_expires == 0L)
+            || ((entry.m_expires - System.nanoTime()) > 0L)) {
+          segment.m_hits++;
+          return entry.m_value;
+        }
+        segment.remove(key);
+        segment.m_weight -= entry.m_weight;
+        segment.m_expirations++;
+      }
+      segment.m_misses++;
+      return null;
+    }
+  }
+
+  /**
+   * Put a key-value pair.
+   *
+   * @param key
+   *          the key
+   * @param value
+   *          the value
+   * @param ifNew
+   *          {@code true} if the value is only stored if no value is
+   *          already stored, {@code false} otherwise
+   * @return the element stored under the key
+   */
+  public final V put(final K key, final V value, final boolean ifNew) {
+    final __Segment<K, V> segment;
+    final long weight, now;
+    __Entry<V> entry;
+
+    if (key == null) {
+      return null;
+    }
+
+    weight = ((this.m_weigher != null) ? this.m_weigher.weigh(key, value)
+        : 1L);
+    if (weight < 0L) {
+      throw new IllegalArgumentException(//
+          "Weight of cache entry must not be negative, but is " //$NON-NLS-1$
+              + weight + '.');
+    }
+
+    now = ((this.m_timeToLive > 0L) ? System.nanoTime() : 0L);
+    segment = this.__segment(key);
+    synchronized (segment) {
+      entry = segment.get(key);
+      if (entry != null) {
+        if ((entry.m_expires != 0L) && ((entry.m_expires - now) <= 0L)) {
+          segment.m_expirations++;
+        } else {
+          if (ifNew) {
+            return entry.m_value;
+          }
+        }
+        segment.remove(key);
+        segment.m_weight -= entry.m_weight;
+      }
+
+      if (weight > segment.m_maxWeight) {
+        // the entry could never fit into the segment
+        segment.m_evictions++;
+        return value;
+      }
+
+      entry = new __Entry<>(value, weight,
+          ((this.m_timeToLive > 0L)
+              ? Math.max(1L, (now + this.m_timeToLive)) : 0L));
+      segment.put(key, entry);
+      segment.m_weight += weight;
+      segment._evict();
+    }
+    return value;
+  }
+
+  /**
+   * Remove the value stored under a given key
+   *
+   * @param key
+   *          the key
+   * @return the value which was stored under the key, or {@code null} if
+   *         none was stored
+   */
+  public final V remove(final K key) {
+    final __Segment<K, V> segment;
+    final __Entry<V> entry;
+
+    if (key == null) {
+      return null;
+    }
+
+    segment = this.__segment(key);
+    synchronized (segment) {
+      entry = segment.remove(key);
+      if (entry == null) {
+        return null;
+      }
+      segment.m_weight -= entry.m_weight;
+      return entry.m_value;
+    }
+  }
+
+  /** Remove all entries from this cache. */
+  public final void clear() {
+    for (final __Segment<K, V> segment : this.m_segments) {
+      synchronized (segment) {
+        segment.clear();
+        segment.m_weight = 0L;
+      }
+    }
+  }
+
+  /**
+   * Get a snapshot of the statistics of this cache.
+   *
+   * @return the statistics
+   */
+  public final CacheStatistics getStatistics() {
+    long size, weight, hits, misses, evictions, expirations;
+
+    size = weight = hits = misses = evictions = expirations = 0L;
+    for (final __Segment<K, V> segment : this.m_segments) {
+      synchronized (segment) {
+        size += segment.size();
+        weight += segment.m_weight;
+        hits += segment.m_hits;
+        misses += segment.m_misses;
+        evictions += segment.m_evictions;
+        expirations += segment.m_expirations;
+      }
+    }
+
+    return new CacheStatistics(size, weight, hits, misses, evictions,
+        expirations);
+  }
+
+  /**
+   * A cache entry
+   *
+   * @param <V>
+   *          the value type
+   */
+  private static final class __Entry<V> {
+    /** the value */
+    final V m_value;
+    /** the weight */
+    final long m_weight;
+    /** the expiry time in nanoseconds, or {@code 0} if it never expires */
+    final long m_expires;
+
+    /**
+     * create
+     *
+     * @param value
+     *          the value
+     * @param weight
+     *          the weight
+     * @param expires
+     *          the expiry time in nanoseconds, or {@code 0} if the entry
+     *          never expires
+     */
+    __Entry(final V value, final long weight, final long expires) {
+      super();
+      this.m_value = value;
+      this.m_weight = weight;
+      this.m_expires = expires;
+    }
+  }
+
+  /**
+   * A segment of the cache, which is an access-ordered map, i.e., its
+   * iteration order goes from the least-recently to the most-recently
+   * used entry. All access must be synchronized on the segment.
+   *
+   * @param <K>
+   *          the key type
+   * @param <V>
+   *          the value type
+   */
+  private static final class __Segment<K, V>
+      extends LinkedHashMap<K, __Entry<V>> {
+
+    /** the serial version uid */
+    private static final long serialVersionUID = 1L;
+
+    /** the maximum weight */
+    final long m_maxWeight;
+    /** the current weight */
+    long m_weight;
+    /** the number of hits */
+    long m_hits;
+    /** the number of misses */
+    long m_misses;
+    /** the number of evictions */
+    long m_evictions;
+    /** the number of expirations */
+    long m_expirations;
+
+    /**
+     * create
+     *
+     * @param maxWeight
+     *          the maximum weight
+     */
+    __Segment(final long maxWeight) {
+      super(16, 0.75f, true);
+      this.m_maxWeight = maxWeight;
+    }
+
+    /** evict the least-recently used entries until the weight fits */
+    final void _evict() {
+      final Iterator<Map.Entry<K, __Entry<V>>> iterator;
+
+      if (this.m_weight <= this.m_maxWeight) {
+        return;
+      }
+
+      iterator = this.entrySet().iterator();
+      while ((this.m_weight > this.m_maxWeight) && iterator.hasNext()) {
+        this.m_weight -= iterator.next().getValue().m_weight;
+        iterator.remove();
+        this.m_evictions++;
+      }
+    }
+  }
+}
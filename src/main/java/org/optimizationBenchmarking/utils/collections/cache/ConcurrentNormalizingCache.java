@@ -0,0 +1,343 @@
+package org.optimizationBenchmarking.utils.collections.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * <p>
+ * A normalizing cache which can be used by many threads concurrently: You
+ * pass an object into {@link #normalize(Object)}. If an
+ * {@linkplain java.lang.Object#equals(Object) equal} object has been
+ * passed into this method before and is still referenced somewhere, this
+ * original instance is returned. Otherwise, the new object instance is
+ * remembered and returned. Different from {@link NormalizingCache}, the
+ * canonical instances are only referenced weakly, i.e., each of them
+ * remains in the cache exactly as long as it is used anywhere else, and
+ * the cache is not flushed as a whole under memory pressure.
+ * </p>
+ * <p>
+ * The cache is divided into independently locked segments, so threads
+ * normalizing objects with different hash codes usually do not contend.
+ * Optionally, the cache can be partitioned by the
+ * {@linkplain java.lang.Object#getClass() type} of the objects, in which
+ * case each type gets its own set of segments. This avoids contention
+ * between loaders of different types of objects and guarantees that only
+ * objects of the same type are ever compared with each other.
+ * </p>
+ * <p>
+ * The cache counts the duplicates it has eliminated and estimates the
+ * memory saved by this, either with a user-provided
+ * {@link ICacheWeigher weigher} or with a rough default estimate of the
+ * shallow size of the objects. These numbers can be obtained via
+ * {@link #getStatistics()}.
+ * </p>
+ */
+public final class ConcurrentNormalizingCache extends Cache {
+
+  /** the maximum number of segments per partition */
+  private static final int MAX_SEGMENTS = 64;
+
+  /**
+   * the partitions for the different types, or {@code null}: they are
+   * attached to the classes themselves, so that they do not keep the
+   * classes and their class loaders alive
+   */
+  private final __Partitions m_partitions;
+
+  /** the segments, if the cache is not partitioned by type */
+  private final __Segment[] m_segments;
+
+  /** the weigher estimating the size of objects, or {@code null} */
+  private final ICacheWeigher<Object, Object> m_weigher;
+
+  /**
+   * create the normalizing cache
+   *
+   * @param partitionByType
+   *          should the cache be partitioned by the type of the objects?
+   * @param weigher
+   *          the weigher used to estimate the size of an object in bytes
+   *          (it will receive the same object as key and value), or
+   *          {@code null} to use a rough default estimate
+   */
+  public ConcurrentNormalizingCache(final boolean partitionByType,
+      final ICacheWeigher<Object, Object> weigher) {
+    super();
+
+    int segments;
+
+    segments = 1;
+    while ((segments < ConcurrentNormalizingCache.MAX_SEGMENTS) && //
+        (segments < (Runtime.getRuntime().availableProcessors() << 2))) {
+      segments <<= 1;
+    }
+
+    if (partitionByType) {
+      this.m_partitions = new __Partitions(segments);
+      this.m_segments = null;
+    } else {
+      this.m_partitions = null;
+      this.m_segments = ConcurrentNormalizingCache.__createSegments(segments);
+    }
+    this.m_weigher = weigher;
+  }
+
+  /**
+   * create a normalizing cache which is not partitioned by type and uses
+   * the default size estimate
+   */
+  public ConcurrentNormalizingCache() {
+    this(false, null);
+  }
+
+  /**
+   * Create a set of segments
+   *
+   * @param count
+   *          the number of segments
+   * @return the segments
+   */
+  private static final __Segment[] __createSegments(final int count) {
+    final __Segment[] segments;
+    int index;
+
+    segments = new __Segment[count];
+    for (index = count; (--index) >= 0;) {
+      segments[index] = new __Segment();
+    }
+    return segments;
+  }
+
+  /**
+   * Get the segment for a given object
+   *
+   * @param object
+   *          the object
+   * @return the segment
+   */
+  private final __Segment __segment(final Object object) {
+    __Segment[] segments;
+    int hash;
+
+    segments = this.m_segments;
+    if (segments == null) {
+      segments = this.m_partitions.get(object.getClass());
+    }
+
+    hash = object.hashCode();
+    hash ^= (hash >>> 16);
+    hash *= 0x85ebca6b;
+    hash ^= (hash >>> 13);
+    return segments[hash & (segments.length - 1)];
+  }
+
+  /**
+   * Obtain a normalized representation of the given object. If an
+   * {@linkplain java.lang.Object#equals(Object) equal} object has been
+   * passed into this method before and is still referenced somewhere, the
+   * original object is returned again.
+   *
+   * @param <T>
+   *          the type of the object
+   * @param object
+   *          the object
+   * @return the normalized representation of the object, i.e., an
+   *         {@linkplain java.lang.Object#equals(Object) equal} object
+   */
+  @SuppressWarnings("unchecked")
+  public final <T> T normalize(final T object) {
+    final __Segment segment;
+    final WeakReference<Object> ref;
+    Object got;
+
+    if (object == null) {
+      return null;
+    }
+
+    segment = this.__segment(object);
+    synchronized (segment) {
+      ref = segment.get(object);
+      if (ref != null) {
+        got = ref.get();
+        if (got != null) {
+          if (got != object) {
+            segment.m_duplicates++;
+            segment.m_savedBytes += this.__estimateSize(object);
+          }
+          return ((T) got);
+        }
+      }
+
+      segment.put(object, new WeakReference<Object>(object));
+      segment.m_unique++;
+    }
+    return object;
+  }
+
+  /**
+   * Estimate the size of an object
+   *
+   * @param object
+   *          the object
+   * @return the estimated size in bytes
+   */
+  private final long __estimateSize(final Object object) {
+    if (this.m_weigher != null) {
+      return this.m_weigher.weigh(object, object);
+    }
+    return ConcurrentNormalizingCache.__defaultEstimate(object);
+  }
+
+  /**
+   * A rough estimate of the shallow size of an object on a typical 64 bit
+   * virtual machine with compressed pointers.
+   *
+   * @param object
+   *          the object
+   * @return the estimated size in bytes
+   */
+  private static final long __defaultEstimate(final Object object) {
+    if (object instanceof String) {
+      // the string object plus its character array
+      return (40L + (((String) object).length() << 1));
+    }
+    if ((object instanceof Long) || (object instanceof Double)) {
+      return 24L;
+    }
+    if (object instanceof Number) {
+      return 16L;
+    }
+    if (object instanceof Object[]) {
+      return (16L + (((Object[]) object).length << 2));
+    }
+    if (object instanceof double[]) {
+      return (16L + (((double[]) object).length << 3));
+    }
+    if (object instanceof long[]) {
+      return (16L + (((long[]) object).length << 3));
+    }
+    if (object instanceof int[]) {
+      return (16L + (((int[]) object).length << 2));
+    }
+    return 16L;
+  }
+
+  /**
+   * Get a snapshot of the statistics of this cache.
+   *
+   * @return the statistics
+   */
+  public final NormalizationStatistics getStatistics() {
+    final long[] sums;
+
+    sums = new long[4];
+    if (this.m_segments != null) {
+      ConcurrentNormalizingCache.__sum(this.m_segments, sums);
+    } else {
+      for (final __Segment[] segments : this.m_partitions._getAll()) {
+        ConcurrentNormalizingCache.__sum(segments, sums);
+      }
+    }
+    return new NormalizationStatistics(sums[0], sums[1], sums[2],
+        sums[3]);
+  }
+
+  /**
+   * Add up the counters of a set of segments
+   *
+   * @param segments
+   *          the segments
+   * @param sums
+   *          the destination array
+   */
+  private static final void __sum(final __Segment[] segments,
+      final long[] sums) {
+    for (final __Segment segment : segments) {
+      synchronized (segment) {
+        sums[0] += segment.size();
+        sums[1] += segment.m_unique;
+        sums[2] += segment.m_duplicates;
+        sums[3] += segment.m_savedBytes;
+      }
+    }
+  }
+
+  /**
+   * The partitions of a cache which is partitioned by type. The segments
+   * of a type are stored in the type itself via
+   * {@link java.lang.ClassValue}. Additionally, they are remembered in a
+   * map with weak keys, so that the statistics of all partitions can be
+   * computed.
+   */
+  private static final class __Partitions extends ClassValue<__Segment[]> {
+
+    /** the number of segments per partition */
+    private final int m_segmentCount;
+
+    /** the partitions created so far */
+    private final WeakHashMap<Class<?>, __Segment[]> m_created;
+
+    /**
+     * create
+     *
+     * @param segmentCount
+     *          the number of segments per partition
+     */
+    __Partitions(final int segmentCount) {
+      super();
+      this.m_segmentCount = segmentCount;
+      this.m_created = new WeakHashMap<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final __Segment[] computeValue(final Class<?> type) {
+      __Segment[] segments;
+
+      // computeValue may be invoked by several threads for the same type,
+      // but all of them must get the same segments
+      synchronized (this.m_created) {
+        segments = this.m_created.get(type);
+        if (segments == null) {
+          segments = ConcurrentNormalizingCache
+              .__createSegments(this.m_segmentCount);
+          this.m_created.put(type, segments);
+        }
+      }
+      return segments;
+    }
+
+    /**
+     * Get the partitions of all types which are still loaded
+     *
+     * @return the partitions
+     */
+    final __Segment[][] _getAll() {
+      synchronized (this.m_created) {
+        return this.m_created.values().toArray(
+            new __Segment[this.m_created.size()][]);
+      }
+    }
+  }
+
+  /**
+   * A segment of the cache: A map from the canonical objects to weak
+   * references to themselves. All access must be synchronized on the
+   * segment.
+   */
+  private static final class __Segment
+      extends WeakHashMap<Object, WeakReference<Object>> {
+
+    /** the number of unique objects */
+    long m_unique;
+    /** the number of eliminated duplicates */
+    long m_duplicates;
+    /** the estimated saved bytes */
+    long m_savedBytes;
+
+    /** create */
+    __Segment() {
+      super();
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package org.optimizationBenchmarking.utils.collections.cache;
+
+/**
+ * A weigher computes the weight of a cached key-value pair, e.g., an
+ * estimate of its memory consumption. A {@link ConcurrentMapCache} with a
+ * weigher limits the total weight of its entries instead of their number.
+ *
+ * @param <K>
+ *          the key type
+ * @param <V>
+ *          the value type
+ */
+public interface ICacheWeigher<K, V> {
+
+  /**
+   * Compute the weight of a key-value pair.
+   *
+   * @param key
+   *          the key
+   * @param value
+   *          the value
+   * @return the weight, which must not be negative
+   */
+  public abstract long weigh(final K key, final V value);
+}
@@ -0,0 +1,96 @@
+package org.optimizationBenchmarking.utils.collections.cache;
+
+import org.optimizationBenchmarking.utils.text.Textable;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+
+/**
+ * An immutable snapshot of the statistics of a normalizing cache, as
+ * returned by {@link ConcurrentNormalizingCache#getStatistics()}.
+ */
+public final class NormalizationStatistics extends Textable {
+
+  /** the number of canonical objects currently in the cache */
+  private final long m_size;
+  /** the number of objects which became canonical instances */
+  private final long m_unique;
+  /** the number of duplicates replaced by a canonical instance */
+  private final long m_duplicates;
+  /** the estimated number of bytes saved */
+  private final long m_savedBytes;
+
+  /**
+   * create the statistics record
+   *
+   * @param size
+   *          the number of canonical objects currently in the cache
+   * @param unique
+   *          the number of objects which became canonical instances
+   * @param duplicates
+   *          the number of duplicates replaced by a canonical instance
+   * @param savedBytes
+   *          the estimated number of bytes saved
+   */
+  NormalizationStatistics(final long size, final long unique,
+      final long duplicates, final long savedBytes) {
+    super();
+    this.m_size = size;
+    this.m_unique = unique;
+    this.m_duplicates = duplicates;
+    this.m_savedBytes = savedBytes;
+  }
+
+  /**
+   * Get the number of canonical objects currently in the cache. This
+   * number may decrease when canonical objects are garbage collected.
+   *
+   * @return the number of canonical objects currently in the cache
+   */
+  public final long getSize() {
+    return this.m_size;
+  }
+
+  /**
+   * Get the number of objects passed to the cache which became canonical
+   * instances, because no equal object was cached
+   *
+   * @return the number of objects which became canonical instances
+   */
+  public final long getUnique() {
+    return this.m_unique;
+  }
+
+  /**
+   * Get the number of objects passed to the cache for which an equal,
+   * canonical instance was returned, i.e., the number of eliminated
+   * duplicates
+   *
+   * @return the number of eliminated duplicates
+   */
+  public final long getDuplicates() {
+    return this.m_duplicates;
+  }
+
+  /**
+   * Get the estimated number of bytes of memory saved by returning
+   * canonical instances instead of the duplicates, provided that the
+   * duplicates are not referenced anywhere else
+   *
+   * @return the estimated number of bytes saved
+   */
+  public final long getSavedBytes() {
+    return this.m_savedBytes;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void toText(final ITextOutput textOut) {
+    textOut.append("size="); //$NON-NLS-1$
+    textOut.append(this.m_size);
+    textOut.append(", unique="); //$NON-NLS-1$
+    textOut.append(this.m_unique);
+    textOut.append(", duplicates="); //$NON-NLS-1$
+    textOut.append(this.m_duplicates);
+    textOut.append(", savedBytes="); //$NON-NLS-1$
+    textOut.append(this.m_savedBytes);
+  }
+}
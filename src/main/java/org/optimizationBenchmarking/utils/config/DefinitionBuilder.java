@@ -2,7 +2,7 @@ package org.optimizationBenchmarking.utils.config;
 
 import java.util.LinkedHashMap;
 
-import org.optimizationBenchmarking.utils.collections.cache.NormalizingCache;
+import org.optimizationBenchmarking.utils.collections.cache.ConcurrentNormalizingCache;
 import org.optimizationBenchmarking.utils.comparison.Compare;
 import org.optimizationBenchmarking.utils.hierarchy.BuilderFSM;
 import org.optimizationBenchmarking.utils.hierarchy.HierarchicalFSM;
@@ -29,7 +29,7 @@ import org.optimizationBenchmarking.utils.text.TextUtils;
 public final class DefinitionBuilder extends BuilderFSM<Definition> {
 
   /** the internal cache */
-  private static final NormalizingCache CACHE = new NormalizingCache();
+  private static final ConcurrentNormalizingCache CACHE = new ConcurrentNormalizingCache();
 
   /** the used names */
   private LinkedHashMap<String, Parameter<?>> m_params;
@@ -8,7 +8,8 @@ import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
  * ensure that certain things or actions are done in a specified sequence.
  * For this purpose, it manages an integer state and a set of at most 32
  * flags which can be set and asserted. This FSM is guarded against
- * parallel access by synchronization.
+ * parallel access by synchronization, unless it is confined to a single
+ * thread.
  */
 public class FSM {
 
@@ -30,14 +31,31 @@ public class FSM {
     this.m_flags = FSM.FLAG_NOTHING;
   }
 
+  /**
+   * Is this finite state machine confined to a single thread, so that it
+   * does not need to synchronize?
+   *
+   * @return {@code true} if this machine is only used by a single thread,
+   *         {@code false} if it must be guarded by synchronization
+   */
+  boolean _isSingleThreaded() {
+    return false;
+  }
+
   /**
    * Set the state of this finite state machine
    *
    * @param state
    *          the new state of this finite state machine
    */
-  protected synchronized final void fsmStateSet(final int state) {
-    this.m_state = state;
+  protected final void fsmStateSet(final int state) {
+    if (this._isSingleThreaded()) {
+      this.m_state = state;
+    } else {
+      synchronized (this) {
+        this.m_state = state;
+      }
+    }
   }
 
   /**
@@ -45,8 +63,13 @@ public class FSM {
    *
    * @return the state of this finite state machine
    */
-  protected synchronized final int fsmStateGet() {
-    return this.m_state;
+  protected final int fsmStateGet() {
+    if (this._isSingleThreaded()) {
+      return this.m_state;
+    }
+    synchronized (this) {
+      return this.m_state;
+    }
   }
 
   /**
@@ -79,7 +102,29 @@ public class FSM {
    * @throws IllegalStateException
    *           if this FSM is not in state {@code state}
    */
-  protected synchronized final int fsmStateAssert(final EComparison comp,
+  protected final int fsmStateAssert(final EComparison comp,
+      final int state) {
+    if (this._isSingleThreaded()) {
+      return this.__fsmStateAssert(comp, state);
+    }
+    synchronized (this) {
+      return this.__fsmStateAssert(comp, state);
+    }
+  }
+
+  /**
+   * Assert that the state of finite state machine is related to
+   * {@code mustState} according to {@code comp} without synchronization.
+   *
+   * @param state
+   *          the state this finite state machine must be in
+   * @param comp
+   *          the comparator
+   * @return the state
+   * @throws IllegalStateException
+   *           if this FSM is not in state {@code state}
+   */
+  private final int __fsmStateAssert(final EComparison comp,
       final int state) {
     final MemoryTextOutput sb;
     final int is;
@@ -152,12 +197,20 @@ public class FSM {
    * @throws IllegalStateException
    *           if this FSM is not in state {@code state}
    */
-  protected synchronized final int fsmStateAssertAndSet(
-      final EComparison comp, final int mustState, final int nextState) {
+  protected final int fsmStateAssertAndSet(final EComparison comp,
+      final int mustState, final int nextState) {
     final int ret;
-    ret = this.fsmStateAssert(comp, mustState);
-    this.m_state = nextState;
-    return ret;
+
+    if (this._isSingleThreaded()) {
+      ret = this.__fsmStateAssert(comp, mustState);
+      this.m_state = nextState;
+      return ret;
+    }
+    synchronized (this) {
+      ret = this.__fsmStateAssert(comp, mustState);
+      this.m_state = nextState;
+      return ret;
+    }
   }
 
   /**
@@ -167,11 +220,8 @@ public class FSM {
    *          the flags to set
    * @return {@code true} if at least one the flags was not yet set
    */
-  protected synchronized final boolean fsmFlagsSet(final int set) {
-    final int flags, newFlags;
-
-    this.m_flags = newFlags = ((flags = this.m_flags) | set);
-    return (newFlags != flags);
+  protected final boolean fsmFlagsSet(final int set) {
+    return this.__fsmFlagsUpdate(set, 0);
   }
 
   /**
@@ -181,10 +231,30 @@ public class FSM {
    *          the flags to clear
    * @return {@code true} if at least one of the flags was already set
    */
-  protected synchronized final boolean fsmFlagsClear(final int clear) {
+  protected final boolean fsmFlagsClear(final int clear) {
+    return this.__fsmFlagsUpdate(0, clear);
+  }
+
+  /**
+   * Set and clear some flags
+   *
+   * @param set
+   *          the flags to set
+   * @param clear
+   *          the flags to clear
+   * @return {@code true} if the flags have changed
+   */
+  private final boolean __fsmFlagsUpdate(final int set, final int clear) {
     final int flags, newFlags;
-    this.m_flags = newFlags = ((flags = this.m_flags) & (~clear));
-    return (newFlags != flags);
+
+    if (this._isSingleThreaded()) {
+      this.m_flags = newFlags = (((flags = this.m_flags) | set) & (~clear));
+      return (newFlags != flags);
+    }
+    synchronized (this) {
+      this.m_flags = newFlags = (((flags = this.m_flags) | set) & (~clear));
+      return (newFlags != flags);
+    }
   }
 
   /**
@@ -253,9 +323,8 @@ public class FSM {
    *           if at least one of the flags in {@code mustBeSet} is not set
    *           in the FSM
    */
-  protected synchronized final void fsmFlagsAssertTrue(
-      final int mustBeSet) {
-    this.__fsmFlagsAssert(this.m_flags, mustBeSet, 0);
+  protected final void fsmFlagsAssertTrue(final int mustBeSet) {
+    this.fsmFlagsAssert(mustBeSet, 0);
   }
 
   /**
@@ -268,9 +337,8 @@ public class FSM {
    * @throws IllegalStateException
    *           if this FSM has any of the flags in {@code mustNotBeSet} set
    */
-  protected synchronized final void fsmFlagsAssertFalse(
-      final int mustNotBeSet) {
-    this.__fsmFlagsAssert(this.m_flags, 0, mustNotBeSet);
+  protected final void fsmFlagsAssertFalse(final int mustNotBeSet) {
+    this.fsmFlagsAssert(0, mustNotBeSet);
   }
 
   /**
@@ -329,9 +397,15 @@ public class FSM {
    *           if this FSM has any of the flags in {@code mustNotBeSet} set
    *           or misses some in {@code mustBeSet}
    */
-  protected synchronized final void fsmFlagsAssert(final int mustBeSet,
+  protected final void fsmFlagsAssert(final int mustBeSet,
       final int mustNotBeSet) {
-    this.__fsmFlagsAssert(this.m_flags, mustBeSet, mustNotBeSet);
+    if (this._isSingleThreaded()) {
+      this.__fsmFlagsAssert(this.m_flags, mustBeSet, mustNotBeSet);
+    } else {
+      synchronized (this) {
+        this.__fsmFlagsAssert(this.m_flags, mustBeSet, mustNotBeSet);
+      }
+    }
   }
 
   /**
@@ -360,13 +434,21 @@ public class FSM {
    *           if this FSM has any of the flags in {@code mustNotBeSet} set
    *           or misses some in {@code mustBeSet}
    */
-  protected synchronized final void fsmFlagsAssertAndUpdate(
-      final int mustBeSet, final int mustNotBeSet, final int set,
-      final int clear) {
+  protected final void fsmFlagsAssertAndUpdate(final int mustBeSet,
+      final int mustNotBeSet, final int set, final int clear) {
     final int flags;
 
-    this.__fsmFlagsAssert((flags = this.m_flags), mustBeSet, mustNotBeSet);
-    this.m_flags = ((flags | set) & (~clear));
+    if (this._isSingleThreaded()) {
+      this.__fsmFlagsAssert((flags = this.m_flags), mustBeSet,
+          mustNotBeSet);
+      this.m_flags = ((flags | set) & (~clear));
+    } else {
+      synchronized (this) {
+        this.__fsmFlagsAssert((flags = this.m_flags), mustBeSet,
+            mustNotBeSet);
+        this.m_flags = ((flags | set) & (~clear));
+      }
+    }
   }
 
   /**
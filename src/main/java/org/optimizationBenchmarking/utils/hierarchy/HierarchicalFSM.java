@@ -96,7 +96,20 @@ import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
  * <p>
  * Our API is entirely thread-safe: An arbitrary number of threads may
  * create and use scopes in parallel. The proper sequence of events is
- * still ensured.
+ * still ensured. The <code>before&hellip;</code>,
+ * <code>after&hellip;</code>, and <code>on&hellip;</code> methods are
+ * always invoked while holding the monitors of the element and, if it has
+ * one, of its owner, so they do not need to synchronize themselves.
+ * </p>
+ * <p>
+ * If a hierarchy is only ever used by a single thread, the root element
+ * can be created in {@link #isSingleThreaded() single-threaded} mode,
+ * which is inherited by all of its children. In this mode, no monitors
+ * are acquired at all, which makes opening and closing elements much
+ * cheaper. Elements which are opened while one of their siblings is still
+ * open are handled in exactly the same way as in the thread-safe mode,
+ * but opening or closing an element from a thread other than the one that
+ * created the root element causes an exception.
  * </p>
  * <p>
  * However, our API is also fail-fast: I built it so that you need to
@@ -280,6 +293,12 @@ public class HierarchicalFSM extends FSM implements IScope {
   /** the child queue */
   private volatile HierarchicalFSM m_childQueue;
 
+  /**
+   * the thread to which this element is confined, or {@code null} if it
+   * may be used by any thread
+   */
+  private final Thread m_thread;
+
   /**
    * create
    *
@@ -287,9 +306,66 @@ public class HierarchicalFSM extends FSM implements IScope {
    *          the owning element
    */
   protected HierarchicalFSM(final HierarchicalFSM owner) {
+    this(owner, false);
+  }
+
+  /**
+   * create
+   *
+   * @param owner
+   *          the owning element
+   * @param singleThreaded
+   *          should this element be {@link #isSingleThreaded()
+   *          single-threaded}? This parameter is only considered if
+   *          {@code owner} is {@code null}, otherwise the mode of the
+   *          owner is used.
+   */
+  protected HierarchicalFSM(final HierarchicalFSM owner,
+      final boolean singleThreaded) {
     super();
     this.m_hstate = HierarchicalFSM.STATE_NEW;
     this.m_owner = owner;
+    if (owner != null) {
+      this.m_thread = owner.m_thread;
+    } else {
+      this.m_thread = (singleThreaded ? Thread.currentThread() : null);
+    }
+  }
+
+  /**
+   * Is this element confined to a single thread? If so, it does not
+   * acquire any monitors and subclasses do not need to synchronize their
+   * methods either.
+   *
+   * @return {@code true} if this element may only be used by the thread
+   *         which has created its root element, {@code false} if it can
+   *         be used by arbitrary threads in parallel
+   */
+  protected final boolean isSingleThreaded() {
+    return (this.m_thread != null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final boolean _isSingleThreaded() {
+    return (this.m_thread != null);
+  }
+
+  /** make sure that we are called from the thread we are confined to */
+  private final void __assertThread() {
+    final MemoryTextOutput sb;
+
+    if (this.m_thread != Thread.currentThread()) {
+      sb = new MemoryTextOutput();
+      sb.append("The single-threaded element "); //$NON-NLS-1$
+      FSM._name(this, sb);
+      sb.append(" can only be used by thread "); //$NON-NLS-1$
+      sb.append(this.m_thread.getName());
+      sb.append(", but it was accessed by thread "); //$NON-NLS-1$
+      sb.append(Thread.currentThread().getName());
+      sb.append('.');
+      throw new IllegalStateException(sb.toString());
+    }
   }
 
   /** {@inheritDoc} */
@@ -362,7 +438,7 @@ public class HierarchicalFSM extends FSM implements IScope {
    * This method is called at most once, when the hierarchy element is
    * opened.
    */
-  protected synchronized void onOpen() {
+  protected void onOpen() {
     this.__assertState(
         (this.m_owner == null) ? HierarchicalFSM.STATE_OPEN_BEGIN
             : HierarchicalFSM.STATE_AFTER_BEFORE_CHILD_OPENS_CHILD);
@@ -371,36 +447,64 @@ public class HierarchicalFSM extends FSM implements IScope {
 
   /** Open this object. */
   protected final void open() {
-    final boolean hasOtherChildren;
     final HierarchicalFSM owner;
 
     if ((owner = this.m_owner) != null) {
-      synchronized (owner) {
-        synchronized (this) {
-          this.__assertState(HierarchicalFSM.STATE_NEW);
-          this.m_hstate = HierarchicalFSM.STATE_BEFORE_BEFORE_CHILD_OPENS_CHILD_A;
-          hasOtherChildren = owner.__callBeforeChildOpen(this);
-          this.__assertState(
-              HierarchicalFSM.STATE_AFTER_BEFORE_CHILD_OPENS_CHILD);
-          this.onOpen();
-          this.__assertState(HierarchicalFSM.STATE_AFTER_ON_OPEN);
-          owner.__callAfterChildOpen(this, hasOtherChildren);
-          this.__assertState(
-              HierarchicalFSM.STATE_AFTER_AFTER_CHILD_OPENED_CHILD);
-          this.m_hstate = HierarchicalFSM.STATE_OPENED;
+      if (this.m_thread != null) {
+        this.__assertThread();
+        this.__openAsChild(owner);
+      } else {
+        synchronized (owner) {
+          synchronized (this) {
+            this.__openAsChild(owner);
+          }
         }
       }
     } else {
-      synchronized (this) {
-        this.__assertState(HierarchicalFSM.STATE_NEW);
-        this.m_hstate = HierarchicalFSM.STATE_OPEN_BEGIN;
-        this.onOpen();
-        this.__assertState(HierarchicalFSM.STATE_AFTER_ON_OPEN);
-        this.m_hstate = HierarchicalFSM.STATE_OPENED;
+      if (this.m_thread != null) {
+        this.__openAsRoot();
+      } else {
+        synchronized (this) {
+          this.__openAsRoot();
+        }
       }
     }
   }
 
+  /**
+   * Open this object as child of its owner. The caller must hold the
+   * monitors of both objects, unless they are single-threaded.
+   *
+   * @param owner
+   *          the owner
+   */
+  private final void __openAsChild(final HierarchicalFSM owner) {
+    final boolean hasOtherChildren;
+
+    this.__assertState(HierarchicalFSM.STATE_NEW);
+    this.m_hstate = HierarchicalFSM.STATE_BEFORE_BEFORE_CHILD_OPENS_CHILD_A;
+    hasOtherChildren = owner.__callBeforeChildOpen(this);
+    this.__assertState(HierarchicalFSM.STATE_AFTER_BEFORE_CHILD_OPENS_CHILD);
+    this.onOpen();
+    this.__assertState(HierarchicalFSM.STATE_AFTER_ON_OPEN);
+    owner.__callAfterChildOpen(this, hasOtherChildren);
+    this.__assertState(
+        HierarchicalFSM.STATE_AFTER_AFTER_CHILD_OPENED_CHILD);
+    this.m_hstate = HierarchicalFSM.STATE_OPENED;
+  }
+
+  /**
+   * Open this object as root. The caller must hold its monitor, unless it
+   * is single-threaded.
+   */
+  private final void __openAsRoot() {
+    this.__assertState(HierarchicalFSM.STATE_NEW);
+    this.m_hstate = HierarchicalFSM.STATE_OPEN_BEGIN;
+    this.onOpen();
+    this.__assertState(HierarchicalFSM.STATE_AFTER_ON_OPEN);
+    this.m_hstate = HierarchicalFSM.STATE_OPENED;
+  }
+
   /**
    * This method is called at most once for any child hierarchy element
    * that is opened.
@@ -410,7 +514,7 @@ public class HierarchicalFSM extends FSM implements IScope {
    * @param hasOtherChildren
    *          {@code true} if and only if this fsm has other open children
    */
-  protected synchronized void beforeChildOpens(final HierarchicalFSM child,
+  protected void beforeChildOpens(final HierarchicalFSM child,
       final boolean hasOtherChildren) {
     final MemoryTextOutput sb;
 
@@ -427,11 +531,9 @@ public class HierarchicalFSM extends FSM implements IScope {
     this.__assertState(
         HierarchicalFSM.STATE_BEFORE_BEFORE_CHILD_OPENS_OWNER);
 
-    synchronized (child) {
-      child.__assertState(//
-          HierarchicalFSM.STATE_BEFORE_BEFORE_CHILD_OPENS_CHILD_B);
-      child.m_hstate = HierarchicalFSM.STATE_AFTER_BEFORE_CHILD_OPENS_CHILD;
-    }
+    child.__assertState(//
+        HierarchicalFSM.STATE_BEFORE_BEFORE_CHILD_OPENS_CHILD_B);
+    child.m_hstate = HierarchicalFSM.STATE_AFTER_BEFORE_CHILD_OPENS_CHILD;
 
     this.m_hstate = HierarchicalFSM.STATE_AFTER_BEFORE_CHILD_OPENS_OWNER_A;
   }
@@ -528,7 +630,7 @@ public class HierarchicalFSM extends FSM implements IScope {
    *          {@code true} if and only if this FSM has other open children,
    *          {@code false} if the new child is the only open child
    */
-  protected synchronized void afterChildOpened(final HierarchicalFSM child,
+  protected void afterChildOpened(final HierarchicalFSM child,
       final boolean hasOtherChildren) {
     final MemoryTextOutput sb;
 
@@ -545,10 +647,8 @@ public class HierarchicalFSM extends FSM implements IScope {
     this.__assertState(
         HierarchicalFSM.STATE_BEFORE_AFTER_CHILD_OPENED_OWNER);
 
-    synchronized (child) {
-      child.__assertState(HierarchicalFSM.STATE_AFTER_ON_OPEN);
-      child.m_hstate = HierarchicalFSM.STATE_AFTER_AFTER_CHILD_OPENED_CHILD;
-    }
+    child.__assertState(HierarchicalFSM.STATE_AFTER_ON_OPEN);
+    child.m_hstate = HierarchicalFSM.STATE_AFTER_AFTER_CHILD_OPENED_CHILD;
     this.m_hstate = HierarchicalFSM.STATE_AFTER_AFTER_CHILD_OPENED_OWNER;
   }
 
@@ -575,7 +675,7 @@ public class HierarchicalFSM extends FSM implements IScope {
   /**
    * This method is invoked the object is closed.
    */
-  protected synchronized void onClose() {
+  protected void onClose() {
     this.__assertState(HierarchicalFSM.STATE_BEFORE_ON_CLOSE);
     this.m_hstate = HierarchicalFSM.STATE_AFTER_ON_CLOSE;
   }
@@ -587,19 +687,16 @@ public class HierarchicalFSM extends FSM implements IScope {
    * @param child
    *          the child element
    */
-  protected synchronized void afterChildClosed(
-      final HierarchicalFSM child) {
+  protected void afterChildClosed(final HierarchicalFSM child) {
     final MemoryTextOutput sb;
 
     if (child.m_owner == this) {
       this.__assertState(
           HierarchicalFSM.STATE_BEFORE_AFTER_CHILD_CLOSED_OWNER);
 
-      synchronized (child) {
-        child.__assertState(//
-            HierarchicalFSM.STATE_BEFORE_AFTER_CHILD_CLOSED_CHILD);
-        child.m_hstate = HierarchicalFSM.STATE_AFTER_AFTER_CHILD_CLOSED_CHILD;
-      }
+      child.__assertState(//
+          HierarchicalFSM.STATE_BEFORE_AFTER_CHILD_CLOSED_CHILD);
+      child.m_hstate = HierarchicalFSM.STATE_AFTER_AFTER_CHILD_CLOSED_CHILD;
       this.m_hstate = HierarchicalFSM.STATE_AFTER_AFTER_CHILD_CLOSED_OWNER;
     } else {
       sb = new MemoryTextOutput();
@@ -626,26 +723,18 @@ public class HierarchicalFSM extends FSM implements IScope {
         break looper;
       }
 
-      synchronized (child) {
+      if (this.m_thread != null) {
         if (child.m_hstate != HierarchicalFSM.STATE_AFTER_ON_CLOSE) {
           break looper;
         }
-
-        child.m_hstate = HierarchicalFSM.STATE_BEFORE_AFTER_CHILD_CLOSED_CHILD;
-        this.m_hstate = HierarchicalFSM.STATE_BEFORE_AFTER_CHILD_CLOSED_OWNER;
-
-        try {
-          this.afterChildClosed(child);
-          child.__assertState(//
-              HierarchicalFSM.STATE_AFTER_AFTER_CHILD_CLOSED_CHILD);
-          child.m_hstate = HierarchicalFSM.STATE_CLOSED;
-          this.__assertState(
-              HierarchicalFSM.STATE_AFTER_AFTER_CHILD_CLOSED_OWNER);
-        } catch (final RuntimeException a) {
-          error = ErrorUtils.aggregateError(a, error);
+        error = this.__flushChild(child, error);
+      } else {
+        synchronized (child) {
+          if (child.m_hstate != HierarchicalFSM.STATE_AFTER_ON_CLOSE) {
+            break looper;
+          }
+          error = this.__flushChild(child, error);
         }
-
-        this.m_childQueue = child.m_next;
       }
     }
 
@@ -659,8 +748,44 @@ public class HierarchicalFSM extends FSM implements IScope {
     }
   }
 
-  /** perform the closing */
-  private synchronized final void __close() {
+  /**
+   * Remove a closed child from the head of the child queue. The caller
+   * must hold the monitor of the child, unless it is single-threaded.
+   *
+   * @param child
+   *          the child
+   * @param error
+   *          the errors caught so far, or {@code null} if there were none
+   * @return the errors caught so far, or {@code null} if there were none
+   */
+  private final Object __flushChild(final HierarchicalFSM child,
+      final Object error) {
+    Object result;
+
+    result = error;
+    child.m_hstate = HierarchicalFSM.STATE_BEFORE_AFTER_CHILD_CLOSED_CHILD;
+    this.m_hstate = HierarchicalFSM.STATE_BEFORE_AFTER_CHILD_CLOSED_OWNER;
+
+    try {
+      this.afterChildClosed(child);
+      child.__assertState(//
+          HierarchicalFSM.STATE_AFTER_AFTER_CHILD_CLOSED_CHILD);
+      child.m_hstate = HierarchicalFSM.STATE_CLOSED;
+      this.__assertState(
+          HierarchicalFSM.STATE_AFTER_AFTER_CHILD_CLOSED_OWNER);
+    } catch (final RuntimeException a) {
+      result = ErrorUtils.aggregateError(a, result);
+    }
+
+    this.m_childQueue = child.m_next;
+    return result;
+  }
+
+  /**
+   * perform the closing: The caller must hold the monitor of this object,
+   * unless it is single-threaded.
+   */
+  private final void __close() {
     final int oldState;
     final MemoryTextOutput sb;
 
@@ -703,13 +828,28 @@ public class HierarchicalFSM extends FSM implements IScope {
   /** {@inheritDoc} */
   @Override
   public final void close() {
-    if (this.m_owner != null) {
-      synchronized (this.m_owner) {
-        this.__close();
-        this.m_owner.__flush();
+    final HierarchicalFSM owner;
+
+    owner = this.m_owner;
+    if (this.m_thread != null) {
+      this.__assertThread();
+      this.__close();
+      if (owner != null) {
+        owner.__flush();
       }
     } else {
-      this.__close();
+      if (owner != null) {
+        synchronized (owner) {
+          synchronized (this) {
+            this.__close();
+          }
+          owner.__flush();
+        }
+      } else {
+        synchronized (this) {
+          this.__close();
+        }
+      }
     }
   }
 
@@ -1,8 +1,12 @@
 package org.optimizationBenchmarking.utils.hierarchy;
 
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
 import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
 import org.optimizationBenchmarking.utils.text.TextUtils;
 import org.optimizationBenchmarking.utils.text.textOutput.AbstractTextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.ChunkedTextOutput;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 
@@ -19,9 +23,27 @@ import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
  * output objects. If it is connected to a stream, it will not close the
  * stream. You need to manage the stream separately.
  * </p>
+ * <p>
+ * Children which cannot write directly to the output of their parent are
+ * buffered in memory until it is their turn. If a buffered child holds
+ * more than {@link #PARAM_SPILL_THRESHOLD} characters, its output is
+ * spilled to a temporary file and streamed back into the parent once the
+ * child is processed. This keeps the memory footprint bounded if large
+ * documents are generated in parallel.
+ * </p>
  */
 public abstract class HierarchicalText extends HierarchicalFSM {
 
+  /**
+   * the parameter which, in the
+   * {@linkplain org.optimizationBenchmarking.utils.config.Configuration#getRoot()
+   * root configuration} or as system property, sets the number of
+   * characters a buffered child text may hold in memory before its
+   * output is spilled to a temporary file, {@code 0} meaning that output
+   * is never spilled: {@value}
+   */
+  public static final String PARAM_SPILL_THRESHOLD = "hierarchicalTextSpillThreshold"; //$NON-NLS-1$
+
   /**
    * the
    * {@link org.optimizationBenchmarking.utils.text.textOutput.ITextOutput}
@@ -34,7 +56,7 @@ public abstract class HierarchicalText extends HierarchicalFSM {
    * {@link org.optimizationBenchmarking.utils.text.textOutput.ITextOutput}
    * to be re-used for the next child
    */
-  private volatile transient MemoryTextOutput m_cache;
+  private volatile transient ChunkedTextOutput m_cache;
 
   /**
    * Create the hierarchical {@link java.lang.Appendable}
@@ -46,7 +68,25 @@ public abstract class HierarchicalText extends HierarchicalFSM {
    */
   protected HierarchicalText(final HierarchicalFSM owner,
       final Appendable out) {
-    super(owner);
+    this(owner, out, false);
+  }
+
+  /**
+   * Create the hierarchical {@link java.lang.Appendable}
+   *
+   * @param owner
+   *          the owning hierarchical fsm
+   * @param out
+   *          the {@link java.lang.Appendable}
+   * @param singleThreaded
+   *          should this text be confined to the current thread and work
+   *          without synchronization? This parameter is only relevant if
+   *          {@code owner} is {@code null}, otherwise the setting of the
+   *          owner is inherited.
+   */
+  protected HierarchicalText(final HierarchicalFSM owner,
+      final Appendable out, final boolean singleThreaded) {
+    super(owner, singleThreaded);
 
     final MemoryTextOutput sb;
 
@@ -81,10 +121,10 @@ public abstract class HierarchicalText extends HierarchicalFSM {
 
   /** {@inheritDoc} */
   @Override
-  protected synchronized void beforeChildOpens(final HierarchicalFSM child,
+  protected void beforeChildOpens(final HierarchicalFSM child,
       final boolean hasOtherChildren) {
     final HierarchicalText ct;
-    final MemoryTextOutput m;
+    final ChunkedTextOutput m;
 
     super.beforeChildOpens(child, hasOtherChildren);
 
@@ -96,7 +136,7 @@ public abstract class HierarchicalText extends HierarchicalFSM {
           this.m_cache = null;
           ct.m_out = m;
         } else {
-          ct.m_out = new MemoryTextOutput();
+          ct.m_out = new ChunkedTextOutput(__SpillThreshold.THRESHOLD);
         }
       } else {
         ct.m_out = this.m_out;
@@ -109,7 +149,7 @@ public abstract class HierarchicalText extends HierarchicalFSM {
    * destination as this object, {@code false} otherwise. If this method
    * returns {@code true}, {@code child} will definitely write its contents
    * to an instance of
-   * {@link org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput}
+   * {@link org.optimizationBenchmarking.utils.text.textOutput.ChunkedTextOutput}
    * which will then be copied to this text's output stream once the child
    * gets closed. If this method returns {@code false}, the child
    * <em>may</em> either be buffered as described above, or use this text's
@@ -121,7 +161,7 @@ public abstract class HierarchicalText extends HierarchicalFSM {
    * @return {@code true} if the child must be buffered, {@code false}
    *         otherwise.
    * @see #processBufferedOutputFromChild(HierarchicalText,
-   *      MemoryTextOutput)
+   *      ChunkedTextOutput)
    */
   protected boolean mustChildBeBuffered(final HierarchicalText child) {
     return false;
@@ -129,11 +169,12 @@ public abstract class HierarchicalText extends HierarchicalFSM {
 
   /** {@inheritDoc} */
   @Override
-  protected synchronized void afterChildClosed(
+  protected void afterChildClosed(
       final HierarchicalFSM child) {
     final Appendable childAppendable, ownAppendable;
     final HierarchicalText ha;
-    MemoryTextOutput sb;
+    final ChunkedTextOutput buffer;
+    final MemoryTextOutput sb;
 
     super.afterChildClosed(child);
 
@@ -156,11 +197,13 @@ public abstract class HierarchicalText extends HierarchicalFSM {
 
       ownAppendable = this.m_out;
       if (ownAppendable != childAppendable) {
-        sb = ((MemoryTextOutput) childAppendable);
-        this.processBufferedOutputFromChild(ha, sb);
+        buffer = ((ChunkedTextOutput) childAppendable);
+        this.processBufferedOutputFromChild(ha, buffer);
         if (this.m_cache == null) {
-          sb.clear();
-          this.m_cache = sb;
+          buffer.clear();
+          this.m_cache = buffer;
+        } else {
+          buffer.release();
         }
       }
     }
@@ -177,7 +220,7 @@ public abstract class HierarchicalText extends HierarchicalFSM {
    * {@code out} after this method has returned, i.e., the contents of
    * {@code out} may change, may be overridden, or otherwise invalidated
    * directly after
-   * {@link #processBufferedOutputFromChild(HierarchicalText, MemoryTextOutput)}
+   * {@link #processBufferedOutputFromChild(HierarchicalText, ChunkedTextOutput)}
    * returns.
    * </p>
    * <p>
@@ -193,14 +236,20 @@ public abstract class HierarchicalText extends HierarchicalFSM {
    * @see #mustChildBeBuffered(HierarchicalText)
    */
   protected void processBufferedOutputFromChild(
-      final HierarchicalText child, final MemoryTextOutput out) {
+      final HierarchicalText child, final ChunkedTextOutput out) {
     out.toText(this.m_out);
   }
 
   /** {@inheritDoc} */
   @Override
-  protected synchronized void onClose() {
-    this.m_cache = null;
+  protected void onClose() {
+    final ChunkedTextOutput cache;
+
+    cache = this.m_cache;
+    if (cache != null) {
+      this.m_cache = null;
+      cache.release();
+    }
     super.onClose();
   }
 
@@ -242,4 +291,31 @@ public abstract class HierarchicalText extends HierarchicalFSM {
   protected final boolean isTextOutputSame(final ITextOutput to) {
     return (to == this.m_out);
   }
-}
\ No newline at end of file
+
+  /** the holder for the spill threshold of buffered children */
+  private static final class __SpillThreshold {
+
+    /** the default spill threshold: 16 million characters */
+    private static final int DEFAULT = (1 << 24);
+
+    /** the spill threshold */
+    static final int THRESHOLD;
+
+    static {
+      int threshold;
+
+      threshold = __SpillThreshold.DEFAULT;
+      try {
+        threshold = Configuration.getRoot().getInt(
+            HierarchicalText.PARAM_SPILL_THRESHOLD, 0, Integer.MAX_VALUE,
+            __SpillThreshold.DEFAULT);
+      } catch (final Throwable error) {
+        ErrorUtils.logError(Configuration.getGlobalLogger(),
+            "Error while loading the spill threshold of hierarchical texts.", //$NON-NLS-1$
+            error, false, RethrowMode.DONT_RETHROW);
+      }
+
+      THRESHOLD = threshold;
+    }
+  }
+}
\ No newline at end of file
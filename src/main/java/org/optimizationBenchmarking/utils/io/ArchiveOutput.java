@@ -0,0 +1,330 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+
+/**
+ * <p>
+ * An archive which is written as a stream of entries, obtained via
+ * {@link EArchiveType#openArchiveOutput(OutputStream)}. Each entry is
+ * written through the stream returned by {@link #openEntry(String)}
+ * directly into the compressed archive, so an archive with many files can
+ * be produced in a single pass without storing the files anywhere first.
+ * Only one entry can be open at a time.
+ * </p>
+ * <p>
+ * If the archive type does not support a file system structure, such as
+ * {@link EArchiveType#GZIP}, all entries are merged into one single
+ * stream, in the same way as done by
+ * {@link EArchiveType#compressPathsToStream(Iterable, Path, OutputStream)}
+ * .
+ * </p>
+ */
+public abstract class ArchiveOutput implements Closeable {
+
+  /** the archive type */
+  private final EArchiveType m_type;
+
+  /** the compressed stream */
+  private final OutputStream m_out;
+
+  /** the currently open entry, or {@code null} if none is open */
+  private __EntryStream m_entry;
+
+  /** is this archive closed? */
+  private boolean m_closed;
+
+  /**
+   * create
+   *
+   * @param type
+   *          the archive type
+   * @param out
+   *          the compressed stream
+   */
+  ArchiveOutput(final EArchiveType type, final OutputStream out) {
+    super();
+    this.m_type = type;
+    this.m_out = out;
+  }
+
+  /**
+   * Get the archive type
+   *
+   * @return the archive type
+   */
+  public final EArchiveType getArchiveType() {
+    return this.m_type;
+  }
+
+  /**
+   * Begin a new entry
+   *
+   * @param name
+   *          the name of the entry
+   * @return the stream to write the uncompressed contents of the entry to
+   * @throws IOException
+   *           if i/o fails
+   */
+  abstract OutputStream _beginEntry(final String name) throws IOException;
+
+  /**
+   * Finish the current entry
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  abstract void _endEntry() throws IOException;
+
+  /**
+   * Write everything which has not yet been written to the compressed
+   * stream. This method is called when the archive is closed, before the
+   * compressed stream is closed.
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  void _finish() throws IOException {
+    //
+  }
+
+  /**
+   * Open a new entry in the archive. The entry is finished when the
+   * returned stream is closed. Closing the returned stream does not close
+   * the archive.
+   *
+   * @param name
+   *          the name of the entry, with {@code '/'} as separator for
+   *          directories inside the archive
+   * @return the stream to write the uncompressed contents of the entry to
+   * @throws IOException
+   *           if i/o fails
+   */
+  public synchronized final OutputStream openEntry(final String name)
+      throws IOException {
+    final String useName;
+
+    if (this.m_closed) {
+      throw new IOException("Archive has already been closed."); //$NON-NLS-1$
+    }
+    if (this.m_entry != null) {
+      throw new IllegalStateException(//
+          "Cannot open entry '" + name + //$NON-NLS-1$
+              "' before the previous entry has been closed.");//$NON-NLS-1$
+    }
+    useName = ArchiveOutput.__normalizeName(name);
+    return (this.m_entry = new __EntryStream(this._beginEntry(useName)));
+  }
+
+  /**
+   * Normalize an entry name
+   *
+   * @param name
+   *          the name
+   * @return the normalized name
+   */
+  private static final String __normalizeName(final String name) {
+    String useName;
+    int start;
+
+    if (name == null) {
+      throw new IllegalArgumentException(//
+          "Name of archive entry must not be null."); //$NON-NLS-1$
+    }
+    useName = name.replace('\\', '/');
+    for (start = 0; (start < useName.length())
+        && (useName.charAt(start) == '/'); start++) {
+      // skip leading slashes
+    }
+    useName = useName.substring(start);
+    if (useName.isEmpty()) {
+      throw new IllegalArgumentException(//
+          "Name of archive entry must not be empty, but '" + //$NON-NLS-1$
+              name + "' is.");//$NON-NLS-1$
+    }
+    return useName;
+  }
+
+  /**
+   * Add the contents of a file as entry to the archive
+   *
+   * @param name
+   *          the name of the entry
+   * @param file
+   *          the file
+   * @throws IOException
+   *           if i/o fails
+   */
+  public final void addFile(final String name, final Path file)
+      throws IOException {
+    try (final OutputStream entry = this.openEntry(name)) {
+      IOUtils.copy(file, entry);
+    }
+  }
+
+  /**
+   * Add a file or all files inside a folder structure to the archive. The
+   * entry names are the paths of the files relative to {@code nameBase},
+   * or, if the file is {@code nameBase}, the file name.
+   *
+   * @param source
+   *          the file or folder
+   * @param nameBase
+   *          the path used to resolve names against
+   * @throws IOException
+   *           if i/o fails
+   */
+  public final void addPath(final Path source, final Path nameBase)
+      throws IOException {
+    Files.walkFileTree(PathUtils.normalize(source), new __PathAdder(
+        PathUtils.normalize(nameBase)));
+  }
+
+  /**
+   * Finish the archive and close the underlying stream. An entry which is
+   * still open will be finished first.
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Override
+  public synchronized final void close() throws IOException {
+    if (this.m_closed) {
+      return;
+    }
+    try {
+      try {
+        if (this.m_entry != null) {
+          this.m_entry.close();
+        }
+      } finally {
+        this._finish();
+      }
+    } finally {
+      this.m_closed = true;
+      this.m_out.close();
+    }
+  }
+
+  /** the stream for an entry */
+  private final class __EntryStream extends OutputStream {
+
+    /** the stream to write the entry's contents to */
+    private final OutputStream m_target;
+
+    /** is the entry closed? */
+    private boolean m_entryClosed;
+
+    /**
+     * create
+     *
+     * @param target
+     *          the stream to write the entry's contents to
+     */
+    __EntryStream(final OutputStream target) {
+      super();
+      this.m_target = target;
+    }
+
+    /**
+     * make sure that the entry is open
+     *
+     * @throws IOException
+     *           if it is closed
+     */
+    private final void __ensureOpen() throws IOException {
+      if (this.m_entryClosed) {
+        throw new IOException("Archive entry has already been closed."); //$NON-NLS-1$
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void write(final int b) throws IOException {
+      this.__ensureOpen();
+      this.m_target.write(b);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void write(final byte[] b, final int off, final int len)
+        throws IOException {
+      this.__ensureOpen();
+      this.m_target.write(b, off, len);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void flush() throws IOException {
+      this.__ensureOpen();
+      this.m_target.flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void close() throws IOException {
+      synchronized (ArchiveOutput.this) {
+        if (this.m_entryClosed) {
+          return;
+        }
+        this.m_entryClosed = true;
+        ArchiveOutput.this.m_entry = null;
+        ArchiveOutput.this._endEntry();
+      }
+    }
+  }
+
+  /** A visitor adding all files to the archive. */
+  private final class __PathAdder extends SimpleFileVisitor<Path> {
+
+    /** the root path */
+    private final Path m_root;
+
+    /**
+     * create the adder
+     *
+     * @param root
+     *          the root path
+     */
+    __PathAdder(final Path root) {
+      super();
+      this.m_root = root;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final FileVisitResult visitFile(final Path file,
+        final BasicFileAttributes attrs) throws IOException {
+      final StringBuilder name;
+
+      if (file.equals(this.m_root)) {
+        ArchiveOutput.this.addFile(PathUtils.getName(file), file);
+      } else {
+        name = new StringBuilder();
+        for (final Path element : this.m_root.relativize(file)) {
+          if (name.length() > 0) {
+            name.append('/');
+          }
+          name.append(element.toString());
+        }
+        ArchiveOutput.this.addFile(name.toString(), file);
+      }
+      return FileVisitResult.CONTINUE;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final FileVisitResult visitFileFailed(final Path file,
+        final IOException exc) throws IOException {
+      throw exc;
+    }
+  }
+}
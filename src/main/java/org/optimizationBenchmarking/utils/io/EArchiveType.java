@@ -4,11 +4,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -27,8 +24,8 @@ import org.optimizationBenchmarking.utils.text.TextUtils;
  * <p>
  * Archive types may support building full file system structures inside an
  * archive. The {@link #ZIP} format does this, for instance. Other archive
- * types, such as {@link #GZIP}, may only support single compressed data
- * streams.
+ * types, such as {@link #GZIP} and {@link #LZ4}, may only support single
+ * compressed data streams.
  * </p>
  * <p>
  * If full file system structures are supported, the
@@ -76,17 +73,19 @@ public enum EArchiveType implements IFileType {
     public final void compressPathsToStream(
         final Iterable<Path> sourcePaths, final Path nameBase,
         final OutputStream destStream) throws IOException {
-      final Path res;
-      final __PathZipper zipper;
-
-      res = PathUtils.normalize(nameBase);
-      try (final ZipOutputStream zipStream = EArchiveType
-          ._makeZipOutputStream(destStream)) {
-        zipper = new __PathZipper(res, zipStream);
-        for (final Path p : sourcePaths) {
-          Files.walkFileTree(PathUtils.normalize(p), zipper);
-        }
+      EArchiveType._compressPathsToStream(this, sourcePaths, nameBase,
+          destStream);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final ArchiveOutput openArchiveOutput(
+        final OutputStream destination, final boolean parallel) {
+      if (parallel) {
+        return new _ParallelZipArchiveOutput(this, destination);
       }
+      return new _ZipArchiveOutput(this,
+          EArchiveType._makeZipOutputStream(destination));
     }
 
     /** {@inheritDoc} */
@@ -98,14 +97,10 @@ public enum EArchiveType implements IFileType {
       final Path res;
       Path out;
       ZipEntry entry;
-      byte[] buffer;
-      int bytesRead;
 
       res = PathUtils.normalize(destFolder);
 
       try (final ZipInputStream zis = new ZipInputStream(sourceStream)) {
-        buffer = null;
-
         while ((entry = zis.getNextEntry()) != null) {
           try {
 
@@ -117,17 +112,7 @@ public enum EArchiveType implements IFileType {
             }
             Files.createDirectories(out.getParent());
 
-            try (
-                final OutputStream fos = PathUtils.openOutputStream(out)) {
-              if (buffer == null) {
-                buffer = new byte[4096];
-              }
-              bytesRead = 0;
-
-              while ((bytesRead = zis.read(buffer)) > 0) {
-                fos.write(buffer, 0, bytesRead);
-              }
-            }
+            IOUtils.copy(zis, out);
 
           } finally {
             zis.closeEntry();
@@ -139,16 +124,17 @@ public enum EArchiveType implements IFileType {
     /** {@inheritDoc} */
     @Override
     public final OutputStream compressStream(
-        final OutputStream destination, final String fallbackFileName)
-            throws IOException {
+        final OutputStream destination, final String fallbackFileName,
+        final boolean parallel) throws IOException {
+      // a single entry cannot be deflated in parallel
       return new __ZipOutputStream(destination,
           EArchiveType._fallback(fallbackFileName));
     }
 
     /** {@inheritDoc} */
     @Override
-    public final InputStream decompressStream(final InputStream source)
-        throws IOException {
+    public final InputStream decompressStream(final InputStream source,
+        final boolean parallel) throws IOException {
       return new __ZipInputStream(source);
     }
   },
@@ -182,15 +168,17 @@ public enum EArchiveType implements IFileType {
     public final void compressPathsToStream(
         final Iterable<Path> sourcePaths, final Path nameBase,
         final OutputStream destStream) throws IOException {
-      final __PathCompressor zipper;
+      EArchiveType._compressPathsToStream(this, sourcePaths, nameBase,
+          destStream);
+    }
 
-      try (final GZIPOutputStream zipStream = new GZIPOutputStream(
-          destStream)) {
-        zipper = new __PathCompressor(zipStream);
-        for (final Path p : sourcePaths) {
-          Files.walkFileTree(PathUtils.normalize(p), zipper);
-        }
-      }
+    /** {@inheritDoc} */
+    @Override
+    public final ArchiveOutput openArchiveOutput(
+        final OutputStream destination, final boolean parallel)
+        throws IOException {
+      return new _StreamArchiveOutput(this,
+          this.compressStream(destination, null, parallel));
     }
 
     /** {@inheritDoc} */
@@ -211,18 +199,98 @@ public enum EArchiveType implements IFileType {
     /** {@inheritDoc} */
     @Override
     public final OutputStream compressStream(
-        final OutputStream destination, final String fallbackFileName)
-            throws IOException {
+        final OutputStream destination, final String fallbackFileName,
+        final boolean parallel) throws IOException {
+      if (parallel) {
+        return new _ParallelGZIPOutputStream(destination);
+      }
       return new GZIPOutputStream(destination);
     }
 
     /** {@inheritDoc} */
     @Override
-    public final InputStream decompressStream(final InputStream source)
-        throws IOException {
+    public final InputStream decompressStream(final InputStream source,
+        final boolean parallel) throws IOException {
+      if (parallel) {
+        return new _ParallelGZIPInputStream(source);
+      }
       return new GZIPInputStream(source);
     }
 
+  },
+
+  /**
+   * The LZ4 frame format. LZ4 is much faster than {@link #GZIP}, but it
+   * does not compress as well. Like GZIP, it only supports single streams
+   * of data. The files can be read by the {@code lz4} command line tool.
+   */
+  LZ4() {
+
+    /** {@inheritDoc} */
+    @Override
+    public final String getDefaultSuffix() {
+      return "lz4"; //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String getMIMEType() {
+      return "application/x-lz4";//$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String getName() {
+      return "LZ4 Archive"; //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void compressPathsToStream(
+        final Iterable<Path> sourcePaths, final Path nameBase,
+        final OutputStream destStream) throws IOException {
+      EArchiveType._compressPathsToStream(this, sourcePaths, nameBase,
+          destStream);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final ArchiveOutput openArchiveOutput(
+        final OutputStream destination, final boolean parallel)
+        throws IOException {
+      return new _StreamArchiveOutput(this,
+          this.compressStream(destination, null, parallel));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void decompressStreamToFolder(
+        final InputStream sourceStream, final Path destFolder,
+        final String fallbackFileName) throws IOException {
+
+      final Path res;
+
+      res = PathUtils.normalize(destFolder);
+      try (final InputStream zis = new _LZ4InputStream(sourceStream)) {
+        Files.copy(zis, PathUtils.createPathInside(res,
+            EArchiveType._fallback(fallbackFileName)));
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final OutputStream compressStream(
+        final OutputStream destination, final String fallbackFileName,
+        final boolean parallel) throws IOException {
+      return new _LZ4OutputStream(destination, parallel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final InputStream decompressStream(final InputStream source,
+        final boolean parallel) throws IOException {
+      return new _LZ4InputStream(source);
+    }
   };
 
   /**
@@ -239,6 +307,31 @@ public enum EArchiveType implements IFileType {
     return ((name != null) ? name : "data"); //$NON-NLS-1$
   }
 
+  /**
+   * Compress a set of files or folder structures to an output stream via
+   * an {@link ArchiveOutput}.
+   *
+   * @param type
+   *          the archive type
+   * @param sourcePaths
+   *          the files or folders to compress
+   * @param nameBase
+   *          the path used to resolve names against
+   * @param destStream
+   *          the destination stream
+   * @throws IOException
+   *           if I/O fails
+   */
+  static final void _compressPathsToStream(final EArchiveType type,
+      final Iterable<Path> sourcePaths, final Path nameBase,
+      final OutputStream destStream) throws IOException {
+    try (final ArchiveOutput archive = type.openArchiveOutput(destStream)) {
+      for (final Path path : sourcePaths) {
+        archive.addPath(path, nameBase);
+      }
+    }
+  }
+
   /**
    * Compress a set of files or folder structures to an output stream.
    *
@@ -307,9 +400,78 @@ public enum EArchiveType implements IFileType {
    * @throws IOException
    *           if I/O fails
    */
+  public OutputStream compressStream(final OutputStream destination,
+      final String fallbackFileName) throws IOException {
+    return this.compressStream(destination, fallbackFileName, false);
+  }
+
+  /**
+   * Create an archive only containing a single file or data stream and
+   * provide a destination stream, which may compress the data in
+   * parallel. Parallel compression is supported by {@link #GZIP}, where
+   * the data is split into blocks which are deflated concurrently and
+   * written as a standard multi-member GZIP stream, and by {@link #LZ4},
+   * whose independent blocks are compressed concurrently. For
+   * {@link #ZIP}, {@code parallel} has no effect.
+   *
+   * @param destination
+   *          the output stream to which the compressed output will be
+   *          written
+   * @param fallbackFileName
+   *          if the archive format requires creating a file system
+   *          structure inside the archive, then a single file of this name
+   *          will be created
+   * @param parallel
+   *          should the data be compressed in parallel?
+   * @return the wrapped (archived) stream to which uncompressed data can
+   *         be written
+   * @throws IOException
+   *           if I/O fails
+   */
   public abstract OutputStream compressStream(
-      final OutputStream destination, final String fallbackFileName)
-          throws IOException;
+      final OutputStream destination, final String fallbackFileName,
+      final boolean parallel) throws IOException;
+
+  /**
+   * Open an archive to which an arbitrary number of entries can be
+   * written one after the other, directly into the compressed
+   * {@code destination} stream. If the archive type does not support a
+   * file system structure, all entries are merged into one single stream.
+   *
+   * @param destination
+   *          the output stream to which the compressed output will be
+   *          written
+   * @return the archive output
+   * @throws IOException
+   *           if I/O fails
+   */
+  public ArchiveOutput openArchiveOutput(final OutputStream destination)
+      throws IOException {
+    return this.openArchiveOutput(destination, false);
+  }
+
+  /**
+   * Open an archive to which an arbitrary number of entries can be
+   * written one after the other. If {@code parallel} is {@code true}, the
+   * data is compressed concurrently by the worker threads of
+   * {@link org.optimizationBenchmarking.utils.parallel.Execute}: The
+   * entries of a {@link #ZIP} archive are buffered in memory and deflated
+   * in parallel to each other, while the single stream of a {@link #GZIP}
+   * or {@link #LZ4} archive is split into blocks. Either way, the archive
+   * can be read by any standard tool.
+   *
+   * @param destination
+   *          the output stream to which the compressed output will be
+   *          written
+   * @param parallel
+   *          should the data be compressed in parallel?
+   * @return the archive output
+   * @throws IOException
+   *           if I/O fails
+   */
+  public abstract ArchiveOutput openArchiveOutput(
+      final OutputStream destination, final boolean parallel)
+      throws IOException;
 
   /**
    * Open a single stream from an archive an load its data
@@ -320,76 +482,29 @@ public enum EArchiveType implements IFileType {
    * @throws IOException
    *           if I/O fails
    */
-  public abstract InputStream decompressStream(final InputStream source)
-      throws IOException;
+  public InputStream decompressStream(final InputStream source)
+      throws IOException {
+    return this.decompressStream(source, false);
+  }
 
   /**
-   * A visitor for the storing paths into a ZIP archive.
+   * Open a single stream from an archive an load its data, which may
+   * decompress the data in parallel. Parallel decompression is only
+   * supported for {@link #GZIP} streams which have been
+   * {@linkplain #compressStream(OutputStream, String, boolean) compressed
+   * in parallel}: their blocks are inflated concurrently. Any other GZIP
+   * stream is read sequentially.
+   *
+   * @param source
+   *          the input stream with the compressed data
+   * @param parallel
+   *          should the data be decompressed in parallel, if possible?
+   * @return the wrapped stream from which uncompressed data can be read
+   * @throws IOException
+   *           if I/O fails
    */
-  private static final class __PathZipper extends SimpleFileVisitor<Path> {
-
-    /** the root path */
-    private final Path m_root;
-
-    /** the output stream */
-    private final ZipOutputStream m_zipStream;
-
-    /**
-     * create the zipper
-     *
-     * @param root
-     *          the root path
-     * @param zipStream
-     *          the stream
-     */
-    __PathZipper(final Path root, final ZipOutputStream zipStream) {
-      super();
-      this.m_root = root;
-      this.m_zipStream = zipStream;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final FileVisitResult preVisitDirectory(final Path dir,
-        final BasicFileAttributes attrs) {
-      return FileVisitResult.CONTINUE;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final FileVisitResult visitFile(final Path file,
-        final BasicFileAttributes attrs) throws IOException {
-      String name;
-
-      if (file.equals(this.m_root)) {
-        name = PathUtils.getName(file);
-      } else {
-        name = this.m_root.relativize(file).toString();
-      }
-
-      this.m_zipStream.putNextEntry(new ZipEntry(name));
-      try {
-        Files.copy(file, this.m_zipStream);
-      } finally {
-        this.m_zipStream.closeEntry();
-      }
-      return FileVisitResult.CONTINUE;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final FileVisitResult visitFileFailed(final Path file,
-        final IOException exc) throws IOException {
-      throw exc;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final FileVisitResult postVisitDirectory(final Path dir,
-        final IOException exc) throws IOException {
-      return FileVisitResult.CONTINUE;
-    }
-  }
+  public abstract InputStream decompressStream(final InputStream source,
+      final boolean parallel) throws IOException;
 
   /**
    * make a zip output stream
@@ -630,54 +745,4 @@ public enum EArchiveType implements IFileType {
     }
   }
 
-  /**
-   * A visitor for the storing paths all into a single stream
-   */
-  private static final class __PathCompressor
-      extends SimpleFileVisitor<Path> {
-
-    /** the output stream */
-    private final OutputStream m_stream;
-
-    /**
-     * create the path compressor
-     *
-     * @param stream
-     *          the stream
-     */
-    __PathCompressor(final OutputStream stream) {
-      super();
-      this.m_stream = stream;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final FileVisitResult preVisitDirectory(final Path dir,
-        final BasicFileAttributes attrs) {
-      return FileVisitResult.CONTINUE;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final FileVisitResult visitFile(final Path file,
-        final BasicFileAttributes attrs) throws IOException {
-      Files.copy(file, this.m_stream);
-      return FileVisitResult.CONTINUE;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final FileVisitResult visitFileFailed(final Path file,
-        final IOException exc) throws IOException {
-      throw exc;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final FileVisitResult postVisitDirectory(final Path dir,
-        final IOException exc) throws IOException {
-      return FileVisitResult.CONTINUE;
-    }
-  }
-
-}
\ No newline at end of file
+}
@@ -1,18 +1,64 @@
 package org.optimizationBenchmarking.utils.io;
 
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
 
 /**
- * Some small utilities for performing I/O
+ * <p>
+ * Some small utilities for performing I/O.
+ * </p>
+ * <p>
+ * The {@code copy} methods return the number of bytes or characters
+ * copied. If a {@link java.util.logging.Logger} is provided and it is
+ * loggable at level {@link java.util.logging.Level#FINE FINE}, the number
+ * of copied bytes and the throughput are logged.
+ * </p>
+ * <p>
+ * If the source of a copy operation is a file (a
+ * {@link java.io.FileInputStream}, a {@link java.nio.file.Path}, or a
+ * {@link java.nio.channels.FileChannel}) and the destination is a file or
+ * a {@link java.nio.channels.SelectableChannel} such as a socket or pipe,
+ * the data is transferred via
+ * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}
+ * , which allows the operating system to copy the data without moving it
+ * through the Java heap. This is only done for the part of the source
+ * file covered by its {@link java.nio.channels.FileChannel#size() size}:
+ * pipes, devices, or files in {@code /proc} report a size of zero and the
+ * remaining data is read until the end of the stream is reached.
+ * Otherwise, a buffer which is allocated once per thread and re-used is
+ * used for the copy operation: a byte array for streams and a direct
+ * buffer for channels.
+ * </p>
  */
 public final class IOUtils {
 
+  /** the size of the copy buffers */
+  private static final int BUFFER_SIZE = 65536;
+
+  /** the per-thread byte buffers */
+  private static final __Buffers<byte[]> BYTES = new __Buffers<>();
+  /** the per-thread character buffers */
+  private static final __Buffers<char[]> CHARS = new __Buffers<>();
+  /** the per-thread direct buffers */
+  private static final __Buffers<ByteBuffer> DIRECT = new __Buffers<>();
+
   /**
    * Copy all data from an input stream to an output stream.
    *
@@ -20,12 +66,90 @@ public final class IOUtils {
    *          the input stream
    * @param os
    *          the output stream
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final InputStream is,
+      final OutputStream os) throws IOException {
+    return IOUtils.copy(is, os, ((Logger) null));
+  }
+
+  /**
+   * Copy all data from an input stream to an output stream. If the input
+   * stream is a {@link java.io.FileInputStream} and the output stream is a
+   * {@link java.io.FileOutputStream}, the data will be transferred via
+   * their {@link java.io.FileInputStream#getChannel() channels}.
+   *
+   * @param is
+   *          the input stream
+   * @param os
+   *          the output stream
+   * @param log
+   *          the logger to log the throughput to, or {@code null}
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final InputStream is,
+      final OutputStream os, final Logger log) throws IOException {
+    final long start;
+    final long size;
+
+    start = System.nanoTime();
+    if ((is instanceof FileInputStream) && (os instanceof FileOutputStream)) {
+      size = IOUtils.__transfer(((FileInputStream) is).getChannel(),
+          ((FileOutputStream) os).getChannel());
+    } else {
+      size = IOUtils.__copy(is, os);
+    }
+    IOUtils.__log(log, size, start);
+    return size;
+  }
+
+  /**
+   * Copy all data from an input stream to an output stream.
+   *
+   * @param is
+   *          the input stream
+   * @param os
+   *          the output stream
+   * @param buffer
+   *          the buffer to be used for intermediate reads
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final InputStream is,
+      final OutputStream os, final byte[] buffer) throws IOException {
+    return IOUtils.__copy(is, os, buffer);
+  }
+
+  /**
+   * Copy all data from an input stream to an output stream using the
+   * buffer of the current thread.
+   *
+   * @param is
+   *          the input stream
+   * @param os
+   *          the output stream
+   * @return the number of copied bytes
    * @throws IOException
    *           if i/o fails
    */
-  public static final void copy(final InputStream is,
+  private static final long __copy(final InputStream is,
       final OutputStream os) throws IOException {
-    IOUtils.copy(is, os, new byte[8192]);
+    byte[] buffer;
+
+    buffer = IOUtils.BYTES._borrow();
+    if (buffer == null) {
+      buffer = new byte[IOUtils.BUFFER_SIZE];
+    }
+    try {
+      return IOUtils.__copy(is, os, buffer);
+    } finally {
+      IOUtils.BYTES._return(buffer);
+    }
   }
 
   /**
@@ -37,14 +161,301 @@ public final class IOUtils {
    *          the output stream
    * @param buffer
    *          the buffer to be used for intermediate reads
+   * @return the number of copied bytes
    * @throws IOException
    *           if i/o fails
    */
-  public static final void copy(final InputStream is,
+  private static final long __copy(final InputStream is,
       final OutputStream os, final byte[] buffer) throws IOException {
+    long size;
     int read;
+
+    size = 0L;
     while ((read = is.read(buffer)) > 0) {
       os.write(buffer, 0, read);
+      size += read;
+    }
+    return size;
+  }
+
+  /**
+   * Copy all data from a file to an output stream.
+   *
+   * @param source
+   *          the source file
+   * @param os
+   *          the output stream
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final Path source, final OutputStream os)
+      throws IOException {
+    return IOUtils.copy(source, os, null);
+  }
+
+  /**
+   * Copy all data from a file to an output stream. If the output stream is
+   * a {@link java.io.FileOutputStream}, the data will be transferred
+   * directly from the file's channel to the stream's
+   * {@link java.io.FileOutputStream#getChannel() channel}.
+   *
+   * @param source
+   *          the source file
+   * @param os
+   *          the output stream
+   * @param log
+   *          the logger to log the throughput to, or {@code null}
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final Path source, final OutputStream os,
+      final Logger log) throws IOException {
+    final long start;
+    final long size;
+
+    if (os instanceof FileOutputStream) {
+      try (final SeekableByteChannel in = PathUtils
+          .openInputChannel(source)) {
+        return IOUtils.copy(in, ((FileOutputStream) os).getChannel(), log);
+      }
+    }
+
+    start = System.nanoTime();
+    try (final InputStream is = PathUtils.openInputStream(source)) {
+      size = IOUtils.__copy(is, os);
+    }
+    IOUtils.__log(log, size, start);
+    return size;
+  }
+
+  /**
+   * Copy all data from an input stream to a file. The file is created or
+   * overwritten.
+   *
+   * @param is
+   *          the input stream
+   * @param dest
+   *          the destination file
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final InputStream is, final Path dest)
+      throws IOException {
+    return IOUtils.copy(is, dest, null);
+  }
+
+  /**
+   * Copy all data from an input stream to a file. The file is created or
+   * overwritten. If the input stream is a {@link java.io.FileInputStream},
+   * its data will be transferred directly from its
+   * {@link java.io.FileInputStream#getChannel() channel} to the file.
+   *
+   * @param is
+   *          the input stream
+   * @param dest
+   *          the destination file
+   * @param log
+   *          the logger to log the throughput to, or {@code null}
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final InputStream is, final Path dest,
+      final Logger log) throws IOException {
+    final long start;
+    final long size;
+
+    if (is instanceof FileInputStream) {
+      try (final WritableByteChannel out = PathUtils
+          .openOutputChannel(dest)) {
+        return IOUtils.copy(((FileInputStream) is).getChannel(), out, log);
+      }
+    }
+
+    start = System.nanoTime();
+    try (final OutputStream os = PathUtils.openOutputStream(dest)) {
+      size = IOUtils.__copy(is, os);
+    }
+    IOUtils.__log(log, size, start);
+    return size;
+  }
+
+  /**
+   * Copy all data from a readable channel to a writable channel.
+   *
+   * @param source
+   *          the source channel
+   * @param dest
+   *          the destination channel
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final ReadableByteChannel source,
+      final WritableByteChannel dest) throws IOException {
+    return IOUtils.copy(source, dest, null);
+  }
+
+  /**
+   * Copy all data from a readable channel to a writable channel. If the
+   * source is a {@link java.nio.channels.FileChannel} and the destination
+   * is a {@link java.nio.channels.FileChannel} or a
+   * {@link java.nio.channels.SelectableChannel}, the data will be
+   * transferred via
+   * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}
+   * . Otherwise, a direct buffer is used.
+   *
+   * @param source
+   *          the source channel
+   * @param dest
+   *          the destination channel
+   * @param log
+   *          the logger to log the throughput to, or {@code null}
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public static final long copy(final ReadableByteChannel source,
+      final WritableByteChannel dest, final Logger log) throws IOException {
+    final long start;
+    final long size;
+
+    start = System.nanoTime();
+    if ((source instanceof FileChannel)
+        && ((dest instanceof FileChannel) || (dest instanceof SelectableChannel))) {
+      size = IOUtils.__transfer(((FileChannel) source), dest);
+    } else {
+      size = IOUtils.__copy(source, dest);
+    }
+    IOUtils.__log(log, size, start);
+    return size;
+  }
+
+  /**
+   * Copy all data from a readable channel to a writable channel via the
+   * direct buffer of the current thread.
+   *
+   * @param source
+   *          the source channel
+   * @param dest
+   *          the destination channel
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final long __copy(final ReadableByteChannel source,
+      final WritableByteChannel dest) throws IOException {
+    ByteBuffer buffer;
+
+    buffer = IOUtils.DIRECT._borrow();
+    if (buffer == null) {
+      buffer = ByteBuffer.allocateDirect(IOUtils.BUFFER_SIZE);
+    }
+    try {
+      return IOUtils.__copy(source, dest, buffer);
+    } finally {
+      IOUtils.DIRECT._return(buffer);
+    }
+  }
+
+  /**
+   * Copy all data from a readable channel to a writable channel via a
+   * buffer.
+   *
+   * @param source
+   *          the source channel
+   * @param dest
+   *          the destination channel
+   * @param buffer
+   *          the buffer
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final long __copy(final ReadableByteChannel source,
+      final WritableByteChannel dest, final ByteBuffer buffer)
+      throws IOException {
+    long size;
+    int read;
+
+    size = 0L;
+    buffer.clear();
+    while ((read = source.read(buffer)) >= 0) {
+      size += read;
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        dest.write(buffer);
+      }
+      buffer.clear();
+    }
+    return size;
+  }
+
+  /**
+   * Transfer all remaining data from a file channel to a writable channel,
+   * starting at the current position of the file channel, which is
+   * afterwards set to the end of the transferred data. Only the data up to
+   * the {@link java.nio.channels.FileChannel#size() size} of the channel
+   * is transferred via
+   * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}
+   * , the rest is read via a buffer until the end of the stream is
+   * reached. This way, the data of pipes, devices, and files in
+   * {@code /proc}, which all report a size of zero, as well as of files
+   * growing during the copy operation is copied completely.
+   *
+   * @param source
+   *          the source channel
+   * @param dest
+   *          the destination channel
+   * @return the number of copied bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final long __transfer(final FileChannel source,
+      final WritableByteChannel dest) throws IOException {
+    final long start;
+    long position, end, transferred;
+
+    if (source.size() <= 0L) {
+      // not a regular file: pipes, for instance, cannot even be positioned
+      return IOUtils.__copy(source, dest);
+    }
+
+    start = position = source.position();
+    while (position < (end = source.size())) {
+      transferred = source.transferTo(position, (end - position), dest);
+      if (transferred <= 0L) {
+        break;
+      }
+      position += transferred;
+    }
+    source.position(position);
+    return ((position - start) + IOUtils.__copy(source, dest));
+  }
+
+  /**
+   * Log the throughput of a copy operation
+   *
+   * @param log
+   *          the logger, or {@code null}
+   * @param size
+   *          the number of copied bytes
+   * @param start
+   *          the start time of the copy operation, in nanoseconds
+   */
+  private static final void __log(final Logger log, final long size,
+      final long start) {
+    final long time;
+
+    if ((log != null) && (log.isLoggable(Level.FINE))) {
+      time = Math.max(1L, (System.nanoTime() - start));
+      log.fine("Copied " + size + //$NON-NLS-1$
+          " bytes in " + (time / 1000000L) + //$NON-NLS-1$
+          " ms (" + ((long) ((size * 1e9d) / (time * 1048576d))) + //$NON-NLS-1$
+          " MiB/s).");//$NON-NLS-1$
     }
   }
 
@@ -55,12 +466,23 @@ public final class IOUtils {
    *          the input reader
    * @param ow
    *          the output writer
+   * @return the number of copied characters
    * @throws IOException
    *           if i/o fails
    */
-  public static final void copy(final Reader ir, final Writer ow)
+  public static final long copy(final Reader ir, final Writer ow)
       throws IOException {
-    IOUtils.copy(ir, ow, new char[8192]);
+    char[] buffer;
+
+    buffer = IOUtils.CHARS._borrow();
+    if (buffer == null) {
+      buffer = new char[IOUtils.BUFFER_SIZE];
+    }
+    try {
+      return IOUtils.copy(ir, ow, buffer);
+    } finally {
+      IOUtils.CHARS._return(buffer);
+    }
   }
 
   /**
@@ -72,20 +494,65 @@ public final class IOUtils {
    *          the output writer
    * @param buffer
    *          the buffer to be used for intermediate reads
+   * @return the number of copied characters
    * @throws IOException
    *           if i/o fails
    */
-  public static final void copy(final Reader ir, final Writer ow,
+  public static final long copy(final Reader ir, final Writer ow,
       final char[] buffer) throws IOException {
+    long size;
     int read;
 
+    size = 0L;
     while ((read = ir.read(buffer)) > 0) {
       ow.write(buffer, 0, read);
+      size += read;
     }
+    return size;
   }
 
   /** the forbidden constructor */
   private IOUtils() {
     ErrorUtils.doNotCall();
   }
+
+  /**
+   * The per-thread buffers. A buffer is removed from its thread while it
+   * is in use, so that nested copy operations never share a buffer.
+   *
+   * @param <T>
+   *          the buffer type
+   */
+  private static final class __Buffers<T> extends ThreadLocal<T> {
+
+    /** create */
+    __Buffers() {
+      super();
+    }
+
+    /**
+     * Borrow the buffer of the current thread.
+     *
+     * @return the buffer, or {@code null} if a new one must be allocated
+     */
+    final T _borrow() {
+      final T buffer;
+
+      buffer = this.get();
+      if (buffer != null) {
+        this.set(null);
+      }
+      return buffer;
+    }
+
+    /**
+     * Return a buffer to the current thread
+     *
+     * @param buffer
+     *          the buffer
+     */
+    final void _return(final T buffer) {
+      this.set(buffer);
+    }
+  }
 }
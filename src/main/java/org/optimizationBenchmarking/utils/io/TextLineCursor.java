@@ -0,0 +1,548 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.encoding.TextEncoding;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.parsers.LooseDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LooseIntParser;
+import org.optimizationBenchmarking.utils.parsers.LooseLongParser;
+
+/**
+ * <p>
+ * A cursor which moves over the lines of a text and over the fields or
+ * tokens within the current line. Different from the
+ * {@link StreamLineIterator} and the
+ * {@link org.optimizationBenchmarking.utils.text.tokenizers.LineIterator}
+ * and
+ * {@link org.optimizationBenchmarking.utils.text.tokenizers.SeparatorBasedStringIterator}
+ * , the cursor does not create a {@link java.lang.String} for each line or
+ * field. Instead, the text is read in large chunks into a single,
+ * re-used character array, and the {@linkplain #line() current line} and
+ * the {@linkplain #field() current field} are re-used
+ * {@link java.lang.CharSequence} views of ranges of this array. Fields
+ * can be handed directly to the
+ * {@linkplain org.optimizationBenchmarking.utils.parsers.LooseDoubleParser
+ * number parsers}, so that scanning a large log file with numbers does
+ * not create any objects per line, except for when
+ * {@link java.lang.CharSequence#toString()} or
+ * {@link java.lang.CharSequence#subSequence(int, int)} are called.
+ * </p>
+ * <p>
+ * The views are only valid until the next call to {@link #nextLine()}.
+ * Lines are separated by {@code '\n'}, {@code '\r'}, or {@code "\r\n"},
+ * exactly as in {@link java.io.BufferedReader#readLine()}. Files opened
+ * via {@link #open(Path, TextEncoding, boolean)} can be memory-mapped if
+ * they are large and are then decoded directly from the mapped buffer.
+ * </p>
+ */
+public final class TextLineCursor implements Closeable {
+
+  /** the initial size of the character buffer */
+  private static final int BUFFER_SIZE = (1 << 15);
+
+  /**
+   * files of at least this size are memory-mapped instead of being read
+   * into a buffer if mapping is requested
+   */
+  private static final long MAP_THRESHOLD = (1L << 18);
+
+  /** the reader to read from, or {@code null} if the cursor is closed */
+  private Reader m_reader;
+
+  /** the character buffer */
+  private char[] m_chars;
+
+  /** the index of the first character which has not yet been consumed */
+  private int m_pos;
+
+  /** the end of the valid data in {@link #m_chars} */
+  private int m_fill;
+
+  /** have we reached the end of the input? */
+  private boolean m_eof;
+
+  /** must a {@code '\n'} at the start of the next line be skipped? */
+  private boolean m_skipLF;
+
+  /** the index where the search for the next field begins */
+  private int m_fieldPos;
+
+  /** the number of the current line */
+  private long m_lineNumber;
+
+  /** the view of the current line */
+  private final __Range m_line;
+
+  /** the view of the current field */
+  private final __Range m_field;
+
+  /**
+   * Create the line cursor
+   *
+   * @param reader
+   *          the reader to read from
+   */
+  public TextLineCursor(final Reader reader) {
+    super();
+    if (reader == null) {
+      throw new IllegalArgumentException(//
+          "Reader to read lines from must not be null."); //$NON-NLS-1$
+    }
+    this.m_reader = reader;
+    this.m_chars = new char[TextLineCursor.BUFFER_SIZE];
+    this.m_line = new __Range();
+    this.m_field = new __Range();
+  }
+
+  /**
+   * Open a cursor for a file. The file is read through a buffer.
+   *
+   * @param path
+   *          the path to the file
+   * @param encoding
+   *          the text encoding, or {@code null} for the
+   *          {@linkplain StreamEncoding#getDefaultTextEncoding() default
+   *          encoding}
+   * @return the cursor
+   * @throws IOException
+   *           if the file cannot be opened
+   */
+  public static final TextLineCursor open(final Path path,
+      final TextEncoding encoding) throws IOException {
+    return TextLineCursor.open(path, encoding, false);
+  }
+
+  /**
+   * Open a cursor for a file. If {@code map} is {@code true} and at least
+   * 256 KiB (and less than 2 GiB) of the file are to be read, the file is
+   * memory-mapped, which is faster than reading it through a buffer. A
+   * mapping is only released when it is garbage collected, though: Until
+   * then, the file cannot be deleted on Windows. The file must also not be
+   * truncated while it is mapped, as this would crash the virtual machine.
+   *
+   * @param path
+   *          the path to the file
+   * @param encoding
+   *          the text encoding, or {@code null} for the
+   *          {@linkplain StreamEncoding#getDefaultTextEncoding() default
+   *          encoding}
+   * @param map
+   *          should large files be memory-mapped?
+   * @return the cursor
+   * @throws IOException
+   *           if the file cannot be opened
+   */
+  public static final TextLineCursor open(final Path path,
+      final TextEncoding encoding, final boolean map) throws IOException {
+    final SeekableByteChannel channel;
+    final TextEncoding use;
+    final FileChannel file;
+    final TextLineCursor cursor;
+    final long position, size;
+
+    use = ((encoding != null) ? encoding
+        : StreamEncoding.getDefaultTextEncoding());
+    channel = PathUtils.openInputChannel(path);
+    try {
+      if (map && (channel instanceof FileChannel)) {
+        file = ((FileChannel) channel);
+        position = file.position();
+        size = (file.size() - position);
+        if ((size >= TextLineCursor.MAP_THRESHOLD)
+            && (size <= Integer.MAX_VALUE)) {
+          // the mapping stays valid after the channel has been closed
+          cursor = new TextLineCursor(use.wrapBuffer(//
+              file.map(FileChannel.MapMode.READ_ONLY, position, size)));
+          channel.close();
+          return cursor;
+        }
+      }
+      return new TextLineCursor(use.wrapInputChannel(channel));
+    } catch (final Throwable error) {
+      try {
+        channel.close();
+      } catch (final Throwable error2) {
+        error.addSuppressed(error2);
+      }
+      throw error;
+    }
+  }
+
+  /**
+   * make sure that the cursor is open
+   *
+   * @throws IOException
+   *           if the cursor is closed
+   */
+  private final void __ensureOpen() throws IOException {
+    if (this.m_reader == null) {
+      throw new IOException("Line cursor has already been closed."); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Move the unconsumed characters to the start of the buffer, growing it
+   * if necessary, and read more characters.
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  private final void __fill() throws IOException {
+    final int length, read;
+    char[] chars;
+
+    chars = this.m_chars;
+    length = (this.m_fill - this.m_pos);
+    if (this.m_pos > 0) {
+      System.arraycopy(chars, this.m_pos, chars, 0, length);
+    } else {
+      if (length >= chars.length) {
+        this.m_chars = chars = Arrays.copyOf(chars, (chars.length << 1));
+      }
+    }
+    this.m_pos = 0;
+    this.m_fill = length;
+
+    read = this.m_reader.read(chars, length, (chars.length - length));
+    if (read < 0) {
+      this.m_eof = true;
+    } else {
+      this.m_fill += read;
+    }
+  }
+
+  /**
+   * Move to the next line.
+   *
+   * @return {@code true} if there is a next line, {@code false} if the
+   *         end of the input has been reached
+   * @throws IOException
+   *           if I/O fails
+   */
+  public final boolean nextLine() throws IOException {
+    final __Range line;
+    char[] chars;
+    int index, fill;
+    char ch;
+
+    this.__ensureOpen();
+
+    if (this.m_skipLF) {
+      if ((this.m_pos >= this.m_fill) && (!(this.m_eof))) {
+        this.__fill();
+      }
+      if ((this.m_pos < this.m_fill)
+          && (this.m_chars[this.m_pos] == '\n')) {
+        this.m_pos++;
+      }
+      this.m_skipLF = false;
+    }
+
+    line = this.m_line;
+    index = this.m_pos;
+    for (;;) {
+      chars = this.m_chars;
+      fill = this.m_fill;
+
+      for (; index < fill; index++) {
+        ch = chars[index];
+        if ((ch == '\n') || (ch == '\r')) {
+          line.m_start = this.m_pos;
+          line.m_end = index;
+          if ((++index) < fill) {
+            if ((ch == '\r') && (chars[index] == '\n')) {
+              index++;
+            }
+          } else {
+            this.m_skipLF = (ch == '\r');
+          }
+          this.m_pos = index;
+          return this.__startLine();
+        }
+      }
+
+      if (this.m_eof) {
+        if (this.m_pos < fill) {
+          line.m_start = this.m_pos;
+          line.m_end = fill;
+          this.m_pos = fill;
+          return this.__startLine();
+        }
+        line.m_start = line.m_end = 0;
+        this.m_field.m_start = this.m_field.m_end = 0;
+        this.m_fieldPos = 0;
+        return false;
+      }
+
+      index -= this.m_pos;
+      this.__fill();
+      index += this.m_pos;
+    }
+  }
+
+  /**
+   * Begin a new line
+   *
+   * @return {@code true}
+   */
+  private final boolean __startLine() {
+    this.m_fieldPos = this.m_line.m_start;
+    this.m_field.m_start = this.m_field.m_end = this.m_fieldPos;
+    this.m_lineNumber++;
+    return true;
+  }
+
+  /**
+   * Move to the next field of the current line, where fields are separated
+   * by the given character. Leading and trailing white space is removed
+   * from the field. A line consisting only of white space has no fields.
+   *
+   * @param separator
+   *          the separator character
+   * @return {@code true} if there is a next field, {@code false} if the
+   *         end of the line has been reached
+   */
+  public final boolean nextField(final char separator) {
+    final char[] chars;
+    final int end;
+    int start, index, fieldEnd;
+
+    chars = this.m_chars;
+    end = this.m_line.m_end;
+    start = this.m_fieldPos;
+    if (start > end) {
+      return false;
+    }
+
+    if (start <= this.m_line.m_start) {
+      for (index = start; index < end; index++) {
+        if (chars[index] > ' ') {
+          break;
+        }
+      }
+      if (index >= end) {
+        this.m_fieldPos = (end + 1);
+        return false;
+      }
+    }
+
+    for (index = start; index < end; index++) {
+      if (chars[index] == separator) {
+        break;
+      }
+    }
+    this.m_fieldPos = (index + 1);
+
+    fieldEnd = index;
+    while ((start < fieldEnd) && (chars[start] <= ' ')) {
+      start++;
+    }
+    while ((fieldEnd > start) && (chars[fieldEnd - 1] <= ' ')) {
+      fieldEnd--;
+    }
+    this.m_field.m_start = start;
+    this.m_field.m_end = fieldEnd;
+    return true;
+  }
+
+  /**
+   * Move to the next token of the current line, where tokens are separated
+   * by white space.
+   *
+   * @return {@code true} if there is a next token, {@code false} if the
+   *         end of the line has been reached
+   */
+  public final boolean nextToken() {
+    final char[] chars;
+    final int end;
+    int start, index;
+
+    chars = this.m_chars;
+    end = this.m_line.m_end;
+    start = this.m_fieldPos;
+
+    while ((start < end) && (chars[start] <= ' ')) {
+      start++;
+    }
+    if (start >= end) {
+      this.m_fieldPos = (end + 1);
+      return false;
+    }
+
+    index = start;
+    while ((index < end) && (chars[index] > ' ')) {
+      index++;
+    }
+    this.m_fieldPos = index;
+    this.m_field.m_start = start;
+    this.m_field.m_end = index;
+    return true;
+  }
+
+  /**
+   * Get the current line. The returned view is re-used and only valid
+   * until the next call to {@link #nextLine()}.
+   *
+   * @return the current line
+   */
+  public final CharSequence line() {
+    return this.m_line;
+  }
+
+  /**
+   * Get the current field or token. The returned view is re-used and only
+   * valid until the next call to {@link #nextField(char)},
+   * {@link #nextToken()}, or {@link #nextLine()}.
+   *
+   * @return the current field
+   */
+  public final CharSequence field() {
+    return this.m_field;
+  }
+
+  /**
+   * Get the number of the current line, starting at {@code 1}
+   *
+   * @return the number of the current line
+   */
+  public final long getLineNumber() {
+    return this.m_lineNumber;
+  }
+
+  /**
+   * Parse the current field as {@code double}
+   *
+   * @param parser
+   *          the parser to use
+   * @return the {@code double}
+   */
+  public final double fieldDouble(final LooseDoubleParser parser) {
+    return parser.parseDouble(this.m_chars, this.m_field.m_start,
+        this.m_field.m_end);
+  }
+
+  /**
+   * Parse the current field as {@code double} with the
+   * {@linkplain LooseDoubleParser#INSTANCE default parser}
+   *
+   * @return the {@code double}
+   */
+  public final double fieldDouble() {
+    return this.fieldDouble(LooseDoubleParser.INSTANCE);
+  }
+
+  /**
+   * Parse the current field as {@code long}
+   *
+   * @param parser
+   *          the parser to use
+   * @return the {@code long}
+   */
+  public final long fieldLong(final LooseLongParser parser) {
+    return parser.parseLong(this.m_chars, this.m_field.m_start,
+        this.m_field.m_end);
+  }
+
+  /**
+   * Parse the current field as {@code long} with the
+   * {@linkplain LooseLongParser#INSTANCE default parser}
+   *
+   * @return the {@code long}
+   */
+  public final long fieldLong() {
+    return this.fieldLong(LooseLongParser.INSTANCE);
+  }
+
+  /**
+   * Parse the current field as {@code int}
+   *
+   * @param parser
+   *          the parser to use
+   * @return the {@code int}
+   */
+  public final int fieldInt(final LooseIntParser parser) {
+    return parser.parseInt(this.m_chars, this.m_field.m_start,
+        this.m_field.m_end);
+  }
+
+  /**
+   * Parse the current field as {@code int} with the
+   * {@linkplain LooseIntParser#INSTANCE default parser}
+   *
+   * @return the {@code int}
+   */
+  public final int fieldInt() {
+    return this.fieldInt(LooseIntParser.INSTANCE);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() throws IOException {
+    final Reader reader;
+
+    reader = this.m_reader;
+    if (reader != null) {
+      this.m_reader = null;
+      this.m_pos = this.m_fill = 0;
+      this.m_line.m_start = this.m_line.m_end = 0;
+      this.m_field.m_start = this.m_field.m_end = 0;
+      reader.close();
+    }
+  }
+
+  /** A re-used view of a range of the character buffer */
+  private final class __Range implements CharSequence {
+
+    /** the start index */
+    int m_start;
+
+    /** the exclusive end index */
+    int m_end;
+
+    /** create */
+    __Range() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int length() {
+      return (this.m_end - this.m_start);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final char charAt(final int index) {
+      if ((index < 0) || (index >= (this.m_end - this.m_start))) {
+        throw new StringIndexOutOfBoundsException(index);
+      }
+      return TextLineCursor.this.m_chars[this.m_start + index];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final CharSequence subSequence(final int start, final int end) {
+      if ((start < 0) || (end > (this.m_end - this.m_start))
+          || (start > end)) {
+        throw new StringIndexOutOfBoundsException(start);
+      }
+      return String.valueOf(TextLineCursor.this.m_chars,
+          (this.m_start + start), (end - start));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return String.valueOf(TextLineCursor.this.m_chars, this.m_start,
+          (this.m_end - this.m_start));
+    }
+  }
+}
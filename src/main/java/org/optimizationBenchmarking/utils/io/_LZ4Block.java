@@ -0,0 +1,373 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+
+/**
+ * The LZ4 block format: a fast, greedy compressor and the matching
+ * decompressor. The compressor favors speed over compression ratio: it
+ * only checks one candidate per position, found via a hash table of the
+ * last positions of four byte sequences, and skips ahead faster the longer
+ * no match is found.
+ */
+final class _LZ4Block {
+
+  /** the minimum length of a match */
+  private static final int MIN_MATCH = 4;
+  /** the number of bytes at the end of a block which are always literals */
+  private static final int LAST_LITERALS = 5;
+  /** the last match must start this many bytes before the end of a block */
+  private static final int MF_LIMIT = 12;
+  /** blocks shorter than this are stored as literals only */
+  private static final int MIN_LENGTH = (_LZ4Block.MF_LIMIT + 1);
+  /** the maximum offset of a match */
+  static final int MAX_DISTANCE = 0xffff;
+  /** the bits of the hash */
+  private static final int HASH_LOG = 14;
+  /** the skip strength: the higher, the slower the skipping accelerates */
+  private static final int SKIP_STRENGTH = 6;
+
+  /** forbidden */
+  private _LZ4Block() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Get the maximum size of the compressed form of a block of the given
+   * size
+   *
+   * @param length
+   *          the uncompressed size
+   * @return the maximum compressed size
+   */
+  static final int _maxCompressedLength(final int length) {
+    return (length + (length / 255) + 16);
+  }
+
+  /**
+   * Create a hash table for {@link #_compress}
+   *
+   * @return the hash table
+   */
+  static final int[] _createHashTable() {
+    return new int[1 << _LZ4Block.HASH_LOG];
+  }
+
+  /**
+   * Read a 32 bit integer in little endian byte order
+   *
+   * @param src
+   *          the source array
+   * @param index
+   *          the index
+   * @return the value
+   */
+  private static final int __getInt(final byte[] src, final int index) {
+    return _XXHash32._getInt(src, index);
+  }
+
+  /**
+   * Compute the hash of a four byte sequence
+   *
+   * @param sequence
+   *          the sequence
+   * @return the hash
+   */
+  private static final int __hash(final int sequence) {
+    return ((sequence * 0x9e3779b1) >>> (32 - _LZ4Block.HASH_LOG));
+  }
+
+  /**
+   * Write a length of 15 or more as sequence of bytes
+   *
+   * @param length
+   *          the length minus 15
+   * @param dest
+   *          the destination
+   * @param index
+   *          the destination index
+   * @return the new destination index
+   */
+  private static final int __writeLength(final int length,
+      final byte[] dest, final int index) {
+    int remaining, di;
+
+    remaining = length;
+    di = index;
+    while (remaining >= 255) {
+      dest[di++] = ((byte) 255);
+      remaining -= 255;
+    }
+    dest[di++] = ((byte) remaining);
+    return di;
+  }
+
+  /**
+   * Write a sequence of literals and, optionally, a match
+   *
+   * @param src
+   *          the source
+   * @param literalStart
+   *          the index of the first literal
+   * @param literalLength
+   *          the number of literals
+   * @param offset
+   *          the offset of the match, or {@code 0} if there is none
+   * @param matchLength
+   *          the length of the match
+   * @param dest
+   *          the destination
+   * @param index
+   *          the destination index
+   * @return the new destination index
+   */
+  private static final int __writeSequence(final byte[] src,
+      final int literalStart, final int literalLength, final int offset,
+      final int matchLength, final byte[] dest, final int index) {
+    final int tokenIndex, matchCode;
+    int di, token;
+
+    tokenIndex = index;
+    di = (index + 1);
+
+    if (literalLength >= 15) {
+      token = (15 << 4);
+      di = _LZ4Block.__writeLength((literalLength - 15), dest, di);
+    } else {
+      token = (literalLength << 4);
+    }
+    System.arraycopy(src, literalStart, dest, di, literalLength);
+    di += literalLength;
+
+    if (offset > 0) {
+      dest[di++] = ((byte) offset);
+      dest[di++] = ((byte) (offset >>> 8));
+      matchCode = (matchLength - _LZ4Block.MIN_MATCH);
+      if (matchCode >= 15) {
+        token |= 15;
+        di = _LZ4Block.__writeLength((matchCode - 15), dest, di);
+      } else {
+        token |= matchCode;
+      }
+    }
+
+    dest[tokenIndex] = ((byte) token);
+    return di;
+  }
+
+  /**
+   * Compress a block
+   *
+   * @param src
+   *          the source array
+   * @param srcOffset
+   *          the index of the first byte to compress
+   * @param srcLength
+   *          the number of bytes to compress
+   * @param dest
+   *          the destination array, which must have at least
+   *          {@link #_maxCompressedLength(int)} bytes after
+   *          {@code destOffset}
+   * @param destOffset
+   *          the index where the compressed data should be written
+   * @param table
+   *          a hash table created by {@link #_createHashTable()}, whose
+   *          contents will be overwritten
+   * @return the number of compressed bytes
+   */
+  static final int _compress(final byte[] src, final int srcOffset,
+      final int srcLength, final byte[] dest, final int destOffset,
+      final int[] table) {
+    final int srcEnd, mfLimit, matchLimit;
+    int ip, anchor, ref, di, sequence, hash, step, searched, matchLength;
+
+    srcEnd = (srcOffset + srcLength);
+    di = destOffset;
+    anchor = srcOffset;
+
+    if (srcLength >= _LZ4Block.MIN_LENGTH) {
+      Arrays.fill(table, -1);
+      mfLimit = (srcEnd - _LZ4Block.MF_LIMIT);
+      matchLimit = (srcEnd - _LZ4Block.LAST_LITERALS);
+      ip = srcOffset;
+      searched = (1 << _LZ4Block.SKIP_STRENGTH);
+
+      while (ip < mfLimit) {
+        sequence = _LZ4Block.__getInt(src, ip);
+        hash = _LZ4Block.__hash(sequence);
+        ref = table[hash];
+        table[hash] = ip;
+
+        if ((ref < 0) || ((ip - ref) > _LZ4Block.MAX_DISTANCE)
+            || (_LZ4Block.__getInt(src, ref) != sequence)) {
+          step = (searched++ >>> _LZ4Block.SKIP_STRENGTH);
+          ip += step;
+          continue;
+        }
+        searched = (1 << _LZ4Block.SKIP_STRENGTH);
+
+        // extend the match backwards
+        while ((ip > anchor) && (ref > srcOffset)
+            && (src[ip - 1] == src[ref - 1])) {
+          ip--;
+          ref--;
+        }
+
+        // extend the match forward
+        matchLength = _LZ4Block.MIN_MATCH;
+        while (((ip + matchLength) < matchLimit)
+            && (src[ip + matchLength] == src[ref + matchLength])) {
+          matchLength++;
+        }
+
+        di = _LZ4Block.__writeSequence(src, anchor, (ip - anchor),
+            (ip - ref), matchLength, dest, di);
+        ip += matchLength;
+        anchor = ip;
+
+        if (ip < mfLimit) {
+          table[_LZ4Block.__hash(_LZ4Block.__getInt(src, (ip - 2)))] = (ip - 2);
+        }
+      }
+    }
+
+    di = _LZ4Block.__writeSequence(src, anchor, (srcEnd - anchor), 0, 0,
+        dest, di);
+    return (di - destOffset);
+  }
+
+  /**
+   * Read a length of 15 or more
+   *
+   * @param src
+   *          the source
+   * @param index
+   *          the index of the first length byte
+   * @param srcEnd
+   *          the end of the source
+   * @param result
+   *          an array receiving the length increment at index 0 and the
+   *          new source index at index 1
+   * @throws IOException
+   *           if the data is corrupt
+   */
+  private static final void __readLength(final byte[] src,
+      final int index, final int srcEnd, final int[] result)
+      throws IOException {
+    int si, length, value;
+
+    si = index;
+    length = 0;
+    do {
+      if (si >= srcEnd) {
+        throw new IOException(//
+            "Corrupt LZ4 block: length exceeds the block."); //$NON-NLS-1$
+      }
+      value = (src[si++] & 0xff);
+      length += value;
+      if (length < 0) {
+        throw new IOException("Corrupt LZ4 block: length overflow."); //$NON-NLS-1$
+      }
+    } while (value == 255);
+    result[0] = length;
+    result[1] = si;
+  }
+
+  /**
+   * Decompress a block
+   *
+   * @param src
+   *          the source array
+   * @param srcOffset
+   *          the index of the first compressed byte
+   * @param srcLength
+   *          the number of compressed bytes
+   * @param dest
+   *          the destination array
+   * @param destOffset
+   *          the index where the decompressed data should be written
+   * @param destEnd
+   *          the end of the space available for decompressed data
+   * @param historyStart
+   *          the lowest index in {@code dest} a match may refer to, which
+   *          is {@code destOffset} for independent blocks
+   * @return the number of decompressed bytes
+   * @throws IOException
+   *           if the data is corrupt
+   */
+  static final int _decompress(final byte[] src, final int srcOffset,
+      final int srcLength, final byte[] dest, final int destOffset,
+      final int destEnd, final int historyStart) throws IOException {
+    final int srcEnd;
+    final int[] length;
+    int si, di, token, literalLength, matchLength, offset, ref;
+
+    srcEnd = (srcOffset + srcLength);
+    si = srcOffset;
+    di = destOffset;
+    length = new int[2];
+
+    for (;;) {
+      if (si >= srcEnd) {
+        throw new IOException("Corrupt LZ4 block: missing token."); //$NON-NLS-1$
+      }
+      token = (src[si++] & 0xff);
+
+      literalLength = (token >>> 4);
+      if (literalLength == 15) {
+        _LZ4Block.__readLength(src, si, srcEnd, length);
+        literalLength += length[0];
+        si = length[1];
+      }
+      if ((literalLength > (srcEnd - si))
+          || (literalLength > (destEnd - di))) {
+        throw new IOException(//
+            "Corrupt LZ4 block: literals exceed the block."); //$NON-NLS-1$
+      }
+      System.arraycopy(src, si, dest, di, literalLength);
+      si += literalLength;
+      di += literalLength;
+
+      if (si >= srcEnd) {
+        break; // the last sequence has no match
+      }
+
+      if ((si + 2) > srcEnd) {
+        throw new IOException("Corrupt LZ4 block: missing offset."); //$NON-NLS-1$
+      }
+      offset = ((src[si] & 0xff) | ((src[si + 1] & 0xff) << 8));
+      si += 2;
+      ref = (di - offset);
+      if ((offset <= 0) || (ref < historyStart)) {
+        throw new IOException("Corrupt LZ4 block: invalid offset " //$NON-NLS-1$
+            + offset);
+      }
+
+      matchLength = (token & 15);
+      if (matchLength == 15) {
+        _LZ4Block.__readLength(src, si, srcEnd, length);
+        matchLength += length[0];
+        si = length[1];
+      }
+      matchLength += _LZ4Block.MIN_MATCH;
+      if (matchLength > (destEnd - di)) {
+        throw new IOException(//
+            "Corrupt LZ4 block: match exceeds the block."); //$NON-NLS-1$
+      }
+
+      if (offset >= matchLength) {
+        System.arraycopy(dest, ref, dest, di, matchLength);
+        di += matchLength;
+      } else {
+        // overlapping match: repeat the pattern byte by byte
+        for (final int end = (di + matchLength); di < end;) {
+          dest[di++] = dest[ref++];
+        }
+      }
+    }
+
+    return (di - destOffset);
+  }
+}
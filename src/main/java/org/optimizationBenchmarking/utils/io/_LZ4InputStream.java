@@ -0,0 +1,360 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream reading data in the LZ4 frame format, as written by
+ * {@link _LZ4OutputStream} or the {@code lz4} command line tool. Several
+ * concatenated frames are read as one stream and skippable frames are
+ * ignored. Block and content checksums are verified if present. Frames
+ * which need a dictionary are not supported.
+ */
+final class _LZ4InputStream extends InputStream {
+
+  /** the lowest magic number of a skippable frame */
+  private static final int SKIPPABLE_MAGIC = 0x184d2a50;
+
+  /** the size of the window of linked blocks */
+  private static final int WINDOW = (_LZ4Block.MAX_DISTANCE + 1);
+
+  /** the source stream */
+  private final InputStream m_in;
+
+  /** a buffer for reading integers */
+  private final byte[] m_int;
+
+  /** the checksum of the content of the current frame */
+  private _XXHash32 m_checksum;
+
+  /** the decoded data, possibly preceded by the window of linked blocks */
+  private byte[] m_window;
+
+  /** the compressed data of the current block */
+  private byte[] m_compressed;
+
+  /** the index of the next byte to read in {@link #m_window} */
+  private int m_index;
+
+  /** the end of the decoded data in {@link #m_window} */
+  private int m_end;
+
+  /** the maximum block size of the current frame */
+  private int m_blockSize;
+
+  /** are the blocks of the current frame linked? */
+  private boolean m_linked;
+
+  /** do the blocks of the current frame have checksums? */
+  private boolean m_blockChecksum;
+
+  /** have we reached the end of the stream? */
+  private boolean m_eof;
+
+  /**
+   * create
+   *
+   * @param in
+   *          the source stream
+   * @throws IOException
+   *           if i/o fails or the data is not in the LZ4 frame format
+   */
+  _LZ4InputStream(final InputStream in) throws IOException {
+    super();
+    this.m_in = in;
+    this.m_int = new byte[8];
+    if (!(this.__nextFrame(true))) {
+      throw new EOFException("Empty LZ4 stream."); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Read as many bytes as possible into an array
+   *
+   * @param dest
+   *          the destination
+   * @param start
+   *          the start index
+   * @param length
+   *          the number of bytes to read
+   * @return the number of bytes actually read
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final int __readFully(final byte[] dest, final int start,
+      final int length) throws IOException {
+    int done, read;
+
+    done = 0;
+    while (done < length) {
+      read = this.m_in.read(dest, (start + done), (length - done));
+      if (read < 0) {
+        break;
+      }
+      done += read;
+    }
+    return done;
+  }
+
+  /**
+   * Read exactly the given number of bytes
+   *
+   * @param dest
+   *          the destination
+   * @param start
+   *          the start index
+   * @param length
+   *          the number of bytes to read
+   * @throws IOException
+   *           if i/o fails or the stream ends too early
+   */
+  private final void __readExactly(final byte[] dest, final int start,
+      final int length) throws IOException {
+    if (this.__readFully(dest, start, length) < length) {
+      throw new EOFException("Unexpected end of LZ4 stream."); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Read a 32 bit integer in little endian byte order
+   *
+   * @return the integer
+   * @throws IOException
+   *           if i/o fails or the stream ends too early
+   */
+  private final int __readInt() throws IOException {
+    this.__readExactly(this.m_int, 0, 4);
+    return _XXHash32._getInt(this.m_int, 0);
+  }
+
+  /**
+   * Begin the next frame
+   *
+   * @param first
+   *          is this the first frame?
+   * @return {@code true} if a frame has begun, {@code false} if the end
+   *         of the stream has been reached
+   * @throws IOException
+   *           if i/o fails or the data is corrupt
+   */
+  private final boolean __nextFrame(final boolean first)
+      throws IOException {
+    final byte[] descriptor;
+    final int flags, blockDescriptor;
+    int read, magic, length;
+    long skip, skipped;
+
+    for (;;) {
+      read = this.__readFully(this.m_int, 0, 4);
+      if ((read <= 0) && (!first)) {
+        return false;
+      }
+      if (read < 4) {
+        throw new EOFException("Unexpected end of LZ4 stream."); //$NON-NLS-1$
+      }
+      magic = _XXHash32._getInt(this.m_int, 0);
+      if ((magic & 0xfffffff0) != _LZ4InputStream.SKIPPABLE_MAGIC) {
+        break;
+      }
+      skip = (this.__readInt() & 0xffffffffL);
+      while (skip > 0L) {
+        skipped = this.m_in.skip(skip);
+        if (skipped <= 0L) {
+          if (this.m_in.read() < 0) {
+            throw new EOFException("Unexpected end of LZ4 stream."); //$NON-NLS-1$
+          }
+          skipped = 1L;
+        }
+        skip -= skipped;
+      }
+    }
+
+    if (magic != _LZ4OutputStream.MAGIC) {
+      throw new IOException("Not in LZ4 frame format."); //$NON-NLS-1$
+    }
+
+    descriptor = new byte[11];
+    this.__readExactly(descriptor, 0, 2);
+    flags = (descriptor[0] & 0xff);
+    blockDescriptor = (descriptor[1] & 0xff);
+    if (((flags >>> 6) != 1) || ((flags & 2) != 0)
+        || ((blockDescriptor & 0x8f) != 0)
+        || ((blockDescriptor >>> 4) < 4)) {
+      throw new IOException("Unsupported LZ4 frame descriptor."); //$NON-NLS-1$
+    }
+    if ((flags & 1) != 0) {
+      throw new IOException(//
+          "LZ4 frames requiring a dictionary are not supported."); //$NON-NLS-1$
+    }
+
+    length = 2;
+    if ((flags & 8) != 0) {
+      // the content size is only informative
+      this.__readExactly(descriptor, length, 8);
+      length += 8;
+    }
+    this.__readExactly(descriptor, length, 1);
+    if ((descriptor[length] & 0xff) != ((_XXHash32._hash(descriptor, 0,
+        length) >>> 8) & 0xff)) {
+      throw new IOException("Corrupt LZ4 frame descriptor."); //$NON-NLS-1$
+    }
+
+    this.m_linked = ((flags & 0x20) == 0);
+    this.m_blockChecksum = ((flags & 0x10) != 0);
+    this.m_checksum = (((flags & 4) != 0) ? new _XXHash32(0) : null);
+    this.m_blockSize = (1 << (8 + ((blockDescriptor >>> 4) << 1)));
+
+    length = (this.m_blockSize + (this.m_linked ? _LZ4InputStream.WINDOW
+        : 0));
+    if ((this.m_window == null) || (this.m_window.length < length)) {
+      this.m_window = new byte[length];
+    }
+    if ((this.m_compressed == null)
+        || (this.m_compressed.length < this.m_blockSize)) {
+      this.m_compressed = new byte[this.m_blockSize];
+    }
+    this.m_index = this.m_end = 0;
+    return true;
+  }
+
+  /**
+   * Decode the next block, possibly of the next frame
+   *
+   * @return {@code true} if data has been decoded, {@code false} if the
+   *         end of the stream has been reached
+   * @throws IOException
+   *           if i/o fails or the data is corrupt
+   */
+  private final boolean __nextBlock() throws IOException {
+    int size, start, decoded;
+    boolean compressed;
+
+    for (;;) {
+      if (this.m_eof) {
+        return false;
+      }
+
+      size = this.__readInt();
+      if (size == 0) {
+        // the end mark of the frame
+        if (this.m_checksum != null) {
+          if (this.__readInt() != this.m_checksum._getValue()) {
+            throw new IOException(//
+                "Corrupt LZ4 frame: content checksum mismatch."); //$NON-NLS-1$
+          }
+        }
+        if (!(this.__nextFrame(false))) {
+          this.m_eof = true;
+          return false;
+        }
+        continue;
+      }
+
+      compressed = ((size & _LZ4OutputStream.UNCOMPRESSED) == 0);
+      size &= (~_LZ4OutputStream.UNCOMPRESSED);
+      if (size > this.m_blockSize) {
+        throw new IOException("Corrupt LZ4 frame: block too large."); //$NON-NLS-1$
+      }
+
+      // keep the window of linked blocks
+      start = 0;
+      if (this.m_linked) {
+        if (this.m_end > _LZ4InputStream.WINDOW) {
+          System.arraycopy(this.m_window,
+              (this.m_end - _LZ4InputStream.WINDOW), this.m_window, 0,
+              _LZ4InputStream.WINDOW);
+          start = _LZ4InputStream.WINDOW;
+        } else {
+          start = this.m_end;
+        }
+      }
+
+      if (compressed) {
+        this.__readExactly(this.m_compressed, 0, size);
+        if (this.m_blockChecksum) {
+          this.__checkBlock(this.m_compressed, 0, size);
+        }
+        decoded = _LZ4Block._decompress(this.m_compressed, 0, size,
+            this.m_window, start, (start + this.m_blockSize), 0);
+      } else {
+        this.__readExactly(this.m_window, start, size);
+        if (this.m_blockChecksum) {
+          this.__checkBlock(this.m_window, start, size);
+        }
+        decoded = size;
+      }
+
+      if (this.m_checksum != null) {
+        this.m_checksum._update(this.m_window, start, decoded);
+      }
+      this.m_index = start;
+      this.m_end = (start + decoded);
+      if (decoded > 0) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Check the checksum of a block
+   *
+   * @param data
+   *          the data
+   * @param start
+   *          the start index
+   * @param size
+   *          the size
+   * @throws IOException
+   *           if the checksum does not match
+   */
+  private final void __checkBlock(final byte[] data, final int start,
+      final int size) throws IOException {
+    if (this.__readInt() != _XXHash32._hash(data, start, size)) {
+      throw new IOException("Corrupt LZ4 frame: block checksum mismatch."); //$NON-NLS-1$
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int read() throws IOException {
+    if ((this.m_index >= this.m_end) && (!(this.__nextBlock()))) {
+      return (-1);
+    }
+    return (this.m_window[this.m_index++] & 0xff);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int read(final byte[] b, final int off, final int len)
+      throws IOException {
+    final int copy;
+
+    if (len <= 0) {
+      return 0;
+    }
+    if ((this.m_index >= this.m_end) && (!(this.__nextBlock()))) {
+      return (-1);
+    }
+    copy = Math.min(len, (this.m_end - this.m_index));
+    System.arraycopy(this.m_window, this.m_index, b, off, copy);
+    this.m_index += copy;
+    return copy;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int available() {
+    return (this.m_end - this.m_index);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() throws IOException {
+    this.m_eof = true;
+    this.m_window = null;
+    this.m_compressed = null;
+    this.m_index = this.m_end = 0;
+    this.m_in.close();
+  }
+}
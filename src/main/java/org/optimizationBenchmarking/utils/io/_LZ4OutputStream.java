@@ -0,0 +1,284 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+
+/**
+ * An output stream writing data in the LZ4 frame format, which can be
+ * read by the {@code lz4} command line tool. The data is split into
+ * independent blocks of {@link #BLOCK_SIZE} bytes and the frame carries a
+ * checksum of the whole content. If the stream is created in parallel
+ * mode, the blocks are compressed concurrently by the worker threads of
+ * {@link org.optimizationBenchmarking.utils.parallel.Execute}.
+ */
+final class _LZ4OutputStream extends OutputStream {
+
+  /** the magic number of an LZ4 frame */
+  static final int MAGIC = 0x184d2204;
+
+  /** the block size */
+  static final int BLOCK_SIZE = (1 << 18);
+
+  /**
+   * the frame flags: version 1, independent blocks, content checksum
+   */
+  static final int FLAGS = 0x64;
+
+  /** the block descriptor: maximum block size 256 KiB */
+  static final int BLOCK_DESCRIPTOR = 0x50;
+
+  /** the bit marking an uncompressed block */
+  static final int UNCOMPRESSED = 0x80000000;
+
+  /** the destination stream */
+  private final OutputStream m_out;
+
+  /** the checksum of the content */
+  private final _XXHash32 m_checksum;
+
+  /** the blocks which have not yet been written */
+  private final ArrayDeque<__Block> m_pending;
+
+  /** the maximum number of pending blocks */
+  private final int m_maxPending;
+
+  /**
+   * the hash table to use when compressing sequentially, or {@code null}
+   * if blocks are compressed in parallel
+   */
+  private final int[] m_table;
+
+  /** the current block */
+  private byte[] m_buffer;
+
+  /** the number of bytes in the current block */
+  private int m_size;
+
+  /** is the stream closed? */
+  private boolean m_closed;
+
+  /**
+   * create
+   *
+   * @param out
+   *          the destination stream
+   * @param parallel
+   *          should the blocks be compressed in parallel?
+   * @throws IOException
+   *           if the frame header cannot be written
+   */
+  _LZ4OutputStream(final OutputStream out, final boolean parallel)
+      throws IOException {
+    super();
+    final byte[] header;
+
+    this.m_out = out;
+    this.m_checksum = new _XXHash32(0);
+    if (parallel) {
+      this.m_maxPending = _ParallelBlock._getMaxPending();
+      this.m_table = null;
+    } else {
+      this.m_maxPending = 1;
+      this.m_table = _LZ4Block._createHashTable();
+    }
+    this.m_pending = new ArrayDeque<>(this.m_maxPending);
+    this.m_buffer = new byte[_LZ4OutputStream.BLOCK_SIZE];
+
+    header = new byte[7];
+    _ParallelGZIPOutputStream._putInt(_LZ4OutputStream.MAGIC, header, 0);
+    header[4] = ((byte) (_LZ4OutputStream.FLAGS));
+    header[5] = ((byte) (_LZ4OutputStream.BLOCK_DESCRIPTOR));
+    header[6] = ((byte) (_XXHash32._hash(header, 4, 2) >>> 8));
+    out.write(header);
+  }
+
+  /**
+   * make sure that the stream is open
+   *
+   * @throws IOException
+   *           if it is closed
+   */
+  private final void __ensureOpen() throws IOException {
+    if (this.m_closed) {
+      throw new IOException("Stream has already been closed."); //$NON-NLS-1$
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void write(final int b) throws IOException {
+    this.__ensureOpen();
+    this.m_buffer[this.m_size++] = ((byte) b);
+    if (this.m_size >= this.m_buffer.length) {
+      this.__submit();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void write(final byte[] b, final int off, final int len)
+      throws IOException {
+    int offset, remaining, copy;
+
+    this.__ensureOpen();
+    offset = off;
+    remaining = len;
+    while (remaining > 0) {
+      copy = Math.min(remaining, (this.m_buffer.length - this.m_size));
+      System.arraycopy(b, offset, this.m_buffer, this.m_size, copy);
+      this.m_size += copy;
+      offset += copy;
+      remaining -= copy;
+      if (this.m_size >= this.m_buffer.length) {
+        this.__submit();
+      }
+    }
+  }
+
+  /**
+   * Submit the current block for compression
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __submit() throws IOException {
+    final __Block block;
+
+    if (this.m_size <= 0) {
+      return;
+    }
+    while (this.m_pending.size() >= this.m_maxPending) {
+      this.__writeFirst();
+    }
+    this.m_checksum._update(this.m_buffer, 0, this.m_size);
+    block = new __Block(this.m_buffer, this.m_size, this.m_table);
+    this.m_pending.addLast(block);
+    if (this.m_table == null) {
+      this.m_buffer = new byte[_LZ4OutputStream.BLOCK_SIZE];
+      block._submit();
+    } else {
+      // sequential mode: compress right away and reuse the buffer
+      this.__writeFirst();
+    }
+    this.m_size = 0;
+  }
+
+  /**
+   * Write the oldest pending block
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __writeFirst() throws IOException {
+    final __Block block;
+
+    block = this.m_pending.removeFirst();
+    block._await();
+    this.m_out.write(block.m_output, 0, block.m_outputSize);
+  }
+
+  /**
+   * Write all pending blocks, including the current one
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __writeAll() throws IOException {
+    this.__submit();
+    while (!(this.m_pending.isEmpty())) {
+      this.__writeFirst();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void flush() throws IOException {
+    this.__ensureOpen();
+    this.__writeAll();
+    this.m_out.flush();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() throws IOException {
+    final byte[] end;
+
+    if (this.m_closed) {
+      return;
+    }
+    try {
+      this.__writeAll();
+      end = new byte[8];
+      // bytes 0-3: the end mark
+      _ParallelGZIPOutputStream._putInt(this.m_checksum._getValue(), end,
+          4);
+      this.m_out.write(end);
+    } finally {
+      this.m_closed = true;
+      this.m_buffer = null;
+      this.m_pending.clear();
+      this.m_out.close();
+    }
+  }
+
+  /** a block to be compressed */
+  private static final class __Block extends _ParallelBlock {
+
+    /** the uncompressed data */
+    private final byte[] m_input;
+
+    /** the number of uncompressed bytes */
+    private final int m_inputSize;
+
+    /** the hash table, or {@code null} to allocate one */
+    private final int[] m_table;
+
+    /** the block size field and the block data */
+    byte[] m_output;
+
+    /** the size of the output */
+    int m_outputSize;
+
+    /**
+     * create
+     *
+     * @param input
+     *          the uncompressed data
+     * @param inputSize
+     *          the number of uncompressed bytes
+     * @param table
+     *          the hash table, or {@code null} to allocate one
+     */
+    __Block(final byte[] input, final int inputSize, final int[] table) {
+      super();
+      this.m_input = input;
+      this.m_inputSize = inputSize;
+      this.m_table = table;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final void _process() {
+      final byte[] output;
+      final int size;
+
+      output = new byte[4 + _LZ4Block._maxCompressedLength(this.m_inputSize)];
+      size = _LZ4Block._compress(this.m_input, 0, this.m_inputSize, output,
+          4, ((this.m_table != null) ? this.m_table : _LZ4Block
+              ._createHashTable()));
+
+      if (size < this.m_inputSize) {
+        _ParallelGZIPOutputStream._putInt(size, output, 0);
+        this.m_outputSize = (4 + size);
+      } else {
+        // incompressible data is stored as is
+        _ParallelGZIPOutputStream._putInt(
+            (this.m_inputSize | _LZ4OutputStream.UNCOMPRESSED), output, 0);
+        System.arraycopy(this.m_input, 0, output, 4, this.m_inputSize);
+        this.m_outputSize = (4 + this.m_inputSize);
+      }
+      this.m_output = output;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * A block of data which is (de-)compressed by a worker thread of
+ * {@link org.optimizationBenchmarking.utils.parallel.Execute}. The thread
+ * which needs the result of a block which no worker has started yet
+ * processes the block itself. This way, waiting for a result can never
+ * dead-lock, even if it happens inside a worker thread.
+ */
+abstract class _ParallelBlock implements Runnable {
+
+  /** the block has not yet been started */
+  private static final int STATE_NEW = 0;
+  /** the block is being processed */
+  private static final int STATE_RUNNING = 1;
+  /** the block has been processed */
+  private static final int STATE_DONE = 2;
+
+  /** the state */
+  private final AtomicInteger m_state;
+
+  /** the error, if any */
+  private Throwable m_error;
+
+  /** create */
+  _ParallelBlock() {
+    super();
+    this.m_state = new AtomicInteger(_ParallelBlock.STATE_NEW);
+  }
+
+  /**
+   * Get the number of blocks which may be processed or buffered at the
+   * same time
+   *
+   * @return the number of blocks
+   */
+  static final int _getMaxPending() {
+    return Math.max(2, (Runtime.getRuntime().availableProcessors() << 1));
+  }
+
+  /**
+   * Process the block.
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  abstract void _process() throws Throwable;
+
+  /** submit this block to the worker threads */
+  final void _submit() {
+    Execute.parallel(this);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void run() {
+    if (this.m_state.compareAndSet(_ParallelBlock.STATE_NEW,
+        _ParallelBlock.STATE_RUNNING)) {
+      this.__process();
+    }
+  }
+
+  /** process the block and notify waiting threads */
+  private final void __process() {
+    try {
+      this._process();
+    } catch (final Throwable error) {
+      this.m_error = error;
+    } finally {
+      synchronized (this) {
+        this.m_state.set(_ParallelBlock.STATE_DONE);
+        this.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Wait until the block has been processed, processing it in the calling
+   * thread if no worker thread has started it yet.
+   *
+   * @throws IOException
+   *           if processing the block failed
+   */
+  final void _await() throws IOException {
+    final Throwable error;
+
+    if (this.m_state.compareAndSet(_ParallelBlock.STATE_NEW,
+        _ParallelBlock.STATE_RUNNING)) {
+      this.__process();
+    } else {
+      synchronized (this) {
+        while (this.m_state.get() != _ParallelBlock.STATE_DONE) {
+          try {
+            this.wait();
+          } catch (final InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(//
+                "Interrupted while waiting for a compressed block."); //$NON-NLS-1$
+          }
+        }
+      }
+    }
+
+    error = this.m_error;
+    if (error != null) {
+      if (error instanceof IOException) {
+        throw ((IOException) error);
+      }
+      throw new IOException(error);
+    }
+  }
+}
@@ -0,0 +1,344 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayDeque;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * A GZIP input stream which inflates the members written by
+ * {@link _ParallelGZIPOutputStream} concurrently, using the worker threads
+ * of {@link org.optimizationBenchmarking.utils.parallel.Execute}. As soon
+ * as a member without the size field of {@link _ParallelGZIPOutputStream}
+ * is encountered, the rest of the data is read sequentially by a
+ * {@link java.util.zip.GZIPInputStream}, so any GZIP stream can be read.
+ */
+final class _ParallelGZIPInputStream extends InputStream {
+
+  /** the maximum size of a member we accept */
+  private static final int MAX_MEMBER_SIZE = (1 << 24);
+
+  /** the source stream */
+  private final InputStream m_in;
+
+  /** the blocks which are being inflated */
+  private final ArrayDeque<__Block> m_pending;
+
+  /** the maximum number of pending blocks */
+  private final int m_maxPending;
+
+  /** the current uncompressed data */
+  private byte[] m_buffer;
+
+  /** the index of the next byte in the current data */
+  private int m_index;
+
+  /** the number of bytes in the current data */
+  private int m_size;
+
+  /**
+   * the stream reading the rest of the data sequentially, or {@code null}
+   * if the members are still read in parallel
+   */
+  private InputStream m_sequential;
+
+  /** have we reached the end of the source stream? */
+  private boolean m_eof;
+
+  /** has any member been found? */
+  private boolean m_hasMembers;
+
+  /**
+   * create
+   *
+   * @param in
+   *          the source stream
+   * @throws IOException
+   *           if i/o fails
+   */
+  _ParallelGZIPInputStream(final InputStream in) throws IOException {
+    super();
+    this.m_in = in;
+    this.m_maxPending = _ParallelBlock._getMaxPending();
+    this.m_pending = new ArrayDeque<>(this.m_maxPending);
+    this.__fillPending();
+  }
+
+  /**
+   * Read as many bytes as possible into an array
+   *
+   * @param dest
+   *          the destination
+   * @param start
+   *          the start index
+   * @param length
+   *          the number of bytes to read
+   * @return the number of bytes actually read
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final int __readFully(final byte[] dest, final int start,
+      final int length) throws IOException {
+    int done, read;
+
+    done = 0;
+    while (done < length) {
+      read = this.m_in.read(dest, (start + done), (length - done));
+      if (read < 0) {
+        break;
+      }
+      done += read;
+    }
+    return done;
+  }
+
+  /**
+   * Read the next member from the source stream and submit it for
+   * inflation. If the member was not written by
+   * {@link _ParallelGZIPOutputStream}, switch to sequential reading.
+   *
+   * @return {@code true} if a member was submitted, {@code false}
+   *         otherwise
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final boolean __nextMember() throws IOException {
+    final byte[] header;
+    final int read, size;
+    final byte[] member;
+    final __Block block;
+
+    header = new byte[_ParallelGZIPOutputStream.HEADER_SIZE];
+    read = this.__readFully(header, 0, header.length);
+    if (read <= 0) {
+      if (!(this.m_hasMembers)) {
+        throw new ZipException("Empty GZIP stream."); //$NON-NLS-1$
+      }
+      this.m_eof = true;
+      return false;
+    }
+
+    if ((read < header.length) || (header[0] != ((byte) 0x1f))
+        || (header[1] != ((byte) 0x8b)) || (header[2] != 8)
+        || (header[3] != 4) || (header[10] != 8) || (header[11] != 0)
+        || (header[12] != _ParallelGZIPOutputStream.EXTRA_ID_1)
+        || (header[13] != _ParallelGZIPOutputStream.EXTRA_ID_2)
+        || (header[14] != 4) || (header[15] != 0)) {
+      // not written by us: read the rest sequentially
+      this.m_sequential = new GZIPInputStream(new SequenceInputStream(
+          new ByteArrayInputStream(header, 0, read), this.m_in));
+      this.m_eof = true;
+      return false;
+    }
+
+    size = _ParallelGZIPOutputStream._getInt(header, 16);
+    if ((size < (_ParallelGZIPOutputStream.HEADER_SIZE
+        + _ParallelGZIPOutputStream.TRAILER_SIZE))
+        || (size > _ParallelGZIPInputStream.MAX_MEMBER_SIZE)) {
+      throw new ZipException("Invalid GZIP member size " + size); //$NON-NLS-1$
+    }
+    member = new byte[size];
+    System.arraycopy(header, 0, member, 0, header.length);
+    if (this.__readFully(member, header.length,
+        (size - header.length)) < (size - header.length)) {
+      throw new ZipException("Unexpected end of GZIP stream."); //$NON-NLS-1$
+    }
+
+    this.m_hasMembers = true;
+    block = new __Block(member);
+    this.m_pending.addLast(block);
+    block._submit();
+    return true;
+  }
+
+  /**
+   * Make sure that the maximum number of blocks is being inflated
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __fillPending() throws IOException {
+    while ((!(this.m_eof))
+        && (this.m_pending.size() < this.m_maxPending)) {
+      this.__nextMember();
+    }
+  }
+
+  /**
+   * Make sure that there is data in the buffer, if possible
+   *
+   * @return {@code true} if there is data in the buffer, {@code false} if
+   *         we need to read from the sequential stream or have reached the
+   *         end of the stream
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final boolean __hasData() throws IOException {
+    __Block block;
+
+    while (this.m_index >= this.m_size) {
+      block = this.m_pending.pollFirst();
+      if (block == null) {
+        return false;
+      }
+      block._await();
+      this.m_buffer = block.m_output;
+      this.m_index = 0;
+      this.m_size = block.m_output.length;
+      this.__fillPending();
+    }
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int read() throws IOException {
+    if (this.__hasData()) {
+      return (this.m_buffer[this.m_index++] & 0xff);
+    }
+    if (this.m_sequential != null) {
+      return this.m_sequential.read();
+    }
+    return (-1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int read(final byte[] b, final int off, final int len)
+      throws IOException {
+    final int copy;
+
+    if (len <= 0) {
+      return 0;
+    }
+    if (this.__hasData()) {
+      copy = Math.min(len, (this.m_size - this.m_index));
+      System.arraycopy(this.m_buffer, this.m_index, b, off, copy);
+      this.m_index += copy;
+      return copy;
+    }
+    if (this.m_sequential != null) {
+      return this.m_sequential.read(b, off, len);
+    }
+    return (-1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int available() throws IOException {
+    if (this.m_index < this.m_size) {
+      return (this.m_size - this.m_index);
+    }
+    if (this.m_pending.isEmpty() && (this.m_sequential != null)) {
+      return this.m_sequential.available();
+    }
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() throws IOException {
+    this.m_pending.clear();
+    this.m_buffer = null;
+    this.m_index = this.m_size = 0;
+    this.m_eof = true;
+    if (this.m_sequential != null) {
+      this.m_sequential.close();
+    } else {
+      this.m_in.close();
+    }
+  }
+
+  /** a GZIP member to be inflated */
+  private static final class __Block extends _ParallelBlock {
+
+    /** the GZIP member */
+    private final byte[] m_input;
+
+    /** the inflated data */
+    byte[] m_output;
+
+    /**
+     * create
+     *
+     * @param input
+     *          the GZIP member
+     */
+    __Block(final byte[] input) {
+      super();
+      this.m_input = input;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final void _process() throws IOException {
+      final Inflater inflater;
+      final CRC32 crc;
+      final byte[] output;
+      final int end, size;
+      byte[] scratch;
+      int done, inflated;
+
+      end = (this.m_input.length - _ParallelGZIPOutputStream.TRAILER_SIZE);
+      size = _ParallelGZIPOutputStream._getInt(this.m_input, (end + 4));
+      if ((size < 0) || (size > _ParallelGZIPInputStream.MAX_MEMBER_SIZE)) {
+        throw new ZipException("Invalid uncompressed GZIP member size " //$NON-NLS-1$
+            + size);
+      }
+      output = new byte[size];
+
+      inflater = new Inflater(true);
+      try {
+        // the trailer is passed on as the extra input byte which an
+        // inflater without zlib header may need to finish
+        inflater.setInput(this.m_input,
+            _ParallelGZIPOutputStream.HEADER_SIZE,
+            (this.m_input.length - _ParallelGZIPOutputStream.HEADER_SIZE));
+        done = 0;
+        scratch = null;
+        while (!(inflater.finished())) {
+          if (done < size) {
+            inflated = inflater.inflate(output, done, (size - done));
+            done += inflated;
+          } else {
+            // all declared data is there, only the end marker may follow
+            if (scratch == null) {
+              scratch = new byte[1];
+            }
+            inflated = inflater.inflate(scratch, 0, 1);
+            if (inflated > 0) {
+              throw new ZipException(
+                  "GZIP member is larger than its declared size."); //$NON-NLS-1$
+            }
+          }
+          if ((inflated <= 0) && (inflater.needsInput()
+              || inflater.needsDictionary())) {
+            throw new ZipException("Corrupt GZIP member."); //$NON-NLS-1$
+          }
+        }
+        if ((done != size)
+            || (inflater.getRemaining() != _ParallelGZIPOutputStream.TRAILER_SIZE)) {
+          throw new ZipException("Corrupt GZIP member."); //$NON-NLS-1$
+        }
+      } catch (final DataFormatException error) {
+        throw new ZipException(error.getMessage());
+      } finally {
+        inflater.end();
+      }
+
+      crc = new CRC32();
+      crc.update(output, 0, size);
+      if (((int) (crc.getValue())) != _ParallelGZIPOutputStream._getInt(
+          this.m_input, end)) {
+        throw new ZipException("Corrupt GZIP member: CRC mismatch."); //$NON-NLS-1$
+      }
+      this.m_output = output;
+    }
+  }
+}
@@ -0,0 +1,324 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * A GZIP output stream which splits its input into blocks that are
+ * deflated concurrently by the worker threads of
+ * {@link org.optimizationBenchmarking.utils.parallel.Execute}. Each block
+ * becomes an independent GZIP member, and the members are written in
+ * their original order. A sequence of GZIP members is a valid GZIP stream
+ * (RFC&nbsp;1952), so the output can be read by any standard tool, e.g.,
+ * {@link java.util.zip.GZIPInputStream} or {@code gunzip}.
+ * </p>
+ * <p>
+ * The header of each member carries an extra field with the compressed
+ * size of the member, which allows {@link _ParallelGZIPInputStream} to
+ * find the members without inflating them and to decompress them in
+ * parallel, too.
+ * </p>
+ */
+final class _ParallelGZIPOutputStream extends OutputStream {
+
+  /** the size of an uncompressed block */
+  static final int BLOCK_SIZE = (1 << 17);
+
+  /** the first id byte of the extra field */
+  static final byte EXTRA_ID_1 = 'O';
+  /** the second id byte of the extra field */
+  static final byte EXTRA_ID_2 = 'B';
+
+  /**
+   * the size of the member header: 10 fixed bytes, the two-byte length of
+   * the extra data, the two id bytes and the two-byte length of the extra
+   * field, and the four-byte member size
+   */
+  static final int HEADER_SIZE = 20;
+
+  /** the size of the member trailer */
+  static final int TRAILER_SIZE = 8;
+
+  /** the destination stream */
+  private final OutputStream m_out;
+
+  /** the compressed blocks which have not yet been written */
+  private final ArrayDeque<__Block> m_pending;
+
+  /** the maximum number of pending blocks */
+  private final int m_maxPending;
+
+  /** the current block */
+  private byte[] m_buffer;
+
+  /** the number of bytes in the current block */
+  private int m_size;
+
+  /** has any member been written? */
+  private boolean m_hasMembers;
+
+  /** is the stream closed? */
+  private boolean m_closed;
+
+  /**
+   * create
+   *
+   * @param out
+   *          the destination stream
+   */
+  _ParallelGZIPOutputStream(final OutputStream out) {
+    super();
+    this.m_out = out;
+    this.m_maxPending = _ParallelBlock._getMaxPending();
+    this.m_pending = new ArrayDeque<>(this.m_maxPending);
+    this.m_buffer = new byte[_ParallelGZIPOutputStream.BLOCK_SIZE];
+  }
+
+  /**
+   * make sure that the stream is open
+   *
+   * @throws IOException
+   *           if it is closed
+   */
+  private final void __ensureOpen() throws IOException {
+    if (this.m_closed) {
+      throw new IOException("Stream has already been closed."); //$NON-NLS-1$
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void write(final int b) throws IOException {
+    this.__ensureOpen();
+    this.m_buffer[this.m_size++] = ((byte) b);
+    if (this.m_size >= this.m_buffer.length) {
+      this.__submit();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void write(final byte[] b, final int off, final int len)
+      throws IOException {
+    int offset, remaining, copy;
+
+    this.__ensureOpen();
+    offset = off;
+    remaining = len;
+    while (remaining > 0) {
+      copy = Math.min(remaining, (this.m_buffer.length - this.m_size));
+      System.arraycopy(b, offset, this.m_buffer, this.m_size, copy);
+      this.m_size += copy;
+      offset += copy;
+      remaining -= copy;
+      if (this.m_size >= this.m_buffer.length) {
+        this.__submit();
+      }
+    }
+  }
+
+  /**
+   * Submit the current block for compression
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __submit() throws IOException {
+    final __Block block;
+
+    if (this.m_size <= 0) {
+      return;
+    }
+    while (this.m_pending.size() >= this.m_maxPending) {
+      this.__writeFirst();
+    }
+    block = new __Block(this.m_buffer, this.m_size);
+    this.m_buffer = new byte[_ParallelGZIPOutputStream.BLOCK_SIZE];
+    this.m_size = 0;
+    this.m_pending.addLast(block);
+    block._submit();
+  }
+
+  /**
+   * Write the oldest pending block
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __writeFirst() throws IOException {
+    final __Block block;
+
+    block = this.m_pending.removeFirst();
+    block._await();
+    this.m_out.write(block.m_output, 0, block.m_outputSize);
+    this.m_hasMembers = true;
+  }
+
+  /**
+   * Write all pending blocks, including the current one
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __writeAll() throws IOException {
+    this.__submit();
+    while (!(this.m_pending.isEmpty())) {
+      this.__writeFirst();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void flush() throws IOException {
+    this.__ensureOpen();
+    this.__writeAll();
+    this.m_out.flush();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() throws IOException {
+    final __Block empty;
+
+    if (this.m_closed) {
+      return;
+    }
+    try {
+      this.__writeAll();
+      if (!(this.m_hasMembers)) {
+        // an empty stream still needs one member to be valid
+        empty = new __Block(this.m_buffer, 0);
+        empty._await();
+        this.m_out.write(empty.m_output, 0, empty.m_outputSize);
+      }
+    } finally {
+      this.m_closed = true;
+      this.m_buffer = null;
+      this.m_pending.clear();
+      this.m_out.close();
+    }
+  }
+
+  /**
+   * Write a 32 bit integer in little endian byte order
+   *
+   * @param value
+   *          the value
+   * @param dest
+   *          the destination array
+   * @param index
+   *          the index
+   */
+  static final void _putInt(final int value, final byte[] dest,
+      final int index) {
+    dest[index] = ((byte) value);
+    dest[index + 1] = ((byte) (value >>> 8));
+    dest[index + 2] = ((byte) (value >>> 16));
+    dest[index + 3] = ((byte) (value >>> 24));
+  }
+
+  /**
+   * Read a 32 bit integer in little endian byte order
+   *
+   * @param src
+   *          the source array
+   * @param index
+   *          the index
+   * @return the value
+   */
+  static final int _getInt(final byte[] src, final int index) {
+    return ((src[index] & 0xff) | ((src[index + 1] & 0xff) << 8)
+        | ((src[index + 2] & 0xff) << 16) | ((src[index + 3] & 0xff) << 24));
+  }
+
+  /** a block to be compressed into one GZIP member */
+  private static final class __Block extends _ParallelBlock {
+
+    /** the uncompressed data */
+    private final byte[] m_input;
+
+    /** the number of uncompressed bytes */
+    private final int m_inputSize;
+
+    /** the GZIP member */
+    byte[] m_output;
+
+    /** the size of the GZIP member */
+    int m_outputSize;
+
+    /**
+     * create
+     *
+     * @param input
+     *          the uncompressed data
+     * @param inputSize
+     *          the number of uncompressed bytes
+     */
+    __Block(final byte[] input, final int inputSize) {
+      super();
+      this.m_input = input;
+      this.m_inputSize = inputSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final void _process() {
+      final Deflater deflater;
+      final CRC32 crc;
+      byte[] output;
+      int size;
+
+      output = new byte[_ParallelGZIPOutputStream.HEADER_SIZE
+          + this.m_inputSize + (this.m_inputSize >>> 3) + 64];
+      size = _ParallelGZIPOutputStream.HEADER_SIZE;
+
+      deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+      try {
+        deflater.setInput(this.m_input, 0, this.m_inputSize);
+        deflater.finish();
+        while (!(deflater.finished())) {
+          if (size >= output.length) {
+            output = Arrays.copyOf(output, (output.length << 1));
+          }
+          size += deflater.deflate(output, size, (output.length - size));
+        }
+      } finally {
+        deflater.end();
+      }
+
+      crc = new CRC32();
+      crc.update(this.m_input, 0, this.m_inputSize);
+
+      if ((size + _ParallelGZIPOutputStream.TRAILER_SIZE) > output.length) {
+        output = Arrays.copyOf(output,
+            (size + _ParallelGZIPOutputStream.TRAILER_SIZE));
+      }
+      _ParallelGZIPOutputStream._putInt(((int) (crc.getValue())), output,
+          size);
+      _ParallelGZIPOutputStream._putInt(this.m_inputSize, output,
+          (size + 4));
+      size += _ParallelGZIPOutputStream.TRAILER_SIZE;
+
+      // the header
+      output[0] = ((byte) 0x1f);
+      output[1] = ((byte) 0x8b);
+      output[2] = 8; // deflate
+      output[3] = 4; // FEXTRA
+      // bytes 4-7: no modification time, 8: no extra flags
+      output[9] = ((byte) 0xff); // unknown operating system
+      output[10] = 8; // length of the extra data
+      output[12] = _ParallelGZIPOutputStream.EXTRA_ID_1;
+      output[13] = _ParallelGZIPOutputStream.EXTRA_ID_2;
+      output[14] = 4; // length of the extra field
+      _ParallelGZIPOutputStream._putInt(size, output, 16);
+
+      this.m_output = output;
+      this.m_outputSize = size;
+    }
+  }
+}
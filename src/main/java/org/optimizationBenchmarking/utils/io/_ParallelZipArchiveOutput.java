@@ -0,0 +1,341 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * An archive output writing a ZIP archive whose entries are deflated
+ * concurrently by the worker threads of
+ * {@link org.optimizationBenchmarking.utils.parallel.Execute}. The
+ * contents of each entry are buffered in memory until the entry is
+ * closed, then the entry is deflated in parallel to the following ones.
+ * The entries are written in their original order. Since the sizes and
+ * checksums are known when an entry is written, no data descriptors are
+ * needed and the archive can be read by any standard tool. ZIP64
+ * extensions are not supported, i.e., an archive may have at most 65535
+ * entries and must be smaller than 4&nbsp;GiB.
+ */
+final class _ParallelZipArchiveOutput extends ArchiveOutput {
+
+  /** the maximum value of an unsigned 32 bit integer */
+  private static final long MAX_INT = 0xffffffffL;
+  /** the maximum value of an unsigned 16 bit integer */
+  private static final int MAX_SHORT = 0xffff;
+
+  /** the version needed to extract: 2.0 for deflate */
+  private static final int VERSION = 20;
+  /** the general purpose flag: names are UTF-8 encoded */
+  private static final int FLAG_UTF8 = 0x800;
+  /** the compression method: deflate */
+  private static final int METHOD_DEFLATED = 8;
+
+  /** the destination stream */
+  private final OutputStream m_dest;
+
+  /** the entries which have not yet been written */
+  private final ArrayDeque<__Entry> m_pending;
+
+  /** the entries which have been written */
+  private final ArrayList<__Entry> m_written;
+
+  /** the maximum number of pending entries */
+  private final int m_maxPending;
+
+  /** the buffer for the current entry */
+  private __Buffer m_buffer;
+
+  /** the name of the current entry */
+  private String m_name;
+
+  /** the number of bytes written to the destination stream */
+  private long m_offset;
+
+  /**
+   * create
+   *
+   * @param type
+   *          the archive type
+   * @param dest
+   *          the destination stream
+   */
+  _ParallelZipArchiveOutput(final EArchiveType type,
+      final OutputStream dest) {
+    super(type, dest);
+    this.m_dest = dest;
+    this.m_maxPending = _ParallelBlock._getMaxPending();
+    this.m_pending = new ArrayDeque<>(this.m_maxPending);
+    this.m_written = new ArrayList<>();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final OutputStream _beginEntry(final String name) {
+    this.m_name = name;
+    return (this.m_buffer = new __Buffer());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _endEntry() throws IOException {
+    final __Entry entry;
+
+    while (this.m_pending.size() >= this.m_maxPending) {
+      this.__writeFirst();
+    }
+    entry = new __Entry(this.m_name, this.m_buffer._array(),
+        this.m_buffer.size());
+    this.m_buffer = null;
+    this.m_name = null;
+    this.m_pending.addLast(entry);
+    entry._submit();
+  }
+
+  /**
+   * Write the oldest pending entry
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __writeFirst() throws IOException {
+    final __Entry entry;
+    final byte[] header;
+
+    entry = this.m_pending.removeFirst();
+    entry._await();
+
+    if ((this.m_written.size() >= _ParallelZipArchiveOutput.MAX_SHORT)
+        || (entry.m_name.length > _ParallelZipArchiveOutput.MAX_SHORT)
+        || ((this.m_offset + 30L + entry.m_name.length
+            + entry.m_compressedSize) > _ParallelZipArchiveOutput.MAX_INT)) {
+      throw new IOException(//
+          "Archive too large: ZIP64 is not supported by the parallel ZIP writer."); //$NON-NLS-1$
+    }
+
+    entry.m_offset = this.m_offset;
+    header = new byte[30 + entry.m_name.length];
+    _ParallelGZIPOutputStream._putInt(0x04034b50, header, 0);
+    _ParallelZipArchiveOutput.__putShort(
+        _ParallelZipArchiveOutput.VERSION, header, 4);
+    this.__putEntryInfo(entry, header, 6);
+    _ParallelZipArchiveOutput.__putShort(entry.m_name.length, header, 26);
+    System.arraycopy(entry.m_name, 0, header, 30, entry.m_name.length);
+
+    this.m_dest.write(header);
+    this.m_dest.write(entry.m_compressed, 0, entry.m_compressedSize);
+    this.m_offset += (header.length + entry.m_compressedSize);
+    entry.m_compressed = null;
+    this.m_written.add(entry);
+  }
+
+  /**
+   * Store the flags, method, time, crc, and sizes of an entry, as used in
+   * both the local and the central header
+   *
+   * @param entry
+   *          the entry
+   * @param dest
+   *          the destination array
+   * @param index
+   *          the start index
+   */
+  private final void __putEntryInfo(final __Entry entry,
+      final byte[] dest, final int index) {
+    _ParallelZipArchiveOutput.__putShort(
+        _ParallelZipArchiveOutput.FLAG_UTF8, dest, index);
+    _ParallelZipArchiveOutput.__putShort(
+        _ParallelZipArchiveOutput.METHOD_DEFLATED, dest, (index + 2));
+    _ParallelGZIPOutputStream._putInt(entry.m_dosTime, dest, (index + 4));
+    _ParallelGZIPOutputStream._putInt(entry.m_crc, dest, (index + 8));
+    _ParallelGZIPOutputStream._putInt(entry.m_compressedSize, dest,
+        (index + 12));
+    _ParallelGZIPOutputStream._putInt(entry.m_size, dest, (index + 16));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _finish() throws IOException {
+    final long start;
+    final byte[] end;
+    byte[] header;
+
+    while (!(this.m_pending.isEmpty())) {
+      this.__writeFirst();
+    }
+
+    start = this.m_offset;
+    for (final __Entry entry : this.m_written) {
+      header = new byte[46 + entry.m_name.length];
+      _ParallelGZIPOutputStream._putInt(0x02014b50, header, 0);
+      _ParallelZipArchiveOutput.__putShort(
+          _ParallelZipArchiveOutput.VERSION, header, 4);
+      _ParallelZipArchiveOutput.__putShort(
+          _ParallelZipArchiveOutput.VERSION, header, 6);
+      this.__putEntryInfo(entry, header, 8);
+      _ParallelZipArchiveOutput.__putShort(entry.m_name.length, header, 28);
+      // extra field length, comment length, disk number, attributes: 0
+      _ParallelGZIPOutputStream._putInt(((int) (entry.m_offset)), header,
+          42);
+      System.arraycopy(entry.m_name, 0, header, 46, entry.m_name.length);
+      this.m_dest.write(header);
+      this.m_offset += header.length;
+    }
+    if (this.m_offset > _ParallelZipArchiveOutput.MAX_INT) {
+      throw new IOException(//
+          "Archive too large: ZIP64 is not supported by the parallel ZIP writer."); //$NON-NLS-1$
+    }
+
+    end = new byte[22];
+    _ParallelGZIPOutputStream._putInt(0x06054b50, end, 0);
+    _ParallelZipArchiveOutput.__putShort(this.m_written.size(), end, 8);
+    _ParallelZipArchiveOutput.__putShort(this.m_written.size(), end, 10);
+    _ParallelGZIPOutputStream._putInt(((int) (this.m_offset - start)),
+        end, 12);
+    _ParallelGZIPOutputStream._putInt(((int) start), end, 16);
+    this.m_dest.write(end);
+    this.m_written.clear();
+  }
+
+  /**
+   * Write a 16 bit integer in little endian byte order
+   *
+   * @param value
+   *          the value
+   * @param dest
+   *          the destination array
+   * @param index
+   *          the index
+   */
+  private static final void __putShort(final int value, final byte[] dest,
+      final int index) {
+    dest[index] = ((byte) value);
+    dest[index + 1] = ((byte) (value >>> 8));
+  }
+
+  /**
+   * Get the current time in the MS-DOS format used by ZIP archives
+   *
+   * @return the time in the lower and the date in the upper 16 bits
+   */
+  static final int _dosTime() {
+    final Calendar calendar;
+    final int year;
+
+    calendar = new GregorianCalendar();
+    year = calendar.get(Calendar.YEAR);
+    if (year < 1980) {
+      return ((1 << 21) | (1 << 16));
+    }
+    return ((((year - 1980) << 25)//
+        | ((calendar.get(Calendar.MONTH) + 1) << 21)//
+        | (calendar.get(Calendar.DAY_OF_MONTH) << 16)//
+        | (calendar.get(Calendar.HOUR_OF_DAY) << 11)//
+        | (calendar.get(Calendar.MINUTE) << 5)//
+        | (calendar.get(Calendar.SECOND) >> 1)));
+  }
+
+  /** a buffer giving access to its array */
+  private static final class __Buffer extends ByteArrayOutputStream {
+
+    /** create */
+    __Buffer() {
+      super(8192);
+    }
+
+    /**
+     * Get the internal array
+     *
+     * @return the internal array
+     */
+    final byte[] _array() {
+      return this.buf;
+    }
+  }
+
+  /** an entry to be deflated */
+  private static final class __Entry extends _ParallelBlock {
+
+    /** the UTF-8 encoded name */
+    final byte[] m_name;
+
+    /** the time and date */
+    final int m_dosTime;
+
+    /** the uncompressed data */
+    private byte[] m_data;
+
+    /** the uncompressed size */
+    final int m_size;
+
+    /** the checksum */
+    int m_crc;
+
+    /** the compressed data */
+    byte[] m_compressed;
+
+    /** the compressed size */
+    int m_compressedSize;
+
+    /** the offset of the local header */
+    long m_offset;
+
+    /**
+     * create
+     *
+     * @param name
+     *          the name
+     * @param data
+     *          the uncompressed data
+     * @param size
+     *          the uncompressed size
+     */
+    __Entry(final String name, final byte[] data, final int size) {
+      super();
+      this.m_name = name.getBytes(StandardCharsets.UTF_8);
+      this.m_dosTime = _ParallelZipArchiveOutput._dosTime();
+      this.m_data = data;
+      this.m_size = size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    final void _process() {
+      final Deflater deflater;
+      final CRC32 crc;
+      byte[] output;
+      int size;
+
+      crc = new CRC32();
+      crc.update(this.m_data, 0, this.m_size);
+      this.m_crc = ((int) (crc.getValue()));
+
+      output = new byte[this.m_size + (this.m_size >>> 3) + 64];
+      size = 0;
+      deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+      try {
+        deflater.setInput(this.m_data, 0, this.m_size);
+        deflater.finish();
+        while (!(deflater.finished())) {
+          if (size >= output.length) {
+            output = Arrays.copyOf(output, (output.length << 1));
+          }
+          size += deflater.deflate(output, size, (output.length - size));
+        }
+      } finally {
+        deflater.end();
+      }
+
+      this.m_data = null;
+      this.m_compressed = output;
+      this.m_compressedSize = size;
+    }
+  }
+}
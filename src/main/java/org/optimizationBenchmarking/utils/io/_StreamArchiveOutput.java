@@ -0,0 +1,39 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.OutputStream;
+
+/**
+ * An archive output for archive types without a file system structure,
+ * which concatenates all entries into a single compressed stream.
+ */
+final class _StreamArchiveOutput extends ArchiveOutput {
+
+  /** the compressed stream */
+  private final OutputStream m_out;
+
+  /**
+   * create
+   *
+   * @param type
+   *          the archive type
+   * @param out
+   *          the compressed stream
+   */
+  _StreamArchiveOutput(final EArchiveType type, final OutputStream out) {
+    super(type, out);
+    this.m_out = out;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final OutputStream _beginEntry(final String name) {
+    // entries are simply concatenated
+    return this.m_out;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _endEntry() {
+    // entries are simply concatenated
+  }
+}
@@ -0,0 +1,200 @@
+package org.optimizationBenchmarking.utils.io;
+
+/**
+ * The 32 bit xxHash checksum used by the {@linkplain EArchiveType#LZ4 LZ4
+ * frame format}, computed incrementally.
+ */
+final class _XXHash32 {
+
+  /** the first prime */
+  private static final int PRIME_1 = 0x9e3779b1;
+  /** the second prime */
+  private static final int PRIME_2 = 0x85ebca77;
+  /** the third prime */
+  private static final int PRIME_3 = 0xc2b2ae3d;
+  /** the fourth prime */
+  private static final int PRIME_4 = 0x27d4eb2f;
+  /** the fifth prime */
+  private static final int PRIME_5 = 0x165667b1;
+
+  /** the seed */
+  private final int m_seed;
+
+  /** the bytes which do not yet form a complete stripe of 16 bytes */
+  private final byte[] m_memory;
+
+  /** the first accumulator */
+  private int m_v1;
+  /** the second accumulator */
+  private int m_v2;
+  /** the third accumulator */
+  private int m_v3;
+  /** the fourth accumulator */
+  private int m_v4;
+
+  /** the number of bytes in {@link #m_memory} */
+  private int m_memorySize;
+
+  /** the total number of bytes hashed so far */
+  private long m_length;
+
+  /**
+   * create
+   *
+   * @param seed
+   *          the seed
+   */
+  _XXHash32(final int seed) {
+    super();
+    this.m_seed = seed;
+    this.m_memory = new byte[16];
+    this.m_v1 = (seed + _XXHash32.PRIME_1 + _XXHash32.PRIME_2);
+    this.m_v2 = (seed + _XXHash32.PRIME_2);
+    this.m_v3 = seed;
+    this.m_v4 = (seed - _XXHash32.PRIME_1);
+  }
+
+  /**
+   * Read a 32 bit integer in little endian byte order
+   *
+   * @param src
+   *          the source array
+   * @param index
+   *          the index
+   * @return the value
+   */
+  static final int _getInt(final byte[] src, final int index) {
+    return ((src[index] & 0xff) | ((src[index + 1] & 0xff) << 8)
+        | ((src[index + 2] & 0xff) << 16) | ((src[index + 3] & 0xff) << 24));
+  }
+
+  /**
+   * Process one value of a stripe
+   *
+   * @param acc
+   *          the accumulator
+   * @param input
+   *          the input value
+   * @return the new accumulator
+   */
+  private static final int __round(final int acc, final int input) {
+    return (Integer.rotateLeft((acc + (input * _XXHash32.PRIME_2)), 13)
+        * _XXHash32.PRIME_1);
+  }
+
+  /**
+   * Process a stripe of 16 bytes
+   *
+   * @param src
+   *          the source array
+   * @param index
+   *          the start index
+   */
+  private final void __stripe(final byte[] src, final int index) {
+    this.m_v1 = _XXHash32.__round(this.m_v1, _XXHash32._getInt(src, index));
+    this.m_v2 = _XXHash32.__round(this.m_v2,
+        _XXHash32._getInt(src, (index + 4)));
+    this.m_v3 = _XXHash32.__round(this.m_v3,
+        _XXHash32._getInt(src, (index + 8)));
+    this.m_v4 = _XXHash32.__round(this.m_v4,
+        _XXHash32._getInt(src, (index + 12)));
+  }
+
+  /**
+   * Add data to the checksum
+   *
+   * @param src
+   *          the source array
+   * @param offset
+   *          the start index
+   * @param length
+   *          the number of bytes
+   */
+  final void _update(final byte[] src, final int offset, final int length) {
+    final int end, limit;
+    int index, fill;
+
+    this.m_length += length;
+    index = offset;
+    end = (offset + length);
+
+    if (this.m_memorySize > 0) {
+      fill = Math.min((16 - this.m_memorySize), length);
+      System.arraycopy(src, index, this.m_memory, this.m_memorySize, fill);
+      this.m_memorySize += fill;
+      index += fill;
+      if (this.m_memorySize < 16) {
+        return;
+      }
+      this.__stripe(this.m_memory, 0);
+      this.m_memorySize = 0;
+    }
+
+    limit = (end - 16);
+    while (index <= limit) {
+      this.__stripe(src, index);
+      index += 16;
+    }
+
+    if (index < end) {
+      System.arraycopy(src, index, this.m_memory, 0, (end - index));
+      this.m_memorySize = (end - index);
+    }
+  }
+
+  /**
+   * Get the checksum of all the data added so far
+   *
+   * @return the checksum
+   */
+  final int _getValue() {
+    int hash, index;
+
+    if (this.m_length >= 16L) {
+      hash = (Integer.rotateLeft(this.m_v1, 1)
+          + Integer.rotateLeft(this.m_v2, 7)
+          + Integer.rotateLeft(this.m_v3, 12) + Integer.rotateLeft(
+          this.m_v4, 18));
+    } else {
+      hash = (this.m_seed + _XXHash32.PRIME_5);
+    }
+    hash += ((int) (this.m_length));
+
+    index = 0;
+    for (; (index + 4) <= this.m_memorySize; index += 4) {
+      hash += (_XXHash32._getInt(this.m_memory, index) * _XXHash32.PRIME_3);
+      hash = (Integer.rotateLeft(hash, 17) * _XXHash32.PRIME_4);
+    }
+    for (; index < this.m_memorySize; index++) {
+      hash += ((this.m_memory[index] & 0xff) * _XXHash32.PRIME_5);
+      hash = (Integer.rotateLeft(hash, 11) * _XXHash32.PRIME_1);
+    }
+
+    hash ^= (hash >>> 15);
+    hash *= _XXHash32.PRIME_2;
+    hash ^= (hash >>> 13);
+    hash *= _XXHash32.PRIME_3;
+    hash ^= (hash >>> 16);
+    return hash;
+  }
+
+  /**
+   * Compute the checksum of an array range
+   *
+   * @param src
+   *          the source array
+   * @param offset
+   *          the start index
+   * @param length
+   *          the number of bytes
+   * @return the checksum
+   */
+  static final int _hash(final byte[] src, final int offset,
+      final int length) {
+    final _XXHash32 hash;
+
+    hash = new _XXHash32(0);
+    hash._update(src, offset, length);
+    return hash._getValue();
+  }
+}
@@ -0,0 +1,39 @@
+package org.optimizationBenchmarking.utils.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/** An archive output writing each entry as a ZIP entry. */
+final class _ZipArchiveOutput extends ArchiveOutput {
+
+  /** the zip output stream */
+  private final ZipOutputStream m_zos;
+
+  /**
+   * create
+   *
+   * @param type
+   *          the archive type
+   * @param zos
+   *          the zip output stream
+   */
+  _ZipArchiveOutput(final EArchiveType type, final ZipOutputStream zos) {
+    super(type, zos);
+    this.m_zos = zos;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final OutputStream _beginEntry(final String name) throws IOException {
+    this.m_zos.putNextEntry(new ZipEntry(name));
+    return this.m_zos;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _endEntry() throws IOException {
+    this.m_zos.closeEntry();
+  }
+}
@@ -14,6 +14,9 @@ import java.io.Serializable;
 import java.io.Writer;
 import java.lang.reflect.Field;
 import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
@@ -354,6 +357,34 @@ public abstract class StreamEncoding<IST extends Closeable, OST extends Closeabl
     return this.wrapWriter(new OutputStreamWriter(output));
   }
 
+  /**
+   * Wrap a byte channel into a stream representing this encoding
+   *
+   * @param input
+   *          the channel to wrap
+   * @return the wrapped stream
+   * @throws IOException
+   *           if some I/O fails
+   */
+  public IST wrapInputChannel(final ReadableByteChannel input)
+      throws IOException {
+    return this.wrapInputStream(Channels.newInputStream(input));
+  }
+
+  /**
+   * Wrap a byte channel into a stream representing this encoding
+   *
+   * @param output
+   *          the channel to wrap
+   * @return the wrapped stream
+   * @throws IOException
+   *           if some I/O fails
+   */
+  public OST wrapOutputChannel(final WritableByteChannel output)
+      throws IOException {
+    return this.wrapOutputStream(Channels.newOutputStream(output));
+  }
+
   /**
    * Wrap a reader into a stream representing this encoding
    *
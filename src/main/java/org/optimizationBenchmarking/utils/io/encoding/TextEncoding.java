@@ -9,6 +9,9 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Locale;
@@ -16,16 +19,39 @@ import java.util.Locale;
 import org.optimizationBenchmarking.utils.text.TextUtils;
 
 /**
- * A text encoding based on some fixed character set.
+ * A text encoding based on some fixed character set. Besides the classic
+ * stream-based readers and writers, a text encoding can decode text
+ * directly from {@link java.nio.channels.ReadableByteChannel channels}
+ * and {@link java.nio.ByteBuffer byte buffers} and encode text directly
+ * to {@link java.nio.channels.WritableByteChannel channels}, with fast
+ * paths for ASCII, ISO-8859-1, and UTF-8.
  */
 public final class TextEncoding
     extends StreamEncoding<BufferedReader, BufferedWriter> {
   /** the serial version uid */
   private static final long serialVersionUID = 1L;
 
+  /** the encoding needs a generic decoder or encoder */
+  static final int MODE_GENERIC = 0;
+  /** the encoding is ASCII */
+  static final int MODE_ASCII = (TextEncoding.MODE_GENERIC + 1);
+  /** the encoding is ISO-8859-1 */
+  static final int MODE_ISO_8859_1 = (TextEncoding.MODE_ASCII + 1);
+  /** the encoding is UTF-8 */
+  static final int MODE_UTF_8 = (TextEncoding.MODE_ISO_8859_1 + 1);
+
   /** the name of the encoding in the java environment */
   private transient final String m_javaName;
 
+  /**
+   * the character set of this encoding, or {@code null} if it is not
+   * supported by the java environment
+   */
+  private transient final Charset m_charset;
+
+  /** the decoding and encoding mode */
+  private transient final int m_mode;
+
   /**
    * create
    *
@@ -36,7 +62,33 @@ public final class TextEncoding
    */
   private TextEncoding(final String[] names, final boolean autoRegister) {
     super(names[0], false);
+
+    Charset charset;
+    String charsetName;
+
     this.m_javaName = ((names.length > 1) ? names[1] : names[0]);
+
+    try {
+      charset = Charset.forName(this.m_javaName);
+    } catch (final Throwable unsupported) {
+      charset = null;
+    }
+    this.m_charset = charset;
+
+    charsetName = ((charset != null) ? charset.name() : null);
+    if ("US-ASCII".equals(charsetName)) { //$NON-NLS-1$
+      this.m_mode = TextEncoding.MODE_ASCII;
+    } else {
+      if ("ISO-8859-1".equals(charsetName)) { //$NON-NLS-1$
+        this.m_mode = TextEncoding.MODE_ISO_8859_1;
+      } else {
+        if ("UTF-8".equals(charsetName)) { //$NON-NLS-1$
+          this.m_mode = TextEncoding.MODE_UTF_8;
+        } else {
+          this.m_mode = TextEncoding.MODE_GENERIC;
+        }
+      }
+    }
     if (autoRegister) {
       this._register();
     }
@@ -144,6 +196,24 @@ public final class TextEncoding
     return this.m_javaName;
   }
 
+  /**
+   * Get the character set of this encoding
+   *
+   * @return the character set, or {@code null} if it is not supported
+   */
+  final Charset _getCharset() {
+    return this.m_charset;
+  }
+
+  /**
+   * Get the decoding and encoding mode
+   *
+   * @return the mode
+   */
+  final int _getMode() {
+    return this.m_mode;
+  }
+
   /**
    * Try to resolve the name of an encoding
    *
@@ -184,6 +254,59 @@ public final class TextEncoding
         new OutputStreamWriter(output, this.m_javaName), this);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The bytes are read into a heap buffer and decoded from there. Files
+   * are never memory-mapped by this method, since a mapping cannot be
+   * released explicitly: It locks the file on Windows until it is garbage
+   * collected and accessing it after the file has been truncated crashes
+   * the virtual machine. Use {@link #wrapBuffer(ByteBuffer)} to decode a
+   * memory-mapped file.
+   * </p>
+   */
+  @Override
+  public final BufferedReader wrapInputChannel(
+      final ReadableByteChannel input) throws IOException {
+    if (this.m_charset == null) {
+      return super.wrapInputChannel(input);
+    }
+    return new _EncodedBufferedReader(new _ChannelReader(input, this),
+        this);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final BufferedWriter wrapOutputChannel(
+      final WritableByteChannel output) throws IOException {
+    if (this.m_charset == null) {
+      return super.wrapOutputChannel(output);
+    }
+    return new _EncodedBufferedWriter(new _ChannelWriter(output, this),
+        this);
+  }
+
+  /**
+   * Create a reader which decodes the remaining bytes of a buffer, which
+   * may, e.g., be a {@link java.nio.MappedByteBuffer memory-mapped file}.
+   * The position of the buffer is advanced as the text is read.
+   *
+   * @param input
+   *          the buffer
+   * @return the reader
+   * @throws IOException
+   *           if the encoding is not supported
+   */
+  public final BufferedReader wrapBuffer(final ByteBuffer input)
+      throws IOException {
+    if (this.m_charset == null) {
+      throw new IOException("Encoding '" + this.name() + //$NON-NLS-1$
+          "' is not supported."); //$NON-NLS-1$
+    }
+    return new _EncodedBufferedReader(new _ChannelReader(input, this),
+        this);
+  }
+
   /** {@inheritDoc} */
   @Override
   public final BufferedReader wrapReader(final Reader input)
@@ -0,0 +1,384 @@
+package org.optimizationBenchmarking.utils.io.encoding;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A reader which decodes text directly from a
+ * {@link java.nio.channels.ReadableByteChannel} or from a (possibly
+ * memory-mapped) {@link java.nio.ByteBuffer}. For ASCII and ISO-8859-1,
+ * the bytes are copied to the destination characters in a tight loop.
+ * All other input goes through a {@link java.nio.charset.CharsetDecoder},
+ * which replaces malformed input in the same way as
+ * {@link java.io.InputStreamReader} does. UTF-8 is always handled by the
+ * decoder, as its array-based implementation already has a fast path for
+ * ASCII which beats a plain loop. Buffers which are not backed by an
+ * array, such as memory-mapped files, are therefore copied chunk-wise
+ * into a heap buffer before decoding, which is much cheaper than decoding
+ * them directly.
+ */
+final class _ChannelReader extends Reader {
+
+  /** the size of the byte buffer used for reading from channels */
+  static final int BUFFER_SIZE = (1 << 16);
+
+  /**
+   * the channel, or {@code null} if we read from a buffer which is not
+   * owned by this reader
+   */
+  private final ReadableByteChannel m_channel;
+
+  /** the byte buffer holding the bytes to decode */
+  private final ByteBuffer m_in;
+
+  /**
+   * the buffer without backing array from which {@link #m_in} is filled,
+   * or {@code null} if we read from a channel or from {@link #m_in}
+   * directly
+   */
+  private final ByteBuffer m_source;
+
+  /** the decoder */
+  private final CharsetDecoder m_decoder;
+
+  /** the decoding mode */
+  private final int m_mode;
+
+  /** can bytes be copied directly without using the decoder? */
+  private final boolean m_direct;
+
+  /** have we reached the end of the input? */
+  private boolean m_eof;
+
+  /** has the decoder been flushed? */
+  private boolean m_flushed;
+
+  /** a single buffer for reading single characters */
+  private char[] m_single;
+
+  /** the character left over from decoding into {@link #m_single} */
+  private int m_leftover;
+
+  /** is this reader closed? */
+  private boolean m_closed;
+
+  /**
+   * create a reader which either reads from a channel or reads the
+   * remaining bytes of a buffer holding the contents of a channel, e.g., a
+   * memory-mapped file
+   *
+   * @param channel
+   *          the channel to read from if {@code buffer} is {@code null},
+   *          or to close when closing this reader, or {@code null}
+   * @param buffer
+   *          the buffer holding all data, or {@code null} if we read from
+   *          {@code channel}
+   * @param encoding
+   *          the text encoding
+   */
+  _ChannelReader(final ReadableByteChannel channel,
+      final ByteBuffer buffer, final TextEncoding encoding) {
+    super();
+    this.m_channel = channel;
+    if ((buffer != null) && buffer.hasArray()) {
+      this.m_in = buffer;
+      this.m_source = null;
+      this.m_eof = true;
+    } else {
+      this.m_in = _ChannelReader.__emptyBuffer();
+      this.m_source = buffer;
+    }
+    this.m_mode = encoding._getMode();
+    this.m_direct = ((this.m_mode == TextEncoding.MODE_ASCII)
+        || (this.m_mode == TextEncoding.MODE_ISO_8859_1));
+    this.m_decoder = encoding._getCharset().newDecoder()//
+        .onMalformedInput(CodingErrorAction.REPLACE)//
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.m_leftover = (-1);
+  }
+
+  /**
+   * create a reader which reads from a channel
+   *
+   * @param channel
+   *          the channel to read from
+   * @param encoding
+   *          the text encoding
+   */
+  _ChannelReader(final ReadableByteChannel channel,
+      final TextEncoding encoding) {
+    this(channel, null, encoding);
+  }
+
+  /**
+   * create a reader which reads the remaining bytes of a buffer
+   *
+   * @param buffer
+   *          the buffer
+   * @param encoding
+   *          the text encoding
+   */
+  _ChannelReader(final ByteBuffer buffer, final TextEncoding encoding) {
+    this(null, buffer, encoding);
+  }
+
+  /**
+   * Create an empty byte buffer ready for reading
+   *
+   * @return the buffer
+   */
+  private static final ByteBuffer __emptyBuffer() {
+    final ByteBuffer buffer;
+
+    buffer = ByteBuffer.allocate(_ChannelReader.BUFFER_SIZE);
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * make sure that the reader is open
+   *
+   * @throws IOException
+   *           if the reader is closed
+   */
+  private final void __ensureOpen() throws IOException {
+    if (this.m_closed) {
+      throw new IOException("Reader has already been closed."); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Copy the bytes in {@link #m_in}, which is always backed by an array,
+   * which can be mapped directly to
+   * characters until a byte which needs decoding is reached, the
+   * destination is full, or no bytes are left.
+   *
+   * @param cbuf
+   *          the destination
+   * @param start
+   *          the first index to write to
+   * @param end
+   *          the end index of the destination
+   * @return the index after the last character written
+   */
+  private final int __copyDirectly(final char[] cbuf, final int start,
+      final int end) {
+    final ByteBuffer in;
+    final byte[] array;
+    final int base, limit;
+    int index, pos;
+    byte b;
+
+    in = this.m_in;
+    pos = start;
+    array = in.array();
+    base = in.arrayOffset();
+    index = (base + in.position());
+    limit = (base + Math.min(in.limit(), (in.position() + (end - pos))));
+    if (this.m_mode == TextEncoding.MODE_ISO_8859_1) {
+      while (index < limit) {
+        cbuf[pos++] = ((char) (array[index++] & 0xff));
+      }
+    } else {
+      while ((index < limit) && ((b = array[index]) >= 0)) {
+        cbuf[pos++] = ((char) b);
+        index++;
+      }
+    }
+    in.position(index - base);
+    return pos;
+  }
+
+  /**
+   * Decode the available bytes into the destination
+   *
+   * @param cbuf
+   *          the destination
+   * @param start
+   *          the first index to write to
+   * @param end
+   *          the end index of the destination
+   * @return the index after the last character written
+   * @throws IOException
+   *           if decoding fails
+   */
+  private final int __decode(final char[] cbuf, final int start,
+      final int end) throws IOException {
+    final CharBuffer out;
+    final CoderResult result;
+    int pos;
+
+    pos = start;
+    if (this.m_direct) {
+      pos = this.__copyDirectly(cbuf, pos, end);
+      if ((pos >= end) || (!(this.m_in.hasRemaining()))) {
+        return pos;
+      }
+    }
+
+    out = CharBuffer.wrap(cbuf, pos, (end - pos));
+    result = this.m_decoder.decode(this.m_in, out, this.m_eof);
+    if (result.isError()) {
+      result.throwException();
+    }
+    return out.position();
+  }
+
+  /**
+   * Read more bytes from the channel or the source buffer
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  private final void __fill() throws IOException {
+    final ByteBuffer in, source;
+    final int limit;
+    int read;
+
+    in = this.m_in;
+    source = this.m_source;
+    in.compact();
+    try {
+      if (source != null) {
+        read = Math.min(in.remaining(), source.remaining());
+        if (read > 0) {
+          limit = source.limit();
+          source.limit(source.position() + read);
+          in.put(source);
+          source.limit(limit);
+        } else {
+          read = (-1);
+        }
+      } else {
+        read = this.m_channel.read(in);
+      }
+    } finally {
+      in.flip();
+    }
+    if (read < 0) {
+      this.m_eof = true;
+    }
+  }
+
+  /**
+   * Read characters into an array which can hold at least two characters
+   *
+   * @param cbuf
+   *          the destination
+   * @param off
+   *          the offset
+   * @param len
+   *          the number of characters to read, at least {@code 2}
+   * @return the number of characters read, or {@code -1} if the end of
+   *         the input has been reached
+   * @throws IOException
+   *           if I/O fails
+   */
+  private final int __read(final char[] cbuf, final int off, final int len)
+      throws IOException {
+    final int end;
+    CharBuffer out;
+    int pos;
+
+    if (this.m_flushed) {
+      return (-1);
+    }
+
+    end = (off + len);
+    for (;;) {
+      pos = this.__decode(cbuf, off, end);
+      if (pos > off) {
+        return (pos - off);
+      }
+
+      if (this.m_eof) {
+        if (this.m_in.hasRemaining()) {
+          continue;
+        }
+        // the fast paths may have bypassed the decoder, so we need to
+        // tell it about the end of the input before flushing it
+        out = CharBuffer.wrap(cbuf, off, len);
+        this.m_decoder.decode(this.m_in, out, true);
+        if (this.m_decoder.flush(out).isUnderflow()) {
+          this.m_flushed = true;
+        }
+        pos = out.position();
+        if (pos > off) {
+          return (pos - off);
+        }
+        if (this.m_flushed) {
+          return (-1);
+        }
+        continue;
+      }
+
+      this.__fill();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int read(final char[] cbuf, final int off, final int len)
+      throws IOException {
+    char[] single;
+    int read;
+
+    if ((off < 0) || (len < 0) || (len > (cbuf.length - off))) {
+      throw new IndexOutOfBoundsException();
+    }
+    this.__ensureOpen();
+    if (len <= 0) {
+      return 0;
+    }
+
+    if (this.m_leftover >= 0) {
+      cbuf[off] = ((char) (this.m_leftover));
+      this.m_leftover = (-1);
+      return 1;
+    }
+
+    if (len > 1) {
+      return this.__read(cbuf, off, len);
+    }
+
+    // a supplementary character needs two chars, so we cannot decode into
+    // a single char directly
+    if ((single = this.m_single) == null) {
+      this.m_single = single = new char[2];
+    }
+    read = this.__read(single, 0, 2);
+    if (read <= 0) {
+      return read;
+    }
+    cbuf[off] = single[0];
+    if (read > 1) {
+      this.m_leftover = single[1];
+    }
+    return 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean ready() throws IOException {
+    this.__ensureOpen();
+    return ((this.m_leftover >= 0) || (this.m_in.hasRemaining()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() throws IOException {
+    if (this.m_closed) {
+      return;
+    }
+    this.m_closed = true;
+    if (this.m_channel != null) {
+      this.m_channel.close();
+    }
+  }
+}
@@ -0,0 +1,270 @@
+package org.optimizationBenchmarking.utils.io.encoding;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * A writer which encodes text directly into a re-used
+ * {@link java.nio.ByteBuffer} and writes it to a
+ * {@link java.nio.channels.WritableByteChannel}. ASCII, ISO-8859-1, and
+ * UTF-8 characters outside of the surrogate range are encoded in a tight
+ * loop. All other characters go through a
+ * {@link java.nio.charset.CharsetEncoder}, which replaces unmappable
+ * characters in the same way as {@link java.io.OutputStreamWriter} does.
+ */
+final class _ChannelWriter extends Writer {
+
+  /** the channel */
+  private final WritableByteChannel m_channel;
+
+  /** the byte buffer holding the encoded bytes */
+  private final ByteBuffer m_out;
+
+  /** the encoder */
+  private final CharsetEncoder m_encoder;
+
+  /** the encoding mode */
+  private final int m_mode;
+
+  /**
+   * the high surrogate left over from the last write operation, or
+   * {@code -1} if there is none
+   */
+  private int m_pending;
+
+  /** is this writer closed? */
+  private boolean m_closed;
+
+  /**
+   * create the writer
+   *
+   * @param channel
+   *          the channel to write to
+   * @param encoding
+   *          the text encoding
+   */
+  _ChannelWriter(final WritableByteChannel channel,
+      final TextEncoding encoding) {
+    super();
+    this.m_channel = channel;
+    this.m_out = ByteBuffer.allocate(_ChannelReader.BUFFER_SIZE);
+    this.m_mode = encoding._getMode();
+    this.m_encoder = encoding._getCharset().newEncoder()//
+        .onMalformedInput(CodingErrorAction.REPLACE)//
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.m_pending = (-1);
+  }
+
+  /**
+   * make sure that the writer is open
+   *
+   * @throws IOException
+   *           if the writer is closed
+   */
+  private final void __ensureOpen() throws IOException {
+    if (this.m_closed) {
+      throw new IOException("Writer has already been closed."); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Write all buffered bytes to the channel
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  private final void __drain() throws IOException {
+    final ByteBuffer out;
+
+    out = this.m_out;
+    out.flip();
+    try {
+      while (out.hasRemaining()) {
+        this.m_channel.write(out);
+      }
+    } finally {
+      out.clear();
+    }
+  }
+
+  /**
+   * Encode characters via the encoder. A high surrogate at the end of the
+   * input is kept until the next write operation.
+   *
+   * @param in
+   *          the characters
+   * @param endOfInput
+   *          is this the end of the input?
+   * @throws IOException
+   *           if I/O fails
+   */
+  private final void __encode(final CharBuffer in, final boolean endOfInput)
+      throws IOException {
+    CoderResult result;
+
+    for (;;) {
+      result = this.m_encoder.encode(in, this.m_out, endOfInput);
+      if (result.isOverflow()) {
+        this.__drain();
+        continue;
+      }
+      if (result.isError()) {
+        result.throwException();
+      }
+      break;
+    }
+
+    if (in.hasRemaining()) {
+      this.m_pending = in.get();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void write(final char[] cbuf, final int off, final int len)
+      throws IOException {
+    final ByteBuffer out;
+    final byte[] array;
+    final int end, directLimit;
+    int start, index, pos, limit;
+    char ch;
+
+    if ((off < 0) || (len < 0) || (len > (cbuf.length - off))) {
+      throw new IndexOutOfBoundsException();
+    }
+    this.__ensureOpen();
+    if (len <= 0) {
+      return;
+    }
+
+    start = off;
+    end = (off + len);
+
+    if (this.m_pending >= 0) {
+      ch = ((char) (this.m_pending));
+      this.m_pending = (-1);
+      this.__encode(CharBuffer.wrap(new char[] { ch, cbuf[start] }),
+          false);
+      if (this.m_pending < 0) {
+        start++;
+      } else {
+        // the pending high surrogate was followed by another one: it has
+        // been written as malformed and the new one is now pending, but
+        // must be encoded together with the characters following it
+        if ((start + 1) >= end) {
+          return;
+        }
+        this.m_pending = (-1);
+      }
+      if (start >= end) {
+        return;
+      }
+    }
+
+    if (this.m_mode == TextEncoding.MODE_GENERIC) {
+      this.__encode(CharBuffer.wrap(cbuf, start, (end - start)), false);
+      return;
+    }
+
+    directLimit = ((this.m_mode == TextEncoding.MODE_ISO_8859_1) ? 0x100
+        : 0x80);
+    out = this.m_out;
+    array = out.array();
+    pos = out.position();
+    limit = out.limit();
+
+    for (index = start; index < end; index++) {
+      if ((limit - pos) < 3) {
+        out.position(pos);
+        this.__drain();
+        pos = out.position();
+      }
+
+      ch = cbuf[index];
+      if (ch < directLimit) {
+        array[pos++] = ((byte) ch);
+        continue;
+      }
+
+      if ((this.m_mode == TextEncoding.MODE_UTF_8)
+          && (!(Character.isSurrogate(ch)))) {
+        if (ch < 0x800) {
+          array[pos++] = ((byte) (0xc0 | (ch >> 6)));
+        } else {
+          array[pos++] = ((byte) (0xe0 | (ch >> 12)));
+          array[pos++] = ((byte) (0x80 | ((ch >> 6) & 0x3f)));
+        }
+        array[pos++] = ((byte) (0x80 | (ch & 0x3f)));
+        continue;
+      }
+
+      // the character must be replaced or is part of a surrogate pair
+      out.position(pos);
+      this.__encode(CharBuffer.wrap(cbuf, index, (end - index)), false);
+      return;
+    }
+
+    out.position(pos);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void write(final int c) throws IOException {
+    this.write(new char[] { ((char) c) }, 0, 1);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void write(final String str, final int off, final int len)
+      throws IOException {
+    final char[] chars;
+
+    chars = new char[len];
+    str.getChars(off, (off + len), chars, 0);
+    this.write(chars, 0, len);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void flush() throws IOException {
+    this.__ensureOpen();
+    this.__drain();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void close() throws IOException {
+    final CharBuffer rest;
+    CoderResult result;
+
+    if (this.m_closed) {
+      return;
+    }
+
+    try {
+      rest = ((this.m_pending >= 0)
+          ? CharBuffer.wrap(new char[] { ((char) (this.m_pending)) })
+          : CharBuffer.allocate(0));
+      this.m_pending = (-1);
+      this.__encode(rest, true);
+      for (;;) {
+        result = this.m_encoder.flush(this.m_out);
+        if (result.isOverflow()) {
+          this.__drain();
+          continue;
+        }
+        break;
+      }
+      this.__drain();
+    } finally {
+      this.m_closed = true;
+      this.m_channel.close();
+    }
+  }
+}
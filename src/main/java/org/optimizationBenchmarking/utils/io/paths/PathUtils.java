@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystem;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
@@ -19,6 +21,7 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.text.Normalizer.Form;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.logging.Level;
@@ -38,6 +41,13 @@ import org.optimizationBenchmarking.utils.text.TextUtils;
  */
 public final class PathUtils {
 
+  /**
+   * the parameter for the file in which the results of
+   * {@linkplain #findFirstInPath(IPredicate, IPredicate, Path[], Logger, String)
+   * cached PATH look-ups} are stored
+   */
+  public static final String PARAM_PATH_CACHE = "pathCache"; //$NON-NLS-1$
+
   /**
    * Check whether a path is {@code null}
    *
@@ -503,6 +513,99 @@ public final class PathUtils {
     return stream;
   }
 
+  /**
+   * Open a byte channel for reading from a given path. This method never
+   * returns {@code null}.
+   *
+   * @param path
+   *          the path
+   * @return the channel
+   * @throws IOException
+   *           if I/o fails
+   */
+  public static final SeekableByteChannel openInputChannel(
+      final Path path) throws IOException {
+    SeekableByteChannel channel;
+
+    PathUtils.__pathNotNull(path);
+
+    channel = null;
+    try {
+      channel = PathUtils.getFileSystemProvider(path).newByteChannel(path,
+          EnumSet.of(StandardOpenOption.READ));
+    } catch (final Throwable t3) {
+      RethrowMode.AS_IO_EXCEPTION.rethrow((((//
+      "Error while trying to open channel for path '") + //$NON-NLS-1$
+          path) + '\''), true, t3);
+      channel = null;
+    }
+
+    if (channel == null) {
+      throw new IllegalStateException(//
+          "Provider did not throw an exception when creating channel for path '"//$NON-NLS-1$
+              + path + "', but returned null."); //$NON-NLS-1$
+    }
+    return channel;
+  }
+
+  /**
+   * Open a byte channel for writing to a given path. The file is created
+   * or truncated, and its parent directories are created if necessary.
+   * This method never returns {@code null}.
+   *
+   * @param path
+   *          the path
+   * @return the channel
+   * @throws IOException
+   *           if I/o fails
+   */
+  public static final SeekableByteChannel openOutputChannel(
+      final Path path) throws IOException {
+    SeekableByteChannel channel;
+    Object error;
+    Path parent;
+
+    PathUtils.__pathNotNull(path);
+
+    error = null;
+    try {
+      parent = path.getParent();
+    } catch (final Throwable t1) {
+      error = ErrorUtils.aggregateError(t1, error);
+      parent = null;
+    }
+
+    if (parent != null) {
+      try {
+        Files.createDirectories(parent);
+      } catch (final Throwable t2) {
+        error = ErrorUtils.aggregateError(t2, error);
+      }
+    }
+
+    channel = null;
+    try {
+      channel = PathUtils.getFileSystemProvider(path).newByteChannel(path,
+          EnumSet.of(StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE));
+    } catch (final Throwable t3) {
+      channel = null;
+      RethrowMode.AS_IO_EXCEPTION.rethrow(//
+          (("Error while trying to open channel for writing to path '" //$NON-NLS-1$
+              + path) + '\''),
+          true, //
+          ErrorUtils.aggregateError(t3, error));
+    }
+
+    if (channel == null) {
+      throw new IllegalStateException(//
+          "Provider did not throw an exception when creating channel for path '"//$NON-NLS-1$
+              + path + "', but returned null."); //$NON-NLS-1$
+    }
+    return channel;
+  }
+
   /**
    * Prepare a file name
    *
@@ -935,13 +1038,35 @@ public final class PathUtils {
   public static final FileVisitResult visitPath(
       final FileVisitor<Path> visitor, final Path[] visitFirst)
           throws IOException {
-    final __PathVisitor visitorWrapper;
-    Path[] pathSet;
-    FileVisitResult r;
-
     if (visitor == null) {
       throw new IllegalArgumentException("Path visitor cannot be null."); //$NON-NLS-1$
     }
+    return PathUtils.__visitPath(visitor, visitFirst, null);
+  }
+
+  /**
+   * Visit the paths in {@code visitFirst} and then the
+   * {@link #getPath() PATH}.
+   *
+   * @param visitor
+   *          the visitor
+   * @param visitFirst
+   *          {@code null} or a list of paths to visit <em>before</em>
+   *          walking through the {@link #getPath() PATH}
+   * @param flat
+   *          if not {@code null}, the plain {@code PATH} is scanned
+   *          without recursion with this visitor before walking through
+   *          the {@link #getPath() PATH}
+   * @return the result
+   * @throws IOException
+   *           if I/O fails
+   */
+  private static final FileVisitResult __visitPath(
+      final FileVisitor<Path> visitor, final Path[] visitFirst,
+      final __FindFirst flat) throws IOException {
+    final __PathVisitor visitorWrapper;
+    Path[] pathSet;
+    FileVisitResult r;
 
     visitorWrapper = new __PathVisitor(visitor);
 
@@ -967,6 +1092,10 @@ public final class PathUtils {
       }
 
       if (visitorWrapper.m_inUserDefinedTemplates) {
+        if ((flat != null)
+            && PathUtils.__scanFlat(flat, __PathLoader.PLAIN_ARRAY)) {
+          return FileVisitResult.TERMINATE;
+        }
         pathSet = __PathLoader.PATH_ARRAY;
         visitorWrapper.m_inUserDefinedTemplates = false;
       } else {
@@ -1033,17 +1162,102 @@ public final class PathUtils {
       final IPredicate<Path> pathPredicate,
       final IPredicate<BasicFileAttributes> attsPredicate,
       final Path[] visitFirst, final Logger logger) {
-    final __FindFirst ff;
-    Logger root;
+    return PathUtils.findFirstInPath(pathPredicate, attsPredicate,
+        visitFirst, logger, null);
+  }
+
+  /**
+   * <p>
+   * Find a {@link java.nio.file.Path path} that matches the given
+   * {@link org.optimizationBenchmarking.utils.predicates.IPredicate
+   * pathPredicate} and whose attributes match the
+   * {@link org.optimizationBenchmarking.utils.predicates.IPredicate
+   * attsPredicate}. The paths in {@code visitFirst} always take
+   * precedence over the {@link #getPath() PATH}: First, the paths in
+   * {@code visitFirst} and their direct children are checked, then they are
+   * walked recursively. If no fitting path was found, the directories
+   * listed in the {@code PATH} environment variable are checked without
+   * descending into sub-directories, in the same way a shell would look for
+   * a binary. Only then, the elements of the {@link #getPath() PATH} are
+   * walked recursively.
+   * </p>
+   * <p>
+   * If a {@code cacheKey} is given, the result is stored under this key
+   * in the file specified by the configuration parameter
+   * {@link #PARAM_PATH_CACHE}, or in the user's home directory by default.
+   * Index files which are not owned by the current user or which can be
+   * written by others are ignored. The cached result is returned as long
+   * as the directories to visit and their last modification times are the
+   * same and the cached path still lies inside one of them and matches the
+   * predicates. Changes deeper inside the directories cannot be detected
+   * this way, so whenever a cached result is returned, the look-up is
+   * repeated in a background thread and the cache is updated with its
+   * result. Each cache key must always be used with the same predicates.
+   * </p>
+   *
+   * @param visitFirst
+   *          {@code null} or a list of paths to visit <em>before</em>
+   *          walking through the {@link #getPath() PATH}. Elements in this
+   *          array may also be {@code null} or non-existing paths.
+   * @param pathPredicate
+   *          the path predicate to match
+   * @param attsPredicate
+   *          the attributes predicate
+   * @param logger
+   *          the logger to use, or {@code null} for default
+   * @param cacheKey
+   *          the key under which the result is cached, or {@code null} if
+   *          the result should not be cached
+   * @return the result
+   * @see #visitPath(FileVisitor, Path[])
+   * @see #getPath()
+   */
+  public static final Path findFirstInPath(
+      final IPredicate<Path> pathPredicate,
+      final IPredicate<BasicFileAttributes> attsPredicate,
+      final Path[] visitFirst, final Logger logger, final String cacheKey) {
 
     if ((pathPredicate == null) && (attsPredicate == null)) {
       return null;
     }
 
+    if (cacheKey != null) {
+      return _PathLookupCache._getInstance()._find(pathPredicate,
+          attsPredicate, visitFirst, logger, cacheKey);
+    }
+    return PathUtils._findFirstInPath(pathPredicate, attsPredicate,
+        visitFirst, logger);
+  }
+
+  /**
+   * Find a path without using the cache: first scan the paths to visit
+   * first without recursion, then walk through them, then scan the plain
+   * {@code PATH} without recursion, and finally walk through the
+   * {@link #getPath() PATH}.
+   *
+   * @param visitFirst
+   *          {@code null} or a list of paths to visit <em>before</em>
+   *          walking through the {@link #getPath() PATH}
+   * @param pathPredicate
+   *          the path predicate to match
+   * @param attsPredicate
+   *          the attributes predicate
+   * @param logger
+   *          the logger to use, or {@code null} for default
+   * @return the result
+   */
+  static final Path _findFirstInPath(final IPredicate<Path> pathPredicate,
+      final IPredicate<BasicFileAttributes> attsPredicate,
+      final Path[] visitFirst, final Logger logger) {
+    final __FindFirst ff;
+    Logger root;
+
     ff = new __FindFirst(pathPredicate, attsPredicate);
 
     try {
-      PathUtils.visitPath(ff, visitFirst);
+      if (!(PathUtils.__scanFlat(ff, visitFirst))) {
+        PathUtils.__visitPath(ff, visitFirst, ff);
+      }
     } catch (final Throwable error) {
       root = ((logger != null) ? logger : Configuration.getGlobalLogger());
       if ((root != null) && (root.isLoggable(Level.WARNING))) {
@@ -1056,6 +1270,86 @@ public final class PathUtils {
     return ff.m_found;
   }
 
+  /**
+   * Check a set of paths and, if they are directories, their direct
+   * children, without descending into sub-directories.
+   *
+   * @param ff
+   *          the find-first visitor
+   * @param paths
+   *          the paths, or {@code null}
+   * @return {@code true} if a fitting path was found, {@code false}
+   *         otherwise
+   */
+  private static final boolean __scanFlat(final __FindFirst ff,
+      final Path[] paths) {
+    BasicFileAttributes attrs;
+    Path use;
+
+    if (paths == null) {
+      return false;
+    }
+
+    for (final Path path : paths) {
+      if (path == null) {
+        continue;
+      }
+      try {
+        use = PathUtils.normalize(path);
+        attrs = Files.readAttributes(use, BasicFileAttributes.class);
+      } catch (final Throwable error) {
+        continue;
+      }
+      if (ff._check(use, attrs) == FileVisitResult.TERMINATE) {
+        return true;
+      }
+      if (!(attrs.isDirectory())) {
+        continue;
+      }
+
+      try (final DirectoryStream<Path> children = Files
+          .newDirectoryStream(use)) {
+        for (final Path child : children) {
+          try {
+            attrs = Files.readAttributes(child, BasicFileAttributes.class);
+          } catch (final Throwable error) {
+            continue;
+          }
+          if (ff._check(child, attrs) == FileVisitResult.TERMINATE) {
+            return true;
+          }
+        }
+      } catch (final Throwable error) {
+        // ignore unreadable directories, as the tree walk does
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Check whether a path matches the given predicates
+   *
+   * @param path
+   *          the path
+   * @param pathPredicate
+   *          the path predicate, or {@code null}
+   * @param attsPredicate
+   *          the attributes predicate, or {@code null}
+   * @return {@code true} if the path exists and matches the predicates,
+   *         {@code false} otherwise
+   */
+  static final boolean _matches(final Path path,
+      final IPredicate<Path> pathPredicate,
+      final IPredicate<BasicFileAttributes> attsPredicate) {
+    try {
+      return (new __FindFirst(pathPredicate, attsPredicate)._check(path,
+          Files.readAttributes(path, BasicFileAttributes.class))//
+      == FileVisitResult.TERMINATE);
+    } catch (final Throwable error) {
+      return false;
+    }
+  }
+
   /** the forbidden constructor */
   private PathUtils() {
     ErrorUtils.doNotCall();
@@ -1174,13 +1468,19 @@ public final class PathUtils {
     /** the path */
     static final Path[] PATH_ARRAY;
 
+    /**
+     * the directories listed in the {@code PATH} environment variable,
+     * i.e., the directories a shell looks into for binaries
+     */
+    static final Path[] PLAIN_ARRAY;
+
     static {
       final Configuration config;
       LinkedHashSet<Path> paths;
       ListParser<Path> lister;
       ArrayListView<Path> path;
       Path p;
-      Path[] array, array2;
+      Path[] array, array2, plain;
       int i, j, size;
 
       // get paths from environment
@@ -1188,6 +1488,7 @@ public final class PathUtils {
 
       paths = new LinkedHashSet<>();
       lister = new ListParser<>(__DirPathParser.PARSER, true, true);
+      plain = null;
 
       // get path lists from environment variables or java configuration
       for (final String key : new String[] { //
@@ -1199,6 +1500,9 @@ public final class PathUtils {
       }) {
         path = config.get(key, lister, null);
         if (path != null) {
+          if (Configuration.PARAM_PATH.equals(key)) {
+            plain = path.toArray(new Path[path.size()]);
+          }
           paths.addAll(path);
           path = null;
         }
@@ -1280,6 +1584,7 @@ public final class PathUtils {
         array = array2;
       }
       PATH_ARRAY = array;
+      PLAIN_ARRAY = ((plain != null) ? plain : new Path[0]);
 
       PATH = new ArrayListView<>(__PathLoader.PATH_ARRAY, false);
     }
@@ -1807,7 +2112,7 @@ public final class PathUtils {
      *         {@code false} otherwise
      */
     @SuppressWarnings("unused")
-    private final FileVisitResult __check(final Path path,
+    final FileVisitResult _check(final Path path,
         final BasicFileAttributes attrs) {
       check: {
         checkAtts: {
@@ -1843,14 +2148,14 @@ public final class PathUtils {
     @Override
     public final FileVisitResult preVisitDirectory(final Path dir,
         final BasicFileAttributes attrs) {
-      return this.__check(dir, attrs);
+      return this._check(dir, attrs);
     }
 
     /** {@inheritDoc} */
     @Override
     public final FileVisitResult visitFile(final Path file,
         final BasicFileAttributes attrs) {
-      return this.__check(file, attrs);
+      return this._check(file, attrs);
     }
 
     /** {@inheritDoc} */
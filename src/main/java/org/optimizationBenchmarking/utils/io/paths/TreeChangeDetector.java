@@ -0,0 +1,632 @@
+package org.optimizationBenchmarking.utils.io.paths;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.optimizationBenchmarking.utils.io.EOSFamily;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * <p>
+ * This class detects which files in a directory tree have been added,
+ * modified, or removed since the last check. Different from the
+ * {@link FileChangeDetector}, which re-reads a single file on every
+ * check, it keeps an index of the size, last modification time, and
+ * content digest of each file and only computes the digests of the files
+ * whose size or modification time have changed. These digests are
+ * computed in parallel. A file whose modification time has changed but
+ * whose contents are the same is not reported as modified.
+ * </p>
+ * <p>
+ * The index can be stored in a file, so that it survives the detector. If
+ * {@linkplain #isWatching() watching} is enabled, the directories of the
+ * tree are registered with a {@link java.nio.file.WatchService} and,
+ * after the first check, only the files and directories the file system
+ * has reported as changed are examined instead of walking the whole tree.
+ * This is efficient on Linux, where the watch service is backed by the
+ * operating system. Since the file system reports changes asynchronously,
+ * a change made right before a check may only be reported by the next
+ * check in this mode. If the file system has lost events, the whole tree
+ * is walked again.
+ * </p>
+ * <p>
+ * The detected changes can be loaded with
+ * {@link org.optimizationBenchmarking.utils.io.structured.spec.IFileInputJobBuilder#addPaths(Iterable, org.optimizationBenchmarking.utils.io.encoding.StreamEncoding, org.optimizationBenchmarking.utils.io.EArchiveType)}
+ * .
+ * </p>
+ */
+public class TreeChangeDetector implements Closeable {
+
+  /** the magic number identifying index files */
+  private static final int INDEX_MAGIC = 0x4f425443;
+  /** the version of the index file format */
+  private static final int INDEX_VERSION = 1;
+  /** the digest algorithm */
+  private static final String DIGEST = "SHA-1"; //$NON-NLS-1$
+  /** the size of the buffers used for computing digests */
+  private static final int BUFFER_SIZE = (1 << 16);
+
+  /** the root of the tree */
+  private final Path m_root;
+
+  /** the index file, or {@code null} if the index is not stored */
+  private final Path m_index;
+
+  /** the entries of the files in the tree */
+  private final HashMap<Path, _TreeEntry> m_entries;
+
+  /**
+   * the watch service, or {@code null} if we do not watch the tree
+   */
+  private WatchService m_watcher;
+
+  /** the directories belonging to the watch keys */
+  private final HashMap<WatchKey, Path> m_keys;
+
+  /** the watched directories */
+  private final HashSet<Path> m_watched;
+
+  /** the paths which have been reported as changed */
+  private final HashSet<Path> m_dirty;
+
+  /** must the whole tree be walked in the next check? */
+  private boolean m_fullScan;
+
+  /** must the index be stored? */
+  private boolean m_indexChanged;
+
+  /**
+   * Create the tree change detector
+   *
+   * @param root
+   *          the root directory of the tree
+   * @param index
+   *          the file to store the index in, or {@code null} if the index
+   *          should only be kept in memory
+   * @param watch
+   *          should the tree be watched by a
+   *          {@link java.nio.file.WatchService}?
+   * @throws IOException
+   *           if the watch service cannot be created
+   */
+  public TreeChangeDetector(final Path root, final Path index,
+      final boolean watch) throws IOException {
+    super();
+
+    if (root == null) {
+      throw new IllegalArgumentException(//
+          "Root of the tree to watch must not be null."); //$NON-NLS-1$
+    }
+
+    this.m_root = PathUtils.normalize(root);
+    this.m_index = ((index != null) ? PathUtils.normalize(index) : null);
+    this.m_entries = new HashMap<>();
+    this.m_keys = new HashMap<>();
+    this.m_watched = new HashSet<>();
+    this.m_dirty = new HashSet<>();
+    this.m_fullScan = true;
+
+    if (this.m_index != null) {
+      this.__loadIndex();
+    }
+    if (watch) {
+      this.m_watcher = this.m_root.getFileSystem().newWatchService();
+    }
+  }
+
+  /**
+   * Create the tree change detector. The tree is watched if we are on
+   * Linux and the tree is located in the default file system.
+   *
+   * @param root
+   *          the root directory of the tree
+   * @param index
+   *          the file to store the index in, or {@code null} if the index
+   *          should only be kept in memory
+   * @throws IOException
+   *           if the watch service cannot be created
+   */
+  public TreeChangeDetector(final Path root, final Path index)
+      throws IOException {
+    this(root, index, ((EOSFamily.DETECTED == EOSFamily.Linux)
+        && (root != null)
+        && (root.getFileSystem() == FileSystems.getDefault())));
+  }
+
+  /**
+   * Create a tree change detector which keeps its index only in memory
+   *
+   * @param root
+   *          the root directory of the tree
+   * @throws IOException
+   *           if the watch service cannot be created
+   */
+  public TreeChangeDetector(final Path root) throws IOException {
+    this(root, null);
+  }
+
+  /**
+   * Get the root directory of the tree
+   *
+   * @return the root directory of the tree
+   */
+  public final Path getRoot() {
+    return this.m_root;
+  }
+
+  /**
+   * Is the tree watched by a {@link java.nio.file.WatchService}?
+   *
+   * @return {@code true} if the tree is watched, {@code false} if it is
+   *         walked completely on each check
+   */
+  public synchronized final boolean isWatching() {
+    return (this.m_watcher != null);
+  }
+
+  /** load the index from the index file */
+  private final void __loadIndex() {
+    final HashMap<Path, _TreeEntry> entries;
+    byte[] digest;
+    Path path;
+    long size, time;
+    int count, length;
+
+    if (!(Files.isRegularFile(this.m_index))) {
+      return;
+    }
+
+    entries = new HashMap<>();
+    try (final DataInputStream input = new DataInputStream(
+        new BufferedInputStream(PathUtils.openInputStream(this.m_index)))) {
+      if ((input.readInt() != TreeChangeDetector.INDEX_MAGIC)
+          || (input.readInt() != TreeChangeDetector.INDEX_VERSION)) {
+        return;
+      }
+      for (count = input.readInt(); (--count) >= 0;) {
+        path = this.m_root.resolve(input.readUTF());
+        size = input.readLong();
+        time = input.readLong();
+        length = input.readShort();
+        if (length >= 0) {
+          digest = new byte[length];
+          input.readFully(digest);
+        } else {
+          digest = null;
+        }
+        entries.put(path, new _TreeEntry(path, size, time, digest));
+      }
+    } catch (final Throwable error) {
+      // a broken index is the same as no index: all files will be
+      // hashed again
+      return;
+    }
+
+    this.m_entries.putAll(entries);
+  }
+
+  /**
+   * Store the index into the index file
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __storeIndex() throws IOException {
+    final Path temp;
+    final byte[] digest;
+
+    temp = this.m_index.resolveSibling(//
+        this.m_index.getFileName().toString() + ".tmp"); //$NON-NLS-1$
+    try (final DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(PathUtils.openOutputStream(temp)))) {
+      output.writeInt(TreeChangeDetector.INDEX_MAGIC);
+      output.writeInt(TreeChangeDetector.INDEX_VERSION);
+      output.writeInt(this.m_entries.size());
+      for (final _TreeEntry entry : this.m_entries.values()) {
+        output.writeUTF(this.m_root.relativize(entry.m_path).toString());
+        output.writeLong(entry.m_size);
+        output.writeLong(entry.m_time);
+        if (entry.m_digest != null) {
+          output.writeShort(entry.m_digest.length);
+          output.write(entry.m_digest);
+        } else {
+          output.writeShort(-1);
+        }
+      }
+    }
+
+    try {
+      Files.move(temp, this.m_index, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final AtomicMoveNotSupportedException notAtomic) {
+      Files.move(temp, this.m_index, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Register a directory with the watch service. If this fails, e.g.,
+   * because the operating system's limit of watched directories has been
+   * reached, we stop watching and walk the whole tree in the future.
+   *
+   * @param dir
+   *          the directory
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __watch(final Path dir) throws IOException {
+    if ((this.m_watcher != null) && this.m_watched.add(dir)) {
+      try {
+        this.m_keys.put(dir.register(this.m_watcher,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_DELETE,
+            StandardWatchEventKinds.ENTRY_MODIFY), dir);
+      } catch (final IOException cannotWatch) {
+        this.close();
+      }
+    }
+  }
+
+  /** collect the paths reported by the watch service */
+  private final void __pollEvents() {
+    WatchKey key;
+    Path dir;
+
+    while ((key = this.m_watcher.poll()) != null) {
+      dir = this.m_keys.get(key);
+      for (final WatchEvent<?> event : key.pollEvents()) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+          this.m_fullScan = true;
+        } else {
+          if (dir != null) {
+            this.m_dirty.add(dir.resolve((Path) (event.context())));
+          }
+        }
+      }
+      if (!(key.reset())) {
+        this.m_keys.remove(key);
+        if (dir != null) {
+          this.m_watched.remove(dir);
+          this.m_dirty.add(dir);
+        }
+      }
+    }
+  }
+
+  /**
+   * Check whether a file needs to be hashed
+   *
+   * @param path
+   *          the path to the file
+   * @param attributes
+   *          the file's attributes
+   * @param pending
+   *          the list of new entries to be hashed
+   * @param previous
+   *          the list receiving the old entries belonging to
+   *          {@code pending}, or {@code null} for new files
+   */
+  private final void __check(final Path path,
+      final BasicFileAttributes attributes,
+      final ArrayList<_TreeEntry> pending,
+      final ArrayList<_TreeEntry> previous) {
+    final _TreeEntry old;
+
+    old = this.m_entries.get(path);
+    if ((old != null) && old._hasSameMetaData(attributes)) {
+      return;
+    }
+    pending.add(new _TreeEntry(path, attributes));
+    previous.add(old);
+  }
+
+  /**
+   * Walk a directory tree
+   *
+   * @param dir
+   *          the root of the (sub-)tree
+   * @param pending
+   *          the list of new entries to be hashed
+   * @param previous
+   *          the list receiving the old entries belonging to
+   *          {@code pending}
+   * @param seen
+   *          the set receiving all visited files, or {@code null}
+   * @throws IOException
+   *           if i/o fails
+   */
+  private final void __walk(final Path dir,
+      final ArrayList<_TreeEntry> pending,
+      final ArrayList<_TreeEntry> previous, final HashSet<Path> seen)
+      throws IOException {
+    Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+      /** {@inheritDoc} */
+      @Override
+      public final FileVisitResult preVisitDirectory(final Path path,
+          final BasicFileAttributes attributes) throws IOException {
+        TreeChangeDetector.this.__watch(path);
+        return FileVisitResult.CONTINUE;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public final FileVisitResult visitFile(final Path path,
+          final BasicFileAttributes attributes) {
+        if (attributes.isRegularFile()) {
+          if (seen != null) {
+            seen.add(path);
+          }
+          TreeChangeDetector.this.__check(path, attributes, pending,
+              previous);
+        }
+        return FileVisitResult.CONTINUE;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public final FileVisitResult visitFileFailed(final Path path,
+          final IOException exc) {
+        return FileVisitResult.CONTINUE;
+      }
+    });
+  }
+
+  /**
+   * Remove a file or all files in a directory from the index
+   *
+   * @param path
+   *          the file or directory
+   * @param removed
+   *          the list receiving the removed files
+   */
+  private final void __remove(final Path path,
+      final ArrayList<Path> removed) {
+    Iterator<Path> iterator;
+    Path current;
+
+    if (this.m_entries.remove(path) != null) {
+      removed.add(path);
+      return;
+    }
+
+    iterator = this.m_entries.keySet().iterator();
+    while (iterator.hasNext()) {
+      current = iterator.next();
+      if (current.startsWith(path)) {
+        iterator.remove();
+        removed.add(current);
+      }
+    }
+
+    iterator = this.m_watched.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().startsWith(path)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Compute the digests of the given entries in parallel
+   *
+   * @param pending
+   *          the entries
+   */
+  @SuppressWarnings("rawtypes")
+  private static final void __computeDigests(
+      final ArrayList<_TreeEntry> pending) {
+    final _TreeEntry[] entries;
+    final AtomicInteger next;
+    final Future[] tasks;
+
+    entries = pending.toArray(new _TreeEntry[pending.size()]);
+    next = new AtomicInteger();
+    tasks = new Future[Math.min(entries.length,
+        Runtime.getRuntime().availableProcessors()) - 1];
+    for (int index = tasks.length; (--index) >= 0;) {
+      tasks[index] = Execute.parallel(new __Hasher(entries, next));
+    }
+    new __Hasher(entries, next).run();
+    Execute.join(tasks);
+  }
+
+  /**
+   * Detect the files which have been added, modified, or removed since
+   * the last call of this method or, in the first call, since the index
+   * has been stored. If there is no index, all files are reported as
+   * added in the first call.
+   *
+   * @return the changes
+   * @throws IOException
+   *           if i/o fails
+   */
+  public synchronized final TreeChanges detectChanges() throws IOException {
+    final ArrayList<_TreeEntry> pending, previous;
+    final ArrayList<Path> added, modified, removed;
+    final HashSet<Path> seen;
+    final Iterator<Path> iterator;
+    final Path[] dirty;
+    BasicFileAttributes attributes;
+    _TreeEntry entry, old;
+    Path path;
+
+    pending = new ArrayList<>();
+    previous = new ArrayList<>();
+    added = new ArrayList<>();
+    modified = new ArrayList<>();
+    removed = new ArrayList<>();
+
+    if (this.m_watcher != null) {
+      this.__pollEvents();
+    }
+
+    if (this.m_fullScan || (this.m_watcher == null)) {
+      this.m_dirty.clear();
+      seen = new HashSet<>();
+      if (Files.isDirectory(this.m_root)) {
+        this.__walk(this.m_root, pending, previous, seen);
+      }
+      iterator = this.m_entries.keySet().iterator();
+      while (iterator.hasNext()) {
+        path = iterator.next();
+        if (!(seen.contains(path))) {
+          iterator.remove();
+          removed.add(path);
+        }
+      }
+      this.m_fullScan = false;
+    } else {
+      // we iterate over a copy, since walking a new directory may fail to
+      // watch it and then close the watch service, clearing m_dirty
+      dirty = this.m_dirty.toArray(new Path[this.m_dirty.size()]);
+      this.m_dirty.clear();
+      for (final Path current : dirty) {
+        try {
+          attributes = Files.readAttributes(current,
+              BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (final IOException notFound) {
+          this.__remove(current, removed);
+          continue;
+        }
+        if (attributes.isRegularFile()) {
+          this.__check(current, attributes, pending, previous);
+        } else {
+          if (attributes.isDirectory()) {
+            if (!(this.m_watched.contains(current))) {
+              this.__walk(current, pending, previous, null);
+            }
+          } else {
+            this.__remove(current, removed);
+          }
+        }
+      }
+    }
+
+    if (!(pending.isEmpty())) {
+      TreeChangeDetector.__computeDigests(pending);
+      for (int index = 0; index < pending.size(); index++) {
+        entry = pending.get(index);
+        old = previous.get(index);
+        this.m_entries.put(entry.m_path, entry);
+        if (old == null) {
+          added.add(entry.m_path);
+        } else {
+          if ((entry.m_digest == null) || (old.m_digest == null)
+              || (!(MessageDigest.isEqual(entry.m_digest, old.m_digest)))) {
+            modified.add(entry.m_path);
+          }
+        }
+      }
+      this.m_indexChanged = true;
+    }
+
+    if (!(removed.isEmpty())) {
+      this.m_indexChanged = true;
+    }
+
+    if ((this.m_index != null) && this.m_indexChanged) {
+      this.__storeIndex();
+      this.m_indexChanged = false;
+    }
+
+    return new TreeChanges(added, modified, removed);
+  }
+
+  /**
+   * Stop watching the tree. Later checks will walk the whole tree.
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Override
+  public synchronized final void close() throws IOException {
+    final WatchService watcher;
+
+    watcher = this.m_watcher;
+    if (watcher != null) {
+      this.m_watcher = null;
+      this.m_keys.clear();
+      this.m_watched.clear();
+      this.m_dirty.clear();
+      this.m_fullScan = true;
+      watcher.close();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return ("Change detector for " + this.m_root); //$NON-NLS-1$
+  }
+
+  /** a task computing digests */
+  private static final class __Hasher implements Runnable {
+
+    /** the entries */
+    private final _TreeEntry[] m_entries;
+
+    /** the index of the next entry to hash */
+    private final AtomicInteger m_next;
+
+    /**
+     * create
+     *
+     * @param entries
+     *          the entries
+     * @param next
+     *          the index of the next entry to hash
+     */
+    __Hasher(final _TreeEntry[] entries, final AtomicInteger next) {
+      super();
+      this.m_entries = entries;
+      this.m_next = next;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      final MessageDigest digest;
+      final ByteBuffer buffer;
+      int index;
+
+      try {
+        digest = MessageDigest.getInstance(TreeChangeDetector.DIGEST);
+      } catch (final NoSuchAlgorithmException error) {
+        throw new IllegalStateException(//
+            "Digest algorithm " + TreeChangeDetector.DIGEST + //$NON-NLS-1$
+                " is not available.", //$NON-NLS-1$
+            error);
+      }
+      buffer = ByteBuffer.allocate(TreeChangeDetector.BUFFER_SIZE);
+
+      while ((index = this.m_next.getAndIncrement()) < this.m_entries.length) {
+        this.m_entries[index]._computeDigest(digest, buffer);
+      }
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package org.optimizationBenchmarking.utils.io.paths;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
+
+/**
+ * The changes to the files in a directory tree detected by a
+ * {@link TreeChangeDetector}.
+ */
+public final class TreeChanges {
+
+  /** the files which have been added */
+  private final ArrayListView<Path> m_added;
+
+  /** the files whose contents have changed */
+  private final ArrayListView<Path> m_modified;
+
+  /** the files which have been removed */
+  private final ArrayListView<Path> m_removed;
+
+  /**
+   * create
+   *
+   * @param added
+   *          the files which have been added
+   * @param modified
+   *          the files whose contents have changed
+   * @param removed
+   *          the files which have been removed
+   */
+  TreeChanges(final ArrayList<Path> added, final ArrayList<Path> modified,
+      final ArrayList<Path> removed) {
+    super();
+    this.m_added = TreeChanges.__view(added);
+    this.m_modified = TreeChanges.__view(modified);
+    this.m_removed = TreeChanges.__view(removed);
+  }
+
+  /**
+   * Create a sorted view of a list of paths
+   *
+   * @param paths
+   *          the paths
+   * @return the view
+   */
+  private static final ArrayListView<Path> __view(
+      final ArrayList<Path> paths) {
+    Collections.sort(paths);
+    return new ArrayListView<>(paths.toArray(new Path[paths.size()]));
+  }
+
+  /**
+   * Get the files which have been added
+   *
+   * @return the files which have been added
+   */
+  public final ArrayListView<Path> getAdded() {
+    return this.m_added;
+  }
+
+  /**
+   * Get the files whose contents have changed
+   *
+   * @return the files whose contents have changed
+   */
+  public final ArrayListView<Path> getModified() {
+    return this.m_modified;
+  }
+
+  /**
+   * Get the files which have been removed
+   *
+   * @return the files which have been removed
+   */
+  public final ArrayListView<Path> getRemoved() {
+    return this.m_removed;
+  }
+
+  /**
+   * Get the files which need to be (re-)loaded, i.e., the added and the
+   * modified files
+   *
+   * @return the files which have been added or modified
+   */
+  public final ArrayList<Path> getChanged() {
+    final ArrayList<Path> changed;
+
+    changed = new ArrayList<>(this.m_added.size() + this.m_modified.size());
+    changed.addAll(this.m_added);
+    changed.addAll(this.m_modified);
+    Collections.sort(changed);
+    return changed;
+  }
+
+  /**
+   * Has any file been added, modified, or removed?
+   *
+   * @return {@code true} if any file has been added, modified, or
+   *         removed, {@code false} otherwise
+   */
+  public final boolean hasChanges() {
+    return (!(this.m_added.isEmpty() && this.m_modified.isEmpty() && this.m_removed
+        .isEmpty()));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return ("added: " + this.m_added + //$NON-NLS-1$
+        ", modified: " + this.m_modified + //$NON-NLS-1$
+        ", removed: " + this.m_removed);//$NON-NLS-1$
+  }
+}
@@ -0,0 +1,557 @@
+package org.optimizationBenchmarking.utils.io.paths;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.predicates.IPredicate;
+
+/**
+ * <p>
+ * A persistent cache for the results of
+ * {@link PathUtils#findFirstInPath(IPredicate, IPredicate, Path[], Logger, String)}
+ * . Each result is stored together with the directories which were
+ * searched and their last modification times. Installing or removing a
+ * binary directly in one of these directories changes its modification
+ * time and thus invalidates the cached result. Changes deeper in the
+ * directory trees are picked up by repeating the look-up in a background
+ * thread whenever a cached result is used.
+ * </p>
+ * <p>
+ * A planted index could make us execute an arbitrary program. Therefore,
+ * the index is kept in the user's home directory by default, index files
+ * which are not owned by the current user or which can be written by
+ * others are ignored, and a cached result is only used if it lies inside
+ * one of the directories it was found in.
+ * </p>
+ */
+final class _PathLookupCache {
+
+  /** the magic number identifying index files */
+  private static final int INDEX_MAGIC = 0x4f42504c;
+  /** the version of the index file format */
+  private static final int INDEX_VERSION = 1;
+  /** the maximum number of cached results */
+  private static final int MAX_ENTRIES = 256;
+
+  /** the index file, or {@code null} if the index is not stored */
+  private final Path m_index;
+
+  /** the cached results, in the order of their last use */
+  private final LinkedHashMap<String, __Entry> m_entries;
+
+  /** the keys currently being revalidated */
+  private final HashSet<String> m_revalidating;
+
+  /** has the index been loaded? */
+  private boolean m_loaded;
+
+  /**
+   * create
+   *
+   * @param index
+   *          the index file, or {@code null} if the index should only be
+   *          kept in memory
+   */
+  _PathLookupCache(final Path index) {
+    super();
+    this.m_index = index;
+    this.m_entries = new __Entries();
+    this.m_revalidating = new HashSet<>();
+  }
+
+  /**
+   * Get the globally shared cache
+   *
+   * @return the globally shared cache
+   */
+  static final _PathLookupCache _getInstance() {
+    return __CacheLoader.INSTANCE;
+  }
+
+  /**
+   * Get the directories which are searched by a look-up
+   *
+   * @param visitFirst
+   *          the paths to visit first, or {@code null}
+   * @return the directories
+   */
+  private static final String[] __getRoots(final Path[] visitFirst) {
+    final ArrayList<String> roots;
+
+    roots = new ArrayList<>();
+    if (visitFirst != null) {
+      for (final Path path : visitFirst) {
+        if (path != null) {
+          roots.add(PathUtils.normalize(path).toString());
+        }
+      }
+    }
+    for (final Path path : PathUtils.getPath()) {
+      roots.add(path.toString());
+    }
+    return roots.toArray(new String[roots.size()]);
+  }
+
+  /**
+   * Get the last modification times of the searched directories
+   *
+   * @param roots
+   *          the directories
+   * @return the last modification times, {@code -1L} for directories
+   *         which do not exist
+   */
+  private static final long[] __getStamps(final String[] roots) {
+    final long[] stamps;
+    int index;
+
+    stamps = new long[roots.length];
+    index = 0;
+    for (final String root : roots) {
+      try {
+        stamps[index] = Files.readAttributes(PathUtils.normalize(root),
+            BasicFileAttributes.class).lastModifiedTime().toMillis();
+      } catch (final Throwable error) {
+        stamps[index] = (-1L);
+      }
+      index++;
+    }
+    return stamps;
+  }
+
+  /**
+   * Check whether a path lies inside one of the searched directories
+   *
+   * @param path
+   *          the path
+   * @param roots
+   *          the searched directories
+   * @return {@code true} if the path lies inside one of the directories,
+   *         {@code false} otherwise
+   */
+  private static final boolean __isInside(final Path path,
+      final String[] roots) {
+    for (final String root : roots) {
+      try {
+        if (path.startsWith(PathUtils.normalize(root))) {
+          return true;
+        }
+      } catch (final Throwable error) {
+        // ignore
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Check whether an index file can be trusted, i.e., whether it is a
+   * regular file owned by the current user which cannot be written by
+   * other users
+   *
+   * @param index
+   *          the index file
+   * @return {@code true} if the index can be trusted, {@code false}
+   *         otherwise
+   */
+  private static final boolean __isTrusted(final Path index) {
+    final BasicFileAttributes attributes;
+    final UserPrincipal owner;
+    final String user;
+    PosixFileAttributes posix;
+
+    try {
+      attributes = Files.readAttributes(index, BasicFileAttributes.class,
+          LinkOption.NOFOLLOW_LINKS);
+      if (!(attributes.isRegularFile())) {
+        return false;
+      }
+
+      user = System.getProperty("user.name"); //$NON-NLS-1$
+      if (user == null) {
+        return false;
+      }
+      owner = Files.getOwner(index, LinkOption.NOFOLLOW_LINKS);
+      if ((owner == null) || (!(owner.equals(index.getFileSystem()
+          .getUserPrincipalLookupService().lookupPrincipalByName(user))))) {
+        return false;
+      }
+
+      try {
+        posix = Files.readAttributes(index, PosixFileAttributes.class,
+            LinkOption.NOFOLLOW_LINKS);
+      } catch (final UnsupportedOperationException notPosix) {
+        posix = null;
+      }
+      if ((posix != null) && //
+          (posix.permissions().contains(PosixFilePermission.GROUP_WRITE) || //
+              posix.permissions().contains(PosixFilePermission.OTHERS_WRITE))) {
+        return false;
+      }
+    } catch (final Throwable error) {
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Find a path, using the cache if possible.
+   *
+   * @param pathPredicate
+   *          the path predicate to match
+   * @param attsPredicate
+   *          the attributes predicate
+   * @param visitFirst
+   *          {@code null} or a list of paths to visit <em>before</em>
+   *          walking through the {@link PathUtils#getPath() PATH}
+   * @param logger
+   *          the logger to use, or {@code null} for default
+   * @param key
+   *          the cache key
+   * @return the result
+   */
+  final Path _find(final IPredicate<Path> pathPredicate,
+      final IPredicate<BasicFileAttributes> attsPredicate,
+      final Path[] visitFirst, final Logger logger, final String key) {
+    final String[] roots;
+    final long[] stamps;
+    final __Entry entry;
+    final Path result;
+
+    roots = _PathLookupCache.__getRoots(visitFirst);
+    stamps = _PathLookupCache.__getStamps(roots);
+
+    synchronized (this) {
+      if (!(this.m_loaded)) {
+        this.m_loaded = true;
+        this.__loadIndex();
+      }
+      entry = this.m_entries.get(key);
+    }
+
+    if ((entry != null) && Arrays.equals(entry.m_roots, roots)
+        && Arrays.equals(entry.m_stamps, stamps)) {
+      result = entry.m_result;
+      if ((result == null) || //
+          (_PathLookupCache.__isInside(result, roots) && //
+              PathUtils._matches(result, pathPredicate, attsPredicate))) {
+        synchronized (this) {
+          if (!(this.m_revalidating.add(key))) {
+            return result;
+          }
+        }
+        new __Revalidator(pathPredicate, attsPredicate, visitFirst,
+            logger, key).start();
+        return result;
+      }
+    }
+
+    return this.__lookup(pathPredicate, attsPredicate, visitFirst, logger,
+        key, roots, stamps);
+  }
+
+  /**
+   * Perform a look-up and store its result in the cache.
+   *
+   * @param pathPredicate
+   *          the path predicate to match
+   * @param attsPredicate
+   *          the attributes predicate
+   * @param visitFirst
+   *          {@code null} or a list of paths to visit <em>before</em>
+   *          walking through the {@link PathUtils#getPath() PATH}
+   * @param logger
+   *          the logger to use, or {@code null} for default
+   * @param key
+   *          the cache key
+   * @param roots
+   *          the searched directories
+   * @param stamps
+   *          the last modification times of the searched directories,
+   *          obtained <em>before</em> the look-up
+   * @return the result
+   */
+  private final Path __lookup(final IPredicate<Path> pathPredicate,
+      final IPredicate<BasicFileAttributes> attsPredicate,
+      final Path[] visitFirst, final Logger logger, final String key,
+      final String[] roots, final long[] stamps) {
+    final Path result;
+    final __Entry old;
+    Logger log;
+
+    result = PathUtils._findFirstInPath(pathPredicate, attsPredicate,
+        visitFirst, logger);
+
+    synchronized (this) {
+      old = this.m_entries.put(key, new __Entry(roots, stamps, result));
+      if ((old != null) && Arrays.equals(old.m_roots, roots)
+          && Arrays.equals(old.m_stamps, stamps)
+          && ((result == null) ? (old.m_result == null)
+              : result.equals(old.m_result))) {
+        return result;
+      }
+
+      if (this.m_index != null) {
+        try {
+          this.__storeIndex();
+        } catch (final Throwable error) {
+          log = ((logger != null) ? logger
+              : Configuration.getGlobalLogger());
+          if ((log != null) && (log.isLoggable(Level.FINE))) {
+            log.log(Level.FINE, //
+                "Could not store the PATH look-up cache in file '" //$NON-NLS-1$
+                    + this.m_index + '\'', error);
+          }
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /** load the index from the index file */
+  private final void __loadIndex() {
+    final LinkedHashMap<String, __Entry> entries;
+    String key, resultString;
+    String[] roots;
+    long[] stamps;
+    int count, size;
+
+    if ((this.m_index == null) || (!(Files.isRegularFile(this.m_index)))
+        || (!(_PathLookupCache.__isTrusted(this.m_index)))) {
+      return;
+    }
+
+    entries = new LinkedHashMap<>();
+    try (final DataInputStream input = new DataInputStream(
+        new BufferedInputStream(PathUtils.openInputStream(this.m_index)))) {
+      if ((input.readInt() != _PathLookupCache.INDEX_MAGIC)
+          || (input.readInt() != _PathLookupCache.INDEX_VERSION)) {
+        return;
+      }
+      for (count = input.readInt(); (--count) >= 0;) {
+        key = input.readUTF();
+        resultString = (input.readBoolean() ? input.readUTF() : null);
+        size = input.readInt();
+        roots = new String[size];
+        stamps = new long[size];
+        for (int index = 0; index < size; index++) {
+          roots[index] = input.readUTF();
+          stamps[index] = input.readLong();
+        }
+        entries.put(key, new __Entry(roots, stamps,
+            ((resultString != null) ? PathUtils.normalize(resultString)
+                : null)));
+      }
+    } catch (final Throwable error) {
+      // a broken index is the same as no index: all look-ups will be
+      // done again
+      return;
+    }
+
+    this.m_entries.putAll(entries);
+  }
+
+  /**
+   * Store the index into the index file
+   *
+   * @throws Throwable
+   *           if i/o fails
+   */
+  private final void __storeIndex() throws Throwable {
+    final Path temp;
+    __Entry entry;
+
+    temp = this.m_index.resolveSibling(//
+        this.m_index.getFileName().toString() + '.'
+            + Thread.currentThread().getId() + ".tmp"); //$NON-NLS-1$
+    try (final DataOutputStream output = new DataOutputStream(
+        new BufferedOutputStream(PathUtils.openOutputStream(temp)))) {
+      output.writeInt(_PathLookupCache.INDEX_MAGIC);
+      output.writeInt(_PathLookupCache.INDEX_VERSION);
+      output.writeInt(this.m_entries.size());
+      for (final Map.Entry<String, __Entry> mapEntry : this.m_entries
+          .entrySet()) {
+        entry = mapEntry.getValue();
+        output.writeUTF(mapEntry.getKey());
+        output.writeBoolean(entry.m_result != null);
+        if (entry.m_result != null) {
+          output.writeUTF(entry.m_result.toString());
+        }
+        output.writeInt(entry.m_roots.length);
+        for (int index = 0; index < entry.m_roots.length; index++) {
+          output.writeUTF(entry.m_roots[index]);
+          output.writeLong(entry.m_stamps[index]);
+        }
+      }
+    }
+
+    try {
+      Files.move(temp, this.m_index, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final AtomicMoveNotSupportedException notAtomic) {
+      Files.move(temp, this.m_index, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /** a cached result */
+  private static final class __Entry {
+
+    /** the searched directories */
+    final String[] m_roots;
+
+    /** the last modification times of the searched directories */
+    final long[] m_stamps;
+
+    /** the result, or {@code null} if nothing was found */
+    final Path m_result;
+
+    /**
+     * create
+     *
+     * @param roots
+     *          the searched directories
+     * @param stamps
+     *          the last modification times of the searched directories
+     * @param result
+     *          the result, or {@code null} if nothing was found
+     */
+    __Entry(final String[] roots, final long[] stamps, final Path result) {
+      super();
+      this.m_roots = roots;
+      this.m_stamps = stamps;
+      this.m_result = result;
+    }
+  }
+
+  /** the map of cached results, which drops the least recently used */
+  private static final class __Entries
+      extends LinkedHashMap<String, __Entry> {
+
+    /** the serial version uid */
+    private static final long serialVersionUID = 1L;
+
+    /** create */
+    __Entries() {
+      super(16, 0.75f, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean removeEldestEntry(
+        final Map.Entry<String, __Entry> eldest) {
+      return (this.size() > _PathLookupCache.MAX_ENTRIES);
+    }
+  }
+
+  /** the thread repeating a look-up in the background */
+  private final class __Revalidator extends Thread {
+
+    /** the path predicate */
+    private final IPredicate<Path> m_pathPredicate;
+
+    /** the attributes predicate */
+    private final IPredicate<BasicFileAttributes> m_attsPredicate;
+
+    /** the paths to visit first */
+    private final Path[] m_visitFirst;
+
+    /** the logger */
+    private final Logger m_logger;
+
+    /** the cache key */
+    private final String m_key;
+
+    /**
+     * create
+     *
+     * @param pathPredicate
+     *          the path predicate to match
+     * @param attsPredicate
+     *          the attributes predicate
+     * @param visitFirst
+     *          the paths to visit first
+     * @param logger
+     *          the logger
+     * @param key
+     *          the cache key
+     */
+    __Revalidator(final IPredicate<Path> pathPredicate,
+        final IPredicate<BasicFileAttributes> attsPredicate,
+        final Path[] visitFirst, final Logger logger, final String key) {
+      super("PATH-Lookup-Revalidation"); //$NON-NLS-1$
+      this.m_pathPredicate = pathPredicate;
+      this.m_attsPredicate = attsPredicate;
+      this.m_visitFirst = visitFirst;
+      this.m_logger = logger;
+      this.m_key = key;
+      this.setDaemon(true);
+      this.setPriority(Thread.MIN_PRIORITY);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      final String[] roots;
+
+      try {
+        roots = _PathLookupCache.__getRoots(this.m_visitFirst);
+        _PathLookupCache.this.__lookup(this.m_pathPredicate,
+            this.m_attsPredicate, this.m_visitFirst, this.m_logger,
+            this.m_key, roots, _PathLookupCache.__getStamps(roots));
+      } finally {
+        synchronized (_PathLookupCache.this) {
+          _PathLookupCache.this.m_revalidating.remove(this.m_key);
+        }
+      }
+    }
+  }
+
+  /** the loader for the globally shared cache */
+  private static final class __CacheLoader {
+
+    /** the globally shared cache */
+    static final _PathLookupCache INSTANCE;
+
+    static {
+      Path index, home;
+
+      index = null;
+      try {
+        home = PathUtils.getUserHomeDir();
+        if (home != null) {
+          index = home.resolve(".optimizationBenchmarking")//$NON-NLS-1$
+              .resolve("pathCache.idx"); //$NON-NLS-1$
+        }
+      } catch (final Throwable error) {
+        index = null;
+      }
+
+      try {
+        index = Configuration.getRoot().getPath(
+            PathUtils.PARAM_PATH_CACHE, index);
+      } catch (final Throwable error) {
+        // keep the default
+      }
+
+      INSTANCE = new _PathLookupCache(index);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package org.optimizationBenchmarking.utils.io.paths;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.concurrent.TimeUnit;
+
+/** The recorded state of a file in a {@link TreeChangeDetector}. */
+final class _TreeEntry {
+
+  /** the path to the file */
+  final Path m_path;
+
+  /** the size of the file */
+  final long m_size;
+
+  /** the last modification time of the file, in nanoseconds */
+  final long m_time;
+
+  /**
+   * the digest of the file's contents, or {@code null} if it could not be
+   * computed
+   */
+  byte[] m_digest;
+
+  /**
+   * create
+   *
+   * @param path
+   *          the path to the file
+   * @param size
+   *          the size of the file
+   * @param time
+   *          the last modification time of the file, in nanoseconds
+   * @param digest
+   *          the digest
+   */
+  _TreeEntry(final Path path, final long size, final long time,
+      final byte[] digest) {
+    super();
+    this.m_path = path;
+    this.m_size = size;
+    this.m_time = time;
+    this.m_digest = digest;
+  }
+
+  /**
+   * create
+   *
+   * @param path
+   *          the path to the file
+   * @param attributes
+   *          the attributes of the file
+   */
+  _TreeEntry(final Path path, final BasicFileAttributes attributes) {
+    this(path, attributes.size(),
+        attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS), null);
+  }
+
+  /**
+   * Do the size and modification time of this entry equal the given
+   * attributes? This does not depend on whether the digest could be
+   * computed: A file which cannot be read is thus only reported as
+   * modified once, not on every check.
+   *
+   * @param attributes
+   *          the attributes
+   * @return {@code true} if the file's meta data did not change,
+   *         {@code false} otherwise
+   */
+  final boolean _hasSameMetaData(final BasicFileAttributes attributes) {
+    return ((this.m_size == attributes.size())
+        && (this.m_time == attributes.lastModifiedTime()
+            .to(TimeUnit.NANOSECONDS)));
+  }
+
+  /**
+   * Compute the digest of the file's contents. If the file cannot be
+   * read, the digest will be {@code null}.
+   *
+   * @param digest
+   *          the message digest to use
+   * @param buffer
+   *          the buffer to use
+   */
+  final void _computeDigest(final MessageDigest digest,
+      final ByteBuffer buffer) {
+    digest.reset();
+    try (final SeekableByteChannel channel = PathUtils
+        .openInputChannel(this.m_path)) {
+      for (;;) {
+        buffer.clear();
+        if (channel.read(buffer) < 0) {
+          break;
+        }
+        digest.update(buffer.array(), buffer.arrayOffset(),
+            buffer.position());
+      }
+      this.m_digest = digest.digest();
+    } catch (final Throwable error) {
+      this.m_digest = null;
+    }
+  }
+}
@@ -4,11 +4,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.optimizationBenchmarking.utils.collections.lists.ArrayListView;
 import org.optimizationBenchmarking.utils.config.Configuration;
@@ -263,7 +267,11 @@ public class FileInputTool<S> extends IOTool<S> implements
   }
 
   /**
-   * Load an archive
+   * Load an archive from a stream. If this tool can process raw streams,
+   * the archive is read in place, i.e., its entries are fed to
+   * {@link #stream(IOJob, Object, InputStream, StreamEncoding)} one by one
+   * while the archive is decompressed. Otherwise, the archive is
+   * extracted to a temporary folder first.
    *
    * @param job
    *          the job where logging info can be written
@@ -281,6 +289,98 @@ public class FileInputTool<S> extends IOTool<S> implements
   private final void __loadArchive(final IOJob job, final S data,
       final InputStream stream, final StreamEncoding<?, ?> encoding,
       final EArchiveType type) throws Throwable {
+    if (this._canUseRawStreams()) {
+      this.__streamArchive(job, data, stream, encoding, type);
+    } else {
+      this.__extractArchive(job, data, stream, encoding, type);
+    }
+  }
+
+  /**
+   * Read an archive in place, without extracting it.
+   *
+   * @param job
+   *          the job where logging info can be written
+   * @param data
+   *          the data to be read
+   * @param stream
+   *          the stream
+   * @param encoding
+   *          the encoding
+   * @param type
+   *          the archive type
+   * @throws Throwable
+   *           if it must
+   */
+  private final void __streamArchive(final IOJob job, final S data,
+      final InputStream stream, final StreamEncoding<?, ?> encoding,
+      final EArchiveType type) throws Throwable {
+    final _ArchiveStreamWalker<S> walker;
+    final Logger logger;
+    ZipEntry entry;
+
+    logger = job.getLogger();
+    if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      logger.log(IOTool.FINE_LOG_LEVEL,//
+          (("Begin reading " + type.getName() + //$NON-NLS-1$
+              " in place.")));//$NON-NLS-1$
+    }
+
+    walker = new _ArchiveStreamWalker<>(job, data, encoding, this);
+    walker._begin();
+    try {
+      if (type == EArchiveType.ZIP) {
+        try (final ZipInputStream zis = new ZipInputStream(stream)) {
+          while ((entry = zis.getNextEntry()) != null) {
+            try {
+              walker._entry(entry.getName(), entry.getTime(),
+                  entry.getSize(), entry.isDirectory(), zis);
+            } finally {
+              zis.closeEntry();
+            }
+          }
+        }
+      } else {
+        // archives without directory structure hold a single file
+        try (final InputStream input = type.decompressStream(stream,
+            ((job instanceof _InputJob) && ((_InputJob) job).m_parallel))) {
+          walker._entry(this.getArchiveFallbackFileName(), -1L, -1L,
+              false, input);
+        }
+      }
+    } finally {
+      walker._end();
+    }
+
+    if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      logger.log(IOTool.FINE_LOG_LEVEL,//
+          (("Finished reading " + type.getName() + //$NON-NLS-1$
+              " in place.")));//$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Load an archive by extracting it to a temporary folder. This is only
+   * necessary if the tool cannot process raw streams and the archive is
+   * not a file which can be {@linkplain #__mountArchive(IOJob, Object,
+   * Path, StreamEncoding) mounted}.
+   *
+   * @param job
+   *          the job where logging info can be written
+   * @param data
+   *          the data to be read
+   * @param stream
+   *          the stream
+   * @param encoding
+   *          the encoding
+   * @param type
+   *          the archive type
+   * @throws Throwable
+   *           if it must
+   */
+  private final void __extractArchive(final IOJob job, final S data,
+      final InputStream stream, final StreamEncoding<?, ?> encoding,
+      final EArchiveType type) throws Throwable {
     final Path path;
     final Logger logger;
 
@@ -343,6 +443,10 @@ public class FileInputTool<S> extends IOTool<S> implements
           logger.log(IOTool.DEFAULT_LOG_LEVEL,//
               (("Decompressing path '" + path) + '\'')); //$NON-NLS-1$
         }
+        if ((archiveType == EArchiveType.ZIP)
+            && this.__mountArchive(job, data, path, encoding)) {
+          return;
+        }
         try (final InputStream stream = PathUtils.openInputStream(path)) {
           this.__loadArchive(job, data, stream, encoding, archiveType);
         }
@@ -354,6 +458,61 @@ public class FileInputTool<S> extends IOTool<S> implements
     }
   }
 
+  /**
+   * Try to mount a ZIP archive file as a file system and load its
+   * contents via the normal {@linkplain #path(IOJob, Object, Path,
+   * BasicFileAttributes, StreamEncoding) path handling}. This reads the
+   * archive in place, with random access, so that neither temporary files
+   * nor support for raw streams are needed.
+   *
+   * @param job
+   *          the job where logging info can be written
+   * @param data
+   *          the data to be read
+   * @param path
+   *          the path to the archive
+   * @param encoding
+   *          the encoding
+   * @return {@code true} if the archive was mounted and loaded,
+   *         {@code false} if it could not be mounted
+   * @throws Throwable
+   *           if it must
+   */
+  private final boolean __mountArchive(final IOJob job, final S data,
+      final Path path, final StreamEncoding<?, ?> encoding)
+      throws Throwable {
+    final Logger logger;
+    FileSystem fileSystem;
+
+    logger = job.getLogger();
+    try {
+      fileSystem = FileSystems.newFileSystem(path, ((ClassLoader) null));
+    } catch (final Throwable error) {
+      if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+        logger.log(IOTool.FINE_LOG_LEVEL,//
+            ((("Cannot mount archive '" + path) + //$NON-NLS-1$
+                "', will read it as stream.")), //$NON-NLS-1$
+            error);
+      }
+      return false;
+    }
+
+    try {
+      if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+        logger.log(IOTool.FINE_LOG_LEVEL,//
+            ((("Mounted archive '" + path) + '\'') + '.'));//$NON-NLS-1$
+      }
+      for (final Path root : fileSystem.getRootDirectories()) {
+        this._path(job, data, root,
+            Files.readAttributes(root, BasicFileAttributes.class),
+            encoding, null);
+      }
+    } finally {
+      fileSystem.close();
+    }
+    return true;
+  }
+
   /**
    * Handle a resource
    *
@@ -641,6 +800,114 @@ public class FileInputTool<S> extends IOTool<S> implements
     //
   }
 
+  /**
+   * Check whether the data destination can safely be accessed by several
+   * threads at once. If directories are loaded in parallel (see
+   * {@link org.optimizationBenchmarking.utils.io.structured.spec.IFileInputJobBuilder#setParallel(boolean)})
+   * and this method returns {@code true}, all methods of this tool will
+   * be invoked concurrently on {@code data}.
+   *
+   * @param job
+   *          the job
+   * @param data
+   *          the data
+   * @return {@code true} if {@code data} is thread-safe, {@code false}
+   *         otherwise
+   */
+  protected boolean isDestinationThreadSafe(final IOJob job, final S data) {
+    return false;
+  }
+
+  /**
+   * Create a partial data destination to be filled by a single thread if
+   * directories are loaded in parallel and the real data destination is
+   * not {@linkplain #isDestinationThreadSafe(IOJob, Object) thread-safe}.
+   * Each thread gets its own partial destination, on which it invokes
+   * {@link #enterDirectory(IOJob, Object, Path, BasicFileAttributes)},
+   * {@link #isFileInDirectoryLoadable(IOJob, Object, Path, BasicFileAttributes)},
+   * {@link #file(IOJob, Object, Path, BasicFileAttributes, StreamEncoding)},
+   * and {@link #leaveDirectory(IOJob, Object, Path)}. Since the elements
+   * of a directory are distributed over the threads, a tool should not
+   * rely on seeing the directories of a partial destination properly
+   * nested. If this method returns {@code null} (the default), parallel
+   * loading is not supported and directories are walked sequentially.
+   *
+   * @param job
+   *          the job
+   * @param data
+   *          the real data destination
+   * @return the new partial destination, or {@code null} if not supported
+   * @throws Throwable
+   *           if it must
+   */
+  protected S createPartialDestination(final IOJob job, final S data)
+      throws Throwable {
+    return null;
+  }
+
+  /**
+   * Merge a partial data destination created by
+   * {@link #createPartialDestination(IOJob, Object)} into the real data
+   * destination. This method is called sequentially, in the thread
+   * executing the job, after all files of a directory have been loaded.
+   *
+   * @param job
+   *          the job
+   * @param data
+   *          the real data destination
+   * @param partial
+   *          the partial data destination
+   * @throws Throwable
+   *           if it must
+   */
+  protected void mergePartialDestination(final IOJob job, final S data,
+      final S partial) throws Throwable {
+    //
+  }
+
+  /**
+   * Walk a directory, either sequentially or, if requested and supported
+   * by the tool, in parallel.
+   *
+   * @param job
+   *          the job
+   * @param data
+   *          the data store
+   * @param path
+   *          the directory
+   * @param attributes
+   *          the attributes of the directory
+   * @param encoding
+   *          the encoding
+   * @param archiveType
+   *          the expected archive type
+   * @throws Throwable
+   *           if i/o fails
+   */
+  private final void __walk(final IOJob job, final S data,
+      final Path path, final BasicFileAttributes attributes,
+      final StreamEncoding<?, ?> encoding, final EArchiveType archiveType)
+      throws Throwable {
+    final S partial;
+
+    if ((job instanceof _InputJob) && (((_InputJob) job).m_parallel)) {
+      if (this.isDestinationThreadSafe(job, data)) {
+        new _ParallelFileWalker<>(job, data, encoding, archiveType, this,
+            null)._walk(path, attributes);
+        return;
+      }
+      partial = this.createPartialDestination(job, data);
+      if (partial != null) {
+        new _ParallelFileWalker<>(job, data, encoding, archiveType, this,
+            partial)._walk(path, attributes);
+        return;
+      }
+    }
+
+    Files.walkFileTree(path, new _FileWalker<>(job, data, encoding,
+        archiveType, this));
+  }
+
   /** {@inheritDoc} */
   @Override
   final void _path(final IOJob job, final S data, final Path path,
@@ -665,8 +932,8 @@ public class FileInputTool<S> extends IOTool<S> implements
           this._file(job, data, path, attributes, encoding, archiveType);
         } else {
           if (attributes.isDirectory()) {
-            Files.walkFileTree(path, new _FileWalker<>(job, data,
-                encoding, archiveType, this));
+            this.__walk(job, data, path, attributes, encoding,
+                archiveType);
           }
         }
       }
@@ -705,8 +972,7 @@ public class FileInputTool<S> extends IOTool<S> implements
         this._file(job, data, path, attributes, encoding, null);
       } else {
         if (attributes.isDirectory()) {
-          Files.walkFileTree(path, new _FileWalker<>(job, data, encoding,
-              null, this));
+          this.__walk(job, data, path, attributes, encoding, null);
         }
       }
     } finally {
@@ -6,6 +6,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Map;
 import java.util.logging.Logger;
 
+import org.optimizationBenchmarking.utils.io.ArchiveOutput;
 import org.optimizationBenchmarking.utils.io.EArchiveType;
 import org.optimizationBenchmarking.utils.io.IFileType;
 import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
@@ -92,19 +93,50 @@ public class FileOutputTool<S> extends IOTool<S> implements
   void _stream(final IOJob job, final S data, final OutputStream stream,
       final StreamEncoding<?, ?> encoding, final EArchiveType archiveType)
       throws Throwable {
-    final Path path;
-
     if (archiveType != null) {
-      try (final TempDir temp = new TempDir()) {
-        path = temp.getPath();
-        this._pathNormalized(job, data, temp.getPath(), encoding, null);
-        archiveType.compressPathToStream(path, stream);
+      try (final ArchiveOutput archive = archiveType.openArchiveOutput(
+          stream, ((_OutputJob) job).m_parallel)) {
+        this.archive(job, data, archive, encoding);
       }
     } else {
       this._checkRawStreams();
     }
   }
 
+  /**
+   * Write the output directly into an archive. Each file is added via
+   * {@link ArchiveOutput#openEntry(String)} and its contents are
+   * compressed while they are written, so no temporary copy of the output
+   * is needed. By default, this method falls back to writing the output
+   * into a temporary directory via
+   * {@link #path(IOJob, Object, Path, BasicFileAttributes, StreamEncoding)}
+   * and then adding that directory to the archive. Tools that can produce
+   * their files one after the other should override it.
+   *
+   * @param job
+   *          the job
+   * @param data
+   *          the data to be written
+   * @param archive
+   *          the archive to write to, which must not be closed by this
+   *          method
+   * @param encoding
+   *          the encoding to use
+   * @throws Throwable
+   *           if i/o fails
+   */
+  protected void archive(final IOJob job, final S data,
+      final ArchiveOutput archive, final StreamEncoding<?, ?> encoding)
+      throws Throwable {
+    final Path tempDir;
+
+    try (final TempDir temp = new TempDir()) {
+      tempDir = temp.getPath();
+      this._pathNormalized(job, data, tempDir, encoding, null);
+      archive.addPath(tempDir, tempDir);
+    }
+  }
+
   /**
    * Get the default archive name
    *
@@ -120,7 +152,7 @@ public class FileOutputTool<S> extends IOTool<S> implements
       final BasicFileAttributes attributes,
       final StreamEncoding<?, ?> encoding, final EArchiveType archiveType)
       throws Throwable {
-    final Path file, tempDir;
+    final Path file;
     final _OutputJob outJob;
     final Object oldCur;
     final Logger logger;
@@ -147,12 +179,10 @@ public class FileOutputTool<S> extends IOTool<S> implements
           file = path;
         }
 
-        try (final OutputStream output = PathUtils.openOutputStream(path)) {
-          try (final TempDir temp = new TempDir()) {
-            tempDir = temp.getPath();
-            this.path(job, data, tempDir, attributes, encoding);
-            archiveType.compressPathToStream(tempDir, output);
-          }
+        try (final OutputStream output = PathUtils.openOutputStream(file);
+            final ArchiveOutput archive = archiveType.openArchiveOutput(
+                output, ((_OutputJob) job).m_parallel)) {
+          this.archive(job, data, archive, encoding);
         }
 
         outJob = ((_OutputJob) job);
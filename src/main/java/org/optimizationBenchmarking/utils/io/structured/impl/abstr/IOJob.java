@@ -97,7 +97,23 @@ public class IOJob extends ToolJob {
    */
   public final void handleError(final Throwable throwable,
       final String message) throws IOException {
-    final Object object;
+    this._handleError(throwable, message, this.m_current);
+  }
+
+  /**
+   * Handle an error which occurred at a given location
+   *
+   * @param throwable
+   *          the error
+   * @param message
+   *          the message
+   * @param object
+   *          the current location, or {@code null} if unknown
+   * @throws IOException
+   *           if something fails
+   */
+  final void _handleError(final Throwable throwable, final String message,
+      final Object object) throws IOException {
     String msg;
 
     msg = this._id();
@@ -108,7 +124,7 @@ public class IOJob extends ToolJob {
       msg += message;
     }
 
-    if ((object = this.m_current) != null) {
+    if (object != null) {
       msg += ((((" Possible source of error: '" + //$NON-NLS-1$
           object) + "' of class ") + //$NON-NLS-1$
           TextUtils.className(object)) + //
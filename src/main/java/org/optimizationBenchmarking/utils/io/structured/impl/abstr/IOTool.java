@@ -161,6 +161,16 @@ public abstract class IOTool<D> extends Tool implements IIOTool {
             " cannot deal with raw (uncompressed) streams, only with files and folders."); //$NON-NLS-1$
   }
 
+  /**
+   * Can this tool deal with raw streams?
+   *
+   * @return {@code true} if {@link #_checkRawStreams()} does not throw an
+   *         exception, {@code false} otherwise
+   */
+  boolean _canUseRawStreams() {
+    return false;
+  }
+
   /**
    * handle a location
    *
@@ -37,6 +37,12 @@ public class StreamInputTool<S> extends FileInputTool<S> implements
     // nothing to do: we can process raw streams
   }
 
+  /** {@inheritDoc} */
+  @Override
+  final boolean _canUseRawStreams() {
+    return true;
+  }
+
   /**
    * Handle a stream
    *
@@ -164,7 +164,8 @@ public class StreamOutputTool<S> extends FileOutputTool<S> implements
             + "' as the data (and only) file in the compressed stream.")); //$NON-NLS-1$
       }
       try (final OutputStream output = archiveType.compressStream(stream,
-          this.getArchiveFallbackFileName())) {
+          this.getArchiveFallbackFileName(),
+          ((_OutputJob) job).m_parallel)) {
         this.__stream(job, data, output, encoding);
       }
     } else {
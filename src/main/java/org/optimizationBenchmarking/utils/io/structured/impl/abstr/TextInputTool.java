@@ -4,14 +4,26 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.logging.Logger;
 
+import org.optimizationBenchmarking.utils.io.TextLineCursor;
 import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.encoding.TextEncoding;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
 import org.optimizationBenchmarking.utils.io.structured.spec.ITextInputJobBuilder;
 import org.optimizationBenchmarking.utils.io.structured.spec.ITextInputTool;
 
 /**
- * A tool for reading text input
+ * A tool for reading text input. Files with a known
+ * {@link org.optimizationBenchmarking.utils.io.encoding.TextEncoding text
+ * encoding} are decoded directly from a byte channel. Tools can either
+ * process the text via a {@link java.io.BufferedReader} by overriding
+ * {@link #reader(IOJob, Object, BufferedReader)} or line by line, without
+ * creating a string for each line, by overriding
+ * {@link #lines(IOJob, Object, TextLineCursor)}.
  *
  * @param <S>
  *          the destination type
@@ -111,8 +123,44 @@ public class TextInputTool<S> extends StreamInputTool<S> implements
     }
   }
 
+  /** {@inheritDoc} */
+  @Override
+  protected void file(final IOJob job, final S data, final Path path,
+      final BasicFileAttributes attributes,
+      final StreamEncoding<?, ?> encoding) throws Throwable {
+    final Logger logger;
+    final Object oldCur;
+
+    if (!(encoding instanceof TextEncoding)) {
+      super.file(job, data, path, attributes, encoding);
+      return;
+    }
+
+    oldCur = job.m_current;
+    try {
+      job.m_current = path;
+      logger = job.getLogger();
+      if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+        logger.log(IOTool.FINE_LOG_LEVEL,//
+            ("Using text encoding " + //$NON-NLS-1$
+            encoding.name()));
+      }
+      try (final SeekableByteChannel channel = PathUtils
+          .openInputChannel(path)) {
+        try (final BufferedReader reader = ((TextEncoding) encoding)
+            .wrapInputChannel(channel)) {
+          this.reader(job, data, reader);
+        }
+      }
+    } finally {
+      job.m_current = oldCur;
+    }
+  }
+
   /**
-   * Handle a reader
+   * Handle a reader. By default, this method passes a
+   * {@link TextLineCursor} on the reader to
+   * {@link #lines(IOJob, Object, TextLineCursor)}.
    *
    * @param job
    *          the job where logging info can be written
@@ -125,6 +173,24 @@ public class TextInputTool<S> extends StreamInputTool<S> implements
    */
   protected void reader(final IOJob job, final S data,
       final BufferedReader reader) throws Throwable {
+    this.lines(job, data, new TextLineCursor(reader));
+  }
+
+  /**
+   * Handle the lines of a text. The cursor must not be closed, as the
+   * underlying reader is closed by the caller.
+   *
+   * @param job
+   *          the job where logging info can be written
+   * @param data
+   *          the data to be read
+   * @param cursor
+   *          the line cursor
+   * @throws Throwable
+   *           if it must
+   */
+  protected void lines(final IOJob job, final S data,
+      final TextLineCursor cursor) throws Throwable {
     //
   }
 
@@ -7,9 +7,11 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.logging.Logger;
 
+import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
 import org.optimizationBenchmarking.utils.io.structured.spec.IXMLInputJobBuilder;
 import org.optimizationBenchmarking.utils.io.structured.spec.IXMLInputTool;
 import org.optimizationBenchmarking.utils.text.TextUtils;
@@ -17,7 +19,10 @@ import org.xml.sax.InputSource;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
- * A tool for reading XML input
+ * A tool for reading XML input. Creating a SAX parser is expensive
+ * compared to parsing a small document, so the tool keeps the parsers it
+ * has created in a small pool and {@link javax.xml.parsers.SAXParser#reset()
+ * resets} and re-uses them for the next document.
  *
  * @param <S>
  *          the source type
@@ -28,12 +33,21 @@ public class XMLInputTool<S> extends TextInputTool<S>
   /** the xml version */
   protected static final String XML_VERSION = "1.0"; //$NON-NLS-1$
 
+  /** the maximum number of pooled parsers */
+  private static final int MAX_POOLED_PARSERS = 16;
+
   /** the SAX parser factory to use */
   private final SAXParserFactory m_spf;
 
   /** the cause why this tool cannot be used */
   private final Throwable m_cause;
 
+  /** the parsers which are currently not in use */
+  private final SAXParser[] m_parsers;
+
+  /** the number of pooled parsers */
+  private int m_parserCount;
+
   /** create */
   protected XMLInputTool() {
     super();
@@ -53,6 +67,7 @@ public class XMLInputTool<S> extends TextInputTool<S>
 
     this.m_cause = cause;
     this.m_spf = spf;
+    this.m_parsers = new SAXParser[XMLInputTool.MAX_POOLED_PARSERS];
   }
 
   /**
@@ -68,6 +83,54 @@ public class XMLInputTool<S> extends TextInputTool<S>
     spf.setNamespaceAware(true);
   }
 
+  /**
+   * Obtain a SAX parser, either from the pool or by creating a new one.
+   *
+   * @return the parser
+   * @throws Throwable
+   *           if the parser cannot be created
+   */
+  private final SAXParser __allocateParser() throws Throwable {
+    final SAXParser[] parsers;
+    final SAXParser parser;
+
+    parsers = this.m_parsers;
+    synchronized (parsers) {
+      if (this.m_parserCount > 0) {
+        parser = parsers[--this.m_parserCount];
+        parsers[this.m_parserCount] = null;
+        return parser;
+      }
+    }
+
+    return this.m_spf.newSAXParser();
+  }
+
+  /**
+   * Reset a parser which has successfully parsed a document and return it
+   * to the pool. If the parser cannot be reset or the pool is full, it is
+   * left to the garbage collector.
+   *
+   * @param parser
+   *          the parser, which must not be used by the caller anymore
+   */
+  private final void __disposeParser(final SAXParser parser) {
+    final SAXParser[] parsers;
+
+    try {
+      parser.reset();
+    } catch (final Throwable cannotReset) {
+      return;
+    }
+
+    parsers = this.m_parsers;
+    synchronized (parsers) {
+      if (this.m_parserCount < parsers.length) {
+        parsers[this.m_parserCount++] = parser;
+      }
+    }
+  }
+
   /**
    * Wrap the loader context into an appropriate default handler
    *
@@ -122,8 +185,11 @@ public class XMLInputTool<S> extends TextInputTool<S>
    */
   private final void __xml(final IOJob job, final S data,
       final InputSource source) throws Throwable {
-    this.m_spf.newSAXParser().parse(source,
-        this.wrapDestination(data, job));
+    final SAXParser parser;
+
+    parser = this.__allocateParser();
+    parser.parse(source, this.wrapDestination(data, job));
+    this.__disposeParser(parser);
   }
 
   /** {@inheritDoc} */
@@ -138,8 +204,11 @@ public class XMLInputTool<S> extends TextInputTool<S>
   protected void stream(final IOJob job, final S data,
       final InputStream stream, final StreamEncoding<?, ?> encoding)
           throws Throwable {
-    this.m_spf.newSAXParser().parse(stream,
-        this.wrapDestination(data, job));
+    final SAXParser parser;
+
+    parser = this.__allocateParser();
+    parser.parse(stream, this.wrapDestination(data, job));
+    this.__disposeParser(parser);
   }
 
   /** {@inheritDoc} */
@@ -148,6 +217,7 @@ public class XMLInputTool<S> extends TextInputTool<S>
   protected void file(final IOJob job, final S data, final Path path,
       final BasicFileAttributes attributes,
       final StreamEncoding<?, ?> encoding) throws Throwable {
+    final SAXParser parser;
     File file;
 
     try {
@@ -157,10 +227,14 @@ public class XMLInputTool<S> extends TextInputTool<S>
     }
 
     if (file != null) {
-      this.m_spf.newSAXParser().parse(file,
-          this.wrapDestination(data, job));
+      parser = this.__allocateParser();
+      parser.parse(file, this.wrapDestination(data, job));
+      this.__disposeParser(parser);
     } else {
-      super.file(job, data, path, attributes, encoding);
+      // let the parser detect the encoding from the XML declaration
+      try (final InputStream stream = PathUtils.openInputStream(path)) {
+        this.stream(job, data, stream, encoding);
+      }
     }
   }
 
@@ -0,0 +1,92 @@
+package org.optimizationBenchmarking.utils.io.structured.impl.abstr;
+
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * The attributes of an entry of an archive which is read as a stream,
+ * i.e., which is never extracted to the file system. Sizes which are not
+ * known before the entry is read are reported as {@code -1}.
+ */
+final class _ArchiveEntryAttributes implements BasicFileAttributes {
+
+  /** the modification time */
+  private final FileTime m_time;
+  /** the size */
+  private final long m_size;
+  /** is this a directory? */
+  private final boolean m_isDirectory;
+
+  /**
+   * create
+   *
+   * @param time
+   *          the modification time in milliseconds, or {@code -1} if
+   *          unknown
+   * @param size
+   *          the size, or {@code -1} if unknown
+   * @param isDirectory
+   *          is this a directory?
+   */
+  _ArchiveEntryAttributes(final long time, final long size,
+      final boolean isDirectory) {
+    super();
+    this.m_time = FileTime.fromMillis(Math.max(0L, time));
+    this.m_size = ((size >= 0L) ? size : (-1L));
+    this.m_isDirectory = isDirectory;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final FileTime lastModifiedTime() {
+    return this.m_time;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final FileTime lastAccessTime() {
+    return this.m_time;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final FileTime creationTime() {
+    return this.m_time;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isRegularFile() {
+    return (!(this.m_isDirectory));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isDirectory() {
+    return this.m_isDirectory;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isSymbolicLink() {
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isOther() {
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long size() {
+    return this.m_size;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Object fileKey() {
+    return null;
+  }
+}
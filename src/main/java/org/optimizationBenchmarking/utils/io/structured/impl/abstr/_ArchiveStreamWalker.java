@@ -0,0 +1,363 @@
+package org.optimizationBenchmarking.utils.io.structured.impl.abstr;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+
+/**
+ * A walker feeding the entries of an archive which is read as a stream
+ * directly to a {@link FileInputTool}, without extracting them to the
+ * file system first. It mimics the behavior of {@link _FileWalker} as
+ * closely as possible: The entries are identified by relative paths
+ * corresponding to their names inside the archive, directories are
+ * {@linkplain FileInputTool#enterDirectory(IOJob, Object, Path, BasicFileAttributes)
+ * entered} and
+ * {@linkplain FileInputTool#leaveDirectory(IOJob, Object, Path) left} as
+ * the entries move through them, and each file is only loaded if it is
+ * {@linkplain FileInputTool#isFileInDirectoryLoadable(IOJob, Object, Path, BasicFileAttributes)
+ * loadable}. The contents of the files are passed to the tool as streams.
+ *
+ * @param <L>
+ *          the loader type
+ */
+final class _ArchiveStreamWalker<L> {
+
+  /** the context */
+  private final L m_data;
+  /** the logger */
+  private final IOJob m_log;
+  /** the default encoding */
+  private final StreamEncoding<?, ?> m_encoding;
+  /** the driver to delegate to */
+  private final FileInputTool<L> m_tool;
+  /** the path representing the root of the archive */
+  private final Path m_root;
+  /** the directories currently entered, excluding the root */
+  private final ArrayList<Path> m_entered;
+  /** has the root directory been entered? */
+  private boolean m_rootEntered;
+  /** the directory whose contents are currently skipped, or {@code null} */
+  private Path m_skipped;
+
+  /**
+   * create
+   *
+   * @param data
+   *          the load context
+   * @param log
+   *          the logger
+   * @param encoding
+   *          the encoding
+   * @param tool
+   *          the tool
+   */
+  _ArchiveStreamWalker(final IOJob log, final L data,
+      final StreamEncoding<?, ?> encoding, final FileInputTool<L> tool) {
+    super();
+    this.m_data = data;
+    this.m_log = log;
+    this.m_encoding = encoding;
+    this.m_tool = tool;
+    this.m_root = Paths.get(""); //$NON-NLS-1$
+    this.m_entered = new ArrayList<>();
+  }
+
+  /**
+   * Begin walking the archive by entering its root directory.
+   *
+   * @throws IOException
+   *           if the error handling of the job demands it
+   */
+  final void _begin() throws IOException {
+    this.m_rootEntered = this.__enter(this.m_root,
+        new _ArchiveEntryAttributes(-1L, 0L, true));
+  }
+
+  /**
+   * Finish walking the archive by leaving all directories which have been
+   * entered.
+   *
+   * @throws IOException
+   *           if the error handling of the job demands it
+   */
+  final void _end() throws IOException {
+    int index;
+
+    for (index = this.m_entered.size(); (--index) >= 0;) {
+      this.__leave(this.m_entered.remove(index));
+    }
+    this.m_skipped = null;
+    if (this.m_rootEntered) {
+      this.m_rootEntered = false;
+      this.__leave(this.m_root);
+    }
+  }
+
+  /**
+   * Process an entry of the archive.
+   *
+   * @param name
+   *          the name of the entry inside the archive
+   * @param time
+   *          the modification time in milliseconds, or {@code -1} if
+   *          unknown
+   * @param size
+   *          the size, or {@code -1} if unknown
+   * @param isDirectory
+   *          is the entry a directory?
+   * @param stream
+   *          the stream providing the contents of the entry, which will
+   *          not be closed
+   * @throws IOException
+   *           if the error handling of the job demands it
+   */
+  final void _entry(final String name, final long time, final long size,
+      final boolean isDirectory, final InputStream stream)
+      throws IOException {
+    final Path path;
+    final BasicFileAttributes attrs;
+    final Logger logger;
+    final Object oldCur;
+    boolean load;
+
+    path = _ArchiveStreamWalker.__path(name);
+    if (path == null) {
+      return;
+    }
+
+    if (isDirectory) {
+      this.__moveTo(path, time);
+      return;
+    }
+
+    logger = this.m_log.getLogger();
+    attrs = new _ArchiveEntryAttributes(time, size, false);
+    if (this.__moveTo(path.getParent(), time)) {
+      try {
+        load = this.m_tool.isFileInDirectoryLoadable(this.m_log,
+            this.m_data, path, attrs);
+      } catch (final Throwable throwable) {
+        load = false;
+        this.m_log.handleError(throwable,
+            (("Error when checking whether archive entry '" + path) + //$NON-NLS-1$
+                "' is loadable.")); //$NON-NLS-1$
+      }
+    } else {
+      load = false;
+    }
+
+    if (!load) {
+      if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
+        logger.log(IOTool.FINER_LOG_LEVEL,//
+            ((("Skipping archive entry '" + //$NON-NLS-1$
+                path) + '\'') + '.'));
+      }
+      return;
+    }
+
+    if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
+      logger.log(IOTool.FINER_LOG_LEVEL,//
+          ((("Begin loading archive entry '" + //$NON-NLS-1$
+              path) + '\'') + '.'));
+    }
+
+    oldCur = this.m_log.m_current;
+    try {
+      this.m_log.m_current = path;
+      this.m_tool._stream(this.m_log, this.m_data,
+          new __EntryInputStream(stream), this.m_encoding, null);
+    } catch (final Throwable throwable) {
+      this.m_log.handleError(throwable,
+          ((("Error when loading archive entry '" + path) + //$NON-NLS-1$
+              '\'') + '.'));
+    } finally {
+      this.m_log.m_current = oldCur;
+    }
+
+    if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
+      logger.log(IOTool.FINER_LOG_LEVEL,//
+          ((("Finished loading archive entry '" + //$NON-NLS-1$
+              path) + '\'') + '.'));
+    }
+  }
+
+  /**
+   * Translate the name of an archive entry to a relative path
+   *
+   * @param name
+   *          the name
+   * @return the path, or {@code null} if the name is empty
+   */
+  private static final Path __path(final String name) {
+    String use;
+    int start;
+
+    if (name == null) {
+      return null;
+    }
+    use = name.replace('\\', '/');
+    for (start = 0; (start < use.length())
+        && (use.charAt(start) == '/'); start++) {
+      // skip leading slashes
+    }
+    use = use.substring(start);
+    if (use.isEmpty()) {
+      return null;
+    }
+    return Paths.get(use).normalize();
+  }
+
+  /**
+   * Make sure that exactly the given directory and its parents are
+   * entered.
+   *
+   * @param dir
+   *          the directory, or {@code null} for the root directory
+   * @param time
+   *          the modification time to report for newly entered
+   *          directories
+   * @return {@code true} if the contents of the directory should be
+   *         processed, {@code false} if they should be skipped
+   * @throws IOException
+   *           if the error handling of the job demands it
+   */
+  private final boolean __moveTo(final Path dir, final long time)
+      throws IOException {
+    final int depth;
+    Path current;
+    int index;
+
+    // leave all directories which do not contain dir
+    for (index = this.m_entered.size(); (--index) >= 0;) {
+      current = this.m_entered.get(index);
+      if ((dir != null) && dir.startsWith(current)) {
+        break;
+      }
+      this.m_entered.remove(index);
+      this.__leave(current);
+    }
+
+    if (this.m_skipped != null) {
+      if ((dir != null) && dir.startsWith(this.m_skipped)) {
+        return false;
+      }
+      this.m_skipped = null;
+    }
+
+    if (!(this.m_rootEntered)) {
+      return false;
+    }
+    if (dir == null) {
+      return true;
+    }
+
+    // enter all directories between the current one and dir
+    depth = dir.getNameCount();
+    for (index = (this.m_entered.isEmpty() ? 1
+        : (this.m_entered.get(this.m_entered.size() - 1).getNameCount()
+            + 1)); index <= depth; index++) {
+      current = dir.subpath(0, index);
+      if (!(this.__enter(current,
+          new _ArchiveEntryAttributes(time, 0L, true)))) {
+        this.m_skipped = current;
+        return false;
+      }
+      this.m_entered.add(current);
+    }
+    return true;
+  }
+
+  /**
+   * Enter a directory
+   *
+   * @param dir
+   *          the directory
+   * @param attrs
+   *          the attributes
+   * @return {@code true} if the directory was entered, {@code false} if
+   *         it should be skipped
+   * @throws IOException
+   *           if the error handling of the job demands it
+   */
+  private final boolean __enter(final Path dir,
+      final BasicFileAttributes attrs) throws IOException {
+    final Logger logger;
+    boolean enter;
+
+    try {
+      enter = this.m_tool.enterDirectory(this.m_log, this.m_data, dir,
+          attrs);
+    } catch (final Throwable throwable) {
+      enter = false;
+      this.m_log.handleError(throwable,
+          ((("Error when entering archive directory '" //$NON-NLS-1$
+              + dir) + '\'') + '.'));
+    }
+
+    logger = this.m_log.getLogger();
+    if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      logger.log(IOTool.FINE_LOG_LEVEL,//
+          (((enter ? "Now entering archive directory '" : //$NON-NLS-1$
+              "Skipping archive directory '") + //$NON-NLS-1$
+              dir + '\'') + '.'));
+    }
+    return enter;
+  }
+
+  /**
+   * Leave a directory
+   *
+   * @param dir
+   *          the directory
+   * @throws IOException
+   *           if the error handling of the job demands it
+   */
+  private final void __leave(final Path dir) throws IOException {
+    final Logger logger;
+
+    try {
+      this.m_tool.leaveDirectory(this.m_log, this.m_data, dir);
+    } catch (final Throwable throwable) {
+      this.m_log.handleError(throwable,
+          ((("Error when leaving archive directory '" //$NON-NLS-1$
+              + dir) + '\'') + '.'));
+    }
+
+    logger = this.m_log.getLogger();
+    if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      logger.log(IOTool.FINE_LOG_LEVEL,//
+          (("Now leaving archive directory '" + //$NON-NLS-1$
+              dir + '\'') + '.'));
+    }
+  }
+
+  /**
+   * The stream handed to the tool for an archive entry: Closing it does
+   * not close the archive stream.
+   */
+  private static final class __EntryInputStream extends FilterInputStream {
+
+    /**
+     * create
+     *
+     * @param in
+     *          the archive stream
+     */
+    __EntryInputStream(final InputStream in) {
+      super(in);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void close() {
+      // do not close the archive stream
+    }
+  }
+}
@@ -32,6 +32,9 @@ class _FileInputJobBuilder<DT, JBT extends _FileInputJobBuilder<DT, JBT>>
   /** the sources */
   ArrayList<_Location> m_sources;
 
+  /** should directories be loaded in parallel? */
+  boolean m_parallel;
+
   /**
    * create the job builder
    *
@@ -116,6 +119,14 @@ class _FileInputJobBuilder<DT, JBT extends _FileInputJobBuilder<DT, JBT>>
     return ((JBT) this);
   }
 
+  /** {@inheritDoc} */
+  @SuppressWarnings("unchecked")
+  @Override
+  public final JBT setParallel(final boolean parallel) {
+    this.m_parallel = parallel;
+    return ((JBT) this);
+  }
+
   /** {@inheritDoc} */
   @SuppressWarnings("unchecked")
   @Override
@@ -136,6 +147,22 @@ class _FileInputJobBuilder<DT, JBT extends _FileInputJobBuilder<DT, JBT>>
     return this.addPath(path, null, null);
   }
 
+  /** {@inheritDoc} */
+  @SuppressWarnings("unchecked")
+  @Override
+  public final JBT addPaths(final Iterable<? extends Path> paths,
+      final StreamEncoding<?, ?> encoding,
+      final EArchiveType archiveType) {
+    if (paths == null) {
+      throw new IllegalArgumentException(
+          "Source Paths cannot be null."); //$NON-NLS-1$
+    }
+    for (final Path path : paths) {
+      this.addPath(path, encoding, archiveType);
+    }
+    return ((JBT) this);
+  }
+
   /** {@inheritDoc} */
   @SuppressWarnings("unchecked")
   @Override
@@ -488,6 +515,6 @@ class _FileInputJobBuilder<DT, JBT extends _FileInputJobBuilder<DT, JBT>>
     this.m_sources = null;
 
     return new _InputJob(this.getLogger(), ((FileInputTool) (this.m_tool)),
-        this.m_dest, this.m_basePath, ar);
+        this.m_dest, this.m_basePath, ar, this.m_parallel);
   }
 }
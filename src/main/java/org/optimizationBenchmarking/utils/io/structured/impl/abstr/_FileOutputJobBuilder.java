@@ -32,6 +32,9 @@ class _FileOutputJobBuilder<DT, JBT extends _FileOutputJobBuilder<DT, JBT>>
   /** the file producer listener */
   private IFileProducerListener m_listener;
 
+  /** should archives be compressed in parallel? */
+  private boolean m_parallel;
+
   /**
    * create the job builder
    *
@@ -221,7 +224,7 @@ class _FileOutputJobBuilder<DT, JBT extends _FileOutputJobBuilder<DT, JBT>>
   public final IIOJob create() {
     return new _OutputJob(this.getLogger(),
         ((FileOutputTool) (this.m_tool)), this.m_basePath, this.m_source,
-        this.m_dest, this.m_listener);
+        this.m_dest, this.m_listener, this.m_parallel);
   }
 
   /**
@@ -267,6 +270,14 @@ class _FileOutputJobBuilder<DT, JBT extends _FileOutputJobBuilder<DT, JBT>>
     return this.setStream(stream, null, archiveType);
   }
 
+  /** {@inheritDoc} */
+  @SuppressWarnings("unchecked")
+  @Override
+  public final JBT setParallel(final boolean parallel) {
+    this.m_parallel = parallel;
+    return ((JBT) this);
+  }
+
   /** {@inheritDoc} */
   @SuppressWarnings("unchecked")
   @Override
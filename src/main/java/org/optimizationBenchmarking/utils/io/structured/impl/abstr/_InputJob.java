@@ -14,6 +14,9 @@ final class _InputJob extends _IOJob {
   /** the current source */
   private _Location m_currentSource;
 
+  /** should directories be loaded in parallel? */
+  final boolean m_parallel;
+
   /**
    * create the _IOJob
    *
@@ -27,9 +30,12 @@ final class _InputJob extends _IOJob {
    *          the source data
    * @param sources
    *          the sources
+   * @param parallel
+   *          should directories be loaded in parallel?
    */
   _InputJob(final Logger logger, final FileInputTool<?> tool,
-      final Object data, final Path basePath, final _Location[] sources) {
+      final Object data, final Path basePath, final _Location[] sources,
+      final boolean parallel) {
     super(logger, tool, basePath, data);
 
     _FileInputJobBuilder._validateDestination(data);
@@ -38,6 +44,7 @@ final class _InputJob extends _IOJob {
           "Source list must not be null or empty."); //$NON-NLS-1$
     }
     this.m_sources = sources;
+    this.m_parallel = parallel;
   }
 
   /** {@inheritDoc} */
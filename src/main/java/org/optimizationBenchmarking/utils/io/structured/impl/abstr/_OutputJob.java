@@ -16,6 +16,9 @@ final class _OutputJob extends _IOJob {
   /** the file producer support */
   final FileProducerSupport m_support;
 
+  /** should archives be compressed in parallel? */
+  final boolean m_parallel;
+
   /**
    * create the _IOJob
    *
@@ -31,10 +34,12 @@ final class _OutputJob extends _IOJob {
    *          the destination
    * @param listener
    *          the listener
+   * @param parallel
+   *          should archives be compressed in parallel?
    */
   _OutputJob(final Logger logger, final FileOutputTool<?> tool,
       final Path basePath, final Object data, final _Location dest,
-      final IFileProducerListener listener) {
+      final IFileProducerListener listener, final boolean parallel) {
     super(logger, tool, basePath, data);
 
     _FileOutputJobBuilder._validateSource(data);
@@ -50,6 +55,7 @@ final class _OutputJob extends _IOJob {
       this.m_support = null;
     }
 
+    this.m_parallel = parallel;
   }
 
   /** {@inheritDoc} */
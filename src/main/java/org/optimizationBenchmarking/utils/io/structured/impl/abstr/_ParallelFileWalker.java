@@ -0,0 +1,393 @@
+package org.optimizationBenchmarking.utils.io.structured.impl.abstr;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import org.optimizationBenchmarking.utils.io.EArchiveType;
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * <p>
+ * A file walker which walks the sub-directories of a directory
+ * concurrently and loads the files found in them in parallel, using the
+ * worker threads of {@link Execute}. It calls the same methods of the
+ * {@link FileInputTool} as {@link _FileWalker} does, but a directory is
+ * only {@linkplain FileInputTool#leaveDirectory(IOJob, Object, Path) left}
+ * after all of its contents have been processed, whereas the contents of
+ * different directories may be processed in any order and at the same
+ * time.
+ * </p>
+ * <p>
+ * If the data destination is not thread-safe, each thread works on its
+ * own partial destination obtained from
+ * {@link FileInputTool#createPartialDestination(IOJob, Object)}. After
+ * the walk, these partial destinations are
+ * {@linkplain FileInputTool#mergePartialDestination(IOJob, Object, Object)
+ * merged} into the real destination in the calling thread.
+ * </p>
+ * <p>
+ * The current location of the job is overwritten by the threads
+ * concurrently and thus meaningless during the walk. Errors are therefore
+ * reported with the path processed by the reporting task and the reports
+ * are serialized by synchronizing on the job.
+ * </p>
+ *
+ * @param <L>
+ *          the loader type
+ */
+final class _ParallelFileWalker<L> {
+
+  /** the context */
+  private final L m_data;
+  /** the logger */
+  private final IOJob m_log;
+  /** the default encoding */
+  private final StreamEncoding<?, ?> m_encoding;
+  /** the expected archive type */
+  private final EArchiveType m_archiveType;
+  /** the driver to delegate to */
+  private final FileInputTool<L> m_tool;
+  /**
+   * the partial destinations of the threads, or {@code null} if the
+   * destination is thread-safe
+   */
+  private final ConcurrentHashMap<Thread, L> m_partials;
+  /** the first error which has occurred */
+  private final AtomicReference<Throwable> m_error;
+
+  /**
+   * create
+   *
+   * @param data
+   *          the load context
+   * @param log
+   *          the logger
+   * @param encoding
+   *          the encoding
+   * @param archiveType
+   *          the expected archive type
+   * @param tool
+   *          the tool
+   * @param partial
+   *          the partial destination of the current thread, or
+   *          {@code null} if {@code data} is thread-safe
+   */
+  _ParallelFileWalker(final IOJob log, final L data,
+      final StreamEncoding<?, ?> encoding, final EArchiveType archiveType,
+      final FileInputTool<L> tool, final L partial) {
+    super();
+    this.m_data = data;
+    this.m_log = log;
+    this.m_encoding = encoding;
+    this.m_tool = tool;
+    this.m_archiveType = archiveType;
+    this.m_error = new AtomicReference<>();
+    if (partial != null) {
+      this.m_partials = new ConcurrentHashMap<>();
+      this.m_partials.put(Thread.currentThread(), partial);
+    } else {
+      this.m_partials = null;
+    }
+  }
+
+  /**
+   * Walk a directory and wait until all of its contents have been
+   * processed.
+   *
+   * @param dir
+   *          the directory
+   * @param attrs
+   *          the attributes of the directory
+   * @throws Throwable
+   *           if the error handling of the job demands it or merging the
+   *           partial results fails
+   */
+  final void _walk(final Path dir, final BasicFileAttributes attrs)
+      throws Throwable {
+    final Object oldCur;
+    final Throwable error;
+
+    oldCur = this.m_log.m_current;
+    try {
+      this.__directory(dir, attrs);
+    } catch (final Throwable throwable) {
+      this.__fail(throwable);
+    } finally {
+      // the threads have overwritten the current element concurrently
+      this.m_log.m_current = oldCur;
+    }
+
+    error = this.m_error.get();
+    if (error != null) {
+      throw error;
+    }
+
+    if (this.m_partials != null) {
+      for (final L partial : this.m_partials.values()) {
+        this.m_tool.mergePartialDestination(this.m_log, this.m_data,
+            partial);
+      }
+      this.m_partials.clear();
+    }
+  }
+
+  /**
+   * Get the destination to be used by the current thread
+   *
+   * @return the destination to be used by the current thread
+   * @throws Throwable
+   *           if the partial destination cannot be created
+   */
+  private final L __data() throws Throwable {
+    final Thread thread;
+    L partial;
+
+    if (this.m_partials == null) {
+      return this.m_data;
+    }
+
+    thread = Thread.currentThread();
+    partial = this.m_partials.get(thread);
+    if (partial == null) {
+      partial = this.m_tool.createPartialDestination(this.m_log,
+          this.m_data);
+      if (partial == null) {
+        throw new IllegalStateException(//
+            "No partial destination was created for thread '" + //$NON-NLS-1$
+                thread.getName() + '\'' + '.');
+      }
+      this.m_partials.put(thread, partial);
+    }
+    return partial;
+  }
+
+  /**
+   * Remember an error. Only the first error is kept, all tasks which have
+   * not yet started will do nothing.
+   *
+   * @param error
+   *          the error
+   */
+  private final void __fail(final Throwable error) {
+    this.m_error.compareAndSet(null, error);
+  }
+
+  /**
+   * Handle an error which occurred when processing a given path
+   *
+   * @param throwable
+   *          the error
+   * @param message
+   *          the message
+   * @param path
+   *          the path
+   * @throws IOException
+   *           if the error handling of the job demands it
+   */
+  private final void __handleError(final Throwable throwable,
+      final String message, final Path path) throws IOException {
+    synchronized (this.m_log) {
+      this.m_log._handleError(throwable, message, path);
+    }
+  }
+
+  /**
+   * Process a directory: enter it, process its contents in parallel, and
+   * leave it.
+   *
+   * @param dir
+   *          the directory
+   * @param attrs
+   *          the attributes
+   * @throws Throwable
+   *           if the error handling of the job demands it
+   */
+  private final void __directory(final Path dir,
+      final BasicFileAttributes attrs) throws Throwable {
+    final ArrayList<Future<Void>> tasks;
+    final Logger logger;
+    BasicFileAttributes childAttrs;
+    boolean enter;
+
+    if (this.m_error.get() != null) {
+      return;
+    }
+
+    try {
+      enter = this.m_tool.enterDirectory(this.m_log, this.__data(), dir,
+          attrs);
+    } catch (final Throwable throwable) {
+      enter = false;
+      this.__handleError(throwable,
+          ((("Error when entering directory '" //$NON-NLS-1$
+          + dir) + '\'') + '.'), dir);
+    }
+
+    logger = this.m_log.getLogger();
+    if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      logger.log(IOTool.FINE_LOG_LEVEL,//
+          (((enter ? "Now entering directory '" : //$NON-NLS-1$
+              "Skipping directory '") + //$NON-NLS-1$
+              dir + '\'') + '.'));
+    }
+    if (!enter) {
+      return;
+    }
+
+    tasks = new ArrayList<>();
+    try (final DirectoryStream<Path> children = Files
+        .newDirectoryStream(dir)) {
+      for (final Path child : children) {
+        try {
+          childAttrs = Files.readAttributes(child,
+              BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (final IOException ioError) {
+          this.__handleError(ioError,
+              ((("An error has occured when visiting element '" + //$NON-NLS-1$
+              child) + '\'') + '.'), child);
+          continue;
+        }
+        tasks.add(Execute.parallel(new __Task(child, childAttrs)));
+      }
+    } catch (final IOException ioError) {
+      this.__handleError(ioError,
+          ((("An error has occured when visiting element '" + //$NON-NLS-1$
+          dir) + '\'') + '.'), dir);
+    } finally {
+      // the tasks never throw, errors are stored in m_error
+      Execute.join(tasks);
+    }
+
+    if (this.m_error.get() != null) {
+      return;
+    }
+
+    try {
+      this.m_tool.leaveDirectory(this.m_log, this.__data(), dir);
+    } catch (final Throwable throwable) {
+      this.__handleError(throwable,
+          ((("Error when leaving directory '" //$NON-NLS-1$
+          + dir) + '\'') + '.'), dir);
+    }
+
+    if ((logger != null) && (logger.isLoggable(IOTool.FINE_LOG_LEVEL))) {
+      logger.log(IOTool.FINE_LOG_LEVEL,//
+          (("Now leaving directory '" + //$NON-NLS-1$
+              dir + '\'') + '.'));
+    }
+  }
+
+  /**
+   * Process a file
+   *
+   * @param file
+   *          the file
+   * @param attrs
+   *          the attributes
+   * @throws Throwable
+   *           if the error handling of the job demands it
+   */
+  private final void __file(final Path file,
+      final BasicFileAttributes attrs) throws Throwable {
+    final Logger logger;
+    final L data;
+    boolean load;
+
+    if (this.m_error.get() != null) {
+      return;
+    }
+
+    data = this.__data();
+    if (this.m_archiveType != null) {
+      load = true;
+    } else {
+      try {
+        load = this.m_tool.isFileInDirectoryLoadable(this.m_log, data,
+            file, attrs);
+      } catch (final Throwable throwable) {
+        load = false;
+        this.__handleError(throwable,
+            (("Error when checking whether file '" + file) + //$NON-NLS-1$
+            "' is loadable."), file); //$NON-NLS-1$
+      }
+    }
+
+    logger = this.m_log.getLogger();
+
+    if (load) {
+      if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
+        logger.log(IOTool.FINER_LOG_LEVEL,//
+            ((("Begin loading file '" + //$NON-NLS-1$
+            file) + '\'') + '.'));
+      }
+
+      try {
+        this.m_tool._file(this.m_log, data, file, attrs, this.m_encoding,
+            this.m_archiveType);
+      } catch (final Throwable throwable) {
+        this.__handleError(throwable,
+            ((("Error when loading file '" + file) + //$NON-NLS-1$
+            '\'') + '.'), file);
+      }
+
+      if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
+        logger.log(IOTool.FINER_LOG_LEVEL,//
+            ((("Finished loading file '" + //$NON-NLS-1$
+            file) + '\'') + '.'));
+      }
+    } else {
+      if ((logger != null) && (logger.isLoggable(IOTool.FINER_LOG_LEVEL))) {
+        logger.log(IOTool.FINER_LOG_LEVEL,//
+            ((("Skipping file '" + //$NON-NLS-1$
+            file) + '\'') + '.'));
+      }
+    }
+  }
+
+  /** the task processing one element of a directory */
+  private final class __Task implements Runnable {
+
+    /** the path */
+    private final Path m_path;
+    /** the attributes */
+    private final BasicFileAttributes m_attrs;
+
+    /**
+     * create
+     *
+     * @param path
+     *          the path
+     * @param attrs
+     *          the attributes
+     */
+    __Task(final Path path, final BasicFileAttributes attrs) {
+      super();
+      this.m_path = path;
+      this.m_attrs = attrs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      try {
+        if (this.m_attrs.isDirectory()) {
+          _ParallelFileWalker.this.__directory(this.m_path, this.m_attrs);
+        } else {
+          _ParallelFileWalker.this.__file(this.m_path, this.m_attrs);
+        }
+      } catch (final Throwable throwable) {
+        _ParallelFileWalker.this.__fail(throwable);
+      }
+    }
+  }
+}
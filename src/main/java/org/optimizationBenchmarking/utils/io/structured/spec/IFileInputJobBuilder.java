@@ -37,6 +37,25 @@ public interface IFileInputJobBuilder<D> extends IInputJobBuilder<D> {
   public abstract IFileInputJobBuilder<D> setDestination(
       final D destination);
 
+  /**
+   * Set whether directories should be loaded in parallel. If
+   * {@code parallel} is {@code true}, the sub-directories of a directory
+   * are walked concurrently and the files found in them are loaded by the
+   * worker threads of {@link org.optimizationBenchmarking.utils.parallel.Execute}.
+   * This only takes effect if the input tool either declares its
+   * destination to be thread-safe or can merge per-thread partial
+   * results. Otherwise, or if {@code parallel} is {@code false} (the
+   * default), directories are walked sequentially. GZIP archives written
+   * in parallel by an output job are also decompressed in parallel.
+   *
+   * @param parallel
+   *          {@code true} to load directories in parallel, {@code false}
+   *          to load them sequentially
+   * @return this builder
+   */
+  public abstract IFileInputJobBuilder<D> setParallel(
+      final boolean parallel);
+
   /**
    * Add a path to an input source
    *
@@ -64,6 +83,28 @@ public interface IFileInputJobBuilder<D> extends IInputJobBuilder<D> {
    */
   public abstract IFileInputJobBuilder<D> addPath(final Path path);
 
+  /**
+   * Add several paths to input sources, e.g., the
+   * {@linkplain org.optimizationBenchmarking.utils.io.paths.TreeChanges#getChanged()
+   * changed files} detected by a
+   * {@link org.optimizationBenchmarking.utils.io.paths.TreeChangeDetector}
+   * , so that only these files are (re-)loaded
+   *
+   * @param paths
+   *          the paths to read from
+   * @param encoding
+   *          a stream encoding to use ({@code null} if not specified or
+   *          not necessary)
+   * @param archiveType
+   *          the expected archive type of the input sources, or
+   *          {@code null} if no archive type is expected (i.e., we have
+   *          plain files or streams)
+   * @return this builder
+   */
+  public abstract IFileInputJobBuilder<D> addPaths(
+      final Iterable<? extends Path> paths,
+      final StreamEncoding<?, ?> encoding, final EArchiveType archiveType);
+
   /**
    * Add an input source file
    *
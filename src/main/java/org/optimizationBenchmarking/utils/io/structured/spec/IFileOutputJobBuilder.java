@@ -37,6 +37,25 @@ public interface IFileOutputJobBuilder<D> extends IOutputJobBuilder<D>,
   @Override
   public abstract IFileOutputJobBuilder<D> setSource(final D source);
 
+  /**
+   * Set whether archives should be compressed in parallel. If
+   * {@code parallel} is {@code true}, {@link EArchiveType#GZIP GZIP} and
+   * {@link EArchiveType#LZ4 LZ4} output is split into blocks which are
+   * compressed concurrently by the worker threads of
+   * {@link org.optimizationBenchmarking.utils.parallel.Execute}, and the
+   * entries of {@link EArchiveType#ZIP ZIP} archives are deflated
+   * concurrently. The output remains readable by any standard tool. If
+   * {@code parallel} is {@code false} (the default), archives are
+   * compressed in the calling thread.
+   *
+   * @param parallel
+   *          {@code true} to compress archives in parallel, {@code false}
+   *          to compress them sequentially
+   * @return this builder
+   */
+  public abstract IFileOutputJobBuilder<D> setParallel(
+      final boolean parallel);
+
   /**
    * Set the path to the output
    *
@@ -37,6 +37,11 @@ public interface IStreamInputJobBuilder<D> extends IFileInputJobBuilder<D> {
   public abstract IStreamInputJobBuilder<D> setDestination(
       final D destination);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract IStreamInputJobBuilder<D> setParallel(
+      final boolean parallel);
+
   /** {@inheritDoc} */
   @Override
   public abstract IStreamInputJobBuilder<D> addPath(final Path path,
@@ -46,6 +51,12 @@ public interface IStreamInputJobBuilder<D> extends IFileInputJobBuilder<D> {
   @Override
   public abstract IStreamInputJobBuilder<D> addPath(final Path path);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract IStreamInputJobBuilder<D> addPaths(
+      final Iterable<? extends Path> paths,
+      final StreamEncoding<?, ?> encoding, final EArchiveType archiveType);
+
   /** {@inheritDoc} */
   @Override
   public abstract IStreamInputJobBuilder<D> addFile(final File file,
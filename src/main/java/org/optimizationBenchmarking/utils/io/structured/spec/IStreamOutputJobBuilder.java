@@ -41,6 +41,10 @@ public interface IStreamOutputJobBuilder<D> extends
   @Override
   public abstract IStreamOutputJobBuilder<D> setSource(final D source);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract IStreamOutputJobBuilder<D> setParallel(final boolean parallel);
+
   /** {@inheritDoc} */
   @Override
   public abstract IStreamOutputJobBuilder<D> setPath(final Path path,
@@ -38,6 +38,11 @@ public interface ITextInputJobBuilder<D> extends IStreamInputJobBuilder<D> {
   public abstract ITextInputJobBuilder<D> setDestination(
       final D destination);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract ITextInputJobBuilder<D> setParallel(
+      final boolean parallel);
+
   /** {@inheritDoc} */
   @Override
   public abstract ITextInputJobBuilder<D> addPath(final Path path,
@@ -47,6 +52,12 @@ public interface ITextInputJobBuilder<D> extends IStreamInputJobBuilder<D> {
   @Override
   public abstract ITextInputJobBuilder<D> addPath(final Path path);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract ITextInputJobBuilder<D> addPaths(
+      final Iterable<? extends Path> paths,
+      final StreamEncoding<?, ?> encoding, final EArchiveType archiveType);
+
   /** {@inheritDoc} */
   @Override
   public abstract ITextInputJobBuilder<D> addFile(final File file,
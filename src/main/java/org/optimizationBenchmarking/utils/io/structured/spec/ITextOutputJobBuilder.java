@@ -43,6 +43,10 @@ public interface ITextOutputJobBuilder<D> extends
   @Override
   public abstract ITextOutputJobBuilder<D> setSource(final D source);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract ITextOutputJobBuilder<D> setParallel(final boolean parallel);
+
   /** {@inheritDoc} */
   @Override
   public abstract ITextOutputJobBuilder<D> setPath(final Path path,
@@ -38,6 +38,11 @@ public interface IXMLInputJobBuilder<D> extends ITextInputJobBuilder<D> {
   @Override
   public abstract IXMLInputJobBuilder<D> setDestination(final D destination);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract IXMLInputJobBuilder<D> setParallel(
+      final boolean parallel);
+
   /** {@inheritDoc} */
   @Override
   public abstract IXMLInputJobBuilder<D> addPath(final Path path,
@@ -47,6 +52,12 @@ public interface IXMLInputJobBuilder<D> extends ITextInputJobBuilder<D> {
   @Override
   public abstract IXMLInputJobBuilder<D> addPath(final Path path);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract IXMLInputJobBuilder<D> addPaths(
+      final Iterable<? extends Path> paths,
+      final StreamEncoding<?, ?> encoding, final EArchiveType archiveType);
+
   /** {@inheritDoc} */
   @Override
   public abstract IXMLInputJobBuilder<D> addFile(final File file,
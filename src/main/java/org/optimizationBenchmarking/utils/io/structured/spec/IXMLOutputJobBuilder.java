@@ -43,6 +43,10 @@ public interface IXMLOutputJobBuilder<D> extends ITextOutputJobBuilder<D> {
   @Override
   public abstract IXMLOutputJobBuilder<D> setSource(final D source);
 
+  /** {@inheritDoc} */
+  @Override
+  public abstract IXMLOutputJobBuilder<D> setParallel(final boolean parallel);
+
   /** {@inheritDoc} */
   @Override
   public abstract IXMLOutputJobBuilder<D> setPath(final Path path,
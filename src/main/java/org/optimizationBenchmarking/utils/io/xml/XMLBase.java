@@ -20,6 +20,22 @@ public class XMLBase extends HierarchicalText {
     super(owner, out);
   }
 
+  /**
+   * Create the hierarchical XML writer
+   *
+   * @param owner
+   *          the owning hierarchical fsm
+   * @param out
+   *          the {@link java.lang.Appendable}
+   * @param singleThreaded
+   *          should the writer be confined to the current thread and work
+   *          without synchronization?
+   */
+  XMLBase(final HierarchicalFSM owner, final Appendable out,
+      final boolean singleThreaded) {
+    super(owner, out, singleThreaded);
+  }
+
   /**
    * Create a new xml element.
    *
@@ -6,7 +6,15 @@ import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 
-/** The */
+/**
+ * The root of an XML document. A document can either be used from
+ * multiple threads, in which case all of its elements are synchronized and
+ * the output of elements which are open at the same time is buffered, or
+ * be confined to the thread creating it. In the latter case, no locks are
+ * acquired at all and elements, attributes, and encoded text are written
+ * straight to the underlying output. Buffering then only takes place if
+ * several sibling elements are actually open at the same time.
+ */
 public final class XMLDocument extends XMLBase {
 
   /** a flag indicating that there is an element */
@@ -32,7 +40,25 @@ public final class XMLDocument extends XMLBase {
    *          the {@link java.lang.Appendable}
    */
   public XMLDocument(final HierarchicalFSM owner, final Appendable out) {
-    super(owner, out);
+    this(owner, out, false);
+  }
+
+  /**
+   * Create the hierarchical XML writer
+   *
+   * @param owner
+   *          the owning hierarchical fsm
+   * @param out
+   *          the {@link java.lang.Appendable}
+   * @param singleThreaded
+   *          should the document be confined to the current thread and
+   *          work without any synchronization? This parameter is only
+   *          relevant if {@code owner} is {@code null}, otherwise the
+   *          setting of the owner is inherited.
+   */
+  public XMLDocument(final HierarchicalFSM owner, final Appendable out,
+      final boolean singleThreaded) {
+    super(owner, out, singleThreaded);
     this.open();
   }
 
@@ -43,7 +69,20 @@ public final class XMLDocument extends XMLBase {
    *          the {@link java.lang.Appendable}
    */
   public XMLDocument(final Appendable out) {
-    this(null, out);
+    this(null, out, false);
+  }
+
+  /**
+   * Create the hierarchical XML writer
+   *
+   * @param out
+   *          the {@link java.lang.Appendable}
+   * @param singleThreaded
+   *          should the document be confined to the current thread and
+   *          work without any synchronization?
+   */
+  public XMLDocument(final Appendable out, final boolean singleThreaded) {
+    this(null, out, singleThreaded);
   }
 
   /** {@inheritDoc} */
@@ -59,7 +98,7 @@ public final class XMLDocument extends XMLBase {
 
   /** {@inheritDoc} */
   @Override
-  protected final synchronized void onOpen() {
+  protected final void onOpen() {
     final StreamEncoding<?, ?> se;
     final ITextOutput ap;
 
@@ -82,7 +121,7 @@ public final class XMLDocument extends XMLBase {
 
   /** {@inheritDoc} */
   @Override
-  protected final synchronized void beforeChildOpens(
+  protected final void beforeChildOpens(
       final HierarchicalFSM child, final boolean hasOtherChildren) {
     super.beforeChildOpens(child, hasOtherChildren);
     if (child instanceof XMLElement) {
@@ -96,7 +135,7 @@ public final class XMLDocument extends XMLBase {
 
   /** {@inheritDoc} */
   @Override
-  protected final synchronized void onClose() {
+  protected final void onClose() {
     super.onClose();
     this.fsmFlagsAssertTrue(XMLDocument.FLAG_HAS_ELEMENT);
   }
@@ -55,6 +55,12 @@ public final class XMLElement extends XMLBase {
   /** the namespace uri of this element */
   private URI m_namespaceURI;
 
+  /**
+   * the namespace of the element name, resolved when the element begins
+   * and re-used when it ends
+   */
+  private _Namespace m_namespace;
+
   /** the namespaces: this map has copy-on-write semantics */
   private HashMap<Object, _Namespace> m_namespaces;
 
@@ -95,7 +101,7 @@ public final class XMLElement extends XMLBase {
   /** {@inheritDoc} */
   @SuppressWarnings("resource")
   @Override
-  protected synchronized void onOpen() {
+  protected void onOpen() {
     ITextOutput o;
     HierarchicalFSM owner;
     XMLElement xo;
@@ -122,8 +128,25 @@ public final class XMLElement extends XMLBase {
    * @param name
    *          the name
    */
-  public synchronized final void name(final URI namespaceURI,
-      final String name) {
+  public final void name(final URI namespaceURI, final String name) {
+    if (this.isSingleThreaded()) {
+      this.__name(namespaceURI, name);
+    } else {
+      synchronized (this) {
+        this.__name(namespaceURI, name);
+      }
+    }
+  }
+
+  /**
+   * Set the name of this element without synchronization
+   *
+   * @param namespaceURI
+   *          the namespace uri
+   * @param name
+   *          the name
+   */
+  private final void __name(final URI namespaceURI, final String name) {
     this.fsmStateAssertAndSet(EComparison.LESS, XMLElement.STATE_NAME,
         XMLElement.STATE_NAME);
     this.m_name = name;
@@ -197,6 +220,7 @@ public final class XMLElement extends XMLBase {
             if (ns != null) {
               this.m_namespaceURI = ns.m_uri;
             }
+            this.m_namespace = ns;
           }
 
           ap.append('<');
@@ -241,8 +265,8 @@ public final class XMLElement extends XMLBase {
             ap.append('<');
             ap.append('/');
 
-            if ((ns == null) && (this.m_namespaceURI != null)) {
-              ns = this.__getNameSpacePrefix(this.m_namespaceURI, true);
+            if (ns == null) {
+              ns = this.m_namespace;
             }
             if ((ns != null) && (ns.m_prefixChars != null)) {
               ap.append(ns.m_prefixChars);
@@ -277,7 +301,7 @@ public final class XMLElement extends XMLBase {
 
   /** {@inheritDoc} */
   @Override
-  protected synchronized final void onClose() {
+  protected final void onClose() {
     this.__ensureState(XMLElement.STATE_CONTENT, XMLElement.STATE_CLOSED);
     super.onClose();
   }
@@ -410,7 +434,31 @@ public final class XMLElement extends XMLBase {
    * @param encode
    *          perform encoding?
    */
-  private synchronized final void __attribute(final URI namespaceURI,
+  private final void __attribute(final URI namespaceURI,
+      final String name, final String value, final boolean encode) {
+    if (this.isSingleThreaded()) {
+      this.__writeAttribute(namespaceURI, name, value, encode);
+    } else {
+      synchronized (this) {
+        this.__writeAttribute(namespaceURI, name, value, encode);
+      }
+    }
+  }
+
+  /**
+   * Write an attribute value, encode if necessary, without
+   * synchronization.
+   *
+   * @param namespaceURI
+   *          the namespace of the attribute
+   * @param name
+   *          the name of the attribute
+   * @param value
+   *          the attribute's value
+   * @param encode
+   *          perform encoding?
+   */
+  private final void __writeAttribute(final URI namespaceURI,
       final String name, final String value, final boolean encode) {
     final char[] prefix;
     final ITextOutput ap;
@@ -480,9 +528,28 @@ public final class XMLElement extends XMLBase {
    * @param prefix
    *          the prefix
    */
+  public final void namespaceSetPrefix(final URI namespaceURI,
+      final String prefix) {
+    if (this.isSingleThreaded()) {
+      this.__namespaceSetPrefix(namespaceURI, prefix);
+    } else {
+      synchronized (this) {
+        this.__namespaceSetPrefix(namespaceURI, prefix);
+      }
+    }
+  }
+
+  /**
+   * Assign a prefix to a namespace uri without synchronization
+   *
+   * @param namespaceURI
+   *          the namespace uri
+   * @param prefix
+   *          the prefix
+   */
   @SuppressWarnings("unchecked")
-  public synchronized final void namespaceSetPrefix(
-      final URI namespaceURI, final String prefix) {
+  private final void __namespaceSetPrefix(final URI namespaceURI,
+      final String prefix) {
     final String pf;
     ArrayList<_Namespace> todo;
     HashMap<Object, _Namespace> nss;
@@ -562,7 +629,23 @@ public final class XMLElement extends XMLBase {
    * @param namespaceURI
    *          the namespace uri
    */
-  public synchronized final void namespaceSetDefault(final URI namespaceURI) {
+  public final void namespaceSetDefault(final URI namespaceURI) {
+    if (this.isSingleThreaded()) {
+      this.__namespaceSetDefault(namespaceURI);
+    } else {
+      synchronized (this) {
+        this.__namespaceSetDefault(namespaceURI);
+      }
+    }
+  }
+
+  /**
+   * Set the namespace uri as default namespace without synchronization
+   *
+   * @param namespaceURI
+   *          the namespace uri
+   */
+  private final void __namespaceSetDefault(final URI namespaceURI) {
     final _Namespace ns;
     final URI useURI;
     ArrayList<_Namespace> todo;
@@ -600,7 +683,7 @@ public final class XMLElement extends XMLBase {
 
   /** {@inheritDoc} */
   @Override
-  protected final synchronized void beforeChildOpens(
+  protected final void beforeChildOpens(
       final HierarchicalFSM child, final boolean hasOtherChildren) {
     super.beforeChildOpens(child, hasOtherChildren);
     if (child instanceof XMLElement) {
@@ -0,0 +1,426 @@
+package org.optimizationBenchmarking.utils.math.matrix.impl;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+
+/**
+ * <p>
+ * The base class for dense matrices backed by a one-dimensional primitive
+ * array.
+ * </p>
+ * <p>
+ * Element {@code (i, j)} of a dense matrix is located at index
+ * {@code offset + (r(i)*rowStride) + (c(j)*columnStride)} of the backing
+ * array, where {@code r} and {@code c} either are the identity or map the
+ * rows and columns of the matrix to the rows and columns of the array
+ * layout. This allows {@link #transpose()}, {@link #selectRows(int...)}
+ * and {@link #selectColumns(int...)} to return views on the same backing
+ * array without copying any data. Selections of contiguous ranges of
+ * rows or columns are represented by a simple offset, so that iterating
+ * over the rows or columns of a matrix does not allocate index maps.
+ * </p>
+ * <p>
+ * The backing array is not copied upon construction. Changes to the
+ * array will therefore be visible in the matrix and all of its views. Use
+ * {@link #copy()} to obtain an independent, compact matrix.
+ * </p>
+ */
+public abstract class DenseMatrix implements IMatrix, Serializable {
+
+  /** the serial version uid */
+  private static final long serialVersionUID = 1L;
+
+  /** the number of rows */
+  final int m_m;
+  /** the number of columns */
+  final int m_n;
+  /** the index of the first element in the backing array */
+  final int m_offset;
+  /** the distance between two rows in the backing array */
+  final int m_rowStride;
+  /** the distance between two columns in the backing array */
+  final int m_columnStride;
+  /** the row index map, or {@code null} for the identity */
+  final int[] m_rows;
+  /** the column index map, or {@code null} for the identity */
+  final int[] m_columns;
+
+  /**
+   * Create a dense matrix
+   *
+   * @param length
+   *          the length of the backing array
+   * @param m
+   *          the number of rows
+   * @param n
+   *          the number of columns
+   * @param layout
+   *          the layout of the data in the backing array
+   */
+  DenseMatrix(final int length, final int m, final int n,
+      final EMatrixLayout layout) {
+    super();
+
+    if ((m < 0) || (n < 0)) {
+      throw new IllegalArgumentException(//
+          "The dimensions of a matrix must not be negative, but " //$NON-NLS-1$
+              + m + 'x' + n + " were specified."); //$NON-NLS-1$
+    }
+    if ((((long) m) * ((long) n)) > length) {
+      throw new IllegalArgumentException(//
+          "The backing array of a " + m + 'x' + n + //$NON-NLS-1$
+              " matrix must have at least " + (((long) m) * ((long) n)) + //$NON-NLS-1$
+              " elements, but has only " + length + '.');//$NON-NLS-1$
+    }
+    if (layout == null) {
+      throw new IllegalArgumentException(//
+          "The matrix layout must not be null."); //$NON-NLS-1$
+    }
+
+    this.m_m = m;
+    this.m_n = n;
+    this.m_offset = 0;
+    if (layout == EMatrixLayout.COLUMN_MAJOR) {
+      this.m_rowStride = 1;
+      this.m_columnStride = m;
+    } else {
+      this.m_rowStride = n;
+      this.m_columnStride = 1;
+    }
+    this.m_rows = null;
+    this.m_columns = null;
+  }
+
+  /**
+   * Create a view on a dense matrix
+   *
+   * @param m
+   *          the number of rows
+   * @param n
+   *          the number of columns
+   * @param offset
+   *          the index of the first element in the backing array
+   * @param rowStride
+   *          the distance between two rows in the backing array
+   * @param columnStride
+   *          the distance between two columns in the backing array
+   * @param rows
+   *          the row index map, or {@code null} for the identity
+   * @param columns
+   *          the column index map, or {@code null} for the identity
+   */
+  DenseMatrix(final int m, final int n, final int offset,
+      final int rowStride, final int columnStride, final int[] rows,
+      final int[] columns) {
+    super();
+    this.m_m = m;
+    this.m_n = n;
+    this.m_offset = offset;
+    this.m_rowStride = rowStride;
+    this.m_columnStride = columnStride;
+    this.m_rows = rows;
+    this.m_columns = columns;
+  }
+
+  /**
+   * Create a view on the backing array of this matrix
+   *
+   * @param m
+   *          the number of rows
+   * @param n
+   *          the number of columns
+   * @param offset
+   *          the index of the first element in the backing array
+   * @param rowStride
+   *          the distance between two rows in the backing array
+   * @param columnStride
+   *          the distance between two columns in the backing array
+   * @param rows
+   *          the row index map, or {@code null} for the identity
+   * @param columns
+   *          the column index map, or {@code null} for the identity
+   * @return the view
+   */
+  abstract DenseMatrix _view(final int m, final int n, final int offset,
+      final int rowStride, final int columnStride, final int[] rows,
+      final int[] columns);
+
+  /** {@inheritDoc} */
+  @Override
+  public final int m() {
+    return this.m_m;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int n() {
+    return this.m_n;
+  }
+
+  /**
+   * Get the index of the first element of a given row in the backing
+   * array
+   *
+   * @param row
+   *          the row
+   * @return the index
+   */
+  final int _rowStart(final int row) {
+    if ((row < 0) || (row >= this.m_m)) {
+      throw new IndexOutOfBoundsException("Row index " + row + //$NON-NLS-1$
+          " is outside the valid range 0.." + (this.m_m - 1) + '.'); //$NON-NLS-1$
+    }
+    return (this.m_offset + (this.m_rowStride * //
+        ((this.m_rows != null) ? this.m_rows[row] : row)));
+  }
+
+  /**
+   * Get the index of the first element of a given column in the backing
+   * array
+   *
+   * @param column
+   *          the column
+   * @return the index
+   */
+  final int _columnStart(final int column) {
+    if ((column < 0) || (column >= this.m_n)) {
+      throw new IndexOutOfBoundsException("Column index " + column + //$NON-NLS-1$
+          " is outside the valid range 0.." + (this.m_n - 1) + '.'); //$NON-NLS-1$
+    }
+    return (this.m_offset + (this.m_columnStride * //
+        ((this.m_columns != null) ? this.m_columns[column] : column)));
+  }
+
+  /**
+   * Get the index of a given element in the backing array
+   *
+   * @param row
+   *          the row
+   * @param column
+   *          the column
+   * @return the index
+   */
+  final int _index(final int row, final int column) {
+    return (this._rowStart(row) + this._columnStart(column) - //
+    this.m_offset);
+  }
+
+  /**
+   * Get the layout which a compact copy of this matrix should use, i.e.,
+   * the layout which is closest to the order of the elements in the
+   * backing array.
+   *
+   * @return the layout for copies
+   */
+  final EMatrixLayout _copyLayout() {
+    return ((this.m_columnStride > this.m_rowStride)
+        ? EMatrixLayout.COLUMN_MAJOR : EMatrixLayout.ROW_MAJOR);
+  }
+
+  /**
+   * Translate a selection of rows or columns into an index map.
+   *
+   * @param selection
+   *          the selected rows or columns
+   * @param size
+   *          the number of rows or columns
+   * @param map
+   *          the current index map, or {@code null} for the identity
+   * @return the new index map, or {@code null} if the selection is a
+   *         contiguous, ascending range and {@code map} is {@code null}
+   */
+  private static final int[] __select(final int[] selection,
+      final int size, final int[] map) {
+    final int[] result;
+    boolean contiguous;
+    int index, last;
+
+    contiguous = (map == null);
+    last = (-1);
+    for (int i = 0; i < selection.length; i++) {
+      index = selection[i];
+      if ((index < 0) || (index >= size)) {
+        throw new IndexOutOfBoundsException("Index " + index + //$NON-NLS-1$
+            " is outside the valid range 0.." + (size - 1) + //$NON-NLS-1$
+            " for selection."); //$NON-NLS-1$
+      }
+      if (contiguous && (i > 0) && (index != (last + 1))) {
+        contiguous = false;
+      }
+      last = index;
+    }
+
+    if (contiguous) {
+      return null;
+    }
+
+    result = new int[selection.length];
+    for (int i = selection.length; (--i) >= 0;) {
+      result[i] = ((map != null) ? map[selection[i]] : selection[i]);
+    }
+    return result;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final DenseMatrix selectColumns(final int... cols) {
+    final int[] map;
+
+    map = DenseMatrix.__select(cols, this.m_n, this.m_columns);
+    if (map == null) {
+      if (cols.length <= 0) {
+        return this._view(this.m_m, 0, this.m_offset, this.m_rowStride,
+            this.m_columnStride, this.m_rows, null);
+      }
+      if ((cols.length == this.m_n) && (cols[0] == 0)) {
+        return this;
+      }
+      return this._view(this.m_m, cols.length,
+          (this.m_offset + (cols[0] * this.m_columnStride)),
+          this.m_rowStride, this.m_columnStride, this.m_rows, null);
+    }
+    return this._view(this.m_m, cols.length, this.m_offset,
+        this.m_rowStride, this.m_columnStride, this.m_rows, map);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final DenseMatrix selectRows(final int... rows) {
+    final int[] map;
+
+    map = DenseMatrix.__select(rows, this.m_m, this.m_rows);
+    if (map == null) {
+      if (rows.length <= 0) {
+        return this._view(0, this.m_n, this.m_offset, this.m_rowStride,
+            this.m_columnStride, null, this.m_columns);
+      }
+      if ((rows.length == this.m_m) && (rows[0] == 0)) {
+        return this;
+      }
+      return this._view(rows.length, this.m_n,
+          (this.m_offset + (rows[0] * this.m_rowStride)),
+          this.m_rowStride, this.m_columnStride, null, this.m_columns);
+    }
+    return this._view(rows.length, this.m_n, this.m_offset,
+        this.m_rowStride, this.m_columnStride, map, this.m_columns);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final DenseMatrix transpose() {
+    if ((this.m_m == 1) && (this.m_n == 1)) {
+      return this;
+    }
+    return this._view(this.m_n, this.m_m, this.m_offset,
+        this.m_columnStride, this.m_rowStride, this.m_columns,
+        this.m_rows);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Iterator<IMatrix> iterateColumns() {
+    return new __Iterator(false);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Iterator<IMatrix> iterateRows() {
+    return new __Iterator(true);
+  }
+
+  /**
+   * Append the element at the given index of the backing array to a
+   * string builder
+   *
+   * @param index
+   *          the index
+   * @param sb
+   *          the string builder
+   */
+  abstract void _appendElement(final int index, final StringBuilder sb);
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    final StringBuilder sb;
+    int start;
+
+    sb = new StringBuilder();
+    sb.append('[');
+    for (int i = 0; i < this.m_m; i++) {
+      if (i > 0) {
+        sb.append(',');
+        sb.append(' ');
+      }
+      sb.append('[');
+      start = this._rowStart(i);
+      for (int j = 0; j < this.m_n; j++) {
+        if (j > 0) {
+          sb.append(',');
+          sb.append(' ');
+        }
+        this._appendElement(
+            (start + this._columnStart(j) - this.m_offset), sb);
+      }
+      sb.append(']');
+    }
+    sb.append(']');
+    return sb.toString();
+  }
+
+  /** the iterator over the rows or columns of the matrix */
+  private final class __Iterator implements Iterator<IMatrix> {
+
+    /** iterate rows ({@code true}) or columns ({@code false})? */
+    private final boolean m_iterateRows;
+
+    /** the next index */
+    private int m_next;
+
+    /**
+     * create
+     *
+     * @param iterateRows
+     *          iterate rows ({@code true}) or columns ({@code false})?
+     */
+    __Iterator(final boolean iterateRows) {
+      super();
+      this.m_iterateRows = iterateRows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final boolean hasNext() {
+      return (this.m_next < (this.m_iterateRows ? DenseMatrix.this.m_m
+          : DenseMatrix.this.m_n));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final IMatrix next() {
+      final DenseMatrix owner;
+      final int index;
+
+      if (!(this.hasNext())) {
+        throw new NoSuchElementException();
+      }
+      index = (this.m_next++);
+      owner = DenseMatrix.this;
+      if (this.m_iterateRows) {
+        return owner._view(1, owner.m_n, owner._rowStart(index), 0,
+            owner.m_columnStride, null, owner.m_columns);
+      }
+      return owner._view(owner.m_m, 1, owner._columnStart(index),
+          owner.m_rowStride, 0, owner.m_rows, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package org.optimizationBenchmarking.utils.math.matrix.impl;
+
+/**
+ * The layout of the elements of a dense matrix in its backing array.
+ */
+public enum EMatrixLayout {
+
+  /**
+   * The rows of the matrix are stored one after the other, i.e., element
+   * {@code (i, j)} of an {@code m}&times;{@code n} matrix is located at
+   * index {@code (i*n)+j}.
+   */
+  ROW_MAJOR,
+
+  /**
+   * The columns of the matrix are stored one after the other, i.e.,
+   * element {@code (i, j)} of an {@code m}&times;{@code n} matrix is
+   * located at index {@code (j*m)+i}.
+   */
+  COLUMN_MAJOR;
+}
@@ -0,0 +1,242 @@
+package org.optimizationBenchmarking.utils.math.matrix.impl;
+
+import org.optimizationBenchmarking.utils.hash.HashUtils;
+import org.optimizationBenchmarking.utils.math.statistics.aggregate.IAggregate;
+
+/**
+ * A dense matrix of {@code long} values backed by a one-dimensional
+ * {@code long} array.
+ */
+public final class LongMatrix extends DenseMatrix {
+
+  /** the serial version uid */
+  private static final long serialVersionUID = 1L;
+
+  /** the backing array */
+  private final long[] m_data;
+
+  /**
+   * Create a dense {@code long} matrix
+   *
+   * @param data
+   *          the backing array, which is used directly and not copied
+   * @param m
+   *          the number of rows
+   * @param n
+   *          the number of columns
+   * @param layout
+   *          the layout of the data in the backing array
+   */
+  public LongMatrix(final long[] data, final int m, final int n,
+      final EMatrixLayout layout) {
+    super(data.length, m, n, layout);
+    this.m_data = data;
+  }
+
+  /**
+   * Create a dense {@code long} matrix whose data is stored in
+   * {@linkplain EMatrixLayout#ROW_MAJOR row-major} order
+   *
+   * @param data
+   *          the backing array, which is used directly and not copied
+   * @param m
+   *          the number of rows
+   * @param n
+   *          the number of columns
+   */
+  public LongMatrix(final long[] data, final int m, final int n) {
+    this(data, m, n, EMatrixLayout.ROW_MAJOR);
+  }
+
+  /**
+   * Create a view on a dense {@code long} matrix
+   *
+   * @param data
+   *          the backing array
+   * @param m
+   *          the number of rows
+   * @param n
+   *          the number of columns
+   * @param offset
+   *          the index of the first element in the backing array
+   * @param rowStride
+   *          the distance between two rows in the backing array
+   * @param columnStride
+   *          the distance between two columns in the backing array
+   * @param rows
+   *          the row index map, or {@code null} for the identity
+   * @param columns
+   *          the column index map, or {@code null} for the identity
+   */
+  private LongMatrix(final long[] data, final int m, final int n,
+      final int offset, final int rowStride, final int columnStride,
+      final int[] rows, final int[] columns) {
+    super(m, n, offset, rowStride, columnStride, rows, columns);
+    this.m_data = data;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final LongMatrix _view(final int m, final int n, final int offset,
+      final int rowStride, final int columnStride, final int[] rows,
+      final int[] columns) {
+    return new LongMatrix(this.m_data, m, n, offset, rowStride,
+        columnStride, rows, columns);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final double getDouble(final int row, final int column) {
+    return this.m_data[this._index(row, column)];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final long getLong(final int row, final int column) {
+    return this.m_data[this._index(row, column)];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isIntegerMatrix() {
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final LongMatrix copy() {
+    final long[] data, copy;
+    final int[] rows, columns;
+    final int rowStride, columnStride;
+    final EMatrixLayout layout;
+    int index, start;
+
+    data = this.m_data;
+    copy = new long[this.m_m * this.m_n];
+    rows = this.m_rows;
+    columns = this.m_columns;
+    rowStride = this.m_rowStride;
+    columnStride = this.m_columnStride;
+    layout = this._copyLayout();
+
+    index = 0;
+    if (layout == EMatrixLayout.COLUMN_MAJOR) {
+      for (int j = 0; j < this.m_n; j++) {
+        start = (this.m_offset + (columnStride * //
+            ((columns != null) ? columns[j] : j)));
+        for (int i = 0; i < this.m_m; i++) {
+          copy[index++] = data[start
+              + (rowStride * ((rows != null) ? rows[i] : i))];
+        }
+      }
+    } else {
+      for (int i = 0; i < this.m_m; i++) {
+        start = (this.m_offset + (rowStride * //
+            ((rows != null) ? rows[i] : i)));
+        for (int j = 0; j < this.m_n; j++) {
+          copy[index++] = data[start
+              + (columnStride * ((columns != null) ? columns[j] : j))];
+        }
+      }
+    }
+
+    return new LongMatrix(copy, this.m_m, this.m_n, layout);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void aggregateColumn(final int column,
+      final IAggregate aggregate) {
+    final long[] data;
+    final int[] rows;
+    final int stride;
+    int index;
+
+    data = this.m_data;
+    stride = this.m_rowStride;
+    index = this._columnStart(column);
+    rows = this.m_rows;
+
+    if (rows == null) {
+      for (int i = this.m_m; (--i) >= 0; index += stride) {
+        aggregate.append(data[index]);
+      }
+    } else {
+      for (final int row : rows) {
+        aggregate.append(data[index + (row * stride)]);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void aggregateRow(final int row,
+      final IAggregate aggregate) {
+    final long[] data;
+    final int[] columns;
+    final int stride;
+    int index;
+
+    data = this.m_data;
+    stride = this.m_columnStride;
+    index = this._rowStart(row);
+    columns = this.m_columns;
+
+    if (columns == null) {
+      for (int i = this.m_n; (--i) >= 0; index += stride) {
+        aggregate.append(data[index]);
+      }
+    } else {
+      for (final int column : columns) {
+        aggregate.append(data[index + (column * stride)]);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _appendElement(final int index, final StringBuilder sb) {
+    sb.append(this.m_data[index]);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    int hash;
+
+    hash = HashUtils.combineHashes(this.m_m, this.m_n);
+    for (int i = 0; i < this.m_m; i++) {
+      for (int j = 0; j < this.m_n; j++) {
+        hash = HashUtils.combineHashes(hash,
+            HashUtils.hashCode(this.getLong(i, j)));
+      }
+    }
+    return hash;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean equals(final Object o) {
+    final LongMatrix other;
+
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof LongMatrix)) {
+      return false;
+    }
+
+    other = ((LongMatrix) o);
+    if ((other.m_m != this.m_m) || (other.m_n != this.m_n)) {
+      return false;
+    }
+    for (int i = 0; i < this.m_m; i++) {
+      for (int j = 0; j < this.m_n; j++) {
+        if (this.getLong(i, j) != other.getLong(i, j)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
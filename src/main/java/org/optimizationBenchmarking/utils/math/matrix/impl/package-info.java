@@ -0,0 +1,6 @@
+/**
+ * Dense implementations of the
+ * {@link org.optimizationBenchmarking.utils.math.matrix.IMatrix matrix}
+ * interface backed by primitive arrays.
+ */
+package org.optimizationBenchmarking.utils.math.matrix.impl;
@@ -0,0 +1,40 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+/**
+ * A lock-free, fixed-capacity
+ * {@linkplain org.optimizationBenchmarking.utils.parallel.RingBuffer ring
+ * buffer} backed by a byte array, intended to be used by exactly one
+ * producer thread and one consumer thread. Different from
+ * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer},
+ * writing blocks while the buffer is full.
+ */
+public final class ByteRingBuffer extends RingBuffer<byte[]> {
+
+  /** Create the buffer with the default capacity */
+  public ByteRingBuffer() {
+    this(0);
+  }
+
+  /**
+   * Create the buffer
+   *
+   * @param capacity
+   *          the capacity, which will be rounded up to the next power of
+   *          two, or {@code 0} for the default
+   */
+  public ByteRingBuffer(final int capacity) {
+    super(capacity);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final byte[] _new(final int size) {
+    return new byte[size];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final int _length(final byte[] array) {
+    return array.length;
+  }
+}
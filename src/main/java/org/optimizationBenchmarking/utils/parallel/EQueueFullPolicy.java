@@ -0,0 +1,26 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+/**
+ * The policies which {@link Execute} can follow when a task is submitted
+ * while the number of queued tasks has reached the configured bound (see
+ * {@link Execute#PARAM_QUEUE_BOUND}).
+ */
+public enum EQueueFullPolicy {
+
+  /** the submitting thread executes the task itself, right away */
+  CALLER_RUNS,
+
+  /**
+   * The submitting thread blocks until there is space in the queue. If
+   * the submitting thread is one of the worker threads of {@link Execute},
+   * blocking could dead-lock the whole pool. Therefore, worker threads
+   * will execute the task directly instead, as with {@link #CALLER_RUNS}.
+   */
+  BLOCK,
+
+  /**
+   * the task is rejected with a
+   * {@link java.util.concurrent.RejectedExecutionException}
+   */
+  REJECT;
+}
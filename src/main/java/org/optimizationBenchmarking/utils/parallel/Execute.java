@@ -1,14 +1,14 @@
 package org.optimizationBenchmarking.utils.parallel;
 
 import java.util.concurrent.Callable;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.optimizationBenchmarking.utils.collections.iterators.ArrayIterator;
+import org.optimizationBenchmarking.utils.config.Configuration;
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
+import org.optimizationBenchmarking.utils.text.TextUtils;
 
 /**
  * <p>
@@ -38,172 +38,109 @@ import org.optimizationBenchmarking.utils.error.ErrorUtils;
  * {@link java.util.concurrent.RejectedExecutionException}s. My current
  * method does not produce any such errors.
  * </p>
+ * <p>
+ * By default, all tasks are kept in one global queue. If parameter
+ * {@link #PARAM_WORK_STEALING} is set to {@code true}, each worker thread
+ * instead gets its own deque: Tasks spawned inside a worker are pushed to
+ * and popped from the front of its deque, while idle workers steal the
+ * oldest tasks of randomly chosen other workers. This avoids the
+ * contention on the global queue when many cores execute many tiny tasks.
+ * In both modes, a worker thread waiting for a task in
+ * {@link java.util.concurrent.Future#get()} executes other tasks in the
+ * meantime.
+ * </p>
+ * <p>
+ * The number of worker threads ({@link #PARAM_THREADS}), their names (
+ * {@link #PARAM_THREAD_NAME}), as well as a bound on the number of queued
+ * tasks ({@link #PARAM_QUEUE_BOUND}) together with the
+ * {@linkplain EQueueFullPolicy policy} to apply if it is reached (
+ * {@link #PARAM_QUEUE_FULL_POLICY}) can be set via the
+ * {@linkplain org.optimizationBenchmarking.utils.config.Configuration#getRoot()
+ * root configuration} or system properties. They are read once, when this
+ * class is loaded. The state of the pool can be monitored via
+ * {@link #getStatistics()}.
+ * </p>
+ * <p>
+ * Jobs which mainly wait for I/O should be submitted via
+ * {@link #blocking(Callable)} or {@link #blocking(Runnable)} instead: If
+ * the Java virtual machine supports virtual threads, they are then
+ * executed in virtual threads and do not occupy the worker threads.
+ * </p>
  */
 public final class Execute {
 
-  /** the task has just been created */
-  static final int STATE_INITIALIZED = 0;
-  /** the task has been selected for out-of-order execution */
-  static final int STATE_SELECTED = (Execute.STATE_INITIALIZED + 1);
-  /** the task is running */
-  static final int STATE_RUNNING = (Execute.STATE_SELECTED + 1);
-  /** the task is done */
-  static final int STATE_DONE = (Execute.STATE_RUNNING + 1);
-  /** the task is canceled */
-  static final int STATE_CANCELED = (Execute.STATE_DONE + 1);
-
-  /** the synchronizer object */
-  private static final Object SYNCH = new Object();
-
-  /** the queue of tasks */
-  private static volatile __Task s_taskQueue = null;
-
-  static {
-    int numProc, index;
-
-    numProc = Runtime.getRuntime().availableProcessors();
-    for (index = 1; index <= numProc; index++) {
-      new __Worker(index).start();
-    }
-  }
-
   /**
-   * Add a task to the queue. Actually: Put it at the front of the queue,
-   * as our queue is more something like a stack represented as linked list
-   * of {@link __Task} objects.
-   *
-   * @param task
-   *          the task
+   * the parameter which, if set to {@code true} in the
+   * {@linkplain org.optimizationBenchmarking.utils.config.Configuration#getRoot()
+   * root configuration} or as system property, selects the work-stealing
+   * scheduler: {@value}
    */
-  static final void _enqueue(final __Task task) {
-    __Task queue;
-    synchronized (Execute.SYNCH) {
-      if (!(task.m_inQueue)) {
-        // extract and replace old head of queue
-        queue = Execute.s_taskQueue;
-        Execute.s_taskQueue = task;
-
-        // re-wire pointers in linked list
-        task.m_nextInQueue = queue;
-        if (queue != null) {
-          queue.m_prevInQueue = task;
-        }
-
-        task.m_inQueue = true; // mark the task as enqueued
-        Execute.SYNCH.notify(); // wake waiting worker
-      }
-    }
-  }
+  public static final String PARAM_WORK_STEALING = "executeWorkStealing"; //$NON-NLS-1$
 
   /**
-   * delete a task from the queue
-   *
-   * @param task
-   *          the task
+   * the parameter specifying the number of worker threads, which defaults
+   * to the number of available processors: {@value}
    */
-  static final void _delete(final __Task task) {
-    __Task oldPrev, oldNext;
-
-    synchronized (Execute.SYNCH) {
-      if (task.m_inQueue) {
-        task.m_inQueue = false;// mark task as de-queued
-
-        // remember old previous and next pointers and null them for GC
-        oldPrev = task.m_prevInQueue;
-        task.m_prevInQueue = null;
-        oldNext = task.m_nextInQueue;
-        task.m_nextInQueue = null;
-
-        if (oldPrev != null) {
-          // we were not the first element in the queue, let our
-          // predecessor link to the successor task
-          oldPrev.m_nextInQueue = oldNext;
-        } else {
-          // we were the first element in the queue, queue now points to
-          // next
-          Execute.s_taskQueue = oldNext;
-        }
-
-        if (oldNext != null) {
-          // there was a successor task behind us, connect to the
-          // predecessor task, if any
-          oldNext.m_prevInQueue = oldPrev;
-        }
-      }
-    }
-  }
+  public static final String PARAM_THREADS = "executeThreads"; //$NON-NLS-1$
 
   /**
-   * Move the given task to the front of the queue (unless it has already
-   * been extracted from the queue).
-   *
-   * @param task
-   *          the task
+   * the parameter specifying the maximum number of tasks which can be
+   * queued at the same time, which defaults to
+   * {@link java.lang.Integer#MAX_VALUE}, i.e., an unbounded queue:
+   * {@value}
    */
-  static final void _moveToFront(final __Task task) {
-    __Task oldPrev, oldNext, oldQueue;
+  public static final String PARAM_QUEUE_BOUND = "executeQueueBound"; //$NON-NLS-1$
 
-    synchronized (Execute.SYNCH) {
-      if (task.m_inQueue) {
-
-        oldPrev = task.m_prevInQueue;
-        if (oldPrev == null) {
-          return; // we are already at the start of the queue
-        }
-        task.m_prevInQueue = null;
-
-        // re-connect previous and next task
-        oldNext = task.m_nextInQueue;
-        oldPrev.m_nextInQueue = oldNext;
-        if (oldNext != null) {
-          oldNext.m_prevInQueue = oldPrev;
-        }
-
-        // re-insert task at head of queue
-        oldQueue = Execute.s_taskQueue;
-        task.m_nextInQueue = oldQueue;
-        oldQueue.m_prevInQueue = task;
-        Execute.s_taskQueue = task;
-
-      }
-    }
-  }
+  /**
+   * the parameter specifying the name of the {@link EQueueFullPolicy
+   * policy} to follow if a task is submitted while the queue is full,
+   * which defaults to {@link EQueueFullPolicy#CALLER_RUNS}: {@value}
+   */
+  public static final String PARAM_QUEUE_FULL_POLICY = "executeQueueFullPolicy"; //$NON-NLS-1$
 
   /**
-   * obtain the next task from the queue
-   *
-   * @param wait
-   *          should we wait for a task or return {@code null}?
-   * @return the next task from the queue, or {@code null} if the queue is
-   *         empty and {@code wait==false}
+   * the parameter specifying the name prefix of the worker threads, which
+   * defaults to {@code "Executor"}: {@value}
    */
-  static final __Task _next(final boolean wait) {
-    __Task candidate, next;
+  public static final String PARAM_THREAD_NAME = "executeThreadName"; //$NON-NLS-1$
 
-    for (;;) {
-      synchronized (Execute.SYNCH) {
-        candidate = Execute.s_taskQueue;
-        if (candidate != null) {
-          candidate.m_inQueue = false;
-          next = candidate.m_nextInQueue;
-          candidate.m_nextInQueue = null;
-          if (next != null) {
-            next.m_prevInQueue = null;
-          }
-          Execute.s_taskQueue = next;
-          return candidate;
-        }
-        if (wait) {
-          try {
-            Execute.SYNCH.wait();
-          } catch (@SuppressWarnings("unused") final InterruptedException iexp) {
-            /** ignore **/
-          }
-          continue;
-        }
-      }
-      return null;
+  /** the scheduler */
+  static final _Scheduler SCHEDULER;
+
+  static {
+    final Configuration config;
+    int threads, bound;
+    boolean workStealing;
+    EQueueFullPolicy policy;
+    String name;
+
+    threads = Runtime.getRuntime().availableProcessors();
+    bound = Integer.MAX_VALUE;
+    policy = EQueueFullPolicy.CALLER_RUNS;
+    name = "Executor"; //$NON-NLS-1$
+    workStealing = false;
+
+    try {
+      config = Configuration.getRoot();
+      threads = config.getInt(Execute.PARAM_THREADS, 1, 32767, threads);
+      bound = config.getInt(Execute.PARAM_QUEUE_BOUND, 1,
+          Integer.MAX_VALUE, bound);
+      policy = EQueueFullPolicy.valueOf(TextUtils.toUpperCase(//
+          config.getString(Execute.PARAM_QUEUE_FULL_POLICY,
+              policy.name()).trim()));
+      name = config.getString(Execute.PARAM_THREAD_NAME, name);
+      workStealing = config.getBoolean(Execute.PARAM_WORK_STEALING,
+          workStealing);
+    } catch (final Throwable error) {
+      ErrorUtils.logError(Configuration.getGlobalLogger(),
+          "Error while reading the configuration of the parallel execution environment, falling back to defaults for the remaining parameters.", //$NON-NLS-1$
+          error, false, RethrowMode.DONT_RETHROW);
     }
+
+    SCHEDULER = (workStealing ? //
+        new _WorkStealingScheduler(threads, bound, policy, name)//
+        : new _SharedQueueScheduler(threads, bound, policy, name));
+    Execute.SCHEDULER._start();
   }
 
   /** the forbidden constructor */
@@ -211,6 +148,16 @@ public final class Execute {
     ErrorUtils.doNotCall();
   }
 
+  /**
+   * Get a snapshot of the current state of the worker pool, e.g., for
+   * monitoring purposes.
+   *
+   * @return the statistics of the worker pool
+   */
+  public static final ExecuteStatistics getStatistics() {
+    return Execute.SCHEDULER._statistics();
+  }
+
   /**
    * Wait for a set of {@code tasks} to complete and store their results
    * into the {@code destination} array starting at index {@code start}.
@@ -348,9 +295,9 @@ public final class Execute {
    */
   @SuppressWarnings("unchecked")
   public static final Future<Void> parallel(final Runnable job) {
-    final __Task task;
-    task = new __Task(job);
-    Execute._enqueue(task);
+    final _Task task;
+    task = new _Task(Execute.SCHEDULER, job);
+    Execute.SCHEDULER._submit(task);
     return task;
   }
 
@@ -371,318 +318,74 @@ public final class Execute {
    */
   @SuppressWarnings("unchecked")
   public static final <T> Future<T> parallel(final Callable<T> job) {
-    final __Task task;
-    task = new __Task(job);
-    Execute._enqueue(task);
+    final _Task task;
+    task = new _Task(Execute.SCHEDULER, job);
+    Execute.SCHEDULER._submit(task);
     return task;
   }
 
   /**
-   * the internal task class wraps a runnable or a callable and provides
-   * the Future interface
+   * Execute a {@link java.lang.Runnable} which will spend most of its time
+   * blocked in I/O operations. If the Java virtual machine
+   * {@linkplain ThreadUtils#hasVirtualThreads() supports virtual threads},
+   * the job is executed in a virtual thread of its own, so that it does not
+   * block one of the (few) worker threads behind
+   * {@link #parallel(Runnable)}. Otherwise, this method is the same as
+   * {@link #parallel(Runnable)}.
+   *
+   * @param job
+   *          the job to run
+   * @return {@link java.util.concurrent.Future} representing the job in
+   *         execution
    */
-  @SuppressWarnings("rawtypes")
-  private static final class __Task implements Future {
-
-    /** the thread type is unknown */
-    private static final int THREAD_TYPE_UNKNOWN = 0;
-    /** the thread is a worker */
-    private static final int THREAD_TYPE_WORKER = (__Task.THREAD_TYPE_UNKNOWN
-        + 1);
-    /** the thread is not a worker */
-    private static final int THREAD_TYPE_NO_WORKER = (__Task.THREAD_TYPE_WORKER
-        + 1);
-
-    /** the next task in the queue */
-    __Task m_nextInQueue;
-    /** the previous task in the queue */
-    __Task m_prevInQueue;
-    /** is the task in the queue? */
-    volatile boolean m_inQueue;
-
-    /** the synchronizer */
-    private final Object m_synch;
-    /** the state */
-    private int m_state;
-    /** the runnable */
-    private Runnable m_runnable;
-    /** the callable */
-    private Callable m_callable;
-    /** the result object */
-    private Object m_result;
-    /** the caught exception */
-    private Throwable m_error;
-
-    /**
-     * create a task, which, in this case, is a wrapper for a runnable
-     *
-     * @param runnable
-     *          the runnable
-     */
-    __Task(final Runnable runnable) {
-      super();
-      if (runnable == null) {
-        throw new IllegalArgumentException(
-            "Runnable to execute must not be null."); //$NON-NLS-1$
-      }
-      this.m_synch = new Object();
-      this.m_runnable = runnable;
-    }
-
-    /**
-     * Create a task, which, in this case, is a wrapper for a callable
-     *
-     * @param callable
-     *          the callable
-     */
-    __Task(final Callable callable) {
-      super();
-      if (callable == null) {
-        throw new IllegalArgumentException(
-            "Callable to execute must not be null."); //$NON-NLS-1$
-      }
-      this.m_synch = new Object();
-      this.m_callable = callable;
-    }
-
-    /**
-     * Execute the task and store the result as well as any caught
-     * exception.
-     */
-    final void _run() {
-      Runnable runnable;
-      Callable callable;
-      Object result;
-      Throwable error;
-
-      synchronized (this.m_synch) {
-        if (this.m_state > Execute.STATE_SELECTED) {
-          return;
-        }
-        // If we get here, we are either in STATE_INITIALIZED or
-        // STATE_SELECTED. Extract all member variables necessary for
-        // execution and already set them to null.
-        this.m_state = Execute.STATE_RUNNING;
-        runnable = this.m_runnable;
-        this.m_runnable = null;
-        callable = this.m_callable;
-        this.m_callable = null;
-      }
-
-      result = null;
-      error = null;
-      try {
-        if (runnable != null) { // We execute a runnable.
-          runnable.run();
-          runnable = null;
-        } else {// No runnable, so it must be Callable.
-          result = callable.call();
-          callable = null;
-        }
-      } catch (final Throwable theError) {
-        error = theError;// Catch and store error.
-      }
-
-      synchronized (this.m_synch) {
-        // OK, execution is done, update member variables and notify
-        // waiting threads.
-        this.m_state = Execute.STATE_DONE;
-        this.m_result = result;
-        this.m_error = error;
-        this.m_synch.notifyAll();
-      }
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final boolean cancel(final boolean mayInterruptIfRunning) {
-      synchronized (this.m_synch) {
-        if (this.m_state != Execute.STATE_INITIALIZED) {
-          return false;
-        }
-        this.m_state = Execute.STATE_CANCELED;
-        this.m_runnable = null;
-        this.m_callable = null;
-      }
-      Execute._delete(this);
-      return true;
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final boolean isCancelled() {
-      synchronized (this.m_synch) {
-        return (this.m_state == Execute.STATE_CANCELED);
-      }
-    }
-
-    /** {@inheritDoc} */
-    @Override
-    public final boolean isDone() {
-      synchronized (this.m_synch) {
-        return (this.m_state >= Execute.STATE_DONE);
-      }
-    }
+  @SuppressWarnings("unchecked")
+  public static final Future<Void> blocking(final Runnable job) {
+    final _Task task;
 
-    /**
-     * get the thread type
-     *
-     * @return the thread type
-     */
-    private static final int __threadType() {
-      return (Thread.currentThread() instanceof __Worker)
-          ? __Task.THREAD_TYPE_WORKER : __Task.THREAD_TYPE_NO_WORKER;
+    if (__Blocking.SCHEDULER == null) {
+      return Execute.parallel(job);
     }
+    task = new _Task(__Blocking.SCHEDULER, job);
+    __Blocking.SCHEDULER._submit(task);
+    return task;
+  }
 
-    /** {@inheritDoc} */
-    @Override
-    public final Object get()
-        throws InterruptedException, ExecutionException {
-      __Task execute;
-      int threadType;
-
-      threadType = __Task.THREAD_TYPE_UNKNOWN;
-      looper: for (;;) {
-        synchronized (this.m_synch) {
-          switcher: switch (this.m_state) {
-
-            case STATE_INITIALIZED: {
-              // The task has been initialized but is not running. It must
-              // either be in the queue or has just been extracted by a
-              // worker thread from the queue and will be executed next.
-              if (((threadType == __Task.THREAD_TYPE_UNKNOWN)
-                  ? (threadType = __Task.__threadType())
-                  : threadType) != __Task.THREAD_TYPE_WORKER) {//
-                // If we are not a worker thread, we will simply have to
-                // wait for the task to complete and then check again.
-
-                // We therefore move the task to the head of the queue in
-                // order to get it done quicker. This method does nothing
-                // if the task has already been purged from the queue.
-                Execute._moveToFront(this);
-                // We will only wait for 1000ms. Afterwards, we move it
-                // again to the head of the queue if it was not yet
-                // executed.
-                this.m_synch.wait(1000L);
-                continue looper;
-              }
-              // If we are a worker thread, we can leave the synchronized
-              // block and execute the task directly. We therefore need to
-              // remove it from the queue.
-              this.m_state = Execute.STATE_SELECTED;
-              Execute._delete(this);
-              execute = this;
-              break switcher;
-            }
-
-            case STATE_SELECTED:
-            case STATE_RUNNING: {
-              // The task is either selected for out-of-order execution by
-              // another worker thread or is already running (in another
-              // worker thread).
-              try {
-                // The task is currently running. If we are a worker
-                // thread, we can execute another task in the meantime.
-                if (((threadType == __Task.THREAD_TYPE_UNKNOWN)
-                    ? (threadType = __Task.__threadType())
-                    : threadType) == __Task.THREAD_TYPE_WORKER) {//
-                  // If we are waiting for a task inside a worker thread,
-                  // then this worker thread might as well do another task
-                  // while waiting. In the worst case, we will wait a bit
-                  // longer. That's OK with me. Anyway, we try to obtain a
-                  // new task from the queue, but we don't wait for tasks
-                  // to arrive if the queue is empty.
-                  execute = Execute._next(false);
-                  if (execute != null) {
-                    // OK there was a new task. We leave the synchronized
-                    // block and execute it.
-                    break switcher;
-                  }
-                }
-                // If we get here, we are either a thread outside of the
-                // Execute environment, i.e., no worker thread, or we are a
-                // worker thread and the global task queue is empty. In
-                // both cases, we have to wait.
-
-                // We will wait for at most 1000ms if we are a worker
-                // thread and then try again. Reason: Maybe the task won't
-                // have finished yet after 1000ms if we did not get
-                // notified, but new, other tasks may have come in.
-                // Obviously, for non-worker threads, no such behavior is
-                // necessary and we can just wait.
-                this.m_synch.wait((threadType == 1) ? 1000L : 0L);
-              } catch (@SuppressWarnings("unused") final InterruptedException ie) {
-                /** ignore **/
-              }
-              continue looper;
-            }
-
-            case STATE_DONE: {
-              // The task has already been execute. This means that its
-              // error and result have been set.
-              if (this.m_error != null) {
-                // First, we check if there was an exception and if there
-                // was one, we try to re-throw it.
-                if (this.m_error instanceof RuntimeException) {
-                  throw ((RuntimeException) (this.m_error));
-                }
-                if (this.m_error instanceof Error) {
-                  throw ((Error) (this.m_error));
-                }
-                throw new ExecutionException(//
-                    "An error has happened while executing a parallel task via Execute.", //$NON-NLS-1$
-                    this.m_error);
-              }
-              return this.m_result;
-            }
-
-            default: { // case STATE_CANCELED:
-              // The task has been cancelled
-              throw new CancellationException(//
-                  "The task has been cancelled."); //$NON-NLS-1$
-            }
-          }
-        }
-
-        // OK, we are a worker thread and can execute a task. This is
-        // either this task here, which is in STATE_SELECTED, or another
-        // task that can be executed while waiting for the current task.
-        execute._run();
-      }
-    }
+  /**
+   * Execute a {@link java.util.concurrent.Callable} which will spend most
+   * of its time blocked in I/O operations. If the Java virtual machine
+   * {@linkplain ThreadUtils#hasVirtualThreads() supports virtual threads},
+   * the job is executed in a virtual thread of its own, so that it does not
+   * block one of the (few) worker threads behind
+   * {@link #parallel(Callable)}. Otherwise, this method is the same as
+   * {@link #parallel(Callable)}.
+   *
+   * @param job
+   *          the job to run
+   * @return {@link java.util.concurrent.Future} representing the job in
+   *         execution
+   * @param <T>
+   *          the data type of the result
+   */
+  @SuppressWarnings("unchecked")
+  public static final <T> Future<T> blocking(final Callable<T> job) {
+    final _Task task;
 
-    /** {@inheritDoc} */
-    @Override
-    public final Object get(final long timeout, final TimeUnit unit)
-        throws InterruptedException, ExecutionException, TimeoutException {
-      return this.get();
+    if (__Blocking.SCHEDULER == null) {
+      return Execute.parallel(job);
     }
-
+    task = new _Task(__Blocking.SCHEDULER, job);
+    __Blocking.SCHEDULER._submit(task);
+    return task;
   }
 
-  /** the worker threads */
-  private static final class __Worker extends Thread {
+  /** the holder for the scheduler of blocking tasks */
+  private static final class __Blocking {
 
     /**
-     * create the worker
-     *
-     * @param id
-     *          the worker's id
+     * the scheduler for blocking tasks, or {@code null} if virtual threads
+     * are not supported
      */
-    __Worker(final int id) {
-      super("Executor#" + id); //$NON-NLS-1$
-      this.setDaemon(true);
-    }
-
-    /** run */
-    @Override
-    public final void run() {
-      __Task task;
-
-      while ((task = Execute._next(true)) != null) {
-        task._run();
-      }
-    }
+    static final _Scheduler SCHEDULER = (ThreadUtils.hasVirtualThreads()
+        ? new _ThreadPerTaskScheduler(Execute.SCHEDULER.m_name) : null);
   }
-
 }
@@ -0,0 +1,198 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import org.optimizationBenchmarking.utils.text.Textable;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+
+/**
+ * An immutable snapshot of the state of the worker pool behind
+ * {@link Execute}, as returned by {@link Execute#getStatistics()}. The
+ * counters are collected without stopping the pool, so the values of a
+ * snapshot may be slightly inconsistent with each other while tasks are
+ * executed.
+ */
+public final class ExecuteStatistics extends Textable {
+
+  /** the number of worker threads */
+  private final int m_workers;
+  /** the maximum number of queued tasks */
+  private final int m_queueBound;
+  /** the policy to follow if the queue is full */
+  private final EQueueFullPolicy m_queueFullPolicy;
+  /** the number of queued tasks */
+  private final int m_queued;
+  /** the number of running tasks */
+  private final long m_running;
+  /** the number of completed tasks */
+  private final long m_completed;
+  /** the number of stolen tasks */
+  private final long m_stolen;
+  /** the number of rejected tasks */
+  private final long m_rejected;
+  /** the average wait time */
+  private final double m_averageWaitTime;
+  /** the average run time */
+  private final double m_averageRunTime;
+
+  /**
+   * create the statistics record
+   *
+   * @param workers
+   *          the number of worker threads
+   * @param queueBound
+   *          the maximum number of queued tasks
+   * @param queueFullPolicy
+   *          the policy to follow if the queue is full
+   * @param queued
+   *          the number of queued tasks
+   * @param running
+   *          the number of running tasks
+   * @param completed
+   *          the number of completed tasks
+   * @param stolen
+   *          the number of stolen tasks
+   * @param rejected
+   *          the number of rejected tasks
+   * @param averageWaitTime
+   *          the average wait time, in nanoseconds
+   * @param averageRunTime
+   *          the average run time, in nanoseconds
+   */
+  ExecuteStatistics(final int workers, final int queueBound,
+      final EQueueFullPolicy queueFullPolicy, final int queued,
+      final long running, final long completed, final long stolen,
+      final long rejected, final double averageWaitTime,
+      final double averageRunTime) {
+    super();
+    this.m_workers = workers;
+    this.m_queueBound = queueBound;
+    this.m_queueFullPolicy = queueFullPolicy;
+    this.m_queued = queued;
+    this.m_running = running;
+    this.m_completed = completed;
+    this.m_stolen = stolen;
+    this.m_rejected = rejected;
+    this.m_averageWaitTime = averageWaitTime;
+    this.m_averageRunTime = averageRunTime;
+  }
+
+  /**
+   * Get the number of worker threads
+   *
+   * @return the number of worker threads
+   */
+  public final int getWorkers() {
+    return this.m_workers;
+  }
+
+  /**
+   * Get the maximum number of tasks which can be queued at the same time
+   *
+   * @return the maximum number of queued tasks
+   */
+  public final int getQueueBound() {
+    return this.m_queueBound;
+  }
+
+  /**
+   * Get the policy followed if a task is submitted while the queue is
+   * full
+   *
+   * @return the policy
+   */
+  public final EQueueFullPolicy getQueueFullPolicy() {
+    return this.m_queueFullPolicy;
+  }
+
+  /**
+   * Get the number of tasks which have been submitted but neither been
+   * started nor canceled yet
+   *
+   * @return the number of queued tasks
+   */
+  public final int getQueued() {
+    return this.m_queued;
+  }
+
+  /**
+   * Get the number of tasks which are currently running
+   *
+   * @return the number of running tasks
+   */
+  public final long getRunning() {
+    return this.m_running;
+  }
+
+  /**
+   * Get the number of tasks which have been completed
+   *
+   * @return the number of completed tasks
+   */
+  public final long getCompleted() {
+    return this.m_completed;
+  }
+
+  /**
+   * Get the number of tasks which idle workers have stolen from other
+   * workers. This is always {@code 0} unless the work-stealing scheduler
+   * is used.
+   *
+   * @return the number of stolen tasks
+   */
+  public final long getStolen() {
+    return this.m_stolen;
+  }
+
+  /**
+   * Get the number of tasks which have been rejected because the queue
+   * was full
+   *
+   * @return the number of rejected tasks
+   */
+  public final long getRejected() {
+    return this.m_rejected;
+  }
+
+  /**
+   * Get the average time the started tasks have waited in the queue
+   *
+   * @return the average wait time, in nanoseconds
+   */
+  public final double getAverageWaitTime() {
+    return this.m_averageWaitTime;
+  }
+
+  /**
+   * Get the average time the completed tasks needed to run
+   *
+   * @return the average run time, in nanoseconds
+   */
+  public final double getAverageRunTime() {
+    return this.m_averageRunTime;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void toText(final ITextOutput textOut) {
+    textOut.append("workers="); //$NON-NLS-1$
+    textOut.append(this.m_workers);
+    textOut.append(", queueBound="); //$NON-NLS-1$
+    textOut.append(this.m_queueBound);
+    textOut.append(", queueFullPolicy="); //$NON-NLS-1$
+    textOut.append(this.m_queueFullPolicy.name());
+    textOut.append(", queued="); //$NON-NLS-1$
+    textOut.append(this.m_queued);
+    textOut.append(", running="); //$NON-NLS-1$
+    textOut.append(this.m_running);
+    textOut.append(", completed="); //$NON-NLS-1$
+    textOut.append(this.m_completed);
+    textOut.append(", stolen="); //$NON-NLS-1$
+    textOut.append(this.m_stolen);
+    textOut.append(", rejected="); //$NON-NLS-1$
+    textOut.append(this.m_rejected);
+    textOut.append(", averageWaitTime="); //$NON-NLS-1$
+    textOut.append(this.m_averageWaitTime);
+    textOut.append("ns, averageRunTime="); //$NON-NLS-1$
+    textOut.append(this.m_averageRunTime);
+    textOut.append("ns"); //$NON-NLS-1$
+  }
+}
@@ -0,0 +1,115 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import org.optimizationBenchmarking.utils.IScope;
+
+/**
+ * The common interface for buffers intended to be used by different
+ * threads: A producer {@link #writeToBuffer(Object, int, int) writes} data
+ * into the buffer and a consumer {@link #readFromBuffer(Object, int, int)}
+ * reads the data from the buffer. Reading blocks until either data becomes
+ * available or the buffer is {@link #close() closed}. Whether writing may
+ * block depends on the implementation: The unbounded
+ * {@link ProducerConsumerBuffer} never blocks, while the fixed-capacity
+ * {@link RingBuffer} blocks while it is full.
+ *
+ * @param <T>
+ *          the array type
+ */
+public interface IProducerConsumerBuffer<T> extends IScope {
+
+  /**
+   * Store a number of elements into the buffer. If the buffer has been
+   * {@link #close() closed}, nothing will be done.
+   *
+   * @param source
+   *          the source
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of elements to store
+   */
+  public abstract void writeToBuffer(final T source, final int start,
+      final int count);
+
+  /**
+   * Blocking read (at most) a number ({@code count} of elements from the
+   * buffer into a destination array. This method may read less if fewer
+   * elements are in the buffer.
+   *
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of elements to read
+   * @return the <em>actual</em> number of elements read (may be less than
+   *         {@code count}, or {@code -1} if the buffer is empty and
+   *         {@link #close() closed}.
+   */
+  public abstract int readFromBuffer(final T dest, final int start,
+      final int count);
+
+  /**
+   * Blocking read exactly a number ({@code count} of elements from the
+   * buffer into a destination array, if possible. This method may read
+   * less <em>only</em> if the buffer was {@link #close() closed} and there
+   * can never be enough elements in it to satisfy the request.
+   *
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of elements to read
+   * @return the <em>actual</em> number of elements read (may be less than
+   *         {@code count}, or {@code -1} if the buffer is empty and
+   *         {@link #close() closed}.
+   */
+  public abstract int readFromBufferFully(final T dest, final int start,
+      final int count);
+
+  /**
+   * Blocking skip over (delete) (at most) a number ({@code count} of
+   * elements from the buffer. This method may delete/skip over less if
+   * fewer elements are in the buffer.
+   *
+   * @param count
+   *          the number of elements to delete/skip over
+   * @return the <em>actual</em> number of elements skipped over (may be
+   *         less than {@code count}, or {@code -1} if the buffer is empty
+   *         and {@link #close() closed}.
+   */
+  public abstract int deleteFromBuffer(final int count);
+
+  /**
+   * Blocking skip over (delete) exactly a number ({@code count} of
+   * elements from the buffer, if possible. This method may delete less
+   * <em>only</em> if the buffer was {@link #close() closed} and there can
+   * never be enough elements in it to satisfy the request.
+   *
+   * @param count
+   *          the number of elements to delete
+   * @return the <em>actual</em> number of elements deleted/skipped over
+   *         (may be less than {@code count}, or {@code -1} if the buffer
+   *         is empty and {@link #close() closed}.
+   */
+  public abstract int deleteFromBufferFully(final int count);
+
+  /** Discard all data in the buffer. */
+  public abstract void discardEverythingInBuffer();
+
+  /**
+   * Get the current number of elements in the buffer
+   *
+   * @return the current number of elements in the buffer
+   */
+  public abstract int size();
+
+  /**
+   * Has this buffer been closed?
+   *
+   * @return {@code true} if the buffer has been closed, {@code false}
+   *         otherwise
+   */
+  public abstract boolean isClosed();
+}
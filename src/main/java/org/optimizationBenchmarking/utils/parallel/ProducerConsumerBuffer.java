@@ -1,7 +1,5 @@
 package org.optimizationBenchmarking.utils.parallel;
 
-import org.optimizationBenchmarking.utils.IScope;
-
 /**
  * <p>
  * An internal base class for buffers intended to be used by different
@@ -14,13 +12,16 @@ import org.optimizationBenchmarking.utils.IScope;
  * </p>
  * <p>
  * The {@link #m_buffer internal array} is used as a ring buffer. However,
- * different from a traditional ring buffer, it may grow infinitely.
+ * different from a traditional ring buffer, it may grow infinitely. If a
+ * fixed capacity and lock-free access by exactly one producer and one
+ * consumer are preferred, use a {@link RingBuffer} instead.
  * </p>
  *
  * @param <T>
  *          the array type
  */
-public abstract class ProducerConsumerBuffer<T> implements IScope {
+public abstract class ProducerConsumerBuffer<T>
+    implements IProducerConsumerBuffer<T> {
 
   /** the buffer */
   private T m_buffer;
@@ -68,20 +69,8 @@ public abstract class ProducerConsumerBuffer<T> implements IScope {
    */
   abstract int _length(final T array);
 
-  /**
-   * Store a number of elements into the buffer. If {@code count>0}, then
-   * any waiting reader will be {@link java.lang.Object#notifyAll()
-   * notified}. If the current internal backing store is not big enough to
-   * hold the data, a new store will be allocated. If the buffer has been
-   * {@link #close() closed}, nothing will be done.
-   *
-   * @param source
-   *          the source
-   * @param start
-   *          the start index
-   * @param count
-   *          the number of elements to store
-   */
+  /** {@inheritDoc} */
+  @Override
   public final void writeToBuffer(final T source, final int start,
       final int count) {
     T bufferArray;
@@ -153,42 +142,15 @@ public abstract class ProducerConsumerBuffer<T> implements IScope {
     }
   }
 
-  /**
-   * Blocking read (at most) a number ({@code count} of bytes from the
-   * buffer into a destination array. This method may read less if fewer
-   * elements are in the buffer.
-   *
-   * @param dest
-   *          the destination array
-   * @param start
-   *          the start index
-   * @param count
-   *          the number of bytes to read
-   * @return the <em>actual</em> number of bytes read (may be less than
-   *         {@code count}, or {@code -1} if the buffer is empty and
-   *         {@link #close() closed}.
-   */
+  /** {@inheritDoc} */
+  @Override
   public final int readFromBuffer(final T dest, final int start,
       final int count) {
     return this.__readFromBuffer(dest, start, count, false, true);
   }
 
-  /**
-   * Blocking read exactly a number ({@code count} of bytes from the buffer
-   * into a destination array, if possible. This method may read less
-   * <em>only</em> if the buffer was {@link #close() closed} and there can
-   * never be enough elements in it to satisfy the request.
-   *
-   * @param dest
-   *          the destination array
-   * @param start
-   *          the start index
-   * @param count
-   *          the number of bytes to read
-   * @return the <em>actual</em> number of bytes read (may be less than
-   *         {@code count}, or {@code -1} if the buffer is empty and
-   *         {@link #close() closed}.
-   */
+  /** {@inheritDoc} */
+  @Override
   public final int readFromBufferFully(final T dest, final int start,
       final int count) {
     return this.__readFromBuffer(dest, start, count, true, true);
@@ -283,49 +245,28 @@ public abstract class ProducerConsumerBuffer<T> implements IScope {
     }
   }
 
-  /**
-   * Blocking skip over (delete) (at most) a number ({@code count} of bytes
-   * from the buffer. This method may delete/skip over less if fewer
-   * elements are in the buffer.
-   *
-   * @param count
-   *          the number of bytes to delete/skip over
-   * @return the <em>actual</em> number of bytes skipped over (may be less
-   *         than {@code count}, or {@code -1} if the buffer is empty and
-   *         {@link #close() closed}.
-   */
+  /** {@inheritDoc} */
+  @Override
   public final int deleteFromBuffer(final int count) {
     return this.__readFromBuffer(null, 0, count, false, false);
   }
 
-  /**
-   * Blocking skip over (delete) exactly a number ({@code count} of bytes
-   * from the buffer, if possible. This method may delete less
-   * <em>only</em> if the buffer was {@link #close() closed} and there can
-   * never be enough elements in it to satisfy the request.
-   *
-   * @param count
-   *          the number of bytes to delete
-   * @return the <em>actual</em> number of bytes deleted/skipped over (may
-   *         be less than {@code count}, or {@code -1} if the buffer is
-   *         empty and {@link #close() closed}.
-   */
+  /** {@inheritDoc} */
+  @Override
   public final int deleteFromBufferFully(final int count) {
     return this.__readFromBuffer(null, 0, count, true, false);
   }
 
-  /** Discard all data in the buffer. */
+  /** {@inheritDoc} */
+  @Override
   public final void discardEverythingInBuffer() {
     synchronized (this.m_synch) {
       this.m_size = this.m_readPosition = 0;
     }
   }
 
-  /**
-   * Get the current number of elements in the buffer
-   *
-   * @return the current number of elements in the buffer
-   */
+  /** {@inheritDoc} */
+  @Override
   public final int size() {
     synchronized (this.m_synch) {
       return this.m_size;
@@ -341,12 +282,8 @@ public abstract class ProducerConsumerBuffer<T> implements IScope {
     }
   }
 
-  /**
-   * Has this buffer been closed?
-   *
-   * @return {@code true} if the buffer has been closed, {@code false}
-   *         otherwise
-   */
+  /** {@inheritDoc} */
+  @Override
   public final boolean isClosed() {
     return this.m_closed;
   }
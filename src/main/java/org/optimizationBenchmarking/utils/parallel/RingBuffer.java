@@ -0,0 +1,518 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * A lock-free ring buffer with a fixed capacity for exactly one producer
+ * thread and one consumer thread: The producer
+ * {@link #writeToBuffer(Object, int, int) writes} data into the buffer and
+ * the consumer {@link #readFromBuffer(Object, int, int) reads} the data
+ * from the buffer. Different from {@link ProducerConsumerBuffer}, which
+ * takes a monitor on every access and grows its backing array without
+ * limit, the backing array of this buffer is allocated once and never
+ * copied. The producer only ever moves the write position and the
+ * consumer only ever moves the read position, so neither of them needs a
+ * lock.
+ * </p>
+ * <p>
+ * Both sides offer blocking and non-blocking access:
+ * {@link #writeToBuffer(Object, int, int)} blocks while the buffer is full
+ * and {@link #readFromBuffer(Object, int, int)} blocks while it is empty,
+ * whereas {@link #tryWriteToBuffer(Object, int, int)} and
+ * {@link #tryReadFromBuffer(Object, int, int)} transfer as many elements
+ * as possible right away and return. A blocked thread is only woken up
+ * once a worthwhile amount of data or space has become available (or the
+ * buffer has been {@link #close() closed}), not on every single access,
+ * and the other side only touches it at all if it is actually waiting.
+ * </p>
+ * <p>
+ * Since the writer blocks while the buffer is full, a consumer which
+ * stops reading will eventually stall the producer. This buffer should
+ * therefore only be used if the data is consumed continuously, otherwise
+ * the unbounded {@link ProducerConsumerBuffer} is the safe choice.
+ * </p>
+ *
+ * @param <T>
+ *          the array type
+ */
+public abstract class RingBuffer<T> implements IProducerConsumerBuffer<T> {
+
+  /** the default capacity: {@value} */
+  public static final int DEFAULT_CAPACITY = 65536;
+
+  /** the maximum time to park, in nanoseconds */
+  private static final long MAX_PARK = 100000000L;
+
+  /** the buffer */
+  private final T m_buffer;
+
+  /** the mask to turn a position into an index */
+  private final int m_mask;
+
+  /** the total number of elements ever read, only moved by the consumer */
+  private final AtomicLong m_readPosition;
+
+  /** the total number of elements ever written, only moved by the producer */
+  private final AtomicLong m_writePosition;
+
+  /** the waiting consumer thread, or {@code null} */
+  private volatile Thread m_reader;
+
+  /** the number of elements the waiting consumer needs, or {@code 0} */
+  private volatile int m_readerNeeds;
+
+  /** the waiting producer thread, or {@code null} */
+  private volatile Thread m_writer;
+
+  /** the number of free slots the waiting producer needs, or {@code 0} */
+  private volatile int m_writerNeeds;
+
+  /** is the buffer closed? */
+  private volatile boolean m_closed;
+
+  /**
+   * Create the buffer
+   *
+   * @param capacity
+   *          the capacity, which will be rounded up to the next power of
+   *          two, or {@code 0} for the {@linkplain #DEFAULT_CAPACITY
+   *          default}
+   */
+  protected RingBuffer(final int capacity) {
+    super();
+
+    int size;
+
+    if (capacity < 0) {
+      throw new IllegalArgumentException(//
+          "Ring buffer capacity must not be negative, but is " //$NON-NLS-1$
+              + capacity + '.');
+    }
+    if (capacity > (1 << 30)) {
+      throw new IllegalArgumentException(//
+          "Ring buffer capacity must not exceed 2^30, but is " //$NON-NLS-1$
+              + capacity + '.');
+    }
+
+    size = ((capacity <= 0) ? RingBuffer.DEFAULT_CAPACITY : capacity);
+    if (size < 16) {
+      size = 16;
+    }
+    size = Integer.highestOneBit(size);
+    if (size < capacity) {
+      size <<= 1;
+    }
+
+    this.m_buffer = this._new(size);
+    this.m_mask = (size - 1);
+    this.m_readPosition = new AtomicLong();
+    this.m_writePosition = new AtomicLong();
+  }
+
+  /**
+   * Create an array of the given size
+   *
+   * @param size
+   *          the size
+   * @return the array
+   */
+  abstract T _new(final int size);
+
+  /**
+   * Get the length of an array
+   *
+   * @param array
+   *          the array
+   * @return its length
+   */
+  abstract int _length(final T array);
+
+  /**
+   * Get the capacity of this buffer, i.e., the maximum number of elements
+   * it can hold at the same time
+   *
+   * @return the capacity of this buffer
+   */
+  public final int capacity() {
+    return (this.m_mask + 1);
+  }
+
+  /**
+   * Check the array bounds
+   *
+   * @param array
+   *          the array
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of elements
+   * @param write
+   *          are we writing to the buffer?
+   */
+  private final void __check(final T array, final int start,
+      final int count, final boolean write) {
+    int s;
+
+    s = 0;
+    if ((array == null) || (count < 0) || (start < 0)
+        || ((count + start) > (s = this._length(array)))) {
+      throw new IllegalArgumentException(//
+          (write ? "Reading " : "Writing ") + //$NON-NLS-1$//$NON-NLS-2$
+              count + " elements starting at " + start//$NON-NLS-1$
+              + (write ? " from array " : " to array ") //$NON-NLS-1$//$NON-NLS-2$
+              + array + " of length " + s//$NON-NLS-1$
+              + " is not possible.");//$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Copy as many elements as currently possible into the buffer and
+   * publish them. This must only be called by the producer.
+   *
+   * @param source
+   *          the source
+   * @param start
+   *          the start index
+   * @param count
+   *          the maximum number of elements to store
+   * @return the number of elements stored
+   */
+  private final int __write(final T source, final int start,
+      final int count) {
+    final long writePosition;
+    final int capacity, amount, index, first, needs;
+    final Thread reader;
+
+    writePosition = this.m_writePosition.get();
+    capacity = (this.m_mask + 1);
+    amount = Math.min(count,
+        (capacity - ((int) (writePosition - this.m_readPosition.get()))));
+    if (amount <= 0) {
+      return 0;
+    }
+
+    index = (((int) writePosition) & this.m_mask);
+    first = Math.min(amount, (capacity - index));
+    System.arraycopy(source, start, this.m_buffer, index, first);
+    if (first < amount) {
+      System.arraycopy(source, (start + first), this.m_buffer, 0,
+          (amount - first));
+    }
+
+    // The volatile write publishes the data and, together with the
+    // volatile read of m_readerNeeds, guarantees that a consumer going to
+    // sleep either sees the new data or is seen by us.
+    this.m_writePosition.set(writePosition + amount);
+
+    needs = this.m_readerNeeds;
+    if ((needs > 0) && ((writePosition + amount)
+        - this.m_readPosition.get()) >= needs) {
+      reader = this.m_reader;
+      if (reader != null) {
+        LockSupport.unpark(reader);
+      }
+    }
+    return amount;
+  }
+
+  /**
+   * Copy (or skip) as many elements as currently possible out of the
+   * buffer and free their slots. This must only be called by the
+   * consumer.
+   *
+   * @param dest
+   *          the destination array, or {@code null} to skip
+   * @param start
+   *          the start index
+   * @param count
+   *          the maximum number of elements to read
+   * @return the number of elements read
+   */
+  private final int __read(final T dest, final int start,
+      final int count) {
+    final long readPosition;
+    final int capacity, amount, index, first, needs;
+    final Thread writer;
+
+    readPosition = this.m_readPosition.get();
+    amount = Math.min(count,
+        ((int) (this.m_writePosition.get() - readPosition)));
+    if (amount <= 0) {
+      return 0;
+    }
+
+    if (dest != null) {
+      capacity = (this.m_mask + 1);
+      index = (((int) readPosition) & this.m_mask);
+      first = Math.min(amount, (capacity - index));
+      System.arraycopy(this.m_buffer, index, dest, start, first);
+      if (first < amount) {
+        System.arraycopy(this.m_buffer, 0, dest, (start + first),
+            (amount - first));
+      }
+    }
+
+    this.m_readPosition.set(readPosition + amount);
+
+    needs = this.m_writerNeeds;
+    if ((needs > 0) && (((this.m_mask + 1)
+        - ((int) (this.m_writePosition.get() - (readPosition + amount))))//
+        >= needs)) {
+      writer = this.m_writer;
+      if (writer != null) {
+        LockSupport.unpark(writer);
+      }
+    }
+    return amount;
+  }
+
+  /**
+   * Store a number of elements into the buffer, blocking while the buffer
+   * is full. If the buffer is {@link #close() closed} before or while
+   * writing, the remaining elements are silently discarded. This method
+   * must only be called by the producer thread.
+   *
+   * @param source
+   *          the source
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of elements to store
+   */
+  @Override
+  public final void writeToBuffer(final T source, final int start,
+      final int count) {
+    final Thread self;
+    int offset, remaining, written, needs;
+
+    this.__check(source, start, count, true);
+
+    offset = start;
+    remaining = count;
+    self = Thread.currentThread();
+    while ((remaining > 0) && (!(this.m_closed))) {
+      written = this.__write(source, offset, remaining);
+      if (written > 0) {
+        offset += written;
+        remaining -= written;
+        continue;
+      }
+
+      // The buffer is full: We wait until either all remaining data or
+      // half of the buffer fits, so that we are not woken up for every
+      // single element the consumer reads.
+      needs = Math.min(remaining, ((this.m_mask + 1) >>> 1));
+      this.m_writer = self;
+      this.m_writerNeeds = needs;
+      try {
+        if ((!(this.m_closed)) && (((this.m_mask + 1) - ((int) (//
+        this.m_writePosition.get() - this.m_readPosition.get()))) < needs)) {
+          LockSupport.parkNanos(this, RingBuffer.MAX_PARK);
+        }
+      } finally {
+        this.m_writerNeeds = 0;
+        this.m_writer = null;
+      }
+    }
+  }
+
+  /**
+   * Store as many of the given elements into the buffer as currently
+   * possible, without blocking. This method must only be called by the
+   * producer thread.
+   *
+   * @param source
+   *          the source
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of elements to store
+   * @return the number of elements stored, which is {@code 0} if the
+   *         buffer is full, or {@code -1} if the buffer has been
+   *         {@link #close() closed}
+   */
+  public final int tryWriteToBuffer(final T source, final int start,
+      final int count) {
+    this.__check(source, start, count, true);
+    if (this.m_closed) {
+      return (-1);
+    }
+    return this.__write(source, start, count);
+  }
+
+  /**
+   * Read from the buffer, blocking if necessary.
+   *
+   * @param dest
+   *          the destination array, or {@code null} to skip
+   * @param start
+   *          the start index
+   * @param count
+   *          the number of elements to read
+   * @param fully
+   *          block until the required amount of data is available?
+   * @return the <em>actual</em> number of elements read, or {@code -1}
+   *         if the buffer is empty and {@link #close() closed}
+   */
+  private final int __readBlocking(final T dest, final int start,
+      final int count, final boolean fully) {
+    final Thread self;
+    int offset, remaining, read, needs;
+
+    if (count <= 0) {
+      return ((this.m_closed && (this.size() <= 0)) ? (-1) : 0);
+    }
+
+    offset = start;
+    remaining = count;
+    self = Thread.currentThread();
+    for (;;) {
+      read = this.__read(dest, offset, remaining);
+      if (read > 0) {
+        offset += read;
+        remaining -= read;
+        if ((remaining <= 0) || (!fully)) {
+          return (count - remaining);
+        }
+        continue;
+      }
+
+      if (this.m_closed) {
+        // the producer may have written data before closing the buffer
+        read = this.__read(dest, offset, remaining);
+        if (read > 0) {
+          offset += read;
+          remaining -= read;
+          continue;
+        }
+        return ((remaining < count) ? (count - remaining) : (-1));
+      }
+
+      // The buffer is empty: When reading fully, we wait until the
+      // remaining data (or half of the buffer) is available, so that we
+      // are not woken up for every single element the producer writes.
+      needs = (fully ? Math.min(remaining, ((this.m_mask + 1) >>> 1)) : 1);
+      this.m_reader = self;
+      this.m_readerNeeds = needs;
+      try {
+        if ((!(this.m_closed)) && ((this.m_writePosition.get()
+            - this.m_readPosition.get()) < needs)) {
+          LockSupport.parkNanos(this, RingBuffer.MAX_PARK);
+        }
+      } finally {
+        this.m_readerNeeds = 0;
+        this.m_reader = null;
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc} This method must only be called by the consumer
+   * thread.
+   */
+  @Override
+  public final int readFromBuffer(final T dest, final int start,
+      final int count) {
+    this.__check(dest, start, count, false);
+    return this.__readBlocking(dest, start, count, false);
+  }
+
+  /**
+   * {@inheritDoc} This method must only be called by the consumer
+   * thread.
+   */
+  @Override
+  public final int readFromBufferFully(final T dest, final int start,
+      final int count) {
+    this.__check(dest, start, count, false);
+    return this.__readBlocking(dest, start, count, true);
+  }
+
+  /**
+   * Read as many elements from the buffer as currently available, but at
+   * most {@code count}, without blocking. This method must only be called
+   * by the consumer thread.
+   *
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the start index
+   * @param count
+   *          the maximum number of elements to read
+   * @return the number of elements read, which is {@code 0} if the buffer
+   *         is empty, or {@code -1} if the buffer is empty and
+   *         {@link #close() closed}
+   */
+  public final int tryReadFromBuffer(final T dest, final int start,
+      final int count) {
+    final boolean closed;
+    final int read;
+
+    this.__check(dest, start, count, false);
+    closed = this.m_closed;
+    read = this.__read(dest, start, count);
+    return (((read <= 0) && closed && (this.size() <= 0)) ? (-1) : read);
+  }
+
+  /**
+   * {@inheritDoc} This method must only be called by the consumer
+   * thread.
+   */
+  @Override
+  public final int deleteFromBuffer(final int count) {
+    return this.__readBlocking(null, 0, count, false);
+  }
+
+  /**
+   * {@inheritDoc} This method must only be called by the consumer
+   * thread.
+   */
+  @Override
+  public final int deleteFromBufferFully(final int count) {
+    return this.__readBlocking(null, 0, count, true);
+  }
+
+  /**
+   * {@inheritDoc} This method must only be called by the consumer
+   * thread.
+   */
+  @Override
+  public final void discardEverythingInBuffer() {
+    this.__read(null, 0, Integer.MAX_VALUE);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int size() {
+    final long readPosition;
+    readPosition = this.m_readPosition.get();
+    return ((int) (this.m_writePosition.get() - readPosition));
+  }
+
+  /**
+   * {@inheritDoc} Closing the buffer wakes up any waiting producer or
+   * consumer. It can be done by any thread.
+   */
+  @Override
+  public final void close() {
+    Thread thread;
+
+    this.m_closed = true;
+    thread = this.m_reader;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+    thread = this.m_writer;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isClosed() {
+    return this.m_closed;
+  }
+}
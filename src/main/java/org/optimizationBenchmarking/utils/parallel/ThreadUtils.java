@@ -0,0 +1,142 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import java.lang.reflect.Method;
+
+import org.optimizationBenchmarking.utils.config.Configuration;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+
+/**
+ * <p>
+ * Utilities for creating threads for jobs which spend most of their time
+ * waiting for I/O, such as the threads shoveling data to and from external
+ * processes.
+ * </p>
+ * <p>
+ * If the Java virtual machine we run on supports virtual threads (i.e.,
+ * provides {@code Thread.ofVirtual()}), such jobs are executed in virtual
+ * threads, which are much cheaper than platform threads, so that hundreds
+ * of them can block at the same time without exhausting the resources of
+ * the system. Otherwise, we fall back to daemon platform threads. Since
+ * this library targets older Java versions, virtual threads are accessed
+ * via reflection, once, when this class is loaded. Their use can be
+ * disabled by setting parameter {@link #PARAM_VIRTUAL_THREADS} to
+ * {@code false}.
+ * </p>
+ */
+public final class ThreadUtils {
+
+  /**
+   * the parameter which, if set to {@code false} in the
+   * {@linkplain org.optimizationBenchmarking.utils.config.Configuration#getRoot()
+   * root configuration} or as system property, disables the use of
+   * virtual threads: {@value}
+   */
+  public static final String PARAM_VIRTUAL_THREADS = "useVirtualThreads"; //$NON-NLS-1$
+
+  /** the forbidden constructor */
+  private ThreadUtils() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Check whether virtual threads are supported and enabled.
+   *
+   * @return {@code true} if {@link #createIOThread(String, Runnable)}
+   *         creates virtual threads, {@code false} if it creates platform
+   *         threads
+   */
+  public static final boolean hasVirtualThreads() {
+    return (__VirtualThreads.OF_VIRTUAL != null);
+  }
+
+  /**
+   * Create a new, not yet started, thread for a job which spends most of
+   * its time waiting for I/O. This will be a virtual thread if
+   * {@linkplain #hasVirtualThreads() supported} and a daemon platform
+   * thread otherwise.
+   *
+   * @param name
+   *          the name of the thread
+   * @param job
+   *          the job to run
+   * @return the new thread
+   */
+  public static final Thread createIOThread(final String name,
+      final Runnable job) {
+    final Thread thread;
+    Object builder;
+
+    if (job == null) {
+      throw new IllegalArgumentException(//
+          "Job to run must not be null."); //$NON-NLS-1$
+    }
+
+    if (__VirtualThreads.OF_VIRTUAL != null) {
+      try {
+        builder = __VirtualThreads.OF_VIRTUAL.invoke(null);
+        if (name != null) {
+          builder = __VirtualThreads.NAME.invoke(builder, name);
+        }
+        return ((Thread) (__VirtualThreads.UNSTARTED.invoke(builder,
+            job)));
+      } catch (@SuppressWarnings("unused") final Throwable error) {
+        // fall back to platform threads
+      }
+    }
+
+    thread = ((name != null) ? new Thread(job, name) : new Thread(job));
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /** the holder for the reflective access to virtual threads */
+  private static final class __VirtualThreads {
+
+    /** the method {@code Thread.ofVirtual()}, or {@code null} */
+    static final Method OF_VIRTUAL;
+    /** the method {@code Thread.Builder.name(String)} */
+    static final Method NAME;
+    /** the method {@code Thread.Builder.unstarted(Runnable)} */
+    static final Method UNSTARTED;
+
+    static {
+      Method ofVirtual, name, unstarted;
+      Class<?> builder;
+
+      ofVirtual = name = unstarted = null;
+      try {
+        if (Configuration.getRoot()
+            .getBoolean(ThreadUtils.PARAM_VIRTUAL_THREADS, true)) {
+          builder = Class.forName("java.lang.Thread$Builder"); //$NON-NLS-1$
+          name = builder.getMethod("name", String.class); //$NON-NLS-1$
+          unstarted = builder.getMethod("unstarted", Runnable.class); //$NON-NLS-1$
+          ofVirtual = Thread.class.getMethod("ofVirtual"); //$NON-NLS-1$
+          // check that everything works
+          ((Thread) (unstarted.invoke(ofVirtual.invoke(null),
+              new __Nothing()))).getName();
+        }
+      } catch (@SuppressWarnings("unused") final Throwable error) {
+        ofVirtual = null; // not supported
+      }
+
+      OF_VIRTUAL = ofVirtual;
+      NAME = name;
+      UNSTARTED = unstarted;
+    }
+  }
+
+  /** a job doing nothing */
+  private static final class __Nothing implements Runnable {
+
+    /** create */
+    __Nothing() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      // nothing
+    }
+  }
+}
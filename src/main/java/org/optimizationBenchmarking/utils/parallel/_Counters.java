@@ -0,0 +1,26 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+/**
+ * The execution counters of one thread. Each {@link _Worker} owns one
+ * instance which only it writes to, so no atomic operations are needed
+ * and workers never contend on their counters. Readers just sum up the
+ * (volatile) values of all instances.
+ */
+final class _Counters {
+
+  /** the number of tasks started */
+  volatile long m_started;
+  /** the number of tasks completed */
+  volatile long m_completed;
+  /** the number of tasks stolen from other workers */
+  volatile long m_stolen;
+  /** the total nanoseconds the started tasks have waited */
+  volatile long m_waitTime;
+  /** the total nanoseconds the completed tasks have run */
+  volatile long m_runTime;
+
+  /** create */
+  _Counters() {
+    super();
+  }
+}
@@ -0,0 +1,327 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The base class for the task schedulers behind {@link Execute}. A
+ * scheduler owns a fixed set of {@link _Worker worker threads} and the
+ * data structures holding the {@link _Task tasks} which wait for
+ * execution. It also enforces the bound on the number of queued tasks and
+ * keeps the execution statistics.
+ */
+abstract class _Scheduler {
+
+  /** the worker threads */
+  final _Worker[] m_workers;
+
+  /** the maximum number of queued tasks */
+  private final int m_bound;
+
+  /** the policy to follow if the queue is full */
+  private final EQueueFullPolicy m_policy;
+
+  /** the name prefix of the worker threads */
+  final String m_name;
+
+  /** the number of tasks submitted but not yet started or canceled */
+  private final AtomicInteger m_queued;
+
+  /** the number of threads blocked because the queue is full */
+  private final AtomicInteger m_blocked;
+
+  /** the number of rejected tasks */
+  private final AtomicLong m_rejected;
+
+  /** the synchronizer for threads waiting for space in the queue */
+  private final Object m_fullSynch;
+
+  /** the counters for tasks executed by threads other than the workers */
+  private final _Counters m_external;
+
+  /**
+   * create the scheduler
+   *
+   * @param workers
+   *          the number of worker threads
+   * @param bound
+   *          the maximum number of queued tasks
+   * @param policy
+   *          the policy to follow if the queue is full
+   * @param name
+   *          the name prefix of the worker threads
+   */
+  _Scheduler(final int workers, final int bound,
+      final EQueueFullPolicy policy, final String name) {
+    super();
+
+    if (workers < 0) {
+      throw new IllegalArgumentException(//
+          "The number of worker threads must not be negative, but " //$NON-NLS-1$
+              + workers + " were specified."); //$NON-NLS-1$
+    }
+    if (bound <= 0) {
+      throw new IllegalArgumentException(//
+          "The queue bound must be positive, but is " //$NON-NLS-1$
+              + bound + '.');
+    }
+    if (policy == null) {
+      throw new IllegalArgumentException(//
+          "The queue-full policy must not be null."); //$NON-NLS-1$
+    }
+    if (name == null) {
+      throw new IllegalArgumentException(//
+          "The worker thread name must not be null."); //$NON-NLS-1$
+    }
+
+    this.m_workers = new _Worker[workers];
+    this.m_bound = bound;
+    this.m_policy = policy;
+    this.m_name = name;
+    this.m_queued = new AtomicInteger();
+    this.m_blocked = new AtomicInteger();
+    this.m_rejected = new AtomicLong();
+    this.m_fullSynch = new Object();
+    this.m_external = new _Counters();
+  }
+
+  /**
+   * Create and start the worker threads. This must be called after the
+   * scheduler has been fully constructed.
+   */
+  final void _start() {
+    int index;
+
+    for (index = 0; index < this.m_workers.length; index++) {
+      this.m_workers[index] = new _Worker(this, index, this.m_name);
+    }
+    for (final _Worker worker : this.m_workers) {
+      worker.start();
+    }
+  }
+
+  /**
+   * Get the worker executing the current thread, if it belongs to this
+   * scheduler
+   *
+   * @return the worker, or {@code null} if the current thread is not a
+   *         worker of this scheduler
+   */
+  final _Worker _currentWorker() {
+    final Thread thread;
+    final _Worker worker;
+
+    thread = Thread.currentThread();
+    if (thread instanceof _Worker) {
+      worker = ((_Worker) thread);
+      if (worker.m_owner == this) {
+        return worker;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Submit a new task, while respecting the queue bound.
+   *
+   * @param task
+   *          the task
+   */
+  final void _submit(final _Task task) {
+    for (;;) {
+      if (this.m_queued.incrementAndGet() <= this.m_bound) {
+        task.m_submitTime = System.nanoTime();
+        this._enqueue(task);
+        return;
+      }
+
+      // The queue is full.
+      switch (this.m_policy) {
+        case CALLER_RUNS: {
+          // The task is counted as queued and _run will un-count it.
+          task.m_submitTime = System.nanoTime();
+          task._run();
+          return;
+        }
+
+        case BLOCK: {
+          if (this._currentWorker() != null) {
+            // Worker threads must not block, as this may dead-lock the
+            // pool: So we run the task directly.
+            task.m_submitTime = System.nanoTime();
+            task._run();
+            return;
+          }
+          this.m_queued.decrementAndGet();
+          synchronized (this.m_fullSynch) {
+            // We first register as blocked and then check the queue size:
+            // Any task starting after our check will see us and notify
+            // us. The timeout is just an additional safety net.
+            this.m_blocked.incrementAndGet();
+            try {
+              while (this.m_queued.get() >= this.m_bound) {
+                this.m_fullSynch.wait(1000L);
+              }
+            } catch (@SuppressWarnings("unused") final InterruptedException iexp) {
+              /** ignore **/
+            } finally {
+              this.m_blocked.decrementAndGet();
+            }
+          }
+          continue;
+        }
+
+        default: {// case REJECT:
+          this.m_queued.decrementAndGet();
+          this.m_rejected.incrementAndGet();
+          throw new RejectedExecutionException(//
+              "The task queue is full: it already contains " //$NON-NLS-1$
+                  + this.m_bound + " tasks."); //$NON-NLS-1$
+        }
+      }
+    }
+  }
+
+  /** a task has left the queue without being started */
+  final void _dequeued() {
+    this.m_queued.decrementAndGet();
+    if (this.m_blocked.get() > 0) {
+      synchronized (this.m_fullSynch) {
+        this.m_fullSynch.notify();
+      }
+    }
+  }
+
+  /**
+   * A task is started.
+   *
+   * @param task
+   *          the task
+   * @param startTime
+   *          the start time, in nanoseconds
+   * @return the counters to be passed to {@link #_finished(_Counters, long)}
+   */
+  final _Counters _started(final _Task task, final long startTime) {
+    final _Worker worker;
+    final _Counters counters;
+    final long wait;
+
+    this._dequeued();
+    wait = (startTime - task.m_submitTime);
+
+    worker = this._currentWorker();
+    if (worker != null) {
+      counters = worker.m_counters;
+      // only the worker itself writes to its counters
+      counters.m_started++;
+      counters.m_waitTime += wait;
+      return counters;
+    }
+
+    counters = this.m_external;
+    synchronized (counters) {
+      counters.m_started++;
+      counters.m_waitTime += wait;
+    }
+    return counters;
+  }
+
+  /**
+   * A task has finished.
+   *
+   * @param counters
+   *          the counters returned by {@link #_started(_Task, long)}
+   * @param runTime
+   *          the runtime, in nanoseconds
+   */
+  final void _finished(final _Counters counters, final long runTime) {
+    if (counters == this.m_external) {
+      synchronized (counters) {
+        counters.m_completed++;
+        counters.m_runTime += runTime;
+      }
+    } else {
+      counters.m_completed++;
+      counters.m_runTime += runTime;
+    }
+  }
+
+  /**
+   * Take a snapshot of the current execution statistics.
+   *
+   * @return the statistics
+   */
+  final ExecuteStatistics _statistics() {
+    long started, completed, stolen, waitTime, runTime;
+    _Counters counters;
+
+    counters = this.m_external;
+    synchronized (counters) {
+      started = counters.m_started;
+      completed = counters.m_completed;
+      stolen = counters.m_stolen;
+      waitTime = counters.m_waitTime;
+      runTime = counters.m_runTime;
+    }
+
+    for (final _Worker worker : this.m_workers) {
+      if (worker != null) {
+        counters = worker.m_counters;
+        // read completed first, so that running is never negative
+        completed += counters.m_completed;
+        runTime += counters.m_runTime;
+        started += counters.m_started;
+        waitTime += counters.m_waitTime;
+        stolen += counters.m_stolen;
+      }
+    }
+
+    return new ExecuteStatistics(this.m_workers.length, this.m_bound,
+        this.m_policy, Math.max(0, this.m_queued.get()),
+        Math.max(0L, (started - completed)), completed, stolen,
+        this.m_rejected.get(), //
+        ((started > 0L) ? (waitTime / ((double) started)) : 0d), //
+        ((completed > 0L) ? (runTime / ((double) completed)) : 0d));
+  }
+
+  /**
+   * Add a task to the scheduler.
+   *
+   * @param task
+   *          the task
+   */
+  abstract void _enqueue(final _Task task);
+
+  /**
+   * Remove a task from the scheduler, if possible. Schedulers may ignore
+   * this request, since a task handed out after it has been canceled or
+   * executed elsewhere will not be executed again.
+   *
+   * @param task
+   *          the task
+   */
+  abstract void _delete(final _Task task);
+
+  /**
+   * Try to make sure that the given task will be executed as soon as
+   * possible, because a thread outside of the scheduler is waiting for
+   * it.
+   *
+   * @param task
+   *          the task
+   */
+  abstract void _moveToFront(final _Task task);
+
+  /**
+   * Obtain the next task to be executed by a worker thread.
+   *
+   * @param worker
+   *          the worker thread asking for the task
+   * @param wait
+   *          should we wait for a task or return {@code null}?
+   * @return the next task, or {@code null} if no task is available and
+   *         {@code wait==false}
+   */
+  abstract _Task _next(final _Worker worker, final boolean wait);
+}
@@ -0,0 +1,169 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+/**
+ * The original scheduler of {@link Execute}: All tasks are stored in a
+ * single, global doubly-linked list guarded by one monitor. The list is
+ * used as a stack, i.e., tasks are added at and taken from its front.
+ */
+final class _SharedQueueScheduler extends _Scheduler {
+
+  /** the synchronizer object */
+  private final Object m_synch;
+
+  /** the queue of tasks */
+  private volatile _Task m_taskQueue;
+
+  /**
+   * create the scheduler
+   *
+   * @param workers
+   *          the number of worker threads
+   * @param bound
+   *          the maximum number of queued tasks
+   * @param policy
+   *          the policy to follow if the queue is full
+   * @param name
+   *          the name prefix of the worker threads
+   */
+  _SharedQueueScheduler(final int workers, final int bound,
+      final EQueueFullPolicy policy, final String name) {
+    super(workers, bound, policy, name);
+    this.m_synch = new Object();
+  }
+
+  /**
+   * Add a task to the queue. Actually: Put it at the front of the queue,
+   * as our queue is more something like a stack represented as linked list
+   * of {@link _Task} objects.
+   *
+   * @param task
+   *          the task
+   */
+  @Override
+  final void _enqueue(final _Task task) {
+    _Task queue;
+    synchronized (this.m_synch) {
+      if (!(task.m_inQueue)) {
+        // extract and replace old head of queue
+        queue = this.m_taskQueue;
+        this.m_taskQueue = task;
+
+        // re-wire pointers in linked list
+        task.m_nextInQueue = queue;
+        if (queue != null) {
+          queue.m_prevInQueue = task;
+        }
+
+        task.m_inQueue = true; // mark the task as enqueued
+        this.m_synch.notify(); // wake waiting worker
+      }
+    }
+  }
+
+  /**
+   * delete a task from the queue
+   *
+   * @param task
+   *          the task
+   */
+  @Override
+  final void _delete(final _Task task) {
+    _Task oldPrev, oldNext;
+
+    synchronized (this.m_synch) {
+      if (task.m_inQueue) {
+        task.m_inQueue = false;// mark task as de-queued
+
+        // remember old previous and next pointers and null them for GC
+        oldPrev = task.m_prevInQueue;
+        task.m_prevInQueue = null;
+        oldNext = task.m_nextInQueue;
+        task.m_nextInQueue = null;
+
+        if (oldPrev != null) {
+          // we were not the first element in the queue, let our
+          // predecessor link to the successor task
+          oldPrev.m_nextInQueue = oldNext;
+        } else {
+          // we were the first element in the queue, queue now points to
+          // next
+          this.m_taskQueue = oldNext;
+        }
+
+        if (oldNext != null) {
+          // there was a successor task behind us, connect to the
+          // predecessor task, if any
+          oldNext.m_prevInQueue = oldPrev;
+        }
+      }
+    }
+  }
+
+  /**
+   * Move the given task to the front of the queue (unless it has already
+   * been extracted from the queue).
+   *
+   * @param task
+   *          the task
+   */
+  @Override
+  final void _moveToFront(final _Task task) {
+    _Task oldPrev, oldNext, oldQueue;
+
+    synchronized (this.m_synch) {
+      if (task.m_inQueue) {
+
+        oldPrev = task.m_prevInQueue;
+        if (oldPrev == null) {
+          return; // we are already at the start of the queue
+        }
+        task.m_prevInQueue = null;
+
+        // re-connect previous and next task
+        oldNext = task.m_nextInQueue;
+        oldPrev.m_nextInQueue = oldNext;
+        if (oldNext != null) {
+          oldNext.m_prevInQueue = oldPrev;
+        }
+
+        // re-insert task at head of queue
+        oldQueue = this.m_taskQueue;
+        task.m_nextInQueue = oldQueue;
+        oldQueue.m_prevInQueue = task;
+        this.m_taskQueue = task;
+
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final _Task _next(final _Worker worker, final boolean wait) {
+    _Task candidate, next;
+
+    for (;;) {
+      synchronized (this.m_synch) {
+        candidate = this.m_taskQueue;
+        if (candidate != null) {
+          candidate.m_inQueue = false;
+          next = candidate.m_nextInQueue;
+          candidate.m_nextInQueue = null;
+          if (next != null) {
+            next.m_prevInQueue = null;
+          }
+          this.m_taskQueue = next;
+          return candidate;
+        }
+        if (wait) {
+          try {
+            this.m_synch.wait();
+          } catch (@SuppressWarnings("unused") final InterruptedException iexp) {
+            /** ignore **/
+          }
+          continue;
+        }
+      }
+      return null;
+    }
+  }
+}
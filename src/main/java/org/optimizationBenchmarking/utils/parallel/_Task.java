@@ -0,0 +1,331 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The internal task class wraps a runnable or a callable and provides the
+ * Future interface. A task may be handed out several times by a
+ * {@link _Scheduler}, but it will only be executed once: The first thread
+ * to invoke {@link #_run()} moves it to {@link #STATE_RUNNING} and all
+ * later invocations return immediately.
+ */
+@SuppressWarnings("rawtypes")
+final class _Task implements Future {
+
+  /** the task has just been created */
+  static final int STATE_INITIALIZED = 0;
+  /** the task has been selected for out-of-order execution */
+  static final int STATE_SELECTED = (_Task.STATE_INITIALIZED + 1);
+  /** the task is running */
+  static final int STATE_RUNNING = (_Task.STATE_SELECTED + 1);
+  /** the task is done */
+  static final int STATE_DONE = (_Task.STATE_RUNNING + 1);
+  /** the task is canceled */
+  static final int STATE_CANCELED = (_Task.STATE_DONE + 1);
+
+  /** the thread type is unknown */
+  private static final int THREAD_TYPE_UNKNOWN = 0;
+  /** the thread is a worker */
+  private static final int THREAD_TYPE_WORKER = (_Task.THREAD_TYPE_UNKNOWN
+      + 1);
+  /** the thread is not a worker */
+  private static final int THREAD_TYPE_NO_WORKER = (_Task.THREAD_TYPE_WORKER
+      + 1);
+
+  /** the next task in the queue */
+  _Task m_nextInQueue;
+  /** the previous task in the queue */
+  _Task m_prevInQueue;
+  /** is the task in the queue? */
+  volatile boolean m_inQueue;
+  /**
+   * has the task already been put into the urgent deque of a
+   * {@link _WorkStealingScheduler}?
+   */
+  boolean m_urgent;
+  /** the time when the task was submitted, in nanoseconds */
+  long m_submitTime;
+
+  /** the scheduler owning this task */
+  private final _Scheduler m_scheduler;
+  /** the synchronizer */
+  private final Object m_synch;
+  /** the state */
+  private int m_state;
+  /** the runnable */
+  private Runnable m_runnable;
+  /** the callable */
+  private Callable m_callable;
+  /** the result object */
+  private Object m_result;
+  /** the caught exception */
+  private Throwable m_error;
+
+  /**
+   * create a task, which, in this case, is a wrapper for a runnable
+   *
+   * @param scheduler
+   *          the scheduler owning the task
+   * @param runnable
+   *          the runnable
+   */
+  _Task(final _Scheduler scheduler, final Runnable runnable) {
+    super();
+    if (runnable == null) {
+      throw new IllegalArgumentException(
+          "Runnable to execute must not be null."); //$NON-NLS-1$
+    }
+    this.m_scheduler = scheduler;
+    this.m_synch = new Object();
+    this.m_runnable = runnable;
+  }
+
+  /**
+   * Create a task, which, in this case, is a wrapper for a callable
+   *
+   * @param scheduler
+   *          the scheduler owning the task
+   * @param callable
+   *          the callable
+   */
+  _Task(final _Scheduler scheduler, final Callable callable) {
+    super();
+    if (callable == null) {
+      throw new IllegalArgumentException(
+          "Callable to execute must not be null."); //$NON-NLS-1$
+    }
+    this.m_scheduler = scheduler;
+    this.m_synch = new Object();
+    this.m_callable = callable;
+  }
+
+  /**
+   * Execute the task and store the result as well as any caught
+   * exception.
+   */
+  final void _run() {
+    Runnable runnable;
+    Callable callable;
+    Object result;
+    Throwable error;
+    _Counters counters;
+    long startTime;
+
+    synchronized (this.m_synch) {
+      if (this.m_state > _Task.STATE_SELECTED) {
+        return;
+      }
+      // If we get here, we are either in STATE_INITIALIZED or
+      // STATE_SELECTED. Extract all member variables necessary for
+      // execution and already set them to null.
+      this.m_state = _Task.STATE_RUNNING;
+      runnable = this.m_runnable;
+      this.m_runnable = null;
+      callable = this.m_callable;
+      this.m_callable = null;
+    }
+
+    startTime = System.nanoTime();
+    counters = this.m_scheduler._started(this, startTime);
+
+    result = null;
+    error = null;
+    try {
+      if (runnable != null) { // We execute a runnable.
+        runnable.run();
+        runnable = null;
+      } else {// No runnable, so it must be Callable.
+        result = callable.call();
+        callable = null;
+      }
+    } catch (final Throwable theError) {
+      error = theError;// Catch and store error.
+    }
+
+    this.m_scheduler._finished(counters, (System.nanoTime() - startTime));
+
+    synchronized (this.m_synch) {
+      // OK, execution is done, update member variables and notify
+      // waiting threads.
+      this.m_state = _Task.STATE_DONE;
+      this.m_result = result;
+      this.m_error = error;
+      this.m_synch.notifyAll();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean cancel(final boolean mayInterruptIfRunning) {
+    synchronized (this.m_synch) {
+      if (this.m_state != _Task.STATE_INITIALIZED) {
+        return false;
+      }
+      this.m_state = _Task.STATE_CANCELED;
+      this.m_runnable = null;
+      this.m_callable = null;
+    }
+    this.m_scheduler._delete(this);
+    this.m_scheduler._dequeued();
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isCancelled() {
+    synchronized (this.m_synch) {
+      return (this.m_state == _Task.STATE_CANCELED);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean isDone() {
+    synchronized (this.m_synch) {
+      return (this.m_state >= _Task.STATE_DONE);
+    }
+  }
+
+  /**
+   * get the thread type: only the workers of the scheduler owning this
+   * task count as worker threads
+   *
+   * @return the thread type
+   */
+  private final int __threadType() {
+    return (this.m_scheduler._currentWorker() != null)
+        ? _Task.THREAD_TYPE_WORKER : _Task.THREAD_TYPE_NO_WORKER;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Object get()
+      throws InterruptedException, ExecutionException {
+    _Task execute;
+    int threadType;
+
+    threadType = _Task.THREAD_TYPE_UNKNOWN;
+    looper: for (;;) {
+      synchronized (this.m_synch) {
+        switcher: switch (this.m_state) {
+
+          case STATE_INITIALIZED: {
+            // The task has been initialized but is not running. It must
+            // either be in the queue or has just been extracted by a
+            // worker thread from the queue and will be executed next.
+            if (((threadType == _Task.THREAD_TYPE_UNKNOWN)
+                ? (threadType = this.__threadType())
+                : threadType) != _Task.THREAD_TYPE_WORKER) {//
+              // If we are not a worker thread, we will simply have to
+              // wait for the task to complete and then check again.
+
+              // We therefore move the task to the head of the queue in
+              // order to get it done quicker. This method does nothing
+              // if the task has already been purged from the queue.
+              this.m_scheduler._moveToFront(this);
+              // We will only wait for 1000ms. Afterwards, we move it
+              // again to the head of the queue if it was not yet
+              // executed.
+              this.m_synch.wait(1000L);
+              continue looper;
+            }
+            // If we are a worker thread, we can leave the synchronized
+            // block and execute the task directly. We therefore need to
+            // remove it from the queue.
+            this.m_state = _Task.STATE_SELECTED;
+            this.m_scheduler._delete(this);
+            execute = this;
+            break switcher;
+          }
+
+          case STATE_SELECTED:
+          case STATE_RUNNING: {
+            // The task is either selected for out-of-order execution by
+            // another worker thread or is already running (in another
+            // worker thread).
+            try {
+              // The task is currently running. If we are a worker
+              // thread, we can execute another task in the meantime.
+              if (((threadType == _Task.THREAD_TYPE_UNKNOWN)
+                  ? (threadType = this.__threadType())
+                  : threadType) == _Task.THREAD_TYPE_WORKER) {//
+                // If we are waiting for a task inside a worker thread,
+                // then this worker thread might as well do another task
+                // while waiting. In the worst case, we will wait a bit
+                // longer. That's OK with me. Anyway, we try to obtain a
+                // new task from the queue, but we don't wait for tasks
+                // to arrive if the queue is empty.
+                execute = this.m_scheduler._next(
+                    ((_Worker) (Thread.currentThread())), false);
+                if (execute != null) {
+                  // OK there was a new task. We leave the synchronized
+                  // block and execute it.
+                  break switcher;
+                }
+              }
+              // If we get here, we are either a thread outside of the
+              // Execute environment, i.e., no worker thread, or we are a
+              // worker thread and the global task queue is empty. In
+              // both cases, we have to wait.
+
+              // We will wait for at most 1000ms if we are a worker
+              // thread and then try again. Reason: Maybe the task won't
+              // have finished yet after 1000ms if we did not get
+              // notified, but new, other tasks may have come in.
+              // Obviously, for non-worker threads, no such behavior is
+              // necessary and we can just wait.
+              this.m_synch.wait(
+                  (threadType == _Task.THREAD_TYPE_WORKER) ? 1000L : 0L);
+            } catch (@SuppressWarnings("unused") final InterruptedException ie) {
+              /** ignore **/
+            }
+            continue looper;
+          }
+
+          case STATE_DONE: {
+            // The task has already been execute. This means that its
+            // error and result have been set.
+            if (this.m_error != null) {
+              // First, we check if there was an exception and if there
+              // was one, we try to re-throw it.
+              if (this.m_error instanceof RuntimeException) {
+                throw ((RuntimeException) (this.m_error));
+              }
+              if (this.m_error instanceof Error) {
+                throw ((Error) (this.m_error));
+              }
+              throw new ExecutionException(//
+                  "An error has happened while executing a parallel task via Execute.", //$NON-NLS-1$
+                  this.m_error);
+            }
+            return this.m_result;
+          }
+
+          default: { // case STATE_CANCELED:
+            // The task has been cancelled
+            throw new CancellationException(//
+                "The task has been cancelled."); //$NON-NLS-1$
+          }
+        }
+      }
+
+      // OK, we are a worker thread and can execute a task. This is
+      // either this task here, which is in STATE_SELECTED, or another
+      // task that can be executed while waiting for the current task.
+      execute._run();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final Object get(final long timeout, final TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    return this.get();
+  }
+
+}
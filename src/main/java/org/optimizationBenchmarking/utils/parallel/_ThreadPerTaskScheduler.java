@@ -0,0 +1,75 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+/**
+ * A scheduler without worker threads which starts a new thread for each
+ * task, created via
+ * {@link ThreadUtils#createIOThread(String, Runnable)}. This is intended
+ * for tasks which block on I/O for most of their time and is only
+ * sensible if {@linkplain ThreadUtils#hasVirtualThreads() virtual threads
+ * are available}.
+ */
+final class _ThreadPerTaskScheduler extends _Scheduler {
+
+  /** the name prefix of the threads */
+  private final String m_threadName;
+
+  /**
+   * create the scheduler
+   *
+   * @param name
+   *          the name prefix of the threads
+   */
+  _ThreadPerTaskScheduler(final String name) {
+    super(0, Integer.MAX_VALUE, EQueueFullPolicy.CALLER_RUNS, name);
+    this.m_threadName = (name + "-IO"); //$NON-NLS-1$
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _enqueue(final _Task task) {
+    ThreadUtils.createIOThread(this.m_threadName, new __Runner(task))
+        .start();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _delete(final _Task task) {
+    // nothing to do, the thread will find the task canceled
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _moveToFront(final _Task task) {
+    // nothing to do, the task is already being started
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final _Task _next(final _Worker worker, final boolean wait) {
+    return null;// there are no workers
+  }
+
+  /** the runnable executing a task */
+  private static final class __Runner implements Runnable {
+
+    /** the task */
+    private final _Task m_task;
+
+    /**
+     * create
+     *
+     * @param task
+     *          the task
+     */
+    __Runner(final _Task task) {
+      super();
+      this.m_task = task;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void run() {
+      this.m_task._run();
+    }
+  }
+}
@@ -0,0 +1,224 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * A work-stealing scheduler: Each worker thread has its own deque of
+ * tasks. Tasks spawned from inside a worker are pushed to the front of
+ * that worker's deque and are taken from there again in LIFO order, which
+ * keeps the data of recursively spawned sub-tasks hot in the cache and
+ * avoids any contention between workers. Tasks submitted from outside of
+ * the worker threads go into a shared submission deque. A worker whose own
+ * deque is empty first checks the submission deque and then tries to
+ * steal the oldest task from the back of the deque of a randomly chosen
+ * victim. Tasks which a thread outside of the workers is waiting for are
+ * put into an additional, usually empty, deque which all workers check
+ * first, so that they get executed as soon as possible.
+ * </p>
+ * <p>
+ * Tasks are never removed from the middle of a deque. Instead, a task
+ * which was canceled or selected for out-of-order execution by a joining
+ * thread simply stays where it is: When it is handed out later,
+ * {@link _Task#_run()} will notice that it has already been dealt with
+ * and return immediately. A task which a thread is waiting for is put into
+ * the urgent deque only once, no matter how often it is asked for.
+ * </p>
+ */
+final class _WorkStealingScheduler extends _Scheduler {
+
+  /** the deques of the worker threads */
+  private final ConcurrentLinkedDeque<_Task>[] m_deques;
+
+  /** the deque for tasks submitted from outside the worker threads */
+  private final ConcurrentLinkedDeque<_Task> m_submissions;
+
+  /** the deque for tasks which external threads are waiting for */
+  private final ConcurrentLinkedDeque<_Task> m_urgent;
+
+  /** the synchronizer on which idle workers wait */
+  private final Object m_synch;
+
+  /** the number of workers which are idle or about to become idle */
+  private final AtomicInteger m_idle;
+
+  /**
+   * create the scheduler
+   *
+   * @param workers
+   *          the number of worker threads
+   * @param bound
+   *          the maximum number of queued tasks
+   * @param policy
+   *          the policy to follow if the queue is full
+   * @param name
+   *          the name prefix of the worker threads
+   */
+  _WorkStealingScheduler(final int workers, final int bound,
+      final EQueueFullPolicy policy, final String name) {
+    super(workers, bound, policy, name);
+
+    int index;
+
+    this.m_deques = _WorkStealingScheduler.__newDeques(workers);
+    for (index = workers; (--index) >= 0;) {
+      this.m_deques[index] = new ConcurrentLinkedDeque<>();
+    }
+    this.m_submissions = new ConcurrentLinkedDeque<>();
+    this.m_urgent = new ConcurrentLinkedDeque<>();
+    this.m_synch = new Object();
+    this.m_idle = new AtomicInteger();
+  }
+
+  /**
+   * Create an array of task deques
+   *
+   * @param size
+   *          the size of the array
+   * @return the array
+   */
+  @SuppressWarnings("unchecked")
+  private static final ConcurrentLinkedDeque<_Task>[] __newDeques(
+      final int size) {
+    return ((ConcurrentLinkedDeque<_Task>[]) //
+    (new ConcurrentLinkedDeque<?>[size]));
+  }
+
+  /** wake up an idle worker, if there is any */
+  private final void __signal() {
+    if (this.m_idle.get() > 0) {
+      synchronized (this.m_synch) {
+        this.m_synch.notify();
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _enqueue(final _Task task) {
+    final _Worker worker;
+
+    worker = this._currentWorker();
+    if (worker != null) {
+      // Tasks spawned inside a worker go to the front of its own deque.
+      this.m_deques[worker.m_index].offerFirst(task);
+      this.__signal();
+      return;
+    }
+
+    this.m_submissions.offerLast(task);
+    this.__signal();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _delete(final _Task task) {
+    // Tasks are removed lazily: see class documentation.
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final void _moveToFront(final _Task task) {
+    // The task may still be in some deque, but that does not matter: It
+    // will only be executed once. Waiting threads ask again periodically,
+    // but the task only needs to be in the urgent deque once.
+    synchronized (this.m_urgent) {
+      if (task.m_urgent) {
+        return;
+      }
+      task.m_urgent = true;
+    }
+    this.m_urgent.offerFirst(task);
+    this.__signal();
+  }
+
+  /**
+   * Try to find a task for the given worker without waiting.
+   *
+   * @param worker
+   *          the worker
+   * @return the task, or {@code null} if none was found
+   */
+  private final _Task __poll(final _Worker worker) {
+    final ConcurrentLinkedDeque<_Task>[] deques;
+    final int size, self;
+    _Task task;
+    int victim, remaining;
+
+    // First, we check whether an external thread waits for a task.
+    task = this.m_urgent.pollFirst();
+    if (task != null) {
+      return task;
+    }
+
+    deques = this.m_deques;
+    self = worker.m_index;
+
+    // Then we try our own deque, in LIFO order.
+    task = deques[self].pollFirst();
+    if (task != null) {
+      return task;
+    }
+
+    // Then we check whether there are any new external submissions.
+    task = this.m_submissions.pollFirst();
+    if (task != null) {
+      return task;
+    }
+
+    // Finally, we try to steal the oldest task of a random victim.
+    size = deques.length;
+    if (size > 1) {
+      victim = ThreadLocalRandom.current().nextInt(size);
+      for (remaining = size; (--remaining) >= 0;) {
+        if (victim != self) {
+          task = deques[victim].pollLast();
+          if (task != null) {
+            // only the worker itself writes to its counters
+            worker.m_counters.m_stolen++;
+            return task;
+          }
+        }
+        if ((++victim) >= size) {
+          victim = 0;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  final _Task _next(final _Worker worker, final boolean wait) {
+    _Task task;
+
+    task = this.__poll(worker);
+    if ((task != null) || (!wait)) {
+      return task;
+    }
+
+    for (;;) {
+      synchronized (this.m_synch) {
+        // We first register as idle and then check again for tasks: Any
+        // task enqueued after our check will see us as idle and notify
+        // us, since it can only do so after we have released the monitor
+        // by waiting.
+        this.m_idle.incrementAndGet();
+        try {
+          task = this.__poll(worker);
+          if (task != null) {
+            return task;
+          }
+          this.m_synch.wait();
+        } catch (@SuppressWarnings("unused") final InterruptedException iexp) {
+          /** ignore **/
+        } finally {
+          this.m_idle.decrementAndGet();
+        }
+      }
+    }
+  }
+}
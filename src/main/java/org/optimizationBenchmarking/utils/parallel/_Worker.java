@@ -0,0 +1,42 @@
+package org.optimizationBenchmarking.utils.parallel;
+
+/** the worker threads of a {@link _Scheduler} */
+final class _Worker extends Thread {
+
+  /** the owning scheduler */
+  final _Scheduler m_owner;
+
+  /** the zero-based index of this worker in its scheduler */
+  final int m_index;
+
+  /** the execution counters of this worker */
+  final _Counters m_counters;
+
+  /**
+   * create the worker
+   *
+   * @param owner
+   *          the owning scheduler
+   * @param index
+   *          the worker's zero-based index
+   * @param name
+   *          the name prefix of the worker threads
+   */
+  _Worker(final _Scheduler owner, final int index, final String name) {
+    super(name + '#' + (index + 1));
+    this.m_owner = owner;
+    this.m_index = index;
+    this.m_counters = new _Counters();
+    this.setDaemon(true);
+  }
+
+  /** run */
+  @Override
+  public final void run() {
+    _Task task;
+
+    while ((task = this.m_owner._next(this, true)) != null) {
+      task._run();
+    }
+  }
+}
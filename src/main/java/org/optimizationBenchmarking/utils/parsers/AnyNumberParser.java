@@ -1,7 +1,6 @@
 package org.optimizationBenchmarking.utils.parsers;
 
 import org.optimizationBenchmarking.utils.math.NumericalTypes;
-import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
 
 /**
  * A parser loosely parsing for one number. Passing {@code null} to
@@ -42,6 +41,16 @@ public class AnyNumberParser extends NumberParser<Number> {
 
     checker: {
 
+      // first we try to recognize all the loose number syntaxes in a
+      // single pass, which neither creates objects nor throws exceptions
+      if (string != null) {
+        retVal = _LooseNumberScanner._get()._scanNumber(string, 0,
+            string.length());
+        if (retVal != null) {
+          break checker;
+        }
+      }
+
       try {
         // first we try to cast the string directly to a number
         // this will be the fast execution path for 'correctly' formatted
@@ -155,7 +164,7 @@ public class AnyNumberParser extends NumberParser<Number> {
           // ok, it is no constant, maybe it is a public static final
           // member?
           try {
-            number = ReflectionUtils.getInstanceByName(Object.class, str);
+            number = _ReflectionCache._getInstanceByName(str);
             if ((number != null) && (number != string)
                 && (number != str)) {
               return this.parseObject(number);
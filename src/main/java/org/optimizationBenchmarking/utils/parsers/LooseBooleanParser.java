@@ -2,8 +2,6 @@ package org.optimizationBenchmarking.utils.parsers;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
-
 /** A parser for a given type */
 public class LooseBooleanParser extends BooleanParser {
 
@@ -96,7 +94,7 @@ public class LooseBooleanParser extends BooleanParser {
 
         // ok, it is no constant, maybe it is a public static final member?
         try {
-          bool = ReflectionUtils.getInstanceByName(Object.class, str);
+          bool = _ReflectionCache._getInstanceByName(str);
           if ((bool != null) && (bool != string) && (bool != str)) {
             retVal = prep.getReturn(this.__parseObjectRaw(bool));
             break checker;
@@ -1,6 +1,5 @@
 package org.optimizationBenchmarking.utils.parsers;
 
-import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
 import org.optimizationBenchmarking.utils.text.charset.Char;
 
 /** A parser for a given type */
@@ -57,7 +56,7 @@ public class LooseCharParser extends CharParser {
 
       // ok, it is no constant, maybe it is a public static final member?
       try {
-        var = ReflectionUtils.getInstanceByName(Object.class, str);
+        var = _ReflectionCache._getInstanceByName(str);
         if ((var != null) && (var != string) && (var != str)) {
           retVal = this.__parseObjectRaw(var);
           break checker;
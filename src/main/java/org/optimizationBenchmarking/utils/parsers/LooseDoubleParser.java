@@ -2,7 +2,6 @@ package org.optimizationBenchmarking.utils.parsers;
 
 import org.optimizationBenchmarking.utils.comparison.Compare;
 import org.optimizationBenchmarking.utils.hash.HashUtils;
-import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
 
 /**
  * A parser for {@code double}s which can also interpret things such as
@@ -34,6 +33,7 @@ public class LooseDoubleParser extends DoubleParser {
   @SuppressWarnings("unused")
   @Override
   public final double parseDouble(final String string) {
+    final _LooseNumberScanner scanner;
     final _PreparedString prep;
     double retVal;
     String str;
@@ -43,6 +43,16 @@ public class LooseDoubleParser extends DoubleParser {
 
     checker: {
 
+      // first we try to recognize all the loose number syntaxes in a
+      // single pass, which neither creates objects nor throws exceptions
+      if (string != null) {
+        scanner = _LooseNumberScanner._get();
+        if (scanner._scanDouble(string, 0, string.length())) {
+          retVal = scanner.m_double;
+          break checker;
+        }
+      }
+
       try {
         // first we try to cast the string directly to a double
         // this will be the fast execution path for 'correctly' formatted
@@ -110,7 +120,7 @@ public class LooseDoubleParser extends DoubleParser {
           // ok, it is no constant, maybe it is a public static final
           // member?
           try {
-            number = ReflectionUtils.getInstanceByName(Object.class, str);
+            number = _ReflectionCache._getInstanceByName(str);
             if ((number != null) && (number != string)
                 && (number != str)) {
               retVal = prep.getReturn(this.__parseObjectRaw(number));
@@ -134,6 +144,61 @@ public class LooseDoubleParser extends DoubleParser {
     return retVal;
   }
 
+  /**
+   * Parse a {@code double} from a range of a character sequence, e.g., a
+   * token in a large text buffer, without converting the range to a string
+   * first. If the range follows one of the commonly used syntaxes, this
+   * method creates no objects at all.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the index of the first character of the range
+   * @param end
+   *          the exclusive end index of the range
+   * @return the {@code double}
+   */
+  public final double parseDouble(final CharSequence chars, final int start,
+      final int end) {
+    final _LooseNumberScanner scanner;
+    final double retVal;
+
+    scanner = _LooseNumberScanner._get();
+    if (scanner._scanDouble(chars, start, end)) {
+      retVal = scanner.m_double;
+      this.validateDouble(retVal);
+      return retVal;
+    }
+    return this.parseDouble(chars.subSequence(start, end).toString());
+  }
+
+  /**
+   * Parse a {@code double} from a range of a character array without
+   * converting the range to a string first. If the range follows one of the
+   * commonly used syntaxes, this method creates no objects at all.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the index of the first character of the range
+   * @param end
+   *          the exclusive end index of the range
+   * @return the {@code double}
+   */
+  public final double parseDouble(final char[] chars, final int start,
+      final int end) {
+    final _LooseNumberScanner scanner;
+    final double retVal;
+
+    scanner = _LooseNumberScanner._get();
+    if (scanner._scanDouble(chars, start, end)) {
+      retVal = scanner.m_double;
+      this.validateDouble(retVal);
+      return retVal;
+    }
+    return this.parseDouble(String.valueOf(chars, start, (end - start)));
+  }
+
   /**
    * The raw parsing method for calling inside {@link #parseString(String)}
    *
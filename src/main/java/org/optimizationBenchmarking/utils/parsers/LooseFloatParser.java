@@ -22,21 +22,38 @@ public class LooseFloatParser extends FloatParser {
   /** {@inheritDoc} */
   @Override
   public final float parseFloat(final String string) {
+    final _LooseNumberScanner scanner;
     final float retVal, f;
-    final double d;
+    double d;
 
     findDouble: {
       findFloat: {
+        // first we try to recognize all the loose number syntaxes in a
+        // single pass, which neither creates objects nor throws exceptions
+        if (string != null) {
+          scanner = _LooseNumberScanner._get();
+          if (scanner._scanDouble(string, 0, string.length())) {
+            if (scanner.m_plain) {
+              // the string follows java's syntax, so we can parse it as
+              // float directly without risking an exception
+              retVal = Float.parseFloat(string);
+              break findDouble;
+            }
+            d = scanner.m_double;
+            break findFloat;
+          }
+        }
+
         try {
           f = Float.parseFloat(string);
         } catch (@SuppressWarnings("unused") final Throwable error) {
+          d = LooseDoubleParser.INSTANCE.parseDouble(string);
           break findFloat;
         }
         retVal = f;
         break findDouble;
       }
 
-      d = LooseDoubleParser.INSTANCE.parseDouble(string);
       if (d <= Double.NEGATIVE_INFINITY) {
         retVal = Float.NEGATIVE_INFINITY;
       } else {
@@ -1,7 +1,6 @@
 package org.optimizationBenchmarking.utils.parsers;
 
 import org.optimizationBenchmarking.utils.hash.HashUtils;
-import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
 
 /**
  * A parser for {@code int}s which can also interpret things such as
@@ -24,6 +23,7 @@ public class LooseIntParser extends IntParser {
   @SuppressWarnings("unused")
   @Override
   public final int parseInt(final String string) {
+    final _LooseNumberScanner scanner;
     final _PreparedString prep;
     int retVal;
     String str;
@@ -33,6 +33,16 @@ public class LooseIntParser extends IntParser {
 
     checker: {
 
+      // first we try to recognize all the loose number syntaxes in a
+      // single pass, which neither creates objects nor throws exceptions
+      if (string != null) {
+        scanner = _LooseNumberScanner._get();
+        if (scanner._scanInt(string, 0, string.length())) {
+          retVal = ((int) (scanner.m_long));
+          break checker;
+        }
+      }
+
       try {
         // first we try to cast the string directly to a int
         // this will be the fast execution path for 'correctly' formatted
@@ -100,7 +110,7 @@ public class LooseIntParser extends IntParser {
           // ok, it is no constant, maybe it is a public static final
           // member?
           try {
-            number = ReflectionUtils.getInstanceByName(Object.class, str);
+            number = _ReflectionCache._getInstanceByName(str);
             if ((number != null) && (number != string)
                 && (number != str)) {
               retVal = prep.getReturn(this.__parseObjectRaw(number));
@@ -124,6 +134,61 @@ public class LooseIntParser extends IntParser {
     return retVal;
   }
 
+  /**
+   * Parse an {@code int} from a range of a character sequence, e.g., a token
+   * in a large text buffer, without converting the range to a string first.
+   * If the range follows one of the commonly used syntaxes, this method
+   * creates no objects at all.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the index of the first character of the range
+   * @param end
+   *          the exclusive end index of the range
+   * @return the {@code int}
+   */
+  public final int parseInt(final CharSequence chars, final int start,
+      final int end) {
+    final _LooseNumberScanner scanner;
+    final int retVal;
+
+    scanner = _LooseNumberScanner._get();
+    if (scanner._scanInt(chars, start, end)) {
+      retVal = ((int) (scanner.m_long));
+      this.validateInt(retVal);
+      return retVal;
+    }
+    return this.parseInt(chars.subSequence(start, end).toString());
+  }
+
+  /**
+   * Parse an {@code int} from a range of a character array without
+   * converting the range to a string first. If the range follows one of the
+   * commonly used syntaxes, this method creates no objects at all.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the index of the first character of the range
+   * @param end
+   *          the exclusive end index of the range
+   * @return the {@code int}
+   */
+  public final int parseInt(final char[] chars, final int start,
+      final int end) {
+    final _LooseNumberScanner scanner;
+    final int retVal;
+
+    scanner = _LooseNumberScanner._get();
+    if (scanner._scanInt(chars, start, end)) {
+      retVal = ((int) (scanner.m_long));
+      this.validateInt(retVal);
+      return retVal;
+    }
+    return this.parseInt(String.valueOf(chars, start, (end - start)));
+  }
+
   /**
    * The raw parsing method for calling inside {@link #parseString(String)}
    *
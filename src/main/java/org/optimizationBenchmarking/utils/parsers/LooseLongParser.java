@@ -1,7 +1,6 @@
 package org.optimizationBenchmarking.utils.parsers;
 
 import org.optimizationBenchmarking.utils.hash.HashUtils;
-import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
 
 /**
  * A parser for {@code long}s which can also interpret things such as
@@ -23,6 +22,7 @@ public class LooseLongParser extends LongParser {
   @SuppressWarnings("unused")
   @Override
   public final long parseLong(final String string) {
+    final _LooseNumberScanner scanner;
     final _PreparedString prep;
     long retVal;
     String str;
@@ -32,6 +32,16 @@ public class LooseLongParser extends LongParser {
 
     checker: {
 
+      // first we try to recognize all the loose number syntaxes in a
+      // single pass, which neither creates objects nor throws exceptions
+      if (string != null) {
+        scanner = _LooseNumberScanner._get();
+        if (scanner._scanLong(string, 0, string.length())) {
+          retVal = scanner.m_long;
+          break checker;
+        }
+      }
+
       try {
         // first we try to cast the string directly to a long
         // this will be the fast execution path for 'correctly' formatted
@@ -96,7 +106,7 @@ public class LooseLongParser extends LongParser {
           // ok, it is no constant, maybe it is a public static final
           // member?
           try {
-            number = ReflectionUtils.getInstanceByName(Object.class, str);
+            number = _ReflectionCache._getInstanceByName(str);
             if ((number != null) && (number != string)
                 && (number != str)) {
               retVal = prep.getReturn(this.__parseObjectRaw(number));
@@ -120,6 +130,61 @@ public class LooseLongParser extends LongParser {
     return retVal;
   }
 
+  /**
+   * Parse a {@code long} from a range of a character sequence, e.g., a token
+   * in a large text buffer, without converting the range to a string first.
+   * If the range follows one of the commonly used syntaxes, this method
+   * creates no objects at all.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the index of the first character of the range
+   * @param end
+   *          the exclusive end index of the range
+   * @return the {@code long}
+   */
+  public final long parseLong(final CharSequence chars, final int start,
+      final int end) {
+    final _LooseNumberScanner scanner;
+    final long retVal;
+
+    scanner = _LooseNumberScanner._get();
+    if (scanner._scanLong(chars, start, end)) {
+      retVal = scanner.m_long;
+      this.validateLong(retVal);
+      return retVal;
+    }
+    return this.parseLong(chars.subSequence(start, end).toString());
+  }
+
+  /**
+   * Parse a {@code long} from a range of a character array without
+   * converting the range to a string first. If the range follows one of the
+   * commonly used syntaxes, this method creates no objects at all.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the index of the first character of the range
+   * @param end
+   *          the exclusive end index of the range
+   * @return the {@code long}
+   */
+  public final long parseLong(final char[] chars, final int start,
+      final int end) {
+    final _LooseNumberScanner scanner;
+    final long retVal;
+
+    scanner = _LooseNumberScanner._get();
+    if (scanner._scanLong(chars, start, end)) {
+      retVal = scanner.m_long;
+      this.validateLong(retVal);
+      return retVal;
+    }
+    return this.parseLong(String.valueOf(chars, start, (end - start)));
+  }
+
   /**
    * The raw parsing method for calling inside {@link #parseString(String)}
    *
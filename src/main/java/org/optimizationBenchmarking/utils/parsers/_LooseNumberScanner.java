@@ -0,0 +1,952 @@
+package org.optimizationBenchmarking.utils.parsers;
+
+import org.optimizationBenchmarking.utils.math.NumericalTypes;
+
+/**
+ * <p>
+ * A hand-written scanner recognizing the loose number syntaxes supported
+ * by the loose number parsers in a single pass and without creating any
+ * objects or throwing any exceptions. It understands
+ * </p>
+ * <ul>
+ * <li>leading and trailing white space,</li>
+ * <li>leading sign and negation characters, such as {@code -}, {@code +},
+ * {@code !}, or {@code ~},</li>
+ * <li>trailing percent, per-mille, per-ten-thousand, and micro symbols,
+ * </li>
+ * <li>underscores and white space inside the number,</li>
+ * <li>binary, octal, decimal, and hexadecimal integers with prefixes
+ * {@code 0b}, {@code 0o}, {@code 0d}, {@code 0x}, or {@code 0h},</li>
+ * <li>decimal integers and floating point numbers with optional exponent
+ * and type suffix, and</li>
+ * <li>the {@linkplain _TextConst constants} such as {@code inf} or
+ * {@code nan}.</li>
+ * </ul>
+ * <p>
+ * Floating point numbers are computed exactly if their mantissa and
+ * exponent are small enough, otherwise {@link Double#parseDouble(String)}
+ * is applied to their cleaned text. Everything the scanner does not
+ * recognize, e.g., enclosing braces, escaped characters, or names of
+ * static members, is left to the slower, exception-based parsing
+ * procedure of the parsers.
+ * </p>
+ * <p>
+ * A scanner keeps its results in its fields and is therefore not
+ * thread-safe. Each thread obtains its own instance via {@link #_get()}.
+ * </p>
+ */
+final class _LooseNumberScanner {
+
+  /** nothing has been recognized */
+  static final int NONE = 0;
+  /** an integer has been recognized: its magnitude is in {@link #m_long} */
+  static final int INTEGER = 1;
+  /**
+   * a floating point number has been recognized: its magnitude is in
+   * {@link #m_double}
+   */
+  static final int DECIMAL = 2;
+  /** a constant has been recognized: it is stored in {@link #m_const} */
+  static final int CONSTANT = 3;
+
+  /** the exactly representable powers of ten */
+  private static final double[] POWERS_OF_TEN = { 1e0d, 1e1d, 1e2d, 1e3d,
+      1e4d, 1e5d, 1e6d, 1e7d, 1e8d, 1e9d, 1e10d, 1e11d, 1e12d, 1e13d,
+      1e14d, 1e15d, 1e16d, 1e17d, 1e18d, 1e19d, 1e20d, 1e21d, 1e22d };
+
+  /** the largest mantissa which can be represented exactly */
+  private static final long MAX_EXACT_MANTISSA = (1L << 53);
+
+  /** the scanners of the threads */
+  private static final __Scanners SCANNERS = new __Scanners();
+
+  /** the kind of the recognized number */
+  int m_kind;
+
+  /**
+   * the magnitude of a recognized integer, or, after
+   * {@link #_scanLong(CharSequence, int, int)} and
+   * {@link #_scanInt(CharSequence, int, int)}, the result
+   */
+  long m_long;
+
+  /**
+   * the magnitude of a recognized floating point number, or, after
+   * {@link #_scanDouble(CharSequence, int, int)}, the result
+   */
+  double m_double;
+
+  /** the recognized constant */
+  _TextConst m_const;
+
+  /** was the integer specified with a base prefix? */
+  boolean m_radix;
+
+  /**
+   * the divisor, negative if the value needs to be negated, in the same
+   * way as in {@link _PreparedString}
+   */
+  long m_div;
+
+  /**
+   * does the text follow the syntax of {@link Double#parseDouble(String)}
+   * and {@link Float#parseFloat(String)}, i.e., can it be passed to them
+   * without causing an exception?
+   */
+  boolean m_plain;
+
+  /** the re-usable wrapper for character arrays */
+  private final __CharArraySequence m_array;
+
+  /** create */
+  private _LooseNumberScanner() {
+    super();
+    this.m_array = new __CharArraySequence();
+  }
+
+  /**
+   * Get the scanner of the current thread
+   *
+   * @return the scanner of the current thread
+   */
+  static final _LooseNumberScanner _get() {
+    return _LooseNumberScanner.SCANNERS.get();
+  }
+
+  /**
+   * Scan a {@code double} from a character sequence.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return {@code true} if a {@code double} was recognized and stored
+   *         in {@link #m_double}, {@code false} if the slow parsing
+   *         procedure must be used
+   */
+  final boolean _scanDouble(final CharSequence chars, final int start,
+      final int end) {
+    switch (this._scan(chars, start, end, true)) {
+      case INTEGER: {
+        if (this.m_radix) {
+          this.m_double = this.__getReturn(this.m_long);
+        } else {
+          this.m_double = this.__getReturn((double) (this.m_long));
+        }
+        return true;
+      }
+      case DECIMAL: {
+        this.m_double = this.__getReturn(this.m_double);
+        return true;
+      }
+      case CONSTANT: {
+        if (this.m_const.hasDouble()) {
+          this.m_double = this.__getReturn(this.m_const.m_d);
+          return true;
+        }
+        return false;
+      }
+      default: {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Scan a {@code double} from a range of a character array.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return {@code true} if a {@code double} was recognized and stored
+   *         in {@link #m_double}, {@code false} if the slow parsing
+   *         procedure must be used
+   */
+  final boolean _scanDouble(final char[] chars, final int start,
+      final int end) {
+    this.m_array.m_chars = chars;
+    try {
+      return this._scanDouble(this.m_array, start, end);
+    } finally {
+      this.m_array.m_chars = null;
+    }
+  }
+
+  /**
+   * Scan a {@code long} from a character sequence.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return {@code true} if a {@code long} was recognized and stored in
+   *         {@link #m_long}, {@code false} if the slow parsing procedure
+   *         must be used
+   */
+  final boolean _scanLong(final CharSequence chars, final int start,
+      final int end) {
+    switch (this._scan(chars, start, end, false)) {
+      case INTEGER: {
+        this.m_long = this.__getReturn(this.m_long);
+        return true;
+      }
+      case CONSTANT: {
+        if (this.m_const.hasInt()) {
+          this.m_long = this.__getReturn(this.m_const.m_l);
+          return true;
+        }
+        return false;
+      }
+      default: {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Scan a {@code long} from a range of a character array.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return {@code true} if a {@code long} was recognized and stored in
+   *         {@link #m_long}, {@code false} if the slow parsing procedure
+   *         must be used
+   */
+  final boolean _scanLong(final char[] chars, final int start,
+      final int end) {
+    this.m_array.m_chars = chars;
+    try {
+      return this._scanLong(this.m_array, start, end);
+    } finally {
+      this.m_array.m_chars = null;
+    }
+  }
+
+  /**
+   * Scan an {@code int} from a character sequence.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return {@code true} if an {@code int} was recognized and stored in
+   *         {@link #m_long}, {@code false} if the slow parsing procedure
+   *         must be used
+   */
+  final boolean _scanInt(final CharSequence chars, final int start,
+      final int end) {
+    switch (this._scan(chars, start, end, false)) {
+      case INTEGER: {
+        if (this.m_long > Integer.MAX_VALUE) {
+          return false;
+        }
+        this.m_long = this.__getReturn((int) (this.m_long));
+        return true;
+      }
+      case CONSTANT: {
+        if (this.m_const.hasInt()) {
+          this.m_long = this.__getReturn(this.m_const.m_i);
+          return true;
+        }
+        return false;
+      }
+      default: {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Scan an {@code int} from a range of a character array.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return {@code true} if an {@code int} was recognized and stored in
+   *         {@link #m_long}, {@code false} if the slow parsing procedure
+   *         must be used
+   */
+  final boolean _scanInt(final char[] chars, final int start,
+      final int end) {
+    this.m_array.m_chars = chars;
+    try {
+      return this._scanInt(this.m_array, start, end);
+    } finally {
+      this.m_array.m_chars = null;
+    }
+  }
+
+  /**
+   * Scan a number of any type from a character sequence.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return the number, or {@code null} if the slow parsing procedure
+   *         must be used
+   */
+  final Number _scanNumber(final CharSequence chars, final int start,
+      final int end) {
+    switch (this._scan(chars, start, end, true)) {
+      case INTEGER: {
+        return NumericalTypes.valueOf(this.__getReturn(this.m_long));
+      }
+      case DECIMAL: {
+        return NumericalTypes.valueOf(this.__getReturn(this.m_double));
+      }
+      case CONSTANT: {
+        // -Infinity also has an integer value, but the slow procedure
+        // parses doubles first: non-finite constants are left to it
+        if (this.m_const.hasInt() && (!(this.m_const.hasDouble() && //
+            (Double.isNaN(this.m_const.m_d) || //
+            Double.isInfinite(this.m_const.m_d))))) {
+          return NumericalTypes.valueOf(this.__getReturn(this.m_const.m_l));
+        }
+        return null;
+      }
+      default: {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Apply the divisor to an {@code int}, exactly like
+   * {@link _PreparedString#getReturn(int)}.
+   *
+   * @param b
+   *          the value
+   * @return the result
+   */
+  private final int __getReturn(final int b) {
+    switch ((int) (this.m_div)) {
+      case (-1): {
+        return (-b);
+      }
+      case 1: {
+        return b;
+      }
+      default: {
+        return (b / ((int) (this.m_div)));
+      }
+    }
+  }
+
+  /**
+   * Apply the divisor to a {@code long}, exactly like
+   * {@link _PreparedString#getReturn(long)}.
+   *
+   * @param b
+   *          the value
+   * @return the result
+   */
+  private final long __getReturn(final long b) {
+    switch ((int) (this.m_div)) {
+      case (-1): {
+        return (-b);
+      }
+      case 1: {
+        return b;
+      }
+      default: {
+        return (b / this.m_div);
+      }
+    }
+  }
+
+  /**
+   * Apply the divisor to a {@code double}, exactly like
+   * {@link _PreparedString#getReturn(double)}.
+   *
+   * @param b
+   *          the value
+   * @return the result
+   */
+  private final double __getReturn(final double b) {
+    switch ((int) (this.m_div)) {
+      case (-1): {
+        return (-b);
+      }
+      case 1: {
+        return b;
+      }
+      default: {
+        return (b / this.m_div);
+      }
+    }
+  }
+
+  /**
+   * Is a character a sign or negation character?
+   *
+   * @param ch
+   *          the character
+   * @return {@code 1} for a positive sign, {@code -1} for a negative sign
+   *         or negation, {@code 0} if the character is no sign
+   */
+  private static final int __sign(final char ch) {
+    switch (ch) {
+      case 0x21:// !
+      case 0x2d:// -
+      case 0x5e:// ^
+      case 0x7e:// ~
+      case 0xac:// logical not
+      case 0x2010:// -
+      case 0x2011:// -
+      case 0x2012:// -
+      case 0x2013:// -
+      case 0x2014:// -
+      case 0x2015:// -
+      case 0x223c:// ~
+      case 0x223d:// ~
+      {
+        return (-1);
+      }
+      case 0x2b: {// +
+        return 1;
+      }
+      default: {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Get the divisor represented by a trailing character
+   *
+   * @param ch
+   *          the character
+   * @return the divisor, or {@code 0} if the character does not represent
+   *         a divisor
+   */
+  private static final int __divisor(final char ch) {
+    switch (ch) {
+      case 0x25: { // percent == 1e-2
+        return 100;
+      }
+      case 0xb5: // micro == 1e-6
+      case 0x3bc: {// micro == 1e-6
+        return 1000000;
+      }
+      case 0x2030: {// per mille = 1e-3
+        return 1000;
+      }
+      case 0x2031: { // per 10 mille = 1e-4
+        return 10000;
+      }
+      default: {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Get the value of a digit
+   *
+   * @param ch
+   *          the character
+   * @param radix
+   *          the radix
+   * @return the value of the digit, or {@code -1} if {@code ch} is no
+   *         valid digit in the given radix
+   */
+  private static final int __digit(final char ch, final int radix) {
+    final int digit;
+
+    if ((ch >= '0') && (ch <= '9')) {
+      digit = (ch - '0');
+    } else {
+      if ((ch >= 'a') && (ch <= 'z')) {
+        digit = ((ch - 'a') + 10);
+      } else {
+        if ((ch >= 'A') && (ch <= 'Z')) {
+          digit = ((ch - 'A') + 10);
+        } else {
+          return (-1);
+        }
+      }
+    }
+    return ((digit < radix) ? digit : (-1));
+  }
+
+  /**
+   * Skip over underscores and white space inside a number
+   *
+   * @param chars
+   *          the characters
+   * @param index
+   *          the current index
+   * @param end
+   *          the exclusive end index
+   * @return the index of the next character which is neither an
+   *         underscore nor white space, or {@code end}
+   */
+  private final int __skip(final CharSequence chars, final int index,
+      final int end) {
+    char ch;
+    int i;
+
+    for (i = index; i < end; i++) {
+      ch = chars.charAt(i);
+      if ((ch > 32) && (ch != '_')) {
+        break;
+      }
+      this.m_plain = false;
+    }
+    return i;
+  }
+
+  /**
+   * Scan a character sequence and store the results in the fields of this
+   * object.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @param decimal
+   *          should floating point numbers be recognized?
+   * @return the {@linkplain #m_kind kind} of the recognized number
+   */
+  final int _scan(final CharSequence chars, final int start,
+      final int end, final boolean decimal) {
+    _TextConst cnst;
+    long div;
+    int first, last, i, sign, divisor, signs;
+    char ch;
+
+    this.m_kind = _LooseNumberScanner.NONE;
+    this.m_const = null;
+    this.m_radix = false;
+    this.m_plain = true;
+    this.m_div = 1L;
+
+    // trim the text
+    first = start;
+    last = end;
+    while ((first < last) && (chars.charAt(first) <= 32)) {
+      first++;
+    }
+    while ((last > first) && (chars.charAt(last - 1) <= 32)) {
+      last--;
+    }
+    if (first >= last) {
+      return _LooseNumberScanner.NONE;
+    }
+
+    // does the whole text correspond to a constant?
+    cnst = _TextConst.findConst(chars, first, last);
+    if (cnst != null) {
+      return this.__const(cnst);
+    }
+
+    // strip leading signs
+    div = 1L;
+    signs = 0;
+    for (; first < last; first++) {
+      ch = chars.charAt(first);
+      sign = _LooseNumberScanner.__sign(ch);
+      if (sign == 0) {
+        if (ch > 32) {
+          break;
+        }
+        this.m_plain = false;
+        continue;
+      }
+      if ((sign < 0) && (ch != '-')) {
+        this.m_plain = false;
+      }
+      if ((++signs) > 1) {
+        this.m_plain = false;
+      }
+      div *= sign;
+    }
+
+    // strip trailing divisor symbols
+    for (; last > first; last--) {
+      ch = chars.charAt(last - 1);
+      if (ch <= 32) {
+        continue;
+      }
+      divisor = _LooseNumberScanner.__divisor(ch);
+      if (divisor == 0) {
+        break;
+      }
+      div *= divisor;
+      if ((div > Integer.MAX_VALUE) || (div < (-Integer.MAX_VALUE))) {
+        return _LooseNumberScanner.NONE;
+      }
+      this.m_plain = false;
+    }
+
+    if (first >= last) {
+      return _LooseNumberScanner.NONE;
+    }
+    this.m_div = div;
+
+    ch = chars.charAt(first);
+    if (((ch >= '0') && (ch <= '9')) || (ch == '.') || (ch == '_')) {
+      // a number
+      if (ch == '0') {
+        i = this.__radix(chars, first + 1, last);
+        if (i != _LooseNumberScanner.NONE) {
+          return i;
+        }
+      }
+      return this.__decimal(chars, first, last, decimal);
+    }
+
+    // maybe the text without the signs and divisors is a constant?
+    cnst = _TextConst.findConst(chars, first, last);
+    if (cnst != null) {
+      return this.__const(cnst);
+    }
+    return _LooseNumberScanner.NONE;
+  }
+
+  /**
+   * A constant has been recognized
+   *
+   * @param cnst
+   *          the constant
+   * @return {@link #CONSTANT}
+   */
+  private final int __const(final _TextConst cnst) {
+    this.m_const = cnst;
+    this.m_plain = false;
+    return (this.m_kind = _LooseNumberScanner.CONSTANT);
+  }
+
+  /**
+   * Try to scan an integer with a base prefix. The leading {@code 0} has
+   * already been consumed.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the index after the leading {@code 0}
+   * @param end
+   *          the exclusive end index
+   * @return {@link #INTEGER} if an integer was recognized, {@link #NONE}
+   *         otherwise
+   */
+  private final int __radix(final CharSequence chars, final int start,
+      final int end) {
+    final boolean plain;
+    final int radix;
+    final long limit;
+    long value;
+    int i, digit;
+    boolean any;
+
+    plain = this.m_plain;
+    i = this.__skip(chars, start, end);
+    if (i >= end) {
+      this.m_plain = plain;
+      return _LooseNumberScanner.NONE;
+    }
+    radix = _PreparedString._getBase(chars.charAt(i));
+    if (radix == 0) {
+      this.m_plain = plain;
+      return _LooseNumberScanner.NONE;
+    }
+
+    limit = (Long.MAX_VALUE / radix);
+    value = 0L;
+    any = false;
+    for (i = this.__skip(chars, i + 1, end); i < end; i = this
+        .__skip(chars, i + 1, end)) {
+      digit = _LooseNumberScanner.__digit(chars.charAt(i), radix);
+      if ((digit < 0) || (value > limit)) {
+        this.m_plain = plain;
+        return _LooseNumberScanner.NONE;
+      }
+      value *= radix;
+      if (value > (Long.MAX_VALUE - digit)) {
+        this.m_plain = plain;
+        return _LooseNumberScanner.NONE;
+      }
+      value += digit;
+      any = true;
+    }
+
+    if (!any) {
+      this.m_plain = plain;
+      return _LooseNumberScanner.NONE;
+    }
+
+    this.m_long = value;
+    this.m_radix = true;
+    this.m_plain = false;
+    return (this.m_kind = _LooseNumberScanner.INTEGER);
+  }
+
+  /**
+   * Scan a decimal number
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @param decimal
+   *          should floating point numbers be recognized?
+   * @return the kind of the number
+   */
+  private final int __decimal(final CharSequence chars, final int start,
+      final int end, final boolean decimal) {
+    long mantissa;
+    int i, exponent, exponentValue, digits, digit;
+    boolean isInteger, overflow, negativeExponent, any;
+    char ch;
+
+    mantissa = 0L;
+    exponent = 0;
+    digits = 0;
+    overflow = false;
+    isInteger = true;
+
+    // the integer part
+    for (i = this.__skip(chars, start, end); i < end; i = this
+        .__skip(chars, i + 1, end)) {
+      ch = chars.charAt(i);
+      if ((ch < '0') || (ch > '9')) {
+        break;
+      }
+      digits++;
+      if (overflow) {
+        exponent++;
+      } else {
+        digit = (ch - '0');
+        if (mantissa > ((Long.MAX_VALUE - digit) / 10L)) {
+          overflow = true;
+          exponent++;
+        } else {
+          mantissa = ((mantissa * 10L) + digit);
+        }
+      }
+    }
+
+    // the fractional part
+    if ((i < end) && (chars.charAt(i) == '.')) {
+      if (!decimal) {
+        return _LooseNumberScanner.NONE;
+      }
+      isInteger = false;
+      for (i = this.__skip(chars, i + 1, end); i < end; i = this
+          .__skip(chars, i + 1, end)) {
+        ch = chars.charAt(i);
+        if ((ch < '0') || (ch > '9')) {
+          break;
+        }
+        digits++;
+        if (!overflow) {
+          digit = (ch - '0');
+          if (mantissa > ((Long.MAX_VALUE - digit) / 10L)) {
+            overflow = true;
+          } else {
+            mantissa = ((mantissa * 10L) + digit);
+            exponent--;
+          }
+        }
+      }
+    }
+
+    if (digits <= 0) {
+      return _LooseNumberScanner.NONE;
+    }
+
+    // the exponent
+    if ((i < end) && (((ch = chars.charAt(i)) == 'e') || (ch == 'E'))) {
+      if (!decimal) {
+        return _LooseNumberScanner.NONE;
+      }
+      isInteger = false;
+      negativeExponent = false;
+      i = this.__skip(chars, i + 1, end);
+      if (i < end) {
+        ch = chars.charAt(i);
+        if ((ch == '-') || (ch == '+')) {
+          negativeExponent = (ch == '-');
+          i = this.__skip(chars, i + 1, end);
+        }
+      }
+      exponentValue = 0;
+      any = false;
+      for (; i < end; i = this.__skip(chars, i + 1, end)) {
+        ch = chars.charAt(i);
+        if ((ch < '0') || (ch > '9')) {
+          break;
+        }
+        any = true;
+        if (exponentValue < 100000) {
+          exponentValue = ((exponentValue * 10) + (ch - '0'));
+        }
+      }
+      if (!any) {
+        return _LooseNumberScanner.NONE;
+      }
+      exponent += (negativeExponent ? (-exponentValue) : exponentValue);
+    }
+
+    // the type suffix
+    if ((i < end) && decimal) {
+      switch (chars.charAt(i)) {
+        case 'd':
+        case 'D':
+        case 'f':
+        case 'F': {
+          isInteger = false;
+          i = this.__skip(chars, i + 1, end);
+          break;
+        }
+        default: {
+          // no suffix
+        }
+      }
+    }
+
+    if (i < end) {
+      return _LooseNumberScanner.NONE;
+    }
+
+    if (isInteger && (!overflow)) {
+      this.m_long = mantissa;
+      return (this.m_kind = _LooseNumberScanner.INTEGER);
+    }
+
+    if (!decimal) {
+      return _LooseNumberScanner.NONE;
+    }
+
+    if (mantissa == 0L) {
+      this.m_double = 0d;
+    } else {
+      if ((!overflow) && (exponent == 0)) {
+        this.m_double = mantissa;
+      } else {
+        if ((!overflow)
+            && (mantissa <= _LooseNumberScanner.MAX_EXACT_MANTISSA)
+            && (exponent >= (-22)) && (exponent <= 22)) {
+          // both the mantissa and the power of ten are exact, so a single
+          // correctly rounded operation gives the correctly rounded result
+          if (exponent > 0) {
+            this.m_double = (mantissa
+                * _LooseNumberScanner.POWERS_OF_TEN[exponent]);
+          } else {
+            this.m_double = (mantissa
+                / _LooseNumberScanner.POWERS_OF_TEN[-exponent]);
+          }
+        } else {
+          this.m_double = Double
+              .parseDouble(_LooseNumberScanner.__clean(chars, start, end));
+        }
+      }
+    }
+
+    return (this.m_kind = _LooseNumberScanner.DECIMAL);
+  }
+
+  /**
+   * Remove all underscores and white space from a number whose syntax has
+   * already been checked.
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return the cleaned text
+   */
+  private static final String __clean(final CharSequence chars,
+      final int start, final int end) {
+    final StringBuilder sb;
+    char ch;
+    int i;
+
+    sb = new StringBuilder(end - start);
+    for (i = start; i < end; i++) {
+      ch = chars.charAt(i);
+      if ((ch > 32) && (ch != '_')) {
+        sb.append(ch);
+      }
+    }
+    return sb.toString();
+  }
+
+  /** the thread-local holder of the scanners */
+  private static final class __Scanners
+      extends ThreadLocal<_LooseNumberScanner> {
+
+    /** create */
+    __Scanners() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final _LooseNumberScanner initialValue() {
+      return new _LooseNumberScanner();
+    }
+  }
+
+  /** a re-usable character sequence wrapping a character array */
+  private static final class __CharArraySequence implements CharSequence {
+
+    /** the characters */
+    char[] m_chars;
+
+    /** create */
+    __CharArraySequence() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int length() {
+      return this.m_chars.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final char charAt(final int index) {
+      return this.m_chars[index];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final CharSequence subSequence(final int start,
+        final int end) {
+      return String.valueOf(this.m_chars, start, (end - start));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return String.valueOf(this.m_chars);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package org.optimizationBenchmarking.utils.parsers;
+
+import org.optimizationBenchmarking.utils.collections.cache.ConcurrentMapCache;
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.reflection.ReflectionUtils;
+
+/**
+ * A cache for the results of
+ * {@link ReflectionUtils#getInstanceByName(Class, String)} used by the
+ * loose parsers when trying to interpret a string as the name of a static
+ * member. Such a lookup involves loading classes and usually fails with
+ * an exception. Both the successful and the failed lookups are therefore
+ * remembered in a bounded cache, so that repeatedly parsing the same
+ * strings does not repeat the reflection.
+ */
+final class _ReflectionCache {
+
+  /** the maximum number of cached names */
+  private static final int CAPACITY = 4096;
+
+  /** the marker for names which cannot be resolved */
+  private static final Object NOT_FOUND = new Object();
+
+  /** the cache */
+  private static final ConcurrentMapCache<String, Object> CACHE = //
+      new ConcurrentMapCache<>(_ReflectionCache.CAPACITY);
+
+  /** the forbidden constructor */
+  private _ReflectionCache() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Get the instance identified by a name of the form
+   * {@code packageA.packageB.className#constantName}.
+   *
+   * @param name
+   *          the name
+   * @return the instance, or {@code null} if the name does not identify
+   *         an instance
+   */
+  static final Object _getInstanceByName(final String name) {
+    Object result;
+
+    if (name == null) {
+      return null;
+    }
+
+    result = _ReflectionCache.CACHE.get(name);
+    if (result == null) {
+      try {
+        result = ReflectionUtils.getInstanceByName(Object.class, name);
+      } catch (@SuppressWarnings("unused") final Throwable error) {
+        result = null;
+      }
+      if (result == null) {
+        result = _ReflectionCache.NOT_FOUND;
+      }
+      result = _ReflectionCache.CACHE.put(name, result, true);
+    }
+
+    return ((result != _ReflectionCache.NOT_FOUND) ? result : null);
+  }
+}
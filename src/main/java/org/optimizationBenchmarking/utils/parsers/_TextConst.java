@@ -445,4 +445,76 @@ final class _TextConst implements Comparable<_TextConst> {
     }
     return null;
   }
+
+  /**
+   * find a numerical constant whose name matches a range of a character
+   * sequence, without creating any objects
+   *
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return the constant, or {@code null} if not found
+   */
+  static final _TextConst findConst(final CharSequence chars,
+      final int start, final int end) {
+    int low, high, mid, cmp;
+    _TextConst midVal;
+
+    low = 0;
+    high = (_TextConst.CONSTS.length - 1);
+
+    while (low <= high) {
+      mid = ((low + high) >>> 1);
+      midVal = _TextConst.CONSTS[mid];
+      cmp = _TextConst.__compare(midVal.m_name, chars, start, end);
+
+      if (cmp < 0) {
+        low = mid + 1;
+      } else {
+        if (cmp > 0) {
+          high = mid - 1;
+        } else {
+          return midVal; // key found
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Compare the name of a constant to a range of a character sequence in
+   * the same way as {@link String#compareTo(String)} would compare it to
+   * the {@linkplain TextUtils#toComparisonCase(String) comparison case}
+   * of that range.
+   *
+   * @param name
+   *          the name of the constant
+   * @param chars
+   *          the characters
+   * @param start
+   *          the start index
+   * @param end
+   *          the exclusive end index
+   * @return the comparison result
+   */
+  private static final int __compare(final String name,
+      final CharSequence chars, final int start, final int end) {
+    final int nameLength, length, min;
+    int i, diff;
+
+    nameLength = name.length();
+    length = (end - start);
+    min = Math.min(nameLength, length);
+    for (i = 0; i < min; i++) {
+      diff = (name.charAt(i)
+          - TextUtils.toComparisonCase(chars.charAt(start + i)));
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return (nameLength - length);
+  }
 }
@@ -44,30 +44,19 @@ public final class NoExponentNumberAppender
   @Override
   public final String toString(final double value,
       final ETextCase textCase) {
-    final long l;
     int compareChoices;
     String string;
     _NumberString numberString1, numberString2;
     BigDecimal choice1, choice2;
 
-    if ((value >= Long.MIN_VALUE) && (value <= Long.MAX_VALUE)) {
-      l = ((long) value);
-      if (l == value) {
-        string = Long.toString(l);
-        if (Double.parseDouble(string) == value) {// this should always be
-                                                  // true
-          return string; // but let'string better check it out
-        }
-      }
-    }
-
-    string = Double.toString(value);
+    string = NumberFormatUtils._doubleToString(value,
+        NumberFormatUtils.MODE_SIMPLE);
     if ((value != value) || (value <= Double.NEGATIVE_INFINITY)
         || (value >= Double.POSITIVE_INFINITY)) {
       return string;
     }
 
-    numberString1 = SimpleNumberAppender._simplify(value, string);
+    numberString1 = new _NumberString(string);
     if (!(numberString1.m_hasE)) {
       return numberString1.m_string;
     }
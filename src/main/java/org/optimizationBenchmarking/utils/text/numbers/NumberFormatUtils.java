@@ -0,0 +1,693 @@
+package org.optimizationBenchmarking.utils.text.numbers;
+
+import java.math.BigInteger;
+
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+
+/**
+ * <p>
+ * Allocation-free conversion of {@code long} and {@code double} values to
+ * text. All methods either write into a {@code char[]} provided by the
+ * caller or into a per-thread buffer which is then appended to an
+ * {@link org.optimizationBenchmarking.utils.text.textOutput.ITextOutput}
+ * in one go, so no {@link java.lang.String} or other intermediate object
+ * is created per value.
+ * </p>
+ * <p>
+ * {@code long}s are converted two digits at a time using pre-computed
+ * digit tables. {@code double}s are converted to the <em>shortest</em>
+ * decimal which rounds back to the same {@code double}, using the
+ * Schubfach algorithm by Raffaello Giulietti (&quot;The Schubfach way to
+ * render doubles&quot;, 2020), which only needs a handful of 64 bit
+ * multiplications per value. The result of
+ * {@link #formatDouble(double, char[], int)} has the same layout as
+ * {@link java.lang.Double#toString(double)}, but older Java versions
+ * sometimes produce more digits than necessary there (e.g.,
+ * &quot;{@code 2.0E-3}&quot; is fine, but &quot;{@code -7.66E22}&quot;
+ * becomes &quot;{@code -7.664000000000001E22}&quot;), whereas this class
+ * always produces the shortest representation.
+ * </p>
+ */
+public final class NumberFormatUtils {
+
+  /**
+   * the maximum number of characters that
+   * {@link #formatLong(long, char[], int)} and
+   * {@link #formatDouble(double, char[], int)} will write: {@value}
+   */
+  public static final int MAX_CHARS = 26;
+
+  /** the format mode of {@link java.lang.Double#toString(double)} */
+  static final int MODE_JAVA = 0;
+  /**
+   * the format mode which omits a fractional part of zero, i.e., prints
+   * &quot;{@code 1E10}&quot; instead of &quot;{@code 1.0E10}&quot;
+   */
+  static final int MODE_TRIMMED = (NumberFormatUtils.MODE_JAVA + 1);
+  /**
+   * the format mode which prints integer values in the {@code long}
+   * range as {@code long}s and otherwise behaves like
+   * {@link #MODE_TRIMMED}
+   */
+  static final int MODE_SIMPLE = (NumberFormatUtils.MODE_TRIMMED + 1);
+
+  /** the tens digits of the numbers from 0 to 99 */
+  private static final char[] DIGIT_TENS = { '0', '0', '0', '0', '0',
+      '0', '0', '0', '0', '0', '1', '1', '1', '1', '1', '1', '1', '1',
+      '1', '1', '2', '2', '2', '2', '2', '2', '2', '2', '2', '2', '3',
+      '3', '3', '3', '3', '3', '3', '3', '3', '3', '4', '4', '4', '4',
+      '4', '4', '4', '4', '4', '4', '5', '5', '5', '5', '5', '5', '5',
+      '5', '5', '5', '6', '6', '6', '6', '6', '6', '6', '6', '6', '6',
+      '7', '7', '7', '7', '7', '7', '7', '7', '7', '7', '8', '8', '8',
+      '8', '8', '8', '8', '8', '8', '8', '9', '9', '9', '9', '9', '9',
+      '9', '9', '9', '9', };
+
+  /** the ones digits of the numbers from 0 to 99 */
+  private static final char[] DIGIT_ONES = { '0', '1', '2', '3', '4',
+      '5', '6', '7', '8', '9', '0', '1', '2', '3', '4', '5', '6', '7',
+      '8', '9', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0',
+      '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '1', '2', '3',
+      '4', '5', '6', '7', '8', '9', '0', '1', '2', '3', '4', '5', '6',
+      '7', '8', '9', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9',
+      '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '1', '2',
+      '3', '4', '5', '6', '7', '8', '9', '0', '1', '2', '3', '4', '5',
+      '6', '7', '8', '9', };
+
+  /** the characters of {@link java.lang.Long#MIN_VALUE} */
+  private static final char[] LONG_MIN_VALUE = { '-', '9', '2', '2',
+      '3', '3', '7', '2', '0', '3', '6', '8', '5', '4', '7', '7', '5',
+      '8', '0', '8' };
+
+  /** the characters of {@link java.lang.Double#NaN} */
+  private static final char[] NAN = { 'N', 'a', 'N' };
+
+  /** the characters of {@link java.lang.Double#NEGATIVE_INFINITY} */
+  private static final char[] NEGATIVE_INFINITY = { '-', 'I', 'n', 'f',
+      'i', 'n', 'i', 't', 'y' };
+
+  /** the number of significand bits of a {@code double}, including the hidden one */
+  private static final int P = 53;
+  /** the minimum binary exponent of a {@code double} */
+  private static final int Q_MIN = (-1074);
+  /** the hidden bit of the significand */
+  private static final long C_MIN = (1L << (NumberFormatUtils.P - 1));
+  /** the mask for the stored significand bits */
+  private static final long T_MASK = (NumberFormatUtils.C_MIN - 1L);
+  /** the mask for the biased exponent */
+  private static final int BQ_MASK = 0x7ff;
+  /** the significands below which subnormals get one more digit */
+  private static final long C_TINY = 3L;
+  /** the smallest decimal exponent in the table */
+  private static final int K_MIN = (-324);
+  /** the largest decimal exponent in the table */
+  private static final int K_MAX = 292;
+  /** the mask of the lower 63 bits */
+  private static final long MASK_63 = ((1L << 63) - 1L);
+
+  /**
+   * the table of 126 bit approximations of powers of ten, two
+   * {@code long}s each: For {@code K_MIN <= k <= K_MAX}, let
+   * {@code r = flog2pow10(-k) - 125}, then
+   * {@code g = floor(10^-k * 2^-r) + 1} is stored as {@code g >>> 63}
+   * and {@code g & MASK_63}.
+   */
+  private static final long[] G;
+
+  /** the powers of ten which fit into a {@code long} */
+  private static final long[] POW10;
+
+  /** the per-thread buffers */
+  private static final __Buffers BUFFERS = new __Buffers();
+
+  static {
+    final long[] g, pow10;
+    BigInteger power, value;
+    int r;
+
+    g = new long[(NumberFormatUtils.K_MAX - NumberFormatUtils.K_MIN
+        + 1) << 1];
+    for (int k = NumberFormatUtils.K_MIN; k <= NumberFormatUtils.K_MAX; k++) {
+      r = (NumberFormatUtils.__flog2pow10(-k) - 125);
+      if (k <= 0) {
+        power = BigInteger.TEN.pow(-k);
+        value = ((r <= 0) ? power.shiftLeft(-r) : power.shiftRight(r));
+      } else {
+        value = BigInteger.ONE.shiftLeft(-r)
+            .divide(BigInteger.TEN.pow(k));
+      }
+      value = value.add(BigInteger.ONE);
+      g[(k - NumberFormatUtils.K_MIN) << 1] = value.shiftRight(63)
+          .longValue();
+      g[((k - NumberFormatUtils.K_MIN) << 1) | 1] = (value.longValue()
+          & NumberFormatUtils.MASK_63);
+    }
+    G = g;
+
+    pow10 = new long[19];
+    pow10[0] = 1L;
+    for (int i = 1; i < pow10.length; i++) {
+      pow10[i] = (pow10[i - 1] * 10L);
+    }
+    POW10 = pow10;
+  }
+
+  /** the forbidden constructor */
+  private NumberFormatUtils() {
+    ErrorUtils.doNotCall();
+  }
+
+  /**
+   * Get the number of decimal digits of a non-negative {@code long}
+   *
+   * @param value
+   *          the value
+   * @return the number of digits
+   */
+  private static final int __digits(final long value) {
+    final long[] pow10;
+    int digits;
+
+    pow10 = NumberFormatUtils.POW10;
+    for (digits = 1; digits < pow10.length; digits++) {
+      if (value < pow10[digits]) {
+        return digits;
+      }
+    }
+    return pow10.length;
+  }
+
+  /**
+   * Write the digits of a non-negative {@code long} backwards, two at a
+   * time, so that the last digit is at index {@code end-1}
+   *
+   * @param value
+   *          the value
+   * @param dest
+   *          the destination
+   * @param end
+   *          the exclusive end index
+   */
+  private static final void __writeDigits(final long value,
+      final char[] dest, final int end) {
+    long rest, quotient;
+    int index, remainder;
+
+    rest = value;
+    index = end;
+    while (rest >= 100L) {
+      quotient = (rest / 100L);
+      remainder = ((int) (rest - (quotient * 100L)));
+      rest = quotient;
+      dest[--index] = NumberFormatUtils.DIGIT_ONES[remainder];
+      dest[--index] = NumberFormatUtils.DIGIT_TENS[remainder];
+    }
+    remainder = ((int) rest);
+    dest[--index] = NumberFormatUtils.DIGIT_ONES[remainder];
+    if (remainder >= 10) {
+      dest[--index] = NumberFormatUtils.DIGIT_TENS[remainder];
+    }
+  }
+
+  /**
+   * Write a {@code long} value into a character array, exactly like
+   * {@link java.lang.Long#toString(long)} would represent it.
+   *
+   * @param value
+   *          the value
+   * @param dest
+   *          the destination array, which must have room for
+   *          {@link #MAX_CHARS} characters starting at {@code start}
+   * @param start
+   *          the index of the first character to write
+   * @return the exclusive end index of the written characters
+   */
+  public static final int formatLong(final long value, final char[] dest,
+      final int start) {
+    final int end;
+    long abs;
+    int index;
+
+    index = start;
+    if (value < 0L) {
+      if (value <= Long.MIN_VALUE) {
+        System.arraycopy(NumberFormatUtils.LONG_MIN_VALUE, 0, dest, index,
+            NumberFormatUtils.LONG_MIN_VALUE.length);
+        return (index + NumberFormatUtils.LONG_MIN_VALUE.length);
+      }
+      dest[index++] = '-';
+      abs = (-value);
+    } else {
+      abs = value;
+    }
+
+    end = (index + NumberFormatUtils.__digits(abs));
+    NumberFormatUtils.__writeDigits(abs, dest, end);
+    return end;
+  }
+
+  /**
+   * Write a {@code double} value into a character array. The layout is
+   * the same as the one of {@link java.lang.Double#toString(double)}, but
+   * the digits are always the shortest decimal which rounds back to
+   * {@code value}.
+   *
+   * @param value
+   *          the value
+   * @param dest
+   *          the destination array, which must have room for
+   *          {@link #MAX_CHARS} characters starting at {@code start}
+   * @param start
+   *          the index of the first character to write
+   * @return the exclusive end index of the written characters
+   */
+  public static final int formatDouble(final double value,
+      final char[] dest, final int start) {
+    return NumberFormatUtils._formatDouble(value,
+        NumberFormatUtils.MODE_JAVA, dest, start);
+  }
+
+  /**
+   * Append a {@code long} value to a text output without creating any
+   * intermediate objects
+   *
+   * @param value
+   *          the value
+   * @param textOut
+   *          the text output
+   */
+  public static final void appendLong(final long value,
+      final ITextOutput textOut) {
+    final char[] buffer;
+
+    buffer = NumberFormatUtils.BUFFERS.get();
+    textOut.append(buffer, 0,
+        NumberFormatUtils.formatLong(value, buffer, 0));
+  }
+
+  /**
+   * Append a {@code double} value to a text output without creating any
+   * intermediate objects, in the format of
+   * {@link #formatDouble(double, char[], int)}
+   *
+   * @param value
+   *          the value
+   * @param textOut
+   *          the text output
+   */
+  public static final void appendDouble(final double value,
+      final ITextOutput textOut) {
+    NumberFormatUtils._appendDouble(value, NumberFormatUtils.MODE_JAVA,
+        textOut);
+  }
+
+  /**
+   * Append a {@code double} value to a text output in a given mode
+   *
+   * @param value
+   *          the value
+   * @param mode
+   *          the format mode
+   * @param textOut
+   *          the text output
+   */
+  static final void _appendDouble(final double value, final int mode,
+      final ITextOutput textOut) {
+    final char[] buffer;
+
+    buffer = NumberFormatUtils.BUFFERS.get();
+    textOut.append(buffer, 0,
+        NumberFormatUtils._formatDouble(value, mode, buffer, 0));
+  }
+
+  /**
+   * Convert a {@code double} value to a string in a given mode
+   *
+   * @param value
+   *          the value
+   * @param mode
+   *          the format mode
+   * @return the string
+   */
+  static final String _doubleToString(final double value,
+      final int mode) {
+    final char[] buffer;
+
+    buffer = NumberFormatUtils.BUFFERS.get();
+    return String.valueOf(buffer, 0,
+        NumberFormatUtils._formatDouble(value, mode, buffer, 0));
+  }
+
+  /**
+   * Write a {@code double} value into a character array in a given mode
+   *
+   * @param value
+   *          the value
+   * @param mode
+   *          the format mode
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index of the first character to write
+   * @return the exclusive end index of the written characters
+   */
+  static final int _formatDouble(final double value, final int mode,
+      final char[] dest, final int start) {
+    final long bits, t, c;
+    final int bq, mq;
+    long l;
+    int index;
+
+    if ((mode == NumberFormatUtils.MODE_SIMPLE)
+        && (value >= Long.MIN_VALUE) && (value <= Long.MAX_VALUE)) {
+      l = ((long) value);
+      if (l == value) {
+        return NumberFormatUtils.formatLong(l, dest, start);
+      }
+    }
+
+    bits = Double.doubleToRawLongBits(value);
+    t = (bits & NumberFormatUtils.T_MASK);
+    bq = (((int) (bits >>> (NumberFormatUtils.P - 1)))
+        & NumberFormatUtils.BQ_MASK);
+
+    index = start;
+    if (bq >= NumberFormatUtils.BQ_MASK) {
+      if (t != 0L) {
+        System.arraycopy(NumberFormatUtils.NAN, 0, dest, index,
+            NumberFormatUtils.NAN.length);
+        return (index + NumberFormatUtils.NAN.length);
+      }
+      if (bits > 0L) {
+        System.arraycopy(NumberFormatUtils.NEGATIVE_INFINITY, 1, dest,
+            index, (NumberFormatUtils.NEGATIVE_INFINITY.length - 1));
+        return (index + NumberFormatUtils.NEGATIVE_INFINITY.length - 1);
+      }
+      System.arraycopy(NumberFormatUtils.NEGATIVE_INFINITY, 0, dest,
+          index, NumberFormatUtils.NEGATIVE_INFINITY.length);
+      return (index + NumberFormatUtils.NEGATIVE_INFINITY.length);
+    }
+
+    if (bits < 0L) {
+      dest[index++] = '-';
+    }
+
+    if (bq != 0) {
+      // normal value: value = c * 2^(-mq)
+      mq = ((-NumberFormatUtils.Q_MIN) + 1 - bq);
+      c = (NumberFormatUtils.C_MIN | t);
+      if ((0 < mq) && (mq < NumberFormatUtils.P)) {
+        // fast path for integers below 2^53
+        l = (c >> mq);
+        if ((l << mq) == c) {
+          return NumberFormatUtils.__layout(l, 0, mode, dest, index);
+        }
+      }
+      return NumberFormatUtils.__toDecimal((-mq), c, 0, mode, dest,
+          index);
+    }
+
+    if (t != 0L) {
+      // subnormal value
+      return ((t < NumberFormatUtils.C_TINY)
+          ? NumberFormatUtils.__toDecimal(NumberFormatUtils.Q_MIN,
+              (10L * t), (-1), mode, dest, index)
+          : NumberFormatUtils.__toDecimal(NumberFormatUtils.Q_MIN, t, 0,
+              mode, dest, index));
+    }
+
+    // zero
+    dest[index++] = '0';
+    if (mode == NumberFormatUtils.MODE_JAVA) {
+      dest[index++] = '.';
+      dest[index++] = '0';
+    }
+    return index;
+  }
+
+  /**
+   * Find the shortest decimal {@code f*10^e} which rounds to the
+   * {@code double} {@code c*2^q} and write it
+   *
+   * @param q
+   *          the binary exponent
+   * @param c
+   *          the binary significand
+   * @param dk
+   *          the correction of the decimal exponent
+   * @param mode
+   *          the format mode
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index of the first character to write
+   * @return the exclusive end index of the written characters
+   */
+  private static final int __toDecimal(final int q, final long c,
+      final int dk, final int mode, final char[] dest, final int start) {
+    final int out, k, h, index;
+    final long cb, cbr, cbl, g1, g0, vb, vbl, vbr, s, t, cmp;
+    final boolean uin, win;
+    long sp10, tp10;
+    boolean upin, wpin;
+
+    out = (((int) c) & 1);
+    cb = (c << 2);
+    cbr = (cb + 2L);
+    if ((c != NumberFormatUtils.C_MIN) || (q == NumberFormatUtils.Q_MIN)) {
+      cbl = (cb - 2L);
+      k = NumberFormatUtils.__flog10pow2(q);
+    } else {
+      cbl = (cb - 1L);
+      k = NumberFormatUtils.__flog10threeQuartersPow2(q);
+    }
+    h = (q + NumberFormatUtils.__flog2pow10(-k) + 2);
+
+    index = ((k - NumberFormatUtils.K_MIN) << 1);
+    g1 = NumberFormatUtils.G[index];
+    g0 = NumberFormatUtils.G[index | 1];
+
+    vb = NumberFormatUtils.__rop(g1, g0, (cb << h));
+    vbl = NumberFormatUtils.__rop(g1, g0, (cbl << h));
+    vbr = NumberFormatUtils.__rop(g1, g0, (cbr << h));
+
+    s = (vb >> 2);
+    if (s >= 100L) {
+      // try to find a representation with one digit less
+      sp10 = (10L
+          * NumberFormatUtils.__multiplyHigh(s, (115292150460684698L << 4)));
+      tp10 = (sp10 + 10L);
+      upin = ((vbl + out) <= (sp10 << 2));
+      wpin = (((tp10 << 2) + out) <= vbr);
+      if (upin != wpin) {
+        return NumberFormatUtils.__layout((upin ? sp10 : tp10), (k + dk),
+            mode, dest, start);
+      }
+    }
+
+    t = (s + 1L);
+    uin = ((vbl + out) <= (s << 2));
+    win = (((t << 2) + out) <= vbr);
+    if (uin != win) {
+      return NumberFormatUtils.__layout((uin ? s : t), (k + dk), mode,
+          dest, start);
+    }
+
+    // both are in the rounding interval: pick the closer one
+    cmp = (vb - ((s + t) << 1));
+    return NumberFormatUtils.__layout(
+        (((cmp < 0L) || ((cmp == 0L) && ((s & 1L) == 0L))) ? s : t),
+        (k + dk), mode, dest, start);
+  }
+
+  /**
+   * Write the decimal {@code f*10^e} in the layout of
+   * {@link java.lang.Double#toString(double)}: plain notation for
+   * magnitudes in {@code [10^-3, 10^7)} and scientific notation
+   * otherwise.
+   *
+   * @param f
+   *          the decimal significand, which must be positive
+   * @param e
+   *          the decimal exponent
+   * @param mode
+   *          the format mode
+   * @param dest
+   *          the destination array
+   * @param start
+   *          the index of the first character to write
+   * @return the exclusive end index of the written characters
+   */
+  private static final int __layout(final long f, final int e,
+      final int mode, final char[] dest, final int start) {
+    final int length, exponent;
+    long digits;
+    int index, power;
+
+    digits = f;
+    power = e;
+    while ((digits % 10L) == 0L) {
+      digits /= 10L;
+      power++;
+    }
+    length = NumberFormatUtils.__digits(digits);
+    exponent = (power + length - 1);
+    index = start;
+
+    if ((exponent >= (-3)) && (exponent < 7)) {
+      if (exponent < 0) {
+        // 0.000ddd
+        dest[index++] = '0';
+        dest[index++] = '.';
+        for (int i = (-exponent - 1); (--i) >= 0;) {
+          dest[index++] = '0';
+        }
+        index += length;
+        NumberFormatUtils.__writeDigits(digits, dest, index);
+        return index;
+      }
+
+      if (length <= exponent) {
+        // ddd000
+        index += length;
+        NumberFormatUtils.__writeDigits(digits, dest, index);
+        for (int i = (exponent + 1 - length); (--i) >= 0;) {
+          dest[index++] = '0';
+        }
+      } else {
+        if (length > (exponent + 1)) {
+          // ddd.ddd
+          NumberFormatUtils.__writeDigits(digits, dest,
+              (index + length + 1));
+          System.arraycopy(dest, (index + 1), dest, index, (exponent + 1));
+          dest[index + exponent + 1] = '.';
+          return (index + length + 1);
+        }
+        // ddd
+        index += length;
+        NumberFormatUtils.__writeDigits(digits, dest, index);
+      }
+
+      if (mode == NumberFormatUtils.MODE_JAVA) {
+        dest[index++] = '.';
+        dest[index++] = '0';
+      }
+      return index;
+    }
+
+    // d.dddEx
+    NumberFormatUtils.__writeDigits(digits, dest, (index + length + 1));
+    dest[index] = dest[index + 1];
+    if (length > 1) {
+      dest[index + 1] = '.';
+      index += (length + 1);
+    } else {
+      index++;
+      if (mode == NumberFormatUtils.MODE_JAVA) {
+        dest[index++] = '.';
+        dest[index++] = '0';
+      }
+    }
+    dest[index++] = 'E';
+    return NumberFormatUtils.formatLong(exponent, dest, index);
+  }
+
+  /**
+   * Compute the upper 64 bits of the 128 bit product of two signed
+   * {@code long}s
+   *
+   * @param x
+   *          the first factor
+   * @param y
+   *          the second factor
+   * @return the upper 64 bits of the product
+   */
+  private static final long __multiplyHigh(final long x, final long y) {
+    final long x1, x2, y1, y2, z2, t, z0;
+    long z1;
+
+    x1 = (x >> 32);
+    x2 = (x & 0xFFFFFFFFL);
+    y1 = (y >> 32);
+    y2 = (y & 0xFFFFFFFFL);
+    z2 = (x2 * y2);
+    t = ((x1 * y2) + (z2 >>> 32));
+    z1 = (t & 0xFFFFFFFFL);
+    z0 = (t >> 32);
+    z1 += (x2 * y1);
+    return ((x1 * y1) + z0 + (z1 >> 32));
+  }
+
+  /**
+   * Compute the rounded-to-odd product of the 126 bit power of ten
+   * {@code g1*2^63+g0} and {@code cp}, divided by {@code 2^127}
+   *
+   * @param g1
+   *          the upper part of the power of ten
+   * @param g0
+   *          the lower part of the power of ten
+   * @param cp
+   *          the factor
+   * @return the product
+   */
+  private static final long __rop(final long g1, final long g0,
+      final long cp) {
+    final long x1, y0, y1, z, vbp;
+
+    x1 = NumberFormatUtils.__multiplyHigh(g0, cp);
+    y0 = (g1 * cp);
+    y1 = NumberFormatUtils.__multiplyHigh(g1, cp);
+    z = ((y0 >>> 1) + x1);
+    vbp = (y1 + (z >>> 63));
+    return (vbp | (((z & NumberFormatUtils.MASK_63)
+        + NumberFormatUtils.MASK_63) >>> 63));
+  }
+
+  /**
+   * Compute {@code floor(log10(2^e))}
+   *
+   * @param e
+   *          the exponent
+   * @return the result
+   */
+  private static final int __flog10pow2(final int e) {
+    return ((int) ((e * 661971961083L) >> 41));
+  }
+
+  /**
+   * Compute {@code floor(log10(3/4 * 2^e))}
+   *
+   * @param e
+   *          the exponent
+   * @return the result
+   */
+  private static final int __flog10threeQuartersPow2(final int e) {
+    return ((int) (((e * 661971961083L) - 274743187321L) >> 41));
+  }
+
+  /**
+   * Compute {@code floor(log2(10^e))}
+   *
+   * @param e
+   *          the exponent
+   * @return the result
+   */
+  private static final int __flog2pow10(final int e) {
+    return ((int) ((e * 913124641741L) >> 38));
+  }
+
+  /** the per-thread character buffers */
+  private static final class __Buffers extends ThreadLocal<char[]> {
+
+    /** create */
+    __Buffers() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final char[] initialValue() {
+      return new char[NumberFormatUtils.MAX_CHARS];
+    }
+  }
+}
@@ -23,7 +23,13 @@ public final class XMLNumberAppender extends _PlainIntNumberAppender {
   @Override
   public final ETextCase appendTo(final double value,
       final ETextCase textCase, final ITextOutput textOut) {
-    textOut.append(this.toString(value, textCase));
+    if ((value != value) || (value <= Double.NEGATIVE_INFINITY)
+        || (value >= Double.POSITIVE_INFINITY)) {
+      textOut.append(this.toString(value, textCase));
+    } else {
+      NumberFormatUtils._appendDouble(value,
+          NumberFormatUtils.MODE_TRIMMED, textOut);
+    }
     return textCase.nextCase();
   }
 
@@ -41,8 +47,8 @@ public final class XMLNumberAppender extends _PlainIntNumberAppender {
       return "+INF"; //$NON-NLS-1$
     }
 
-    return SimpleNumberAppender._simplify(value,
-        String.valueOf(value)).m_string;
+    return NumberFormatUtils._doubleToString(value,
+        NumberFormatUtils.MODE_TRIMMED);
   }
 
   /** {@inheritDoc} */
@@ -15,6 +15,7 @@ import org.optimizationBenchmarking.utils.io.nullIO.NullWriter;
 import org.optimizationBenchmarking.utils.text.CharArrayCharSequence;
 import org.optimizationBenchmarking.utils.text.ITextable;
 import org.optimizationBenchmarking.utils.text.TextUtils;
+import org.optimizationBenchmarking.utils.text.numbers.NumberFormatUtils;
 
 /**
  * <p>
@@ -105,13 +106,13 @@ public class AbstractTextOutput implements ITextOutput, IStreamEncoded {
   /** {@inheritDoc} */
   @Override
   public void append(final int v) {
-    this.append(Integer.toString(v));
+    NumberFormatUtils.appendLong(v, this);
   }
 
   /** {@inheritDoc} */
   @Override
   public void append(final long v) {
-    this.append(Long.toString(v));
+    NumberFormatUtils.appendLong(v, this);
   }
 
   /** {@inheritDoc} */
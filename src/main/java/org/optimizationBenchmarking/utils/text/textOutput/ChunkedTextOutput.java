@@ -0,0 +1,833 @@
+package org.optimizationBenchmarking.utils.text.textOutput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.optimizationBenchmarking.utils.error.ErrorUtils;
+import org.optimizationBenchmarking.utils.error.RethrowMode;
+import org.optimizationBenchmarking.utils.hash.HashUtils;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.text.CharArrayCharSequence;
+import org.optimizationBenchmarking.utils.text.ITextable;
+import org.optimizationBenchmarking.utils.text.numbers.NumberFormatUtils;
+
+/**
+ * <p>
+ * An {@link ITextOutput} which, like {@link MemoryTextOutput}, stores
+ * everything written to it in memory, but does so in a sequence of
+ * fixed-size chunks instead of a single, contiguous array. Growing the
+ * text output thus never copies the text written so far, and the chunks
+ * are taken from and returned to a shared pool. This makes it a suitable
+ * buffer for large texts, such as the buffered output of the children
+ * of a {@link org.optimizationBenchmarking.utils.hierarchy.HierarchicalText}
+ * .
+ * </p>
+ * <p>
+ * The contents can be {@linkplain #toText(ITextOutput) written} to
+ * another text output chunk by chunk, without flattening them first. The
+ * {@link CharSequence} methods work directly on the chunks as well, and
+ * {@link #subSequence(int, int)} returns a view, not a copy. Only
+ * {@link #toString()} and {@link #toChars()} create a contiguous copy of
+ * the text.
+ * </p>
+ * <p>
+ * A chunked text output can be created with a
+ * {@linkplain #ChunkedTextOutput(int) spill threshold}. Once more than
+ * this many characters are held in memory, all full chunks are
+ * transparently written to a temporary file and returned to the pool.
+ * The file is accessed via a {@link java.nio.channels.FileChannel} and
+ * stores the characters in their raw, two-byte form, so no encoding is
+ * involved and every {@code char} value survives the round trip. All
+ * methods of this class work the same regardless of whether parts of the
+ * text have been spilled, but random access to spilled characters is
+ * naturally slower. The temporary file is deleted when the text output is
+ * {@linkplain #clear() cleared} or {@linkplain #release() released}.
+ * </p>
+ */
+public final class ChunkedTextOutput extends AbstractTextOutput
+    implements CharSequence, ITextable {
+
+  /** the chunks */
+  private char[][] m_chunks;
+
+  /** the number of chunks in use */
+  private int m_chunkCount;
+
+  /** the size */
+  private int m_size;
+
+  /** a buffer for converting numbers to text */
+  private char[] m_scratch;
+
+  /**
+   * the number of characters which can be held in memory before the
+   * output is spilled to a temporary file, or {@code 0} if the output is
+   * never spilled
+   */
+  private final int m_spillThreshold;
+
+  /**
+   * the number of characters stored in the spill file, always a multiple
+   * of the chunk size
+   */
+  private int m_spilled;
+
+  /** the temporary directory holding the spill file, or {@code null} */
+  private TempDir m_spillDir;
+
+  /** the channel to the spill file, or {@code null} */
+  private FileChannel m_spillChannel;
+
+  /** the byte buffer for transferring chunks to and from the spill file */
+  private ByteBuffer m_spillBuffer;
+
+  /** create a chunked text output which keeps everything in memory */
+  public ChunkedTextOutput() {
+    this(0);
+  }
+
+  /**
+   * Create a chunked text output which spills its contents to a
+   * temporary file once more than {@code spillThreshold} characters are
+   * held in memory
+   *
+   * @param spillThreshold
+   *          the maximum number of characters to keep in memory, or
+   *          {@code 0} to never spill
+   */
+  public ChunkedTextOutput(final int spillThreshold) {
+    super();
+    if (spillThreshold < 0) {
+      throw new IllegalArgumentException(//
+          "Spill threshold must not be negative, but is " //$NON-NLS-1$
+              + spillThreshold + '.');
+    }
+    this.m_spillThreshold = spillThreshold;
+    this.m_chunks = new char[8][];
+  }
+
+  /**
+   * Check whether parts of this text output have been spilled to a
+   * temporary file.
+   *
+   * @return {@code true} if parts of this text output are stored in a
+   *         temporary file, {@code false} if everything is held in memory
+   */
+  public final boolean isSpilled() {
+    return (this.m_spilled > 0);
+  }
+
+  /**
+   * Get the chunk into which the next character is to be written,
+   * allocating it if necessary
+   *
+   * @return the chunk
+   */
+  private final char[] __writeChunk() {
+    int index;
+    char[][] chunks;
+
+    index = ((this.m_size - this.m_spilled) >>> _CharChunkPool.CHUNK_SHIFT);
+    if (index >= this.m_chunkCount) {
+      if ((index > 0) && (this.m_spillThreshold > 0)
+          && ((this.m_size - this.m_spilled) >= this.m_spillThreshold)) {
+        this.__spill();
+        index = 0;
+      }
+      chunks = this.m_chunks;
+      if (index >= chunks.length) {
+        chunks = new char[chunks.length << 1][];
+        System.arraycopy(this.m_chunks, 0, chunks, 0, this.m_chunkCount);
+        this.m_chunks = chunks;
+      }
+      chunks[index] = _CharChunkPool.POOL._allocate();
+      this.m_chunkCount = (index + 1);
+    }
+    return this.m_chunks[index];
+  }
+
+  /**
+   * Write all chunks in memory, which must all be full, to the spill file
+   * and return them to the shared pool.
+   */
+  private final void __spill() {
+    final char[][] chunks;
+    final ByteBuffer buffer;
+    FileChannel channel;
+    long position;
+
+    try {
+      channel = this.m_spillChannel;
+      if (channel == null) {
+        this.m_spillDir = new TempDir();
+        this.m_spillChannel = channel = FileChannel.open(
+            this.m_spillDir.getPath().resolve("spill.bin"), //$NON-NLS-1$
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+      }
+      buffer = this.__spillBuffer();
+
+      chunks = this.m_chunks;
+      for (int i = 0; i < this.m_chunkCount; i++) {
+        buffer.clear();
+        buffer.asCharBuffer().put(chunks[i]);
+        position = (((long) (this.m_spilled)) << 1L);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer, (position + buffer.position()));
+        }
+        this.m_spilled += _CharChunkPool.CHUNK_SIZE;
+        _CharChunkPool.POOL._dispose(chunks[i]);
+        chunks[i] = null;
+      }
+      this.m_chunkCount = 0;
+    } catch (final IOException ioe) {
+      RethrowMode.AS_RUNTIME_EXCEPTION.rethrow(//
+          "Error while trying to spill text to a temporary file.", //$NON-NLS-1$
+          true, ioe);
+    }
+  }
+
+  /**
+   * Get the byte buffer for transferring data to and from the spill file
+   *
+   * @return the byte buffer, which can hold exactly one chunk
+   */
+  private final ByteBuffer __spillBuffer() {
+    ByteBuffer buffer;
+
+    buffer = this.m_spillBuffer;
+    if (buffer == null) {
+      this.m_spillBuffer = buffer = ByteBuffer
+          .allocateDirect(_CharChunkPool.CHUNK_SIZE << 1);
+    }
+    return buffer;
+  }
+
+  /**
+   * Read characters from the spill file
+   *
+   * @param start
+   *          the inclusive start index, which must be less than the
+   *          number of spilled characters
+   * @param end
+   *          the exclusive end index, which must not be greater than the
+   *          number of spilled characters
+   * @param dest
+   *          the destination array
+   * @param destStart
+   *          the start index in the destination array
+   */
+  private final void __readSpilled(final int start, final int end,
+      final char[] dest, final int destStart) {
+    final ByteBuffer buffer;
+    int index, destIndex, count;
+    long position;
+
+    buffer = this.__spillBuffer();
+    index = start;
+    destIndex = destStart;
+    try {
+      while (index < end) {
+        count = Math.min((end - index), _CharChunkPool.CHUNK_SIZE);
+        buffer.clear();
+        buffer.limit(count << 1);
+        position = (((long) index) << 1L);
+        while (buffer.hasRemaining()) {
+          if (this.m_spillChannel.read(buffer,
+              (position + buffer.position())) < 0) {
+            throw new EOFException(//
+                "Spill file ended before character " + //$NON-NLS-1$
+                    (index + (buffer.position() >>> 1)) + '.');
+          }
+        }
+        buffer.flip();
+        buffer.asCharBuffer().get(dest, destIndex, count);
+        index += count;
+        destIndex += count;
+      }
+    } catch (final IOException ioe) {
+      RethrowMode.AS_RUNTIME_EXCEPTION.rethrow(//
+          "Error while trying to read text from a temporary file.", //$NON-NLS-1$
+          true, ioe);
+    }
+  }
+
+  /**
+   * Delete the spill file, if any
+   */
+  private final void __deleteSpillFile() {
+    final FileChannel channel;
+    final TempDir dir;
+    Object error;
+
+    this.m_spilled = 0;
+    channel = this.m_spillChannel;
+    dir = this.m_spillDir;
+    this.m_spillChannel = null;
+    this.m_spillDir = null;
+    this.m_spillBuffer = null;
+
+    error = null;
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (final Throwable t) {
+        error = ErrorUtils.aggregateError(error, t);
+      }
+    }
+    if (dir != null) {
+      try {
+        dir.close();
+      } catch (final Throwable t) {
+        error = ErrorUtils.aggregateError(error, t);
+      }
+    }
+    if (error != null) {
+      RethrowMode.AS_RUNTIME_EXCEPTION.rethrow(//
+          "Error while trying to delete temporary spill file.", //$NON-NLS-1$
+          true, error);
+    }
+  }
+
+  /**
+   * Obtain a block of characters of this text output. A block is either a
+   * chunk in memory or a chunk-sized part of the spill file.
+   *
+   * @param index
+   *          the index of the first character of the block, which must be
+   *          a multiple of the chunk size
+   * @param buffer
+   *          a chunk-sized buffer to read spilled characters into
+   * @return the array holding the characters of the block, either
+   *         {@code buffer} or a chunk
+   */
+  private final char[] __block(final int index, final char[] buffer) {
+    if (index < this.m_spilled) {
+      this.__readSpilled(index,
+          Math.min(this.m_spilled, (index + _CharChunkPool.CHUNK_SIZE)),
+          buffer, 0);
+      return buffer;
+    }
+    return this.m_chunks[(index - this.m_spilled) >>> _CharChunkPool.CHUNK_SHIFT];
+  }
+
+  /**
+   * Check whether {@code len} characters can be added to this text
+   * output.
+   *
+   * @param len
+   *          the number of characters to store
+   */
+  private final void __checkAdd(final int len) {
+    final int curLen, newLen;
+
+    curLen = this.m_size;
+    if ((newLen = (curLen + len)) < curLen) {
+      throw new IllegalStateException(//
+          "Internal buffer too big: cannot add " + //$NON-NLS-1$
+              len + " characters to the existing " + //$NON-NLS-1$
+              curLen + " ones, the result would be " + //$NON-NLS-1$
+              newLen);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final ChunkedTextOutput append(final char c) {
+    final char[] chunk;
+
+    this.__checkAdd(1);
+    chunk = this.__writeChunk();
+    chunk[this.m_size & _CharChunkPool.CHUNK_MASK] = c;
+    this.m_size++;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final ChunkedTextOutput append(final CharSequence csq) {
+    if (csq == null) {
+      this.append(AbstractTextOutput.NULL, 0, 4);
+    } else {
+      this.append(csq, 0, csq.length());
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final ChunkedTextOutput append(final CharSequence csq,
+      final int start, final int end) {
+    char[] chunk;
+    int index, offset, count;
+
+    if (csq == null) {
+      this.append(AbstractTextOutput.NULL, start, end);
+      return this;
+    }
+    if (csq instanceof String) {
+      this.append(((String) csq), start, end);
+      return this;
+    }
+    if (end <= start) {
+      return this;
+    }
+
+    this.__checkAdd(end - start);
+    index = start;
+    while (index < end) {
+      chunk = this.__writeChunk();
+      offset = (this.m_size & _CharChunkPool.CHUNK_MASK);
+      count = Math.min((end - index), (chunk.length - offset));
+      if (csq instanceof CharArrayCharSequence) {
+        ((CharArrayCharSequence) csq).getChars(index, (index + count),
+            chunk, offset);
+        index += count;
+      } else {
+        for (int i = count; (--i) >= 0;) {
+          chunk[offset++] = csq.charAt(index++);
+        }
+      }
+      this.m_size += count;
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final String s, final int start,
+      final int end) {
+    char[] chunk;
+    int index, offset, count;
+
+    if (end <= start) {
+      return;
+    }
+
+    this.__checkAdd(end - start);
+    index = start;
+    while (index < end) {
+      chunk = this.__writeChunk();
+      offset = (this.m_size & _CharChunkPool.CHUNK_MASK);
+      count = Math.min((end - index), (chunk.length - offset));
+      s.getChars(index, (index += count), chunk, offset);
+      this.m_size += count;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final char[] chars, final int start,
+      final int end) {
+    char[] chunk;
+    int index, offset, count;
+
+    if (end <= start) {
+      return;
+    }
+
+    this.__checkAdd(end - start);
+    index = start;
+    while (index < end) {
+      chunk = this.__writeChunk();
+      offset = (this.m_size & _CharChunkPool.CHUNK_MASK);
+      count = Math.min((end - index), (chunk.length - offset));
+      System.arraycopy(chars, index, chunk, offset, count);
+      index += count;
+      this.m_size += count;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final byte v) {
+    this.append((long) v);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final short v) {
+    this.append((long) v);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final int v) {
+    this.append((long) v);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void append(final long v) {
+    char[] scratch;
+
+    scratch = this.m_scratch;
+    if (scratch == null) {
+      this.m_scratch = scratch = new char[NumberFormatUtils.MAX_CHARS];
+    }
+    this.append(scratch, 0, NumberFormatUtils.formatLong(v, scratch, 0));
+  }
+
+  /**
+   * Read all the characters from the given reader into this buffer.
+   *
+   * @param reader
+   *          the reader
+   * @throws IOException
+   *           if i/o fails
+   */
+  public final void appendAll(final Reader reader) throws IOException {
+    char[] chunk;
+    int offset, read;
+
+    if (reader == null) {
+      throw new IllegalArgumentException("Reader cannot be null.");//$NON-NLS-1$
+    }
+
+    for (;;) {
+      chunk = this.__writeChunk();
+      offset = (this.m_size & _CharChunkPool.CHUNK_MASK);
+      read = reader.read(chunk, offset, (chunk.length - offset));
+      if (read <= 0) {
+        return;
+      }
+      this.__checkAdd(read);
+      this.m_size += read;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int length() {
+    return this.m_size;
+  }
+
+  /**
+   * Check a character range of this text output
+   *
+   * @param start
+   *          the inclusive start index
+   * @param end
+   *          the exclusive end index
+   */
+  private final void __checkRange(final int start, final int end) {
+    if ((start < 0) || (start > end) || (end > this.m_size)) {
+      throw new IndexOutOfBoundsException("Index pair [" + start + //$NON-NLS-1$
+          ", " + end + //$NON-NLS-1$
+          "] is invalid for a text of length " + this.m_size + '.'); //$NON-NLS-1$
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final char charAt(final int index) {
+    final char[] chars;
+
+    if ((index < 0) || (index >= this.m_size)) {
+      throw new IndexOutOfBoundsException("Index " + index + //$NON-NLS-1$
+          " is outside the valid range 0.." + (this.m_size - 1) + '.'); //$NON-NLS-1$
+    }
+    if (index < this.m_spilled) {
+      chars = new char[1];
+      this.__readSpilled(index, (index + 1), chars, 0);
+      return chars[0];
+    }
+    return this.m_chunks[(index - this.m_spilled) >>> _CharChunkPool.CHUNK_SHIFT]//
+    [index & _CharChunkPool.CHUNK_MASK];
+  }
+
+  /**
+   * Obtain a view on a part of this text output. The view is not a copy:
+   * If this text output is {@linkplain #clear() cleared} or
+   * {@linkplain #release() released}, the view becomes invalid.
+   *
+   * @param start
+   *          the inclusive start index
+   * @param end
+   *          the exclusive end index
+   * @return the view
+   */
+  @Override
+  public final CharSequence subSequence(final int start, final int end) {
+    this.__checkRange(start, end);
+    return new __SubSequence(start, end);
+  }
+
+  /**
+   * Copy characters from this text output into an array
+   *
+   * @param srcStart
+   *          the inclusive start index in this text output
+   * @param srcEnd
+   *          the exclusive end index in this text output
+   * @param dest
+   *          the destination array
+   * @param destStart
+   *          the start index in the destination array
+   */
+  public final void getChars(final int srcStart, final int srcEnd,
+      final char[] dest, final int destStart) {
+    int index, destIndex, offset, count;
+
+    this.__checkRange(srcStart, srcEnd);
+    index = srcStart;
+    destIndex = destStart;
+    if (index < this.m_spilled) {
+      count = (Math.min(srcEnd, this.m_spilled) - index);
+      this.__readSpilled(index, (index + count), dest, destIndex);
+      index += count;
+      destIndex += count;
+    }
+    while (index < srcEnd) {
+      offset = (index & _CharChunkPool.CHUNK_MASK);
+      count = Math.min((srcEnd - index),
+          (_CharChunkPool.CHUNK_SIZE - offset));
+      System.arraycopy(this.m_chunks[(index - this.m_spilled)//
+          >>> _CharChunkPool.CHUNK_SHIFT], offset, dest, destIndex, count);
+      index += count;
+      destIndex += count;
+    }
+  }
+
+  /**
+   * Obtain the characters stored in this buffer
+   *
+   * @return the characters
+   */
+  public final char[] toChars() {
+    final char[] chars;
+
+    chars = new char[this.m_size];
+    this.getChars(0, chars.length, chars, 0);
+    return chars;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final String toString() {
+    return String.valueOf(this.toChars());
+  }
+
+  /**
+   * Write a range of characters to a text output, chunk by chunk. Spilled
+   * characters are streamed back from the spill file in chunk-sized
+   * blocks.
+   *
+   * @param start
+   *          the inclusive start index
+   * @param end
+   *          the exclusive end index
+   * @param textOut
+   *          the text output
+   */
+  final void _toText(final int start, final int end,
+      final ITextOutput textOut) {
+    char[] buffer;
+    int index, offset, count;
+
+    buffer = null;
+    index = start;
+    try {
+      while (index < end) {
+        offset = (index & _CharChunkPool.CHUNK_MASK);
+        count = Math.min((end - index),
+            (_CharChunkPool.CHUNK_SIZE - offset));
+        if ((index < this.m_spilled) && (buffer == null)) {
+          buffer = _CharChunkPool.POOL._allocate();
+        }
+        textOut.append(this.__block((index - offset), buffer), offset,
+            (offset + count));
+        index += count;
+      }
+    } finally {
+      if (buffer != null) {
+        _CharChunkPool.POOL._dispose(buffer);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void toText(final ITextOutput textOut) {
+    this._toText(0, this.m_size, textOut);
+  }
+
+  /**
+   * Clear the contents of this text output. The first chunk is kept for
+   * re-use, all other chunks are returned to the shared pool, and the
+   * spill file, if any, is deleted.
+   */
+  public final void clear() {
+    this.__release(1);
+  }
+
+  /**
+   * Clear the contents of this text output, return all of its chunks to
+   * the shared pool, and delete the spill file, if any. The text output
+   * remains usable and will obtain new chunks when text is written to it.
+   */
+  public final void release() {
+    this.__release(0);
+  }
+
+  /**
+   * Clear the contents of this text output and release all but the given
+   * number of chunks
+   *
+   * @param keep
+   *          the number of chunks to keep
+   */
+  private final void __release(final int keep) {
+    final char[][] chunks;
+
+    chunks = this.m_chunks;
+    for (int i = this.m_chunkCount; (--i) >= keep;) {
+      _CharChunkPool.POOL._dispose(chunks[i]);
+      chunks[i] = null;
+    }
+    this.m_chunkCount = Math.min(keep, this.m_chunkCount);
+    this.m_size = 0;
+    if (this.m_spillChannel != null) {
+      this.__deleteSpillFile();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean equals(final Object o) {
+    final CharSequence seq;
+    final char[] buffer;
+    char[] block;
+    int index, end;
+
+    if (o == this) {
+      return true;
+    }
+    if (o instanceof CharSequence) {
+      seq = ((CharSequence) o);
+      if (seq.length() == this.m_size) {
+        buffer = ((this.m_spilled > 0) ? _CharChunkPool.POOL._allocate()
+            : null);
+        try {
+          for (index = 0; index < this.m_size;) {
+            block = this.__block(index, buffer);
+            end = Math.min(this.m_size,
+                (index + _CharChunkPool.CHUNK_SIZE));
+            for (int i = 0; index < end; i++, index++) {
+              if (block[i] != seq.charAt(index)) {
+                return false;
+              }
+            }
+          }
+        } finally {
+          if (buffer != null) {
+            _CharChunkPool.POOL._dispose(buffer);
+          }
+        }
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final int hashCode() {
+    final char[] buffer;
+    char[] block;
+    int index, end, hc;
+
+    buffer = ((this.m_spilled > 0) ? _CharChunkPool.POOL._allocate()
+        : null);
+    hc = 0;
+    try {
+      for (index = 0; index < this.m_size;) {
+        block = this.__block(index, buffer);
+        end = Math.min(this.m_size, (index + _CharChunkPool.CHUNK_SIZE));
+        for (int i = 0; index < end; i++, index++) {
+          hc = HashUtils.combineHashes(hc, HashUtils.hashCode(block[i]));
+        }
+      }
+    } finally {
+      if (buffer != null) {
+        _CharChunkPool.POOL._dispose(buffer);
+      }
+    }
+    return hc;
+  }
+
+  /** a view on a part of the text output */
+  private final class __SubSequence implements CharSequence, ITextable {
+
+    /** the inclusive start index */
+    private final int m_start;
+    /** the exclusive end index */
+    private final int m_end;
+
+    /**
+     * create
+     *
+     * @param start
+     *          the inclusive start index
+     * @param end
+     *          the exclusive end index
+     */
+    __SubSequence(final int start, final int end) {
+      super();
+      this.m_start = start;
+      this.m_end = end;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int length() {
+      return (this.m_end - this.m_start);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final char charAt(final int index) {
+      if ((index < 0) || (index >= (this.m_end - this.m_start))) {
+        throw new IndexOutOfBoundsException("Index " + index + //$NON-NLS-1$
+            " is outside the valid range 0.." + //$NON-NLS-1$
+            (this.m_end - this.m_start - 1) + '.');
+      }
+      return ChunkedTextOutput.this.charAt(this.m_start + index);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final CharSequence subSequence(final int start, final int end) {
+      if ((start < 0) || (start > end)
+          || (end > (this.m_end - this.m_start))) {
+        throw new IndexOutOfBoundsException("Index pair [" + start + //$NON-NLS-1$
+            ", " + end + //$NON-NLS-1$
+            "] is invalid for a text of length " + //$NON-NLS-1$
+            (this.m_end - this.m_start) + '.');
+      }
+      return new __SubSequence((this.m_start + start),
+          (this.m_start + end));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void toText(final ITextOutput textOut) {
+      ChunkedTextOutput.this._toText(this.m_start, this.m_end, textOut);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      final char[] chars;
+
+      chars = new char[this.m_end - this.m_start];
+      ChunkedTextOutput.this.getChars(this.m_start, this.m_end, chars, 0);
+      return String.valueOf(chars);
+    }
+  }
+}
@@ -16,9 +16,11 @@ import org.optimizationBenchmarking.utils.text.TextUtils;
  * {@link java.lang.StringBuilder}: It stores everything which is written
  * to it in memory. It can be flushed to another
  * {@link org.optimizationBenchmarking.utils.text.textOutput.ITextOutput}.
- * It is used as efficient backing store in
+ * For large texts which are built piece by piece and then written to
+ * another text output, such as the buffers of the children of
  * {@link org.optimizationBenchmarking.utils.hierarchy.HierarchicalText}s
- * if multiple text nodes are forked in parallel.
+ * forked in parallel, {@link ChunkedTextOutput} avoids copying the text
+ * whenever the buffer grows.
  */
 public class MemoryTextOutput extends AbstractTextOutput
     implements CharSequence, ITextable {
@@ -0,0 +1,68 @@
+package org.optimizationBenchmarking.utils.text.textOutput;
+
+/**
+ * A bounded pool of the fixed-size character chunks used by
+ * {@link ChunkedTextOutput}. Chunks released by one text output can thus
+ * be re-used by the next one instead of being allocated anew.
+ */
+final class _CharChunkPool {
+
+  /** the shift to get from an index to a chunk index: {@value} */
+  static final int CHUNK_SHIFT = 11;
+
+  /** the size of a chunk: {@value} */
+  static final int CHUNK_SIZE = (1 << _CharChunkPool.CHUNK_SHIFT);
+
+  /** the mask to get from an index to an index inside a chunk: {@value} */
+  static final int CHUNK_MASK = (_CharChunkPool.CHUNK_SIZE - 1);
+
+  /** the maximum number of chunks kept in the pool */
+  private static final int MAX_POOLED = 256;
+
+  /** the shared pool */
+  static final _CharChunkPool POOL = new _CharChunkPool();
+
+  /** the pooled chunks */
+  private final char[][] m_chunks;
+
+  /** the number of pooled chunks */
+  private int m_size;
+
+  /** create */
+  private _CharChunkPool() {
+    super();
+    this.m_chunks = new char[_CharChunkPool.MAX_POOLED][];
+  }
+
+  /**
+   * Obtain a chunk, either from the pool or by allocating it.
+   *
+   * @return the chunk
+   */
+  final char[] _allocate() {
+    char[] chunk;
+
+    synchronized (this) {
+      if (this.m_size > 0) {
+        chunk = this.m_chunks[--this.m_size];
+        this.m_chunks[this.m_size] = null;
+        return chunk;
+      }
+    }
+
+    return new char[_CharChunkPool.CHUNK_SIZE];
+  }
+
+  /**
+   * Return a chunk to the pool. If the pool is full, the chunk is left to
+   * the garbage collector.
+   *
+   * @param chunk
+   *          the chunk, which must not be used by the caller anymore
+   */
+  final synchronized void _dispose(final char[] chunk) {
+    if (this.m_size < this.m_chunks.length) {
+      this.m_chunks[this.m_size++] = chunk;
+    }
+  }
+}
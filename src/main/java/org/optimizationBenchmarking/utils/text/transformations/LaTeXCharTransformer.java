@@ -48,11 +48,10 @@ public class LaTeXCharTransformer extends LookupCharTransformer {
       final Normalizer.Form form) {
 
     if (form == null) {
-      return new _LaTeXLookupTransformedTextOutput(out, this.m_data,
-          this.m_state);
+      return new _LaTeXLookupTransformedTextOutput(out, this.m_table);
     }
     return new _LaTeXNormalizingLookupTransformedTextOutput(out,
-        this.m_data, this.m_state, form);
+        this.m_table, form);
   }
 
   /** the internal loader class */
@@ -14,6 +14,7 @@ import org.optimizationBenchmarking.utils.text.textOutput.AbstractTextOutput;
 import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
 
 /**
+ * <p>
  * A lookup-table based character transformer: Instances of this class
  * translate unicode characters ({@code char}s) to a (canonical) textual
  * representations. Single chacters can either be omitted (see
@@ -22,6 +23,18 @@ import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
  * (see {@link #STATE_MARK_TO_SPACE}), or replaced by a fixed, pre-defined
  * string (see {@link #STATE_LOOKUP}). The character transformer loads the
  * information what to do from a resource text file.
+ * </p>
+ * <p>
+ * From this information, a two-level lookup table covering the whole
+ * Basic Multilingual Plane is built once. The upper eight bits of a
+ * character select a page of the table and the lower eight bits the
+ * entry in the page. An entry is {@code null} if the character can be
+ * copied directly, and a page is {@code null} if this holds for all of
+ * its characters. This allows the text outputs created by
+ * {@link #transform(ITextOutput, java.text.Normalizer.Form)} to scan for
+ * the next character needing a transformation in a tight loop and to
+ * copy all characters in between with a single operation.
+ * </p>
  */
 public class LookupCharTransformer extends CharTransformer {
 
@@ -37,6 +50,28 @@ public class LookupCharTransformer extends CharTransformer {
   /** a replacement that transforms a character to a space */
   static final char[] TO_SPACE = new char[] { ' ', ' ' };
 
+  /** a replacement that omits a character */
+  static final char[] OMIT = new char[] { ' ' };
+
+  /** the table entry for characters for which no mapping is known */
+  static final char[] UNKNOWN = new char[] { ' ' };
+
+  /** the shift to get from a character to its page in the table */
+  static final int PAGE_SHIFT = 8;
+
+  /** the mask to get from a character to its index in the page */
+  static final int PAGE_MASK = ((1 << LookupCharTransformer.PAGE_SHIFT)
+      - 1);
+
+  /** a page of the table consisting only of unknown characters */
+  private static final char[][] UNKNOWN_PAGE;
+
+  static {
+    UNKNOWN_PAGE = new char[LookupCharTransformer.PAGE_MASK + 1][];
+    Arrays.fill(LookupCharTransformer.UNKNOWN_PAGE,
+        LookupCharTransformer.UNKNOWN);
+  }
+
   /** the character must be looked up */
   static final byte STATE_LOOKUP = 0;
 
@@ -62,11 +97,14 @@ public class LookupCharTransformer extends CharTransformer {
   /** the hyphen */
   private static final String HYPHEN_MARK = "hyphen"; //$NON-NLS-1$
 
-  /** the data */
-  final char[][] m_data;
-
-  /** the characters that can be written directly to the output */
-  final byte[] m_state;
+  /**
+   * the two-level lookup table: the page of a character {@code ch} is
+   * {@code m_table[ch >>> PAGE_SHIFT]}, and, if the page is not
+   * {@code null}, the replacement of the character is
+   * {@code page[ch & PAGE_MASK]}. Replacements start with the replaced
+   * character.
+   */
+  final char[][][] m_table;
 
   /**
    * instantiate
@@ -91,6 +129,8 @@ public class LookupCharTransformer extends CharTransformer {
     super();
 
     final ArrayList<char[]> al;
+    final byte[] finalState;
+    final char[][] data;
     byte[] state;
     int lastDir;
     String string, first, second;
@@ -218,24 +258,24 @@ public class LookupCharTransformer extends CharTransformer {
     if (lastDir >= 0) {
       lastDir++;
       if (lastDir == state.length) {
-        this.m_state = state;
+        finalState = state;
       } else {
-        this.m_state = new byte[lastDir];
-        System.arraycopy(state, 0, this.m_state, 0, lastDir);
+        finalState = new byte[lastDir];
+        System.arraycopy(state, 0, finalState, 0, lastDir);
       }
     } else {
-      this.m_state = LookupCharTransformer.DEF_STATE;
+      finalState = LookupCharTransformer.DEF_STATE;
     }
 
     // the others go into a sorted table
     index = al.size();
     if (index > 0) {
 
-      this.m_data = al.toArray(new char[index][]);
-      Arrays.sort(this.m_data, _CharTransformerSorter.SORTER);
+      data = al.toArray(new char[index][]);
+      Arrays.sort(data, _CharTransformerSorter.SORTER);
 
       last = (-1);
-      for (final char ch[] : this.m_data) {
+      for (final char ch[] : data) {
         cur = ch[0];
         if (cur == last) {
           throw new IllegalArgumentException(//
@@ -247,8 +287,118 @@ public class LookupCharTransformer extends CharTransformer {
       }
 
     } else {
-      this.m_data = LookupCharTransformer.DEF_DATA;
+      data = LookupCharTransformer.DEF_DATA;
     }
+
+    this.m_table = LookupCharTransformer.__makeTable(finalState, data);
+  }
+
+  /**
+   * Build the two-level lookup table for all characters of the Basic
+   * Multilingual Plane
+   *
+   * @param state
+   *          the character states
+   * @param data
+   *          the sorted replacement data
+   * @return the table
+   */
+  private static final char[][][] __makeTable(final byte[] state,
+      final char[][] data) {
+    final char[][][] table;
+    char[][] page;
+    char[] entry, first;
+    boolean uniform;
+    int ch;
+
+    table = new char[(Character.MAX_VALUE
+        + 1) >>> LookupCharTransformer.PAGE_SHIFT][][];
+    ch = 0;
+    for (int i = 0; i < table.length; i++) {
+      page = new char[LookupCharTransformer.PAGE_MASK + 1][];
+      uniform = true;
+      first = null;
+      for (int j = 0; j < page.length; j++, ch++) {
+        entry = LookupCharTransformer.__entry(((char) ch), state, data);
+        if (j <= 0) {
+          first = entry;
+        } else {
+          if (entry != first) {
+            uniform = false;
+          }
+        }
+        page[j] = entry;
+      }
+
+      if (uniform) {
+        if (first == null) {
+          continue; // all characters can be copied directly
+        }
+        if (first == LookupCharTransformer.UNKNOWN) {
+          page = LookupCharTransformer.UNKNOWN_PAGE;
+        }
+      }
+      table[i] = page;
+    }
+
+    return table;
+  }
+
+  /**
+   * Compute the table entry for a given character
+   *
+   * @param ch
+   *          the character
+   * @param state
+   *          the character states
+   * @param data
+   *          the sorted replacement data
+   * @return the entry: {@code null} if the character can be copied
+   *         directly, {@link #OMIT}, {@link #TO_SPACE}, {@link #UNKNOWN},
+   *         or the replacement from {@code data}
+   */
+  private static final char[] __entry(final char ch, final byte[] state,
+      final char[][] data) {
+    char[] replace;
+    char midChar;
+    int low, high, mid;
+
+    if (ch < state.length) {
+      switch (state[ch]) {
+        case LookupCharTransformer.STATE_DIRECT: {
+          return null;
+        }
+        case LookupCharTransformer.STATE_OMIT: {
+          return LookupCharTransformer.OMIT;
+        }
+        case LookupCharTransformer.STATE_TO_SPACE: {
+          return LookupCharTransformer.TO_SPACE;
+        }
+        default: {
+          // look up
+        }
+      }
+    }
+
+    low = 0;
+    high = (data.length - 1);
+    while (low <= high) {
+      mid = ((low + high) >>> 1);
+      replace = data[mid];
+      midChar = replace[0];
+
+      if (midChar < ch) {
+        low = (mid + 1);
+      } else {
+        if (midChar > ch) {
+          high = (mid - 1);
+        } else {
+          return replace;
+        }
+      }
+    }
+
+    return LookupCharTransformer.UNKNOWN;
   }
 
   /**
@@ -271,11 +421,10 @@ public class LookupCharTransformer extends CharTransformer {
       final Normalizer.Form form) {
 
     if (form == null) {
-      return new _LookupTransformedTextOutput(out, this.m_data,
-          this.m_state);
+      return new _LookupTransformedTextOutput(out, this.m_table);
     }
-    return new _NormalizingLookupTransformedTextOutput(out, this.m_data,
-        this.m_state, form);
+    return new _NormalizingLookupTransformedTextOutput(out, this.m_table,
+        form);
   }
 
 }
@@ -11,14 +11,12 @@ class _LaTeXLookupTransformedTextOutput
    *
    * @param out
    *          the wrapped output
-   * @param data
-   *          the lookup data
-   * @param state
-   *          the character state
+   * @param table
+   *          the lookup table
    */
   _LaTeXLookupTransformedTextOutput(final ITextOutput out,
-      final char[][] data, final byte[] state) {
-    super(out, data, state);
+      final char[][][] table) {
+    super(out, table);
   }
 
   /** {@inheritDoc} */
@@ -13,17 +13,14 @@ class _LaTeXNormalizingLookupTransformedTextOutput
    *
    * @param out
    *          the wrapped output
-   * @param data
-   *          the lookup data
-   * @param state
-   *          the character state
+   * @param table
+   *          the lookup table
    * @param form
    *          the normalizer form
    */
   _LaTeXNormalizingLookupTransformedTextOutput(final ITextOutput out,
-      final char[][] data, final byte[] state,
-      final Normalizer.Form form) {
-    super(out, data, state, form);
+      final char[][][] table, final Normalizer.Form form) {
+    super(out, table, form);
   }
 
   /** {@inheritDoc} */
@@ -32,4 +29,4 @@ class _LaTeXNormalizingLookupTransformedTextOutput
     this.m_out.append('~');
   }
 
-}
\ No newline at end of file
+}
\ No newline at end of file
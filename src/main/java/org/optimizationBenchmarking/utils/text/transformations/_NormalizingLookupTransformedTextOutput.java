@@ -22,17 +22,14 @@ class _NormalizingLookupTransformedTextOutput
    *
    * @param out
    *          the wrapped output
-   * @param data
-   *          the lookup data
-   * @param state
-   *          the character state
+   * @param table
+   *          the lookup table
    * @param form
    *          the normalizer form
    */
   _NormalizingLookupTransformedTextOutput(final ITextOutput out,
-      final char[][] data, final byte[] state,
-      final Normalizer.Form form) {
-    super(out, data, state);
+      final char[][][] table, final Normalizer.Form form) {
+    super(out, table);
     this.m_form = form;
   }
 
@@ -128,4 +125,4 @@ class _NormalizingLookupTransformedTextOutput
     s = Boolean.toString(v);
     super.append(s, 0, s.length());
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -39,16 +39,21 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
   /** the default replacement */
   private static final char[] REPLACE = { '&', '#', 'x', 0, 0, 0, 0, ';' };
 
-  /** the table of characters that can directly be passed on */
+  /**
+   * the table of characters that can directly be passed on: all
+   * characters outside of this table are transformed to entities
+   */
   private static final int[] MODES;
 
   static {
     final int[] list;
 
-    list = new int[128];
+    // cover the C0 and C1 control characters
+    list = new int[160];
 
     Arrays.fill(list, _XMLTransformedTextOutput.MODE_TRANSFORM);
     Arrays.fill(list, 0, 32, _XMLTransformedTextOutput.MODE_IGNORE);
+    Arrays.fill(list, 128, 160, _XMLTransformedTextOutput.MODE_IGNORE);
     list[' '] = _XMLTransformedTextOutput.MODE_PASS_THROUGH;
     list['\n'] = _XMLTransformedTextOutput.MODE_PASS_THROUGH;
     list['\t'] = _XMLTransformedTextOutput.MODE_TO_SPACE;
@@ -142,10 +147,6 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
           continue outer;
         }
       } else {
-        // omit iso control characters
-        if (Character.isISOControl(currentChar)) {
-          continue;
-        }
         mode = _XMLTransformedTextOutput.MODE_TRANSFORM;
       }
 
@@ -198,11 +199,6 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
           continue outer;
         }
       } else {
-        // omit iso control characters
-        if (Character.isISOControl(currentChar)) {
-          continue;
-        }
-
         mode = _XMLTransformedTextOutput.MODE_TRANSFORM;
       }
 
@@ -254,10 +250,6 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
           continue outer;
         }
       } else {
-        // omit iso control characters
-        if (Character.isISOControl(currentChar)) {
-          continue;
-        }
         mode = _XMLTransformedTextOutput.MODE_TRANSFORM;
       }
 
@@ -308,10 +300,6 @@ class _XMLTransformedTextOutput extends _TransformedTextOutput {
           return this;
         }
       }
-    } else {
-      if (Character.isISOControl(ch)) {
-        return this;
-      }
     }
 
     // ok, the character is no control char -> transform it!
@@ -121,7 +121,8 @@ public final class Browser extends Tool implements IConfigurableJobTool {
             new FileNamePredicate(true,//
                 browsers.keySet().toArray(new String[size])),//
             CanExecutePredicate.INSTANCE),//
-            IsFilePredicate.INSTANCE, browsers._getVisitFirst());
+            IsFilePredicate.INSTANCE, browsers._getVisitFirst(), logger,
+            ("browser" + browsers.keySet())); //$NON-NLS-1$
         if (path != null) {
           name = PathUtils.getFileNameWithoutExtension(path);
           desc = browsers.get(name);
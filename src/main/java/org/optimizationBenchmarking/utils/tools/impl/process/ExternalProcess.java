@@ -9,7 +9,7 @@ import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
 import org.optimizationBenchmarking.utils.error.RethrowMode;
-import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer;
 
 /**
  * An external process with which you can communicate via standard streams
@@ -31,7 +31,7 @@ public final class ExternalProcess extends _BasicProcess {
    * the byte buffer associated with stdout, or {@code null} if none is
    * needed
    */
-  ByteProducerConsumerBuffer m_stdoutBuffer;
+  IProducerConsumerBuffer<byte[]> m_stdoutBuffer;
 
   /** a stream providing stderr of the process */
   InputStream m_stderr;
@@ -44,7 +44,7 @@ public final class ExternalProcess extends _BasicProcess {
    * the byte buffer associated with stderr, or {@code null} if none is
    * needed
    */
-  ByteProducerConsumerBuffer m_stderrBuffer;
+  IProducerConsumerBuffer<byte[]> m_stderrBuffer;
 
   /** a stream providing stdint of the process */
   OutputStream m_stdin;
@@ -57,7 +57,7 @@ public final class ExternalProcess extends _BasicProcess {
    * the byte buffer associated with stdin, or {@code null} if none is
    * needed
    */
-  ByteProducerConsumerBuffer m_stdinBuffer;
+  IProducerConsumerBuffer<byte[]> m_stdinBuffer;
 
   /** the process' name */
   private final String m_name;
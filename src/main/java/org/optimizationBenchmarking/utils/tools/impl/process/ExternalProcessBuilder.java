@@ -16,6 +16,8 @@ import org.optimizationBenchmarking.utils.io.nullIO.NullInputStream;
 import org.optimizationBenchmarking.utils.io.nullIO.NullOutputStream;
 import org.optimizationBenchmarking.utils.io.paths.PathUtils;
 import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.ByteRingBuffer;
+import org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer;
 import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 
 /**
@@ -44,6 +46,12 @@ public final class ExternalProcessBuilder
   /** the stderr stream definition */
   private EProcessStream m_stderr;
 
+  /**
+   * the capacity of the stream buffers, or {@code 0} for unbounded
+   * buffers
+   */
+  private int m_bufferCapacity;
+
   /** create the process builder */
   ExternalProcessBuilder() {
     super();
@@ -269,6 +277,47 @@ public final class ExternalProcessBuilder
     return this;
   }
 
+  /**
+   * Set the capacity of the buffers placed between the process streams
+   * and the streams handed to the user if more than one stream of the
+   * process is read from or written to. By default (capacity {@code 0}),
+   * these buffers are unbounded and writing to them never blocks, which
+   * is always safe but may consume a lot of memory and time for copying
+   * if the process produces much output. With a positive capacity,
+   * {@linkplain org.optimizationBenchmarking.utils.parallel.ByteRingBuffer
+   * lock-free ring buffers} of (at least) that size are used instead.
+   * They are much faster, but a full buffer will stall the process: This
+   * setting should therefore only be used if all streams of the process
+   * are consumed concurrently, e.g., by different threads.
+   *
+   * @param capacity
+   *          the buffer capacity in bytes, or {@code 0} for unbounded
+   *          buffers
+   * @return this builder
+   */
+  public final ExternalProcessBuilder setStreamBufferCapacity(
+      final int capacity) {
+    if ((capacity < 0) || (capacity > (1 << 30))) {
+      throw new IllegalArgumentException(//
+          "Stream buffer capacity must be in 0..2^30, but is " //$NON-NLS-1$
+              + capacity + '.');
+    }
+    this.m_bufferCapacity = capacity;
+    return this;
+  }
+
+  /**
+   * Create a buffer for a process stream
+   *
+   * @return the buffer
+   */
+  private final IProducerConsumerBuffer<byte[]> __createBuffer() {
+    if (this.m_bufferCapacity > 0) {
+      return new ByteRingBuffer(this.m_bufferCapacity);
+    }
+    return new ByteProducerConsumerBuffer();
+  }
+
   /** {@inheritDoc} */
   @Override
   @SuppressWarnings("fallthrough")
@@ -449,13 +498,14 @@ public final class ExternalProcessBuilder
     // we write, we need to deal with the potential of deadlocks due to
     // full pipes. In other words, a single thread can never reliably ready
     // from more than one stream. This becomes harakiri with readers
-    // sitting on top of streams. We can solve this by placing (unlimited)
-    // buffers between the real stream and the stream we let the user read
-    // from and shovel the data over with worker threads.
+    // sitting on top of streams. We can solve this by placing (unlimited,
+    // unless a capacity was set) buffers between the real stream and the
+    // stream we let the user read from and shovel the data over with
+    // worker threads.
     if (realStreams > 1) {
 
       if (this.m_stdin == EProcessStream.AS_STREAM) {
-        external.m_stdinBuffer = new ByteProducerConsumerBuffer();
+        external.m_stdinBuffer = this.__createBuffer();
         external.m_stdinWorker = new _BufferToOutputStream(
             external.m_stdin, external.m_stdinBuffer, log);
         external.m_stdin = new _ProducerConsumerOutputStream(
@@ -463,7 +513,7 @@ public final class ExternalProcessBuilder
       }
 
       if (this.m_stdout == EProcessStream.AS_STREAM) {
-        external.m_stdoutBuffer = new ByteProducerConsumerBuffer();
+        external.m_stdoutBuffer = this.__createBuffer();
         external.m_stdoutWorker = new _InputStreamToBuffer(
             external.m_stdoutBuffer, external.m_stdout, log);
         external.m_stdout = new _ProducerConsumerInputStream(
@@ -474,7 +524,7 @@ public final class ExternalProcessBuilder
         external.m_stderr = external.m_stdout;
       } else {
         if (this.m_stderr == EProcessStream.AS_STREAM) {
-          external.m_stderrBuffer = new ByteProducerConsumerBuffer();
+          external.m_stderrBuffer = this.__createBuffer();
           external.m_stderrWorker = new _InputStreamToBuffer(
               external.m_stderrBuffer, external.m_stderr, log);
           external.m_stderr = new _ProducerConsumerInputStream(
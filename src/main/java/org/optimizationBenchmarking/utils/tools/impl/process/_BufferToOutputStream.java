@@ -5,11 +5,11 @@ import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
 import org.optimizationBenchmarking.utils.error.RethrowMode;
-import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer;
 
 /**
  * A thread shoveling data from a
- * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer
+ * {@link org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer
  * buffer} to an {@link java.io.OutputStream} as long as
  * <code>{@link #m_mode}&le;{@link _WorkerThread#SHUTTING_DOWN}</code> and
  * the {@link #m_source buffer} has either not yet been closed or data is
@@ -20,7 +20,7 @@ import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
 final class _BufferToOutputStream extends _WorkerThread {
 
   /** the source */
-  private final ByteProducerConsumerBuffer m_source;
+  private final IProducerConsumerBuffer<byte[]> m_source;
   /** the destination */
   private final OutputStream m_dest;
 
@@ -35,7 +35,7 @@ final class _BufferToOutputStream extends _WorkerThread {
    *          the logger
    */
   _BufferToOutputStream(final OutputStream dest,
-      final ByteProducerConsumerBuffer source, final Logger log) {
+      final IProducerConsumerBuffer<byte[]> source, final Logger log) {
     super("Buffer-to-OutputStream", log); //$NON-NLS-1$
     this.m_dest = dest;
     this.m_source = source;
@@ -5,11 +5,11 @@ import java.util.logging.Logger;
 
 import org.optimizationBenchmarking.utils.error.ErrorUtils;
 import org.optimizationBenchmarking.utils.error.RethrowMode;
-import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer;
 
 /**
  * A thread shoveling data from an {@link java.io.InputStream} to a
- * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer
+ * {@link org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer
  * buffer} as long as
  * <code>{@link #m_mode}=={@link _WorkerThread#ALIVE}</code>. As soon as
  * <code>{@link #m_mode}&ge;{@link _WorkerThread#SHUTTING_DOWN}</code>, the
@@ -21,7 +21,7 @@ import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
 final class _InputStreamToBuffer extends _WorkerThread {
 
   /** the destination */
-  private final ByteProducerConsumerBuffer m_dest;
+  private final IProducerConsumerBuffer<byte[]> m_dest;
   /** the source */
   private final InputStream m_source;
 
@@ -35,7 +35,7 @@ final class _InputStreamToBuffer extends _WorkerThread {
    * @param log
    *          the logger
    */
-  _InputStreamToBuffer(final ByteProducerConsumerBuffer dest,
+  _InputStreamToBuffer(final IProducerConsumerBuffer<byte[]> dest,
       final InputStream source, final Logger log) {
     super("InputStream-to-Buffer", log); //$NON-NLS-1$
     this.m_dest = dest;
@@ -3,19 +3,19 @@ package org.optimizationBenchmarking.utils.tools.impl.process;
 import java.io.IOException;
 import java.io.InputStream;
 
-import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer;
 
 /**
  * An input stream reading from a byte-based
- * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer
+ * {@link org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer
  * producer/consumer buffer}. If this stream is closed, it will also
- * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer#close()
+ * {@link org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer#close()
  * close} the buffer.
  */
 final class _ProducerConsumerInputStream extends InputStream {
 
   /** the buffer to read from */
-  private final ByteProducerConsumerBuffer m_buffer;
+  private final IProducerConsumerBuffer<byte[]> m_buffer;
 
   /**
    * Create the stream
@@ -23,7 +23,8 @@ final class _ProducerConsumerInputStream extends InputStream {
    * @param buffer
    *          the buffer to read from
    */
-  _ProducerConsumerInputStream(final ByteProducerConsumerBuffer buffer) {
+  _ProducerConsumerInputStream(
+      final IProducerConsumerBuffer<byte[]> buffer) {
     super();
     this.m_buffer = buffer;
   }
@@ -2,18 +2,18 @@ package org.optimizationBenchmarking.utils.tools.impl.process;
 
 import java.io.OutputStream;
 
-import org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer;
 
 /**
  * An output stream writing to a byte-based
- * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer
+ * {@link org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer
  * producer/consumer buffer}. If this stream is closed, it will also
- * {@link org.optimizationBenchmarking.utils.parallel.ByteProducerConsumerBuffer#close()
+ * {@link org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer#close()
  * close} the buffer.
  */
 final class _ProducerConsumerOutputStream extends OutputStream {
   /** the buffer to write to */
-  private final ByteProducerConsumerBuffer m_buffer;
+  private final IProducerConsumerBuffer<byte[]> m_buffer;
 
   /**
    * Create the stream
@@ -21,7 +21,8 @@ final class _ProducerConsumerOutputStream extends OutputStream {
    * @param buffer
    *          the buffer to write to
    */
-  _ProducerConsumerOutputStream(final ByteProducerConsumerBuffer buffer) {
+  _ProducerConsumerOutputStream(
+      final IProducerConsumerBuffer<byte[]> buffer) {
     super();
     this.m_buffer = buffer;
   }
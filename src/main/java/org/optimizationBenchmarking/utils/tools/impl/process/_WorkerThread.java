@@ -1,14 +1,23 @@
 package org.optimizationBenchmarking.utils.tools.impl.process;
 
+import java.lang.Thread.UncaughtExceptionHandler;
 import java.util.logging.Logger;
 
+import org.optimizationBenchmarking.utils.parallel.ThreadUtils;
+
 /**
- * The base class for worker {@link java.lang.Thread threads} for shoveling
- * data to and from an external process. By default, they will be
- * {@link java.lang.Thread#isDaemon() deamon} threads and run at the
+ * The base class for workers shoveling data to and from an external
+ * process. Each worker runs in its own {@link java.lang.Thread thread},
+ * which is created via
+ * {@link org.optimizationBenchmarking.utils.parallel.ThreadUtils#createIOThread(String, Runnable)}
+ * : Since the workers spend nearly all of their time blocked in I/O
+ * operations, this will be a virtual thread if the Java virtual machine
+ * supports them, so that many concurrent processes do not exhaust the
+ * available threads. Otherwise, it is a
+ * {@link java.lang.Thread#isDaemon() deamon} thread running at the
  * {@link java.lang.Thread#MIN_PRIORITY lowest priority}.
  */
-abstract class _WorkerThread extends Thread {
+abstract class _WorkerThread implements Runnable {
 
   /** the worker thread is alive and works */
   static final int ALIVE = 0;
@@ -26,6 +35,9 @@ abstract class _WorkerThread extends Thread {
   /** the logger */
   final Logger m_log;
 
+  /** the thread executing this worker */
+  private final Thread m_thread;
+
   /**
    * create
    *
@@ -36,19 +48,45 @@ abstract class _WorkerThread extends Thread {
    */
   @SuppressWarnings("unused")
   _WorkerThread(final String name, final Logger log) {
-    super(name);
+    super();
 
     this.m_log = log;
     this.m_mode = _WorkerThread.ALIVE;
+    this.m_thread = ThreadUtils.createIOThread(name, this);
 
     try {
       // Worker threads can have a low priority. They are only
       // _required_ to do stuff when the main threads are blocked.
       // Otherwise, they _may_ do stuff.
-      this.setPriority(Thread.MIN_PRIORITY);
+      this.m_thread.setPriority(Thread.MIN_PRIORITY);
     } catch (final Throwable t) {
       // if we cannot set the priority, it is also OK
     }
-    this.setDaemon(true);
+  }
+
+  /**
+   * Set the handler for exceptions escaping from {@link #run()}.
+   *
+   * @param handler
+   *          the handler
+   */
+  final void setUncaughtExceptionHandler(
+      final UncaughtExceptionHandler handler) {
+    this.m_thread.setUncaughtExceptionHandler(handler);
+  }
+
+  /** start the worker thread */
+  final void start() {
+    this.m_thread.start();
+  }
+
+  /**
+   * Wait for the worker thread to finish.
+   *
+   * @throws InterruptedException
+   *           if the waiting thread was interrupted
+   */
+  final void join() throws InterruptedException {
+    this.m_thread.join();
   }
 }
@@ -119,7 +119,7 @@ public class ShellTool extends Tool {
               cmd1 = "cmd", //$NON-NLS-1$
               cmd2 = "command" //$NON-NLS-1$
           ), CanExecutePredicate.INSTANCE), IsFilePredicate.INSTANCE,//
-          set.toArray(new Path[set.size()]));
+          set.toArray(new Path[set.size()]), null, "shell");//$NON-NLS-1$
 
       if (_ShellPath.PATH == null) {
         TYPE = null;
@@ -4,7 +4,7 @@ import java.util.Random;
 
 import org.junit.Ignore;
 import org.junit.Test;
-import org.optimizationBenchmarking.utils.parallel.ProducerConsumerBuffer;
+import org.optimizationBenchmarking.utils.parallel.IProducerConsumerBuffer;
 
 import shared.junit.TestBase;
 
@@ -58,7 +58,7 @@ public abstract class ProducerConsumerBufferTest<T> extends TestBase {
    *          the size
    * @return the buffer
    */
-  protected abstract ProducerConsumerBuffer<T> createBuffer(
+  protected abstract IProducerConsumerBuffer<T> createBuffer(
       final int size);
 
   /**
@@ -117,7 +117,7 @@ public abstract class ProducerConsumerBufferTest<T> extends TestBase {
         }
       }
 
-      try (final ProducerConsumerBuffer<T> buffer = this
+      try (final IProducerConsumerBuffer<T> buffer = this
           .createBuffer(use)) {
         writer = new __WriterThread(writeArray, size, buffer, random);
         reader = new __ReaderThread(readArray, size, buffer);
@@ -147,7 +147,7 @@ public abstract class ProducerConsumerBufferTest<T> extends TestBase {
     /** the amount to write */
     private final int m_size;
     /** the buffer */
-    private final ProducerConsumerBuffer<T> m_buffer;
+    private final IProducerConsumerBuffer<T> m_buffer;
     /** the randomizer */
     private final Random m_rand;
 
@@ -164,7 +164,7 @@ public abstract class ProducerConsumerBufferTest<T> extends TestBase {
      *          the randomizer
      */
     __WriterThread(final T write, final int size,
-        final ProducerConsumerBuffer<T> buffer, final Random rand) {
+        final IProducerConsumerBuffer<T> buffer, final Random rand) {
       super();
       this.m_write = write;
       this.m_size = size;
@@ -233,7 +233,7 @@ public abstract class ProducerConsumerBufferTest<T> extends TestBase {
     /** the amount to read */
     private final int m_size;
     /** the buffer */
-    private final ProducerConsumerBuffer<T> m_buffer;
+    private final IProducerConsumerBuffer<T> m_buffer;
 
     /**
      * create the read thread
@@ -246,7 +246,7 @@ public abstract class ProducerConsumerBufferTest<T> extends TestBase {
      *          the buffer
      */
     __ReaderThread(final T read, final int size,
-        final ProducerConsumerBuffer<T> buffer) {
+        final IProducerConsumerBuffer<T> buffer) {
       super();
       this.m_read = read;
       this.m_size = size;
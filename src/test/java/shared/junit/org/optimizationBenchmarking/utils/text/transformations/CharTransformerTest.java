@@ -12,6 +12,8 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.optimizationBenchmarking.utils.EmptyUtils;
 import org.optimizationBenchmarking.utils.text.TextUtils;
+import org.optimizationBenchmarking.utils.text.textOutput.AbstractTextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
 import org.optimizationBenchmarking.utils.text.transformations.CharTransformer;
 
 import shared.junit.InstanceTest;
@@ -192,4 +194,75 @@ public abstract class CharTransformerTest
     }
   }
 
+  /**
+   * test that transforming a text via the bulk {@code append} methods
+   * yields the same result as transforming it character by character
+   */
+  @Test(timeout = 3600000)
+  public void testBulkSameAsSingle() {
+    final Random r;
+    final CharTransformer t;
+    final StringBuilder sb;
+    final MemoryTextOutput single, bulk;
+    final AbstractTextOutput singleOut, bulkOut;
+    String s;
+    char[] chars;
+    int start, end;
+
+    r = new Random();
+    t = this.getInstance();
+    sb = new StringBuilder();
+    single = new MemoryTextOutput();
+    bulk = new MemoryTextOutput();
+    singleOut = t.transform(single, null);
+    bulkOut = t.transform(bulk, null);
+
+    for (int x = 100; (--x) >= 0;) {
+      sb.setLength(0);
+      for (int i = r.nextInt(1001); (--i) >= 0;) {
+        switch (r.nextInt(3)) {
+          case 0: {
+            sb.append((char) (r.nextInt(128)));
+            break;
+          }
+          case 1: {
+            sb.append((char) (r.nextInt(0x800)));
+            break;
+          }
+          default: {
+            sb.append((char) (r.nextInt(Character.MAX_VALUE + 1)));
+          }
+        }
+      }
+      s = sb.toString();
+      chars = s.toCharArray();
+      start = r.nextInt(s.length() + 1);
+      end = (start + r.nextInt(s.length() - start + 1));
+
+      single.clear();
+      for (int i = start; i < end; i++) {
+        try {
+          singleOut.append(s.charAt(i));
+        } catch (final Throwable tt) {
+          //
+        }
+      }
+
+      bulk.clear();
+      try {
+        bulkOut.append(s, start, end);
+      } catch (final Throwable tt) {
+        continue; // transformers may refuse unmappable characters
+      }
+      Assert.assertEquals(single.toString(), bulk.toString());
+
+      bulk.clear();
+      bulkOut.append(chars, start, end);
+      Assert.assertEquals(single.toString(), bulk.toString());
+
+      bulk.clear();
+      bulkOut.append(sb, start, end);
+      Assert.assertEquals(single.toString(), bulk.toString());
+    }
+  }
 }
@@ -0,0 +1,208 @@
+package test.junit.org.optimizationBenchmarking.utils.collections.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.collections.cache.CacheStatistics;
+import org.optimizationBenchmarking.utils.collections.cache.ConcurrentMapCache;
+import org.optimizationBenchmarking.utils.collections.cache.ICacheWeigher;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+import shared.junit.TestBase;
+
+/** A test for the concurrent map cache. */
+public class ConcurrentMapCacheTest extends TestBase {
+
+  /** create */
+  public ConcurrentMapCacheTest() {
+    super();
+  }
+
+  /** test storing and retrieving values */
+  @Test(timeout = 3600000)
+  public void testPutAndGet() {
+    final ConcurrentMapCache<Integer, String> cache;
+    final CacheStatistics stat;
+    int index;
+
+    cache = new ConcurrentMapCache<>(100000);
+    for (index = 0; index < 1000; index++) {
+      Assert.assertNull(cache.get(Integer.valueOf(index)));
+      Assert.assertEquals(String.valueOf(index),
+          cache.put(Integer.valueOf(index), String.valueOf(index), true));
+    }
+
+    for (index = 0; index < 1000; index++) {
+      Assert.assertEquals(String.valueOf(index),
+          cache.get(Integer.valueOf(index)));
+      Assert.assertEquals(String.valueOf(index),
+          cache.put(Integer.valueOf(index), "x", true)); //$NON-NLS-1$
+      Assert.assertEquals("y", //$NON-NLS-1$
+          cache.put(Integer.valueOf(index), "y", false)); //$NON-NLS-1$
+    }
+
+    Assert.assertEquals("y", cache.remove(Integer.valueOf(5))); //$NON-NLS-1$
+    Assert.assertNull(cache.get(Integer.valueOf(5)));
+
+    stat = cache.getStatistics();
+    Assert.assertEquals(999L, stat.getSize());
+    Assert.assertEquals(1000L, stat.getHits());
+    Assert.assertEquals(1001L, stat.getMisses());
+    Assert.assertEquals(0L, stat.getEvictions());
+
+    cache.clear();
+    Assert.assertEquals(0L, cache.getStatistics().getSize());
+  }
+
+  /** test that the least-recently used entries are evicted */
+  @Test(timeout = 3600000)
+  public void testEviction() {
+    final ConcurrentMapCache<Integer, Integer> cache;
+    CacheStatistics stat;
+    int index;
+
+    cache = new ConcurrentMapCache<>(8);
+    cache.put(Integer.valueOf(-1), Integer.valueOf(-1), true);
+    for (index = 0; index < 1000; index++) {
+      // keep accessing -1, so it never becomes the least-recently used
+      Assert.assertEquals(Integer.valueOf(-1),
+          cache.get(Integer.valueOf(-1)));
+      cache.put(Integer.valueOf(index), Integer.valueOf(index), true);
+    }
+
+    stat = cache.getStatistics();
+    Assert.assertTrue(stat.getSize() <= 8L);
+    Assert.assertEquals(1001L - stat.getSize(), stat.getEvictions());
+    Assert.assertEquals(Integer.valueOf(-1),
+        cache.get(Integer.valueOf(-1)));
+    Assert.assertEquals(Integer.valueOf(999),
+        cache.get(Integer.valueOf(999)));
+  }
+
+  /** test the weight limit */
+  @Test(timeout = 3600000)
+  public void testWeight() {
+    final ConcurrentMapCache<Integer, String> cache;
+    final CacheStatistics stat;
+    int index;
+
+    cache = new ConcurrentMapCache<>(1000L, new __LengthWeigher(), 0L,
+        null);
+    for (index = 0; index < 1000; index++) {
+      cache.put(Integer.valueOf(index), "0123456789", true); //$NON-NLS-1$
+    }
+
+    stat = cache.getStatistics();
+    Assert.assertTrue(stat.getWeight() <= 1000L);
+    Assert.assertEquals(stat.getWeight(), 10L * stat.getSize());
+    Assert.assertTrue(stat.getEvictions() >= 900L);
+  }
+
+  /**
+   * test that entries expire
+   *
+   * @throws InterruptedException
+   *           if interrupted
+   */
+  @Test(timeout = 3600000)
+  public void testExpiration() throws InterruptedException {
+    final ConcurrentMapCache<Integer, Integer> cache;
+
+    cache = new ConcurrentMapCache<>(100L, null, 10L,
+        TimeUnit.MILLISECONDS);
+    cache.put(Integer.valueOf(1), Integer.valueOf(1), true);
+    Thread.sleep(50L);
+    Assert.assertNull(cache.get(Integer.valueOf(1)));
+    Assert.assertEquals(1L, cache.getStatistics().getExpirations());
+    Assert.assertEquals(Integer.valueOf(2),
+        cache.put(Integer.valueOf(1), Integer.valueOf(2), true));
+  }
+
+  /**
+   * test concurrent access
+   *
+   * @throws Exception
+   *           if something fails
+   */
+  @SuppressWarnings("unchecked")
+  @Test(timeout = 3600000)
+  public void testConcurrentAccess() throws Exception {
+    final ConcurrentMapCache<Integer, Integer> cache;
+    final Future<Object>[] futures;
+    final CacheStatistics stat;
+    int index;
+
+    cache = new ConcurrentMapCache<>(512);
+    futures = new Future[16];
+    for (index = futures.length; (--index) >= 0;) {
+      futures[index] = Execute.parallel(new __Accessor(cache, index));
+    }
+    Execute.join(futures);
+
+    stat = cache.getStatistics();
+    Assert.assertTrue(stat.getSize() <= 512L);
+    Assert.assertEquals((futures.length * 10000L),
+        (stat.getHits() + stat.getMisses()));
+  }
+
+  /** the length weigher */
+  private static final class __LengthWeigher
+      implements ICacheWeigher<Integer, String> {
+
+    /** create */
+    __LengthWeigher() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final long weigh(final Integer key, final String value) {
+      return value.length();
+    }
+  }
+
+  /** the concurrent accessor */
+  private static final class __Accessor implements Callable<Object> {
+
+    /** the cache */
+    private final ConcurrentMapCache<Integer, Integer> m_cache;
+    /** the seed */
+    private final int m_seed;
+
+    /**
+     * create
+     *
+     * @param cache
+     *          the cache
+     * @param seed
+     *          the seed
+     */
+    __Accessor(final ConcurrentMapCache<Integer, Integer> cache,
+        final int seed) {
+      super();
+      this.m_cache = cache;
+      this.m_seed = seed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final Object call() {
+      Integer key, value;
+      int index;
+
+      for (index = 0; index < 10000; index++) {
+        key = Integer.valueOf(((index * 31) + this.m_seed) % 1024);
+        value = this.m_cache.get(key);
+        if (value == null) {
+          this.m_cache.put(key, key, true);
+        } else {
+          Assert.assertEquals(key, value);
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package test.junit.org.optimizationBenchmarking.utils.collections.cache;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.collections.cache.ConcurrentNormalizingCache;
+import org.optimizationBenchmarking.utils.collections.cache.NormalizationStatistics;
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+import shared.junit.TestBase;
+
+/** A test for the concurrent normalizing cache. */
+public class ConcurrentNormalizingCacheTest extends TestBase {
+
+  /** create */
+  public ConcurrentNormalizingCacheTest() {
+    super();
+  }
+
+  /**
+   * test that equal objects are normalized to the same instance
+   *
+   * @param cache
+   *          the cache
+   */
+  private static final void __testNormalize(
+      final ConcurrentNormalizingCache cache) {
+    final String[] canonical;
+    final NormalizationStatistics stat;
+    final Integer number;
+    String copy;
+    int index;
+
+    canonical = new String[100];
+    for (index = canonical.length; (--index) >= 0;) {
+      canonical[index] = ("string" + index); //$NON-NLS-1$
+      Assert.assertSame(canonical[index],
+          cache.normalize(canonical[index]));
+    }
+
+    for (index = canonical.length; (--index) >= 0;) {
+      copy = new String(canonical[index].toCharArray());
+      Assert.assertNotSame(canonical[index], copy);
+      Assert.assertSame(canonical[index], cache.normalize(copy));
+    }
+
+    // normalizing the canonical object itself eliminates no duplicate
+    for (index = canonical.length; (--index) >= 0;) {
+      Assert.assertSame(canonical[index],
+          cache.normalize(canonical[index]));
+    }
+
+    number = Integer.valueOf(1000);
+    Assert.assertSame(number, cache.normalize(number));
+    Assert.assertNull(cache.normalize(null));
+
+    stat = cache.getStatistics();
+    Assert.assertEquals(canonical.length + 1, stat.getUnique());
+    Assert.assertEquals(canonical.length, stat.getDuplicates());
+    Assert.assertTrue(stat.getSavedBytes() > 0L);
+    Assert.assertTrue(stat.getSize() >= canonical.length);
+  }
+
+  /** test normalization without partitioning */
+  @Test(timeout = 3600000)
+  public void testNormalize() {
+    ConcurrentNormalizingCacheTest
+        .__testNormalize(new ConcurrentNormalizingCache());
+  }
+
+  /** test normalization with partitioning by type */
+  @Test(timeout = 3600000)
+  public void testNormalizePartitioned() {
+    ConcurrentNormalizingCacheTest
+        .__testNormalize(new ConcurrentNormalizingCache(true, null));
+  }
+
+  /**
+   * test that partitioning by type does not keep the classes of the
+   * normalized objects and their class loaders alive
+   *
+   * @throws Exception
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testPartitionsDoNotPinClassLoaders() throws Exception {
+    final ConcurrentNormalizingCache cache;
+    final WeakReference<ClassLoader> ref;
+
+    cache = new ConcurrentNormalizingCache(true, null);
+    ref = ConcurrentNormalizingCacheTest.__normalizeForeign(cache);
+    for (int i = 0; (i < 100) && (ref.get() != null); i++) {
+      System.gc();
+      Thread.sleep(10L);
+    }
+    Assert.assertNull(ref.get());
+    Assert.assertNotNull(cache.getStatistics());
+  }
+
+  /**
+   * Normalize an object of a class loaded by a new class loader
+   *
+   * @param cache
+   *          the cache
+   * @return a weak reference to the class loader
+   * @throws Exception
+   *           if something fails
+   */
+  private static final WeakReference<ClassLoader> __normalizeForeign(
+      final ConcurrentNormalizingCache cache) throws Exception {
+    final Constructor<?> constructor;
+    final Object object;
+
+    try (final URLClassLoader loader = new URLClassLoader(
+        new URL[] { __Value.class.getProtectionDomain().getCodeSource()
+            .getLocation() }, null)) {
+      constructor = loader.loadClass(__Value.class.getName())
+          .getDeclaredConstructor();
+      Assert.assertNotSame(__Value.class, constructor.getDeclaringClass());
+      constructor.setAccessible(true);
+      object = constructor.newInstance();
+      Assert.assertSame(object, cache.normalize(object));
+      return new WeakReference<ClassLoader>(loader);
+    }
+  }
+
+  /**
+   * test concurrent access
+   *
+   * @throws Exception
+   *           if something fails
+   */
+  @SuppressWarnings("unchecked")
+  @Test(timeout = 3600000)
+  public void testConcurrentNormalize() throws Exception {
+    final ConcurrentNormalizingCache cache;
+    final Future<String[]>[] futures;
+    final String[][] results;
+    int index, inner;
+
+    cache = new ConcurrentNormalizingCache(true, null);
+    futures = new Future[8];
+    for (index = futures.length; (--index) >= 0;) {
+      futures[index] = Execute.parallel(new __Normalizer(cache));
+    }
+    results = new String[futures.length][];
+    Execute.join(futures, results, 0, false);
+
+    for (index = results.length; (--index) > 0;) {
+      for (inner = results[index].length; (--inner) >= 0;) {
+        Assert.assertSame(results[0][inner], results[index][inner]);
+      }
+    }
+  }
+
+  /** a class to be loaded by a separate class loader */
+  private static final class __Value {
+
+    /** create */
+    __Value() {
+      super();
+    }
+  }
+
+  /** the concurrent normalizer */
+  private static final class __Normalizer implements Callable<String[]> {
+
+    /** the cache */
+    private final ConcurrentNormalizingCache m_cache;
+
+    /**
+     * create
+     *
+     * @param cache
+     *          the cache
+     */
+    __Normalizer(final ConcurrentNormalizingCache cache) {
+      super();
+      this.m_cache = cache;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String[] call() {
+      final String[] result;
+      int index;
+
+      result = new String[1000];
+      for (index = result.length; (--index) >= 0;) {
+        result[index] = this.m_cache.normalize(String.valueOf(index));
+      }
+      return result;
+    }
+  }
+}
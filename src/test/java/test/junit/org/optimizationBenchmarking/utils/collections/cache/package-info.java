@@ -0,0 +1,5 @@
+/**
+ * Tests of our {@link org.optimizationBenchmarking.utils.collections.cache
+ * cache implementations}.
+ */
+package test.junit.org.optimizationBenchmarking.utils.collections.cache;
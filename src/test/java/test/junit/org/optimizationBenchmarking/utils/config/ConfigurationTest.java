@@ -236,6 +236,65 @@ public class ConfigurationTest extends TestBase {
 
   }
 
+  /**
+   * test whether loading many xml documents in a row works, also if some
+   * of them are broken
+   */
+  @Test(timeout = 3600000)
+  public void testXMLRepeatedInput() {
+    final Configuration inst;
+    final ConfigurationXMLInput input;
+    final String text;
+    Configuration b;
+    boolean failed;
+
+    input = ConfigurationXMLInput.getInstance();
+    Assert.assertNotNull(input);
+    Assert.assertTrue(input.canUse());
+
+    try (final ConfigurationBuilder cb = new ConfigurationBuilder()) {
+      cb.put("a", "b"); //$NON-NLS-1$//$NON-NLS-2$
+      cb.put("c", "d"); //$NON-NLS-1$//$NON-NLS-2$
+      inst = cb.getResult();
+    }
+
+    try (StringWriter sw = new StringWriter()) {
+      ConfigurationXMLOutput.getInstance().use().setWriter(sw)
+          .setSource(inst).create().call();
+      text = sw.toString();
+    } catch (final Throwable t) {
+      throw new RuntimeException(t);
+    }
+
+    for (int i = 0; i < 100; i++) {
+      if ((i % 10) == 5) {
+        failed = false;
+        try (final ConfigurationBuilder fb = new ConfigurationBuilder()) {
+          try (StringReader sr = new StringReader(
+              text.substring(0, text.length() >>> 1))) {
+            input.use().addReader(sr).setDestination(fb).create().call();
+          }
+        } catch (final Throwable t) {
+          failed = true;
+        }
+        Assert.assertTrue(failed);
+        continue;
+      }
+
+      try (final ConfigurationBuilder fb = new ConfigurationBuilder()) {
+        try (StringReader sr = new StringReader(text)) {
+          input.use().addReader(sr).setDestination(fb).create().call();
+        }
+        b = fb.getResult();
+      } catch (final Throwable t) {
+        throw new RuntimeException(t);
+      }
+
+      Assert.assertEquals("b", b.getString("a", null)); //$NON-NLS-1$//$NON-NLS-2$
+      Assert.assertEquals("d", b.getString("c", null)); //$NON-NLS-1$//$NON-NLS-2$
+    }
+  }
+
   /** test whether setting the command line works */
   @Test(timeout = 3600000)
   public void testSetCommandLineAndGetStrings() {
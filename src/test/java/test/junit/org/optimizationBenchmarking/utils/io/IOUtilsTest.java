@@ -0,0 +1,285 @@
+package test.junit.org.optimizationBenchmarking.utils.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.IOUtils;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+
+/** Test the copy methods of {@link IOUtils}. */
+public class IOUtilsTest {
+
+  /** the sizes to test */
+  private static final int[] SIZES = { 0, 1, 65535, 65536, 65537,
+      1234567 };
+
+  /** create */
+  public IOUtilsTest() {
+    super();
+  }
+
+  /**
+   * create random data
+   *
+   * @param size
+   *          the size
+   * @return the data
+   */
+  private static final byte[] __data(final int size) {
+    final byte[] data;
+
+    data = new byte[size];
+    new Random().nextBytes(data);
+    return data;
+  }
+
+  /**
+   * test copying between non-file streams
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testCopyStreams() throws IOException {
+    ByteArrayOutputStream bos;
+    byte[] data;
+
+    for (final int size : IOUtilsTest.SIZES) {
+      data = IOUtilsTest.__data(size);
+      bos = new ByteArrayOutputStream();
+      Assert.assertEquals(size,
+          IOUtils.copy(new ByteArrayInputStream(data), bos));
+      Assert.assertArrayEquals(data, bos.toByteArray());
+
+      bos = new ByteArrayOutputStream();
+      Assert.assertEquals(size, IOUtils.copy(
+          Channels.newChannel(new ByteArrayInputStream(data)),
+          Channels.newChannel(bos)));
+      Assert.assertArrayEquals(data, bos.toByteArray());
+    }
+  }
+
+  /**
+   * test copying between files, paths, and streams
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testCopyFiles() throws IOException {
+    final Path a, b, c, d;
+    ByteArrayOutputStream bos;
+    byte[] data;
+
+    try (final TempDir temp = new TempDir()) {
+      a = temp.getPath().resolve("a.bin"); //$NON-NLS-1$
+      b = temp.getPath().resolve("b.bin"); //$NON-NLS-1$
+      c = temp.getPath().resolve("sub").resolve("c.bin"); //$NON-NLS-1$//$NON-NLS-2$
+      d = temp.getPath().resolve("d.bin"); //$NON-NLS-1$
+
+      for (final int size : IOUtilsTest.SIZES) {
+        data = IOUtilsTest.__data(size);
+
+        // stream to path
+        Assert.assertEquals(size,
+            IOUtils.copy(new ByteArrayInputStream(data), a));
+        Assert.assertArrayEquals(data, Files.readAllBytes(a));
+
+        // file stream to file stream
+        try (final FileInputStream fis = new FileInputStream(a.toFile());
+            final FileOutputStream fos = new FileOutputStream(b.toFile())) {
+          Assert.assertEquals(size, IOUtils.copy(fis, fos));
+        }
+        Assert.assertArrayEquals(data, Files.readAllBytes(b));
+
+        // file stream to path, with a partially consumed source
+        try (final FileInputStream fis = new FileInputStream(b.toFile())) {
+          if (size > 0) {
+            Assert.assertEquals((data[0] & 0xff), fis.read());
+          }
+          Assert.assertEquals(Math.max(0, (size - 1)),
+              IOUtils.copy(fis, c));
+          Assert.assertEquals(-1, fis.read());
+        }
+        Assert.assertEquals(Math.max(0, (size - 1)), Files.size(c));
+
+        // path to stream
+        bos = new ByteArrayOutputStream();
+        Assert.assertEquals(size, IOUtils.copy(b, bos));
+        Assert.assertArrayEquals(data, bos.toByteArray());
+
+        // path to file stream
+        try (final FileOutputStream fos = new FileOutputStream(d.toFile())) {
+          Assert.assertEquals(size, IOUtils.copy(b, fos));
+        }
+        Assert.assertArrayEquals(data, Files.readAllBytes(d));
+
+        // file channel to stream channel
+        bos = new ByteArrayOutputStream();
+        try (final SeekableByteChannel in = PathUtils.openInputChannel(d)) {
+          Assert.assertEquals(size,
+              IOUtils.copy(in, Channels.newChannel(bos)));
+          Assert.assertEquals(size, in.position());
+        }
+        Assert.assertArrayEquals(data, bos.toByteArray());
+      }
+    }
+  }
+
+  /**
+   * test copying files which report a size of zero although they are not
+   * empty, such as the files in {@code /proc}
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testCopyZeroSizeFiles() throws IOException {
+    final Path source, a, b;
+    long size;
+
+    source = PathUtils.normalize("/proc/self/status"); //$NON-NLS-1$
+    Assume.assumeTrue(Files.isReadable(source)
+        && (Files.size(source) <= 0L));
+
+    try (final TempDir temp = new TempDir()) {
+      a = temp.getPath().resolve("a.txt"); //$NON-NLS-1$
+      b = temp.getPath().resolve("b.txt"); //$NON-NLS-1$
+
+      // path to file stream
+      try (final FileOutputStream fos = new FileOutputStream(a.toFile())) {
+        size = IOUtils.copy(source, fos);
+      }
+      Assert.assertTrue(size > 0L);
+      Assert.assertEquals(size, Files.size(a));
+
+      // file stream to file stream
+      try (final FileInputStream fis = new FileInputStream(source.toFile());
+          final FileOutputStream fos = new FileOutputStream(b.toFile())) {
+        size = IOUtils.copy(fis, fos);
+      }
+      Assert.assertTrue(size > 0L);
+      Assert.assertEquals(size, Files.size(b));
+    }
+  }
+
+  /**
+   * test that nested copy operations on the same thread work
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testNestedCopy() throws IOException {
+    final byte[] data, inner;
+    final ByteArrayOutputStream bos, innerBos;
+
+    data = IOUtilsTest.__data(300000);
+    inner = IOUtilsTest.__data(200000);
+    bos = new ByteArrayOutputStream();
+    innerBos = new ByteArrayOutputStream();
+
+    IOUtils.copy(new ByteArrayInputStream(data), new OutputStream() {
+      private boolean m_done;
+
+      @Override
+      public final void write(final int b) {
+        bos.write(b);
+      }
+
+      @Override
+      public final void write(final byte[] b, final int off,
+          final int len) throws IOException {
+        if (!(this.m_done)) {
+          this.m_done = true;
+          IOUtils.copy(new ByteArrayInputStream(inner), innerBos);
+        }
+        bos.write(b, off, len);
+      }
+    });
+
+    Assert.assertArrayEquals(data, bos.toByteArray());
+    Assert.assertArrayEquals(inner, innerBos.toByteArray());
+  }
+
+  /**
+   * test copying characters
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testCopyCharacters() throws IOException {
+    final StringBuilder text;
+    final StringWriter writer;
+
+    text = new StringBuilder();
+    for (int i = 0; i < 100000; i++) {
+      text.append(i);
+    }
+    writer = new StringWriter();
+    Assert.assertEquals(text.length(),
+        IOUtils.copy(new StringReader(text.toString()), writer));
+    Assert.assertEquals(text.toString(), writer.toString());
+  }
+
+  /**
+   * test that the throughput is logged
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testLogThroughput() throws IOException {
+    final Logger logger;
+    final StringBuilder messages;
+    final InputStream is;
+
+    messages = new StringBuilder();
+    logger = Logger.getAnonymousLogger();
+    logger.setUseParentHandlers(false);
+    logger.setLevel(Level.FINE);
+    logger.addHandler(new Handler() {
+      @Override
+      public final void publish(final LogRecord record) {
+        messages.append(record.getMessage());
+      }
+
+      @Override
+      public final void flush() {
+        //
+      }
+
+      @Override
+      public final void close() {
+        //
+      }
+    });
+
+    is = new ByteArrayInputStream(IOUtilsTest.__data(12345));
+    Assert.assertEquals(12345L,
+        IOUtils.copy(is, new ByteArrayOutputStream(), logger));
+    Assert.assertTrue(messages.toString(),
+        messages.toString().contains("12345 bytes")); //$NON-NLS-1$
+  }
+}
@@ -0,0 +1,257 @@
+package test.junit.org.optimizationBenchmarking.utils.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.EArchiveType;
+import org.optimizationBenchmarking.utils.io.FileTypeRegistry;
+
+/** Test the LZ4 archive type. */
+public class LZ4Test {
+
+  /** create */
+  public LZ4Test() {
+    super();
+  }
+
+  /**
+   * Create an array of bytes
+   *
+   * @param values
+   *          the values
+   * @return the array
+   */
+  private static final byte[] __bytes(final int... values) {
+    final byte[] bytes;
+
+    bytes = new byte[values.length];
+    for (int i = values.length; (--i) >= 0;) {
+      bytes[i] = ((byte) (values[i]));
+    }
+    return bytes;
+  }
+
+  /**
+   * Concatenate byte arrays
+   *
+   * @param arrays
+   *          the arrays
+   * @return the concatenated array
+   */
+  private static final byte[] __concat(final byte[]... arrays) {
+    final ByteArrayOutputStream bos;
+
+    bos = new ByteArrayOutputStream();
+    for (final byte[] array : arrays) {
+      bos.write(array, 0, array.length);
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Compress data
+   *
+   * @param data
+   *          the data
+   * @param parallel
+   *          compress in parallel?
+   * @param random
+   *          the random number generator used to vary the write sizes
+   * @return the compressed data
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final byte[] __compress(final byte[] data,
+      final boolean parallel, final Random random) throws IOException {
+    final ByteArrayOutputStream bos;
+    int index, length;
+
+    bos = new ByteArrayOutputStream();
+    try (final OutputStream out = EArchiveType.LZ4.compressStream(bos,
+        null, parallel)) {
+      index = 0;
+      while (index < data.length) {
+        if (random.nextInt(10) <= 0) {
+          out.write(data[index++]);
+        } else {
+          length = Math.min((data.length - index),
+              (1 + random.nextInt(600000)));
+          out.write(data, index, length);
+          index += length;
+        }
+      }
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Decompress data
+   *
+   * @param data
+   *          the compressed data
+   * @return the decompressed data
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final byte[] __decompress(final byte[] data)
+      throws IOException {
+    final ByteArrayOutputStream bos;
+    final byte[] buffer;
+    int read;
+
+    bos = new ByteArrayOutputStream();
+    buffer = new byte[77777];
+    try (final InputStream in = EArchiveType.LZ4
+        .decompressStream(new ByteArrayInputStream(data))) {
+      while ((read = in.read(buffer)) > 0) {
+        bos.write(buffer, 0, read);
+      }
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * test that the archive type is registered
+   */
+  @Test(timeout = 3600000)
+  public void testRegistered() {
+    Assert.assertSame(EArchiveType.LZ4,
+        FileTypeRegistry.getInstance().getTypeForSuffix("lz4")); //$NON-NLS-1$
+    Assert.assertSame(EArchiveType.LZ4, FileTypeRegistry.getInstance()
+        .getTypeForMimeType("application/x-lz4")); //$NON-NLS-1$
+  }
+
+  /**
+   * test decoding frames with known contents: the empty frame written by
+   * the {@code lz4} tool, and frames with stored blocks whose content
+   * checksums are known xxHash32 values
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testKnownFrames() throws IOException {
+    final byte[] empty, abc, longText, skippable;
+
+    empty = LZ4Test.__bytes(0x04, 0x22, 0x4d, 0x18, 0x64, 0x40, 0xa7, 0,
+        0, 0, 0, 0x05, 0x5d, 0xcc, 0x02);
+    Assert.assertEquals(0, LZ4Test.__decompress(empty).length);
+
+    abc = LZ4Test.__concat(LZ4Test.__bytes(0x04, 0x22, 0x4d, 0x18, 0x64,
+        0x40, 0xa7, 3, 0, 0, 0x80), "abc".getBytes(//$NON-NLS-1$
+        StandardCharsets.US_ASCII), LZ4Test.__bytes(0, 0, 0, 0, 0xff, 0x53,
+        0xd1, 0x32));
+    Assert.assertEquals("abc", new String(LZ4Test.__decompress(abc), //$NON-NLS-1$
+        StandardCharsets.US_ASCII));
+
+    longText = LZ4Test.__concat(LZ4Test.__bytes(0x04, 0x22, 0x4d, 0x18,
+        0x64, 0x40, 0xa7, 39, 0, 0, 0x80),
+        "Nobody inspects the spammish repetition".getBytes(//$NON-NLS-1$
+            StandardCharsets.US_ASCII), LZ4Test.__bytes(0, 0, 0, 0, 0x2f,
+            0x3b, 0x29, 0xe2));
+    skippable = LZ4Test.__bytes(0x5a, 0x2a, 0x4d, 0x18, 3, 0, 0, 0, 1, 2,
+        3);
+    Assert.assertEquals("abcNobody inspects the spammish repetition", //$NON-NLS-1$
+        new String(LZ4Test.__decompress(LZ4Test.__concat(abc, skippable,
+            longText, empty)), StandardCharsets.US_ASCII));
+
+    abc[abc.length - 1] ^= 1;
+    try {
+      LZ4Test.__decompress(abc);
+      Assert.fail("Checksum mismatch must be detected."); //$NON-NLS-1$
+    } catch (final IOException expected) {
+      // expected
+    }
+  }
+
+  /**
+   * test compressing and decompressing data of different sizes and
+   * compressibility
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testRoundTrip() throws IOException {
+    final Random random;
+    byte[] data, sequential, parallel;
+
+    random = new Random();
+    for (final int size : new int[] { 0, 1, 12, 13, 100, 65536, 262143,
+        262144, 262145, 3000000 }) {
+      for (int kind = 0; kind < 4; kind++) {
+        data = new byte[size];
+        switch (kind) {
+          case 0: {// incompressible
+            random.nextBytes(data);
+            break;
+          }
+          case 1: {// long runs
+            Arrays.fill(data, ((byte) 'x'));
+            break;
+          }
+          case 2: {// text-like
+            for (int i = 0; i < size; i++) {
+              data[i] = ((byte) ('a' + random.nextInt(1 + (i % 26))));
+            }
+            break;
+          }
+          default: {// repeated chunks at varying distances
+            for (int i = 0; i < size; i++) {
+              data[i] = ((i > 70000) && (random.nextInt(8) > 0))//
+              ? data[i - 1 - random.nextInt(70000)]
+                  : ((byte) random.nextInt(256));
+            }
+          }
+        }
+
+        sequential = LZ4Test.__compress(data, false, random);
+        parallel = LZ4Test.__compress(data, true, random);
+        Assert.assertArrayEquals(sequential, parallel);
+        Assert.assertArrayEquals(data, LZ4Test.__decompress(sequential));
+        if (kind == 0) {
+          Assert.assertTrue(sequential.length <= (size + 64
+              + ((size >>> 18) << 2)));
+        } else {
+          if (kind == 1) {
+            Assert.assertTrue(sequential.length <= (64 + (size >>> 6)));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * test that corrupted data is detected
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testCorrupt() throws IOException {
+    final Random random;
+    final byte[] data, compressed;
+
+    random = new Random();
+    data = new byte[500000];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = ((byte) ('a' + random.nextInt(1 + (i % 26))));
+    }
+    compressed = LZ4Test.__compress(data, false, random);
+    compressed[compressed.length >>> 1] ^= 0x11;
+    try {
+      LZ4Test.__decompress(compressed);
+      Assert.fail("Corrupted data must be detected."); //$NON-NLS-1$
+    } catch (final IOException expected) {
+      // expected
+    }
+  }
+}
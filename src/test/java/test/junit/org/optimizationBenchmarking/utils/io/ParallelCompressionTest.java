@@ -0,0 +1,307 @@
+package test.junit.org.optimizationBenchmarking.utils.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.ArchiveOutput;
+import org.optimizationBenchmarking.utils.io.EArchiveType;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+
+/**
+ * Test that archives compressed in parallel can be read by the standard
+ * streams and that parallel decompression reads any GZIP stream.
+ */
+public class ParallelCompressionTest {
+
+  /** create */
+  public ParallelCompressionTest() {
+    super();
+  }
+
+  /**
+   * Create compressible random data
+   *
+   * @param random
+   *          the random number generator
+   * @param size
+   *          the size
+   * @return the data
+   */
+  private static final byte[] __data(final Random random, final int size) {
+    final byte[] data;
+
+    data = new byte[size];
+    for (int i = 0; i < size; i++) {
+      data[i] = ((byte) ('a' + (random.nextInt(1 + (i % 26)))));
+    }
+    return data;
+  }
+
+  /**
+   * Read all bytes from a stream
+   *
+   * @param in
+   *          the stream
+   * @param random
+   *          the random number generator used to vary the read sizes
+   * @return the bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final byte[] __read(final InputStream in,
+      final Random random) throws IOException {
+    final ByteArrayOutputStream bos;
+    final byte[] buffer;
+    int read;
+
+    bos = new ByteArrayOutputStream();
+    buffer = new byte[100000];
+    for (;;) {
+      if (random.nextInt(10) <= 0) {
+        read = in.read();
+        if (read < 0) {
+          break;
+        }
+        bos.write(read);
+      } else {
+        read = in.read(buffer, 0, 1 + random.nextInt(buffer.length));
+        if (read < 0) {
+          break;
+        }
+        bos.write(buffer, 0, read);
+      }
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Compress data with GZIP
+   *
+   * @param data
+   *          the data
+   * @param parallel
+   *          should we compress in parallel?
+   * @param random
+   *          the random number generator used to vary the write sizes
+   * @return the compressed data
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final byte[] __gzip(final byte[] data,
+      final boolean parallel, final Random random) throws IOException {
+    final ByteArrayOutputStream bos;
+    int index, length;
+
+    bos = new ByteArrayOutputStream();
+    try (final OutputStream out = EArchiveType.GZIP.compressStream(bos,
+        null, parallel)) {
+      index = 0;
+      while (index < data.length) {
+        if (random.nextInt(10) <= 0) {
+          out.write(data[index++]);
+        } else {
+          length = Math.min((data.length - index),
+              (1 + random.nextInt(400000)));
+          out.write(data, index, length);
+          index += length;
+        }
+        if (random.nextInt(50) <= 0) {
+          out.flush();
+        }
+      }
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Decompress GZIP data
+   *
+   * @param data
+   *          the compressed data
+   * @param parallel
+   *          should we decompress in parallel?
+   * @param random
+   *          the random number generator used to vary the read sizes
+   * @return the decompressed data
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final byte[] __gunzip(final byte[] data,
+      final boolean parallel, final Random random) throws IOException {
+    try (final InputStream in = EArchiveType.GZIP.decompressStream(
+        new ByteArrayInputStream(data), parallel)) {
+      return ParallelCompressionTest.__read(in, random);
+    }
+  }
+
+  /**
+   * test that parallel GZIP compression produces standard GZIP streams
+   * which can also be decompressed in parallel
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testGZIPRoundTrip() throws IOException {
+    final Random random;
+    byte[] data, compressed;
+
+    random = new Random();
+    for (final int size : new int[] { 0, 1, 1000, (1 << 17),
+        ((1 << 17) + 1), 3000000 }) {
+      data = ParallelCompressionTest.__data(random, size);
+      compressed = ParallelCompressionTest.__gzip(data, true, random);
+
+      try (final InputStream in = new GZIPInputStream(
+          new ByteArrayInputStream(compressed))) {
+        Assert.assertArrayEquals(data,
+            ParallelCompressionTest.__read(in, random));
+      }
+      Assert.assertArrayEquals(data,
+          ParallelCompressionTest.__gunzip(compressed, true, random));
+      Assert.assertArrayEquals(data,
+          ParallelCompressionTest.__gunzip(compressed, false, random));
+    }
+  }
+
+  /**
+   * test that parallel GZIP decompression reads standard GZIP streams,
+   * also if they are appended to a stream compressed in parallel
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testGZIPDecompressStandard() throws IOException {
+    final Random random;
+    final byte[] data1, data2, expected;
+    final ByteArrayOutputStream bos;
+
+    random = new Random();
+    data1 = ParallelCompressionTest.__data(random, 500000);
+    data2 = ParallelCompressionTest.__data(random, 300000);
+
+    bos = new ByteArrayOutputStream();
+    try (final GZIPOutputStream out = new GZIPOutputStream(bos)) {
+      out.write(data2);
+    }
+    Assert.assertArrayEquals(data2, ParallelCompressionTest.__gunzip(
+        bos.toByteArray(), true, random));
+
+    bos.reset();
+    bos.write(ParallelCompressionTest.__gzip(data1, true, random));
+    try (final GZIPOutputStream out = new GZIPOutputStream(bos)) {
+      out.write(data2);
+    }
+    expected = new byte[data1.length + data2.length];
+    System.arraycopy(data1, 0, expected, 0, data1.length);
+    System.arraycopy(data2, 0, expected, data1.length, data2.length);
+    Assert.assertArrayEquals(expected, ParallelCompressionTest.__gunzip(
+        bos.toByteArray(), true, random));
+  }
+
+  /**
+   * test that corrupted data is detected by parallel GZIP decompression
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testGZIPCorrupt() throws IOException {
+    final Random random;
+    final byte[] compressed;
+
+    random = new Random();
+    compressed = ParallelCompressionTest.__gzip(
+        ParallelCompressionTest.__data(random, 1000000), true, random);
+    compressed[compressed.length >>> 1] ^= 0x55;
+    try {
+      ParallelCompressionTest.__gunzip(compressed, true, random);
+      Assert.fail("Corrupted data must be detected."); //$NON-NLS-1$
+    } catch (final IOException expected) {
+      // expected
+    }
+  }
+
+  /**
+   * test that a ZIP archive written in parallel can be read by the
+   * standard streams and files
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testZipParallel() throws IOException {
+    final Random random;
+    final TreeMap<String, byte[]> expected;
+    final Path file;
+    String name;
+    byte[] data;
+    ZipEntry entry;
+    int count;
+
+    random = new Random();
+    expected = new TreeMap<>();
+    for (int i = 0; i < 60; i++) {
+      name = ("dä" + (i % 4) + "/ü" + i + ".txt"); //$NON-NLS-1$//$NON-NLS-2$
+      data = ParallelCompressionTest.__data(random,
+          ((i % 7) == 0) ? 0 : random.nextInt((i % 5) == 0 ? 1000000 : 1000));
+      expected.put(name, data);
+    }
+
+    try (final TempDir temp = new TempDir()) {
+      file = temp.getPath().resolve("test.zip"); //$NON-NLS-1$
+      try (final ArchiveOutput archive = EArchiveType.ZIP
+          .openArchiveOutput(Files.newOutputStream(file), true)) {
+        for (final String key : expected.keySet()) {
+          try (final OutputStream out = archive.openEntry(key)) {
+            out.write(expected.get(key));
+          }
+        }
+      }
+
+      count = 0;
+      try (final ZipInputStream zis = new ZipInputStream(
+          Files.newInputStream(file), StandardCharsets.UTF_8)) {
+        while ((entry = zis.getNextEntry()) != null) {
+          Assert.assertArrayEquals(expected.get(entry.getName()),
+              ParallelCompressionTest.__read(zis, random));
+          count++;
+        }
+      }
+      Assert.assertEquals(expected.size(), count);
+
+      count = 0;
+      try (final ZipFile zip = new ZipFile(file.toFile())) {
+        for (final Enumeration<? extends ZipEntry> entries = zip
+            .entries(); entries.hasMoreElements();) {
+          entry = entries.nextElement();
+          Assert.assertEquals(expected.get(entry.getName()).length,
+              entry.getSize());
+          try (final InputStream in = zip.getInputStream(entry)) {
+            Assert.assertArrayEquals(expected.get(entry.getName()),
+                ParallelCompressionTest.__read(in, random));
+          }
+          count++;
+        }
+      }
+      Assert.assertEquals(expected.size(), count);
+    }
+  }
+}
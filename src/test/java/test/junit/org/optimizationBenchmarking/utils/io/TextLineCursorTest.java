@@ -0,0 +1,354 @@
+package test.junit.org.optimizationBenchmarking.utils.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.TextLineCursor;
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.TextInputTool;
+
+/** Test the text line cursor. */
+public class TextLineCursorTest {
+
+  /** create */
+  public TextLineCursorTest() {
+    super();
+  }
+
+  /**
+   * Create a random text with random line breaks
+   *
+   * @param random
+   *          the random number generator
+   * @param length
+   *          the approximate length
+   * @return the text
+   */
+  private static final String __randomText(final Random random,
+      final int length) {
+    final StringBuilder sb;
+    int lineLength;
+
+    sb = new StringBuilder();
+    while (sb.length() < length) {
+      lineLength = ((random.nextInt(50) == 0) ? random.nextInt(100000)
+          : random.nextInt(80));
+      for (int i = lineLength; (--i) >= 0;) {
+        switch (random.nextInt(10)) {
+          case 0: {
+            sb.append(' ');
+            break;
+          }
+          case 1: {
+            sb.append((char) (0xa0 + random.nextInt(0x1000)));
+            break;
+          }
+          default: {
+            sb.append((char) ('!' + random.nextInt(90)));
+          }
+        }
+      }
+      switch (random.nextInt(4)) {
+        case 0: {
+          sb.append('\r');
+          break;
+        }
+        case 1: {
+          sb.append("\r\n"); //$NON-NLS-1$
+          break;
+        }
+        default: {
+          sb.append('\n');
+        }
+      }
+    }
+    if (random.nextBoolean()) {
+      sb.setLength(sb.length() - 1);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Read all lines with a buffered reader
+   *
+   * @param text
+   *          the text
+   * @return the lines
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final ArrayList<String> __readLines(final String text)
+      throws IOException {
+    final ArrayList<String> lines;
+    String line;
+
+    lines = new ArrayList<>();
+    try (final BufferedReader reader = new BufferedReader(
+        new StringReader(text))) {
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Read all lines with a cursor
+   *
+   * @param cursor
+   *          the cursor
+   * @return the lines
+   * @throws IOException
+   *           if i/o fails
+   */
+  static final ArrayList<String> _readLines(final TextLineCursor cursor)
+      throws IOException {
+    final ArrayList<String> lines;
+
+    lines = new ArrayList<>();
+    while (cursor.nextLine()) {
+      Assert.assertEquals(lines.size() + 1, cursor.getLineNumber());
+      lines.add(cursor.line().toString());
+    }
+    Assert.assertFalse(cursor.nextLine());
+    return lines;
+  }
+
+  /**
+   * test that the lines are the same as those returned by a buffered
+   * reader, regardless how the text arrives
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testLinesLikeBufferedReader() throws IOException {
+    final Random random;
+    String text;
+
+    random = new Random();
+    for (int i = 0; i < 30; i++) {
+      text = TextLineCursorTest.__randomText(random, random.nextInt(200000));
+
+      try (final TextLineCursor cursor = new TextLineCursor(
+          new StringReader(text))) {
+        Assert.assertEquals(TextLineCursorTest.__readLines(text),
+            TextLineCursorTest._readLines(cursor));
+      }
+
+      try (final TextLineCursor cursor = new TextLineCursor(
+          new __SlowReader(text, random))) {
+        Assert.assertEquals(TextLineCursorTest.__readLines(text),
+            TextLineCursorTest._readLines(cursor));
+      }
+    }
+
+    for (final String special : new String[] { "", "\n", "\r", "\r\n", //$NON-NLS-1$ //$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$
+        "\n\r", "a", "a\r", "\r\r\n\n", " \r\n \n\r " }) { //$NON-NLS-1$ //$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$
+      try (final TextLineCursor cursor = new TextLineCursor(
+          new __SlowReader(special, random))) {
+        Assert.assertEquals(TextLineCursorTest.__readLines(special),
+            TextLineCursorTest._readLines(cursor));
+      }
+    }
+  }
+
+  /**
+   * test iterating over fields and tokens and parsing numbers from them
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testFieldsAndNumbers() throws IOException {
+    final Random random;
+    final StringBuilder sb;
+    final long[][] values;
+    CharSequence field;
+
+    random = new Random();
+    sb = new StringBuilder();
+    values = new long[1000][];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = new long[random.nextInt(10)];
+      for (int j = 0; j < values[i].length; j++) {
+        values[i][j] = (random.nextLong() >> random.nextInt(64));
+        if (j > 0) {
+          sb.append(random.nextBoolean() ? "," : " , "); //$NON-NLS-1$//$NON-NLS-2$
+        }
+        sb.append(values[i][j]);
+      }
+      sb.append('\n');
+    }
+
+    try (final TextLineCursor cursor = new TextLineCursor(
+        new __SlowReader(sb.toString(), random))) {
+      for (final long[] line : values) {
+        Assert.assertTrue(cursor.nextLine());
+        for (final long value : line) {
+          Assert.assertTrue(cursor.nextField(','));
+          field = cursor.field();
+          Assert.assertEquals(Long.toString(value), field.toString());
+          Assert.assertEquals(value, cursor.fieldLong());
+          Assert.assertEquals(value, cursor.fieldDouble(), 0d);
+        }
+        Assert.assertFalse(cursor.nextField(','));
+      }
+      Assert.assertFalse(cursor.nextLine());
+    }
+
+    try (final TextLineCursor cursor = new TextLineCursor(new StringReader(
+        "a,, b ,\n  \n 1 \t 2.5  0x10 \n"))) { //$NON-NLS-1$
+      Assert.assertTrue(cursor.nextLine());
+      Assert.assertTrue(cursor.nextField(','));
+      Assert.assertEquals("a", cursor.field().toString()); //$NON-NLS-1$
+      Assert.assertTrue(cursor.nextField(','));
+      Assert.assertEquals(0, cursor.field().length());
+      Assert.assertTrue(cursor.nextField(','));
+      Assert.assertEquals("b", cursor.field().toString()); //$NON-NLS-1$
+      Assert.assertTrue(cursor.nextField(','));
+      Assert.assertEquals(0, cursor.field().length());
+      Assert.assertFalse(cursor.nextField(','));
+
+      Assert.assertTrue(cursor.nextLine());
+      Assert.assertFalse(cursor.nextField(','));
+      Assert.assertFalse(cursor.nextToken());
+
+      Assert.assertTrue(cursor.nextLine());
+      Assert.assertTrue(cursor.nextToken());
+      Assert.assertEquals(1, cursor.fieldInt());
+      Assert.assertTrue(cursor.nextToken());
+      Assert.assertEquals(2.5d, cursor.fieldDouble(), 0d);
+      Assert.assertTrue(cursor.nextToken());
+      Assert.assertEquals(16L, cursor.fieldLong());
+      Assert.assertFalse(cursor.nextToken());
+      Assert.assertFalse(cursor.nextLine());
+    }
+  }
+
+  /**
+   * test reading small and large (memory-mapped) files, directly and via a
+   * text input tool
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testFiles() throws Throwable {
+    final Random random;
+    final __LineLoader tool;
+    ArrayList<String> lines;
+    Path path;
+    String text;
+
+    random = new Random();
+    tool = new __LineLoader();
+    try (final TempDir temp = new TempDir()) {
+      path = temp.getPath().resolve("lines.txt"); //$NON-NLS-1$
+      for (final int length : new int[] { 100, 10000, 1000000 }) {
+        text = TextLineCursorTest.__randomText(random, length);
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+
+        try (final TextLineCursor cursor = TextLineCursor.open(path,
+            StreamEncoding.getUTF8())) {
+          Assert.assertEquals(TextLineCursorTest.__readLines(text),
+              TextLineCursorTest._readLines(cursor));
+        }
+
+        try (final TextLineCursor cursor = TextLineCursor.open(path,
+            StreamEncoding.getUTF8(), true)) {
+          Assert.assertEquals(TextLineCursorTest.__readLines(text),
+              TextLineCursorTest._readLines(cursor));
+        }
+
+        lines = new ArrayList<>();
+        tool.use().setDestination(lines)
+            .addPath(path, StreamEncoding.getUTF8(), null).create().call();
+        Assert.assertEquals(TextLineCursorTest.__readLines(text), lines);
+      }
+    }
+  }
+
+  /** a reader which returns the text in small random chunks */
+  private static final class __SlowReader extends Reader {
+
+    /** the text */
+    private final String m_text;
+
+    /** the random number generator */
+    private final Random m_random;
+
+    /** the position */
+    private int m_pos;
+
+    /**
+     * create
+     *
+     * @param text
+     *          the text
+     * @param random
+     *          the random number generator
+     */
+    __SlowReader(final String text, final Random random) {
+      super();
+      this.m_text = text;
+      this.m_random = random;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final int read(final char[] cbuf, final int off, final int len) {
+      final int read;
+
+      if (this.m_pos >= this.m_text.length()) {
+        return (-1);
+      }
+      read = Math.min(Math.min(len, (1 + this.m_random.nextInt(5000))),
+          (this.m_text.length() - this.m_pos));
+      this.m_text.getChars(this.m_pos, (this.m_pos + read), cbuf, off);
+      this.m_pos += read;
+      return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final void close() {
+      //
+    }
+  }
+
+  /** a loader which processes lines */
+  private static final class __LineLoader
+      extends TextInputTool<ArrayList<String>> {
+
+    /** create */
+    __LineLoader() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void lines(final IOJob job,
+        final ArrayList<String> data, final TextLineCursor cursor)
+        throws Throwable {
+      data.addAll(TextLineCursorTest._readLines(cursor));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "Line Loader"; //$NON-NLS-1$
+    }
+  }
+}
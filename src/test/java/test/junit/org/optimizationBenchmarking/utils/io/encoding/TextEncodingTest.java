@@ -0,0 +1,293 @@
+package test.junit.org.optimizationBenchmarking.utils.io.encoding;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.encoding.TextEncoding;
+
+/** Test the channel-based decoding and encoding of text encodings. */
+public class TextEncodingTest {
+
+  /** create */
+  public TextEncodingTest() {
+    super();
+  }
+
+  /**
+   * Get the encodings to test
+   *
+   * @return the encodings to test
+   */
+  private static final TextEncoding[] __encodings() {
+    return new TextEncoding[] { StreamEncoding.getASCII(),
+        StreamEncoding.getISO8859_1(), StreamEncoding.getUTF8(),
+        StreamEncoding.getUTF16LittleEndian(), StreamEncoding.getGBK(),
+        StreamEncoding.getWindows1252() };
+  }
+
+  /**
+   * Create a random string
+   *
+   * @param random
+   *          the random number generator
+   * @return the string
+   */
+  private static final String __randomString(final Random random) {
+    final StringBuilder sb;
+    int length;
+
+    sb = new StringBuilder();
+    length = random.nextInt(100000);
+    while (sb.length() < length) {
+      switch (random.nextInt(6)) {
+        case 0: {
+          sb.append((char) (0x80 + random.nextInt(0x80)));
+          break;
+        }
+        case 1: {
+          sb.append((char) (0x100 + random.nextInt(0xd700)));
+          break;
+        }
+        case 2: {
+          sb.appendCodePoint(0x10000 + random.nextInt(0x100000));
+          break;
+        }
+        default: {
+          sb.append((char) (0x20 + random.nextInt(0x60)));
+        }
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Read all text from a reader, using reads of random length
+   *
+   * @param reader
+   *          the reader
+   * @param random
+   *          the random number generator
+   * @return the text
+   * @throws IOException
+   *           if I/O fails
+   */
+  private static final String __readAll(final Reader reader,
+      final Random random) throws IOException {
+    final StringBuilder sb;
+    final char[] buffer;
+    int read, c;
+
+    sb = new StringBuilder();
+    buffer = new char[1024];
+    for (;;) {
+      if (random.nextInt(10) <= 0) {
+        c = reader.read();
+        if (c < 0) {
+          break;
+        }
+        sb.append((char) c);
+      } else {
+        read = reader.read(buffer, 0, 1 + random.nextInt(buffer.length));
+        if (read < 0) {
+          break;
+        }
+        sb.append(buffer, 0, read);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Create a channel which delivers only a few bytes per read
+   *
+   * @param data
+   *          the data
+   * @param random
+   *          the random number generator
+   * @return the channel
+   */
+  private static final ReadableByteChannel __slowChannel(
+      final byte[] data, final Random random) {
+    return new ReadableByteChannel() {
+      private int m_pos;
+
+      @Override
+      public final boolean isOpen() {
+        return true;
+      }
+
+      @Override
+      public final void close() {
+        //
+      }
+
+      @Override
+      public final int read(final ByteBuffer dst) {
+        final int length;
+        if (this.m_pos >= data.length) {
+          return (-1);
+        }
+        length = Math.min(dst.remaining(), Math.min(
+            (data.length - this.m_pos), (1 + random.nextInt(7))));
+        dst.put(data, this.m_pos, length);
+        this.m_pos += length;
+        return length;
+      }
+    };
+  }
+
+  /**
+   * test that decoding from channels and buffers gives the same text as
+   * the standard Java readers
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  @Test(timeout = 3600000)
+  public void testDecodeLikeInputStreamReader() throws IOException {
+    final Random random;
+    Charset charset;
+    String expected;
+    byte[] data;
+    ByteBuffer buffer;
+
+    random = new Random();
+    for (final TextEncoding encoding : TextEncodingTest.__encodings()) {
+      charset = Charset.forName(encoding.getJavaName());
+      for (int i = 0; i < 10; i++) {
+        data = TextEncodingTest.__randomString(random).getBytes(charset);
+        if (i > 5) {
+          // add some malformed input
+          for (int j = random.nextInt(100); (--j) >= 0;) {
+            data[random.nextInt(data.length)] = ((byte) random.nextInt());
+          }
+        }
+
+        try (final InputStreamReader reader = new InputStreamReader(
+            new ByteArrayInputStream(data), charset)) {
+          expected = TextEncodingTest.__readAll(reader, random);
+        }
+
+        try (final BufferedReader reader = encoding.wrapInputChannel(
+            Channels.newChannel(new ByteArrayInputStream(data)))) {
+          Assert.assertEquals(expected,
+              TextEncodingTest.__readAll(reader, random));
+        }
+
+        try (final BufferedReader reader = encoding
+            .wrapInputChannel(TextEncodingTest.__slowChannel(data,
+                random))) {
+          Assert.assertEquals(expected,
+              TextEncodingTest.__readAll(reader, random));
+        }
+
+        buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data);
+        buffer.flip();
+        try (final BufferedReader reader = encoding.wrapBuffer(buffer)) {
+          Assert.assertEquals(expected,
+              TextEncodingTest.__readAll(reader, random));
+        }
+      }
+    }
+  }
+
+  /**
+   * test that encoding to channels gives the same bytes as the standard
+   * Java writers, also if surrogate pairs are split between writes
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  @Test(timeout = 3600000)
+  public void testEncodeLikeString() throws IOException {
+    final Random random;
+    ByteArrayOutputStream bos;
+    Charset charset;
+    String text;
+    int index, next;
+
+    random = new Random();
+    for (final TextEncoding encoding : TextEncodingTest.__encodings()) {
+      charset = Charset.forName(encoding.getJavaName());
+      for (int i = 0; i < 10; i++) {
+        text = TextEncodingTest.__randomString(random);
+        if (i > 5) {
+          // add a lone surrogate at the end
+          text += '\ud800';
+        }
+
+        bos = new ByteArrayOutputStream();
+        try (final BufferedWriter writer = encoding
+            .wrapOutputChannel(Channels.newChannel(bos))) {
+          index = 0;
+          while (index < text.length()) {
+            next = Math.min(text.length(),
+                (index + 1 + random.nextInt(3000)));
+            if (random.nextBoolean()) {
+              writer.write(text, index, (next - index));
+            } else {
+              writer.write(text.charAt(index));
+              next = (index + 1);
+            }
+            if (random.nextInt(10) <= 0) {
+              writer.flush();
+            }
+            index = next;
+          }
+        }
+
+        Assert.assertArrayEquals(text.getBytes(charset), bos.toByteArray());
+      }
+    }
+  }
+
+  /**
+   * test that a lone high surrogate at the end of a write operation which
+   * is followed by another high surrogate is written in the right order
+   *
+   * @throws IOException
+   *           if I/O fails
+   */
+  @Test(timeout = 3600000)
+  public void testLoneHighSurrogateBeforeHighSurrogate()
+      throws IOException {
+    final String[][] parts = { //
+        { "a\ud800", "\ud801\udc00b" }, //$NON-NLS-1$ //$NON-NLS-2$
+        { "a\ud800", "\ud801", "\udc00b" }, //$NON-NLS-1$ //$NON-NLS-2$//$NON-NLS-3$
+        { "\ud800", "\ud801", "\ud802x" }, //$NON-NLS-1$ //$NON-NLS-2$//$NON-NLS-3$
+        { "\ud800", "\ud801" } }; //$NON-NLS-1$ //$NON-NLS-2$
+    ByteArrayOutputStream bos;
+    StringBuilder text;
+
+    for (final TextEncoding encoding : TextEncodingTest.__encodings()) {
+      for (final String[] part : parts) {
+        bos = new ByteArrayOutputStream();
+        text = new StringBuilder();
+        try (final BufferedWriter writer = encoding
+            .wrapOutputChannel(Channels.newChannel(bos))) {
+          for (final String string : part) {
+            writer.write(string);
+            writer.flush();
+            text.append(string);
+          }
+        }
+        Assert.assertArrayEquals(text.toString().getBytes(//
+            Charset.forName(encoding.getJavaName())), bos.toByteArray());
+      }
+    }
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * Tests of the {@link org.optimizationBenchmarking.utils.io.encoding
+ * stream encodings}.
+ */
+package test.junit.org.optimizationBenchmarking.utils.io.encoding;
@@ -0,0 +1,185 @@
+package test.junit.org.optimizationBenchmarking.utils.io.paths;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.paths.PathUtils;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.io.paths.predicates.FileNamePredicate;
+import org.optimizationBenchmarking.utils.io.paths.predicates.IsFilePredicate;
+
+/** Test locating files with {@link PathUtils#findFirstInPath}. */
+public class FindFirstInPathTest {
+
+  /** the maximum time to wait for the background revalidation */
+  private static final long MAX_WAIT = 60000L;
+
+  /** create */
+  public FindFirstInPathTest() {
+    super();
+  }
+
+  /**
+   * Find a file
+   *
+   * @param name
+   *          the file name
+   * @param visitFirst
+   *          the paths to visit first
+   * @param key
+   *          the cache key, or {@code null}
+   * @return the file
+   */
+  private static final Path __find(final String name,
+      final Path[] visitFirst, final String key) {
+    return PathUtils.findFirstInPath(new FileNamePredicate(false, name),
+        IsFilePredicate.INSTANCE, visitFirst, null, key);
+  }
+
+  /**
+   * Create a file
+   *
+   * @param path
+   *          the path
+   * @return the normalized path
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final Path __create(final Path path) throws IOException {
+    Files.createDirectories(path.getParent());
+    Files.write(path, new byte[] { 1 });
+    return PathUtils.normalize(path);
+  }
+
+  /**
+   * test that files directly inside the paths to visit first are found
+   * before those deeper in the tree
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testFlatBeforeDeep() throws IOException {
+    final String name;
+    final Path flat;
+
+    name = (UUID.randomUUID() + ".bin"); //$NON-NLS-1$
+    try (final TempDir temp = new TempDir()) {
+      FindFirstInPathTest.__create(temp.getPath().resolve("a")//$NON-NLS-1$
+          .resolve("b").resolve(name)); //$NON-NLS-1$
+      flat = FindFirstInPathTest.__create(//
+          temp.getPath().resolve("c").resolve(name)); //$NON-NLS-1$
+
+      Assert.assertEquals(flat, FindFirstInPathTest.__find(name,
+          new Path[] { temp.getPath(), temp.getPath().resolve("c") }, //$NON-NLS-1$
+          null));
+    }
+  }
+
+  /**
+   * test that files deep inside the paths to visit first are found before
+   * those in the {@code PATH}
+   *
+   * @throws IOException
+   *           if i/o fails
+   */
+  @Test(timeout = 3600000)
+  public void testVisitFirstBeforePath() throws IOException {
+    final String path;
+    final Path deep;
+    String name;
+
+    path = System.getenv("PATH"); //$NON-NLS-1$
+    Assume.assumeNotNull(path);
+    name = null;
+    finder: for (final String dir : path.split(File.pathSeparator)) {
+      if (dir.isEmpty() || (!(Files.isDirectory(PathUtils.normalize(dir))))) {
+        continue;
+      }
+      try (final DirectoryStream<Path> stream = Files
+          .newDirectoryStream(PathUtils.normalize(dir))) {
+        for (final Path file : stream) {
+          if (Files.isRegularFile(file)) {
+            name = file.getFileName().toString();
+            break finder;
+          }
+        }
+      }
+    }
+    Assume.assumeNotNull(name);
+
+    try (final TempDir temp = new TempDir()) {
+      deep = FindFirstInPathTest.__create(temp.getPath().resolve("a")//$NON-NLS-1$
+          .resolve("b").resolve(name)); //$NON-NLS-1$
+      Assert.assertEquals(deep, FindFirstInPathTest.__find(name,
+          new Path[] { temp.getPath() }, null));
+    }
+  }
+
+  /**
+   * test the cached look-up
+   *
+   * @throws Exception
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testCached() throws Exception {
+    final String name, key;
+    final Path[] visitFirst;
+    final Path sub1, sub2;
+    final Path file1, file2, file3;
+    Path found;
+    long end;
+
+    name = (UUID.randomUUID() + ".bin"); //$NON-NLS-1$
+    key = ("test" + name); //$NON-NLS-1$
+    try (final TempDir temp = new TempDir()) {
+      sub1 = temp.getPath().resolve("sub1").resolve("deeper"); //$NON-NLS-1$//$NON-NLS-2$
+      sub2 = temp.getPath().resolve("sub2").resolve("deeper"); //$NON-NLS-1$//$NON-NLS-2$
+      Files.createDirectories(sub1);
+      Files.createDirectories(sub2);
+      visitFirst = new Path[] { temp.getPath() };
+
+      // nothing there: the negative result is cached
+      Assert.assertNull(FindFirstInPathTest.__find(name, visitFirst, key));
+      Assert.assertNull(FindFirstInPathTest.__find(name, visitFirst, key));
+
+      // a file appears deep inside the tree: the cached negative result
+      // is returned until the background revalidation has found the file
+      file1 = FindFirstInPathTest.__create(sub1.resolve(name));
+      end = (System.currentTimeMillis() + FindFirstInPathTest.MAX_WAIT);
+      while (((found = FindFirstInPathTest.__find(name, visitFirst,
+          key)) == null) && (System.currentTimeMillis() < end)) {
+        Thread.sleep(20L);
+      }
+      Assert.assertEquals(file1, found);
+      Assert.assertEquals(file1,
+          FindFirstInPathTest.__find(name, visitFirst, key));
+
+      // the cached file disappears: the look-up is repeated immediately
+      Files.delete(file1);
+      file2 = FindFirstInPathTest.__create(sub2.resolve(name));
+      Assert.assertEquals(file2,
+          FindFirstInPathTest.__find(name, visitFirst, key));
+
+      // a file appears directly inside a visited directory: this changes
+      // the directory's modification time and the look-up is repeated
+      Files.setLastModifiedTime(temp.getPath(), FileTime.fromMillis(0L));
+      Assert.assertEquals(file2,
+          FindFirstInPathTest.__find(name, visitFirst, key));
+      file3 = FindFirstInPathTest.__create(temp.getPath().resolve(name));
+      Assert.assertEquals(file3,
+          FindFirstInPathTest.__find(name, visitFirst, key));
+      Assert.assertEquals(file3,
+          FindFirstInPathTest.__find(name, visitFirst, null));
+    }
+  }
+}
@@ -0,0 +1,342 @@
+package test.junit.org.optimizationBenchmarking.utils.io.paths;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.io.paths.TreeChangeDetector;
+import org.optimizationBenchmarking.utils.io.paths.TreeChanges;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.TextInputTool;
+
+/** Test the tree change detector. */
+public class TreeChangeDetectorTest {
+
+  /** the maximum time to wait for watch events */
+  private static final long MAX_WAIT = 30000L;
+
+  /** create */
+  public TreeChangeDetectorTest() {
+    super();
+  }
+
+  /**
+   * write a file
+   *
+   * @param path
+   *          the path
+   * @param text
+   *          the text
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final void __write(final Path path, final String text)
+      throws IOException {
+    Files.createDirectories(path.getParent());
+    Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Detect changes. If the detector watches the tree, wait until the
+   * expected number of changes has been reported, as the file system
+   * reports them asynchronously.
+   *
+   * @param detector
+   *          the detector
+   * @param expected
+   *          the expected number of changes
+   * @return the collected changes
+   * @throws Exception
+   *           if something fails
+   */
+  private static final __Changes __detect(
+      final TreeChangeDetector detector, final int expected)
+      throws Exception {
+    final ArrayList<Path> added, modified, removed;
+    final long end;
+    TreeChanges changes;
+
+    added = new ArrayList<>();
+    modified = new ArrayList<>();
+    removed = new ArrayList<>();
+    end = (System.currentTimeMillis() + TreeChangeDetectorTest.MAX_WAIT);
+    for (;;) {
+      changes = detector.detectChanges();
+      added.addAll(changes.getAdded());
+      modified.addAll(changes.getModified());
+      removed.addAll(changes.getRemoved());
+      if ((!(detector.isWatching()))
+          || ((added.size() + modified.size() + removed.size()) >= expected)
+          || (System.currentTimeMillis() > end)) {
+        break;
+      }
+      Thread.sleep(20L);
+    }
+
+    Collections.sort(added);
+    Collections.sort(modified);
+    Collections.sort(removed);
+    return new __Changes(added, modified, removed);
+  }
+
+  /**
+   * run the test scenario
+   *
+   * @param watch
+   *          should we watch the tree?
+   * @throws Exception
+   *           if something fails
+   */
+  private static final void __testScenario(final boolean watch)
+      throws Exception {
+    final Path root, index, a, b, c, d, e;
+    TreeChanges changes;
+    __Changes collected;
+
+    try (final TempDir temp = new TempDir()) {
+      root = temp.getPath().resolve("tree"); //$NON-NLS-1$
+      index = temp.getPath().resolve("tree.idx"); //$NON-NLS-1$
+      a = root.resolve("a.txt"); //$NON-NLS-1$
+      b = root.resolve("sub").resolve("b.txt"); //$NON-NLS-1$//$NON-NLS-2$
+      c = root.resolve("sub").resolve("deeper").resolve("c.txt"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
+      d = root.resolve("new").resolve("d.txt"); //$NON-NLS-1$//$NON-NLS-2$
+      e = root.resolve("new").resolve("more").resolve("e.txt"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
+
+      TreeChangeDetectorTest.__write(a, "a"); //$NON-NLS-1$
+      TreeChangeDetectorTest.__write(b, "b"); //$NON-NLS-1$
+      TreeChangeDetectorTest.__write(c, "c"); //$NON-NLS-1$
+
+      try (final TreeChangeDetector detector = new TreeChangeDetector(root,
+          index, watch)) {
+        Assert.assertEquals(watch, detector.isWatching());
+
+        changes = detector.detectChanges();
+        Assert.assertEquals(Arrays.asList(a, b, c), changes.getAdded());
+        Assert.assertTrue(changes.getModified().isEmpty());
+        Assert.assertTrue(changes.getRemoved().isEmpty());
+        Assert.assertEquals(Arrays.asList(a, b, c), changes.getChanged());
+
+        Assert.assertFalse(detector.detectChanges().hasChanges());
+
+        // change the contents
+        TreeChangeDetectorTest.__write(b, "bb"); //$NON-NLS-1$
+        collected = TreeChangeDetectorTest.__detect(detector, 1);
+        Assert.assertTrue(collected.m_added.isEmpty());
+        Assert.assertEquals(Arrays.asList(b), collected.m_modified);
+        Assert.assertTrue(collected.m_removed.isEmpty());
+
+        // only touch the file: give the file system some time to report
+        Files.setLastModifiedTime(c, FileTime.fromMillis(//
+            Files.getLastModifiedTime(c).toMillis() + 100000L));
+        Thread.sleep(watch ? 500L : 0L);
+        collected = TreeChangeDetectorTest.__detect(detector, 0);
+        Assert.assertTrue(collected.m_added.isEmpty());
+        Assert.assertTrue(collected.m_modified.isEmpty());
+        Assert.assertTrue(collected.m_removed.isEmpty());
+
+        // add new directories and remove a file
+        TreeChangeDetectorTest.__write(d, "d"); //$NON-NLS-1$
+        TreeChangeDetectorTest.__write(e, "e"); //$NON-NLS-1$
+        Files.delete(a);
+        collected = TreeChangeDetectorTest.__detect(detector, 3);
+        Assert.assertEquals(Arrays.asList(d, e), collected.m_added);
+        Assert.assertTrue(collected.m_modified.isEmpty());
+        Assert.assertEquals(Arrays.asList(a), collected.m_removed);
+
+        // remove a whole directory
+        Files.delete(c);
+        Files.delete(c.getParent());
+        collected = TreeChangeDetectorTest.__detect(detector, 1);
+        Assert.assertTrue(collected.m_added.isEmpty());
+        Assert.assertTrue(collected.m_modified.isEmpty());
+        Assert.assertEquals(Arrays.asList(c), collected.m_removed);
+
+        Assert.assertFalse(detector.detectChanges().hasChanges());
+      }
+
+      // a new detector continues from the stored index
+      TreeChangeDetectorTest.__write(d, "dd"); //$NON-NLS-1$
+      try (final TreeChangeDetector detector = new TreeChangeDetector(root,
+          index, watch)) {
+        changes = detector.detectChanges();
+        Assert.assertTrue(changes.getAdded().isEmpty());
+        Assert.assertEquals(Arrays.asList(d), changes.getModified());
+        Assert.assertTrue(changes.getRemoved().isEmpty());
+      }
+    }
+  }
+
+  /**
+   * test detecting changes by walking the tree
+   *
+   * @throws Exception
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testDetectChangesWalking() throws Exception {
+    TreeChangeDetectorTest.__testScenario(false);
+  }
+
+  /**
+   * test detecting changes by watching the tree
+   *
+   * @throws Exception
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testDetectChangesWatching() throws Exception {
+    TreeChangeDetectorTest.__testScenario(true);
+  }
+
+  /**
+   * test that a file which cannot be read is reported as modified only
+   * once and not on every check
+   *
+   * @throws Exception
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testUnreadableReportedOnce() throws Exception {
+    final Path root, a;
+    final PosixFileAttributeView view;
+    TreeChanges changes;
+
+    try (final TempDir temp = new TempDir()) {
+      root = temp.getPath();
+      a = root.resolve("a.txt"); //$NON-NLS-1$
+      TreeChangeDetectorTest.__write(a, "a"); //$NON-NLS-1$
+      view = Files.getFileAttributeView(a, PosixFileAttributeView.class);
+      Assume.assumeNotNull(view);
+
+      try (final TreeChangeDetector detector = new TreeChangeDetector(root,
+          null, false)) {
+        Assert.assertEquals(Arrays.asList(a),
+            detector.detectChanges().getAdded());
+
+        TreeChangeDetectorTest.__write(a, "aa"); //$NON-NLS-1$
+        view.setPermissions(EnumSet.noneOf(PosixFilePermission.class));
+        try {
+          Assume.assumeFalse(Files.isReadable(a));
+
+          changes = detector.detectChanges();
+          Assert.assertEquals(Arrays.asList(a), changes.getModified());
+          Assert.assertFalse(detector.detectChanges().hasChanges());
+          Assert.assertFalse(detector.detectChanges().hasChanges());
+        } finally {
+          view.setPermissions(EnumSet.of(PosixFilePermission.OWNER_READ,
+              PosixFilePermission.OWNER_WRITE));
+        }
+      }
+    }
+  }
+
+  /**
+   * test reloading only the changed files with an input tool
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testReloadChanged() throws Throwable {
+    final __LineLoader tool;
+    final Path root;
+    ArrayList<String> lines;
+
+    tool = new __LineLoader();
+    try (final TempDir temp = new TempDir()) {
+      root = temp.getPath();
+      for (int i = 0; i < 100; i++) {
+        TreeChangeDetectorTest.__write(root.resolve("d" + (i % 7))//$NON-NLS-1$
+            .resolve(i + ".txt"), Integer.toString(i)); //$NON-NLS-1$
+      }
+
+      try (final TreeChangeDetector detector = new TreeChangeDetector(root,
+          null, false)) {
+        lines = new ArrayList<>();
+        tool.use().setDestination(lines)
+            .addPaths(detector.detectChanges().getChanged(), null, null)
+            .create().call();
+        Assert.assertEquals(100, lines.size());
+
+        TreeChangeDetectorTest.__write(root.resolve("d3")//$NON-NLS-1$
+            .resolve("3.txt"), "three"); //$NON-NLS-1$//$NON-NLS-2$
+        TreeChangeDetectorTest.__write(root.resolve("d8")//$NON-NLS-1$
+            .resolve("100.txt"), "100"); //$NON-NLS-1$//$NON-NLS-2$
+
+        lines = new ArrayList<>();
+        tool.use().setDestination(lines)
+            .addPaths(detector.detectChanges().getChanged(), null, null)
+            .create().call();
+        Assert.assertEquals(Arrays.asList("three", "100"), lines); //$NON-NLS-1$//$NON-NLS-2$
+      }
+    }
+  }
+
+  /** a holder for collected changes */
+  private static final class __Changes {
+    /** the added files */
+    final ArrayList<Path> m_added;
+    /** the modified files */
+    final ArrayList<Path> m_modified;
+    /** the removed files */
+    final ArrayList<Path> m_removed;
+
+    /**
+     * create
+     *
+     * @param added
+     *          the added files
+     * @param modified
+     *          the modified files
+     * @param removed
+     *          the removed files
+     */
+    __Changes(final ArrayList<Path> added, final ArrayList<Path> modified,
+        final ArrayList<Path> removed) {
+      super();
+      this.m_added = added;
+      this.m_modified = modified;
+      this.m_removed = removed;
+    }
+  }
+
+  /** a loader which collects lines */
+  private static final class __LineLoader
+      extends TextInputTool<ArrayList<String>> {
+
+    /** create */
+    __LineLoader() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void reader(final IOJob job,
+        final ArrayList<String> data, final BufferedReader reader)
+        throws Throwable {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        data.add(line);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "Line Loader"; //$NON-NLS-1$
+    }
+  }
+}
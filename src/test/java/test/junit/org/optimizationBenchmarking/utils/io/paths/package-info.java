@@ -0,0 +1,5 @@
+/**
+ * Tests of the {@link org.optimizationBenchmarking.utils.io.paths path
+ * utilities}.
+ */
+package test.junit.org.optimizationBenchmarking.utils.io.paths;
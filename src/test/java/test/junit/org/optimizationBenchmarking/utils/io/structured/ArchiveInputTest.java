@@ -0,0 +1,439 @@
+package test.junit.org.optimizationBenchmarking.utils.io.structured;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.EArchiveType;
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.FileInputTool;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.TextInputTool;
+import org.optimizationBenchmarking.utils.io.structured.spec.IFileInputTool;
+
+import shared.junit.TestBase;
+
+/**
+ * Test that archives are read correctly, regardless whether they are
+ * mounted, read in place as stream, or extracted.
+ */
+public class ArchiveInputTest extends TestBase {
+
+  /** the expected lines */
+  private static final String[] EXPECTED = { "a1", "a2", "b1", "c1", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$
+      "c2", "c3" };//$NON-NLS-1$//$NON-NLS-2$
+
+  /** create */
+  public ArchiveInputTest() {
+    super();
+  }
+
+  /**
+   * Create a zip archive
+   *
+   * @return the archive
+   * @throws IOException
+   *           if it must
+   */
+  private static final byte[] __zip() throws IOException {
+    try (final ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+      try (final ZipOutputStream zos = new ZipOutputStream(bos)) {
+        ArchiveInputTest.__put(zos, "a.txt", "a1\na2\n"); //$NON-NLS-1$//$NON-NLS-2$
+        zos.putNextEntry(new ZipEntry("dir/")); //$NON-NLS-1$
+        zos.closeEntry();
+        ArchiveInputTest.__put(zos, "dir/b.txt", "b1\n"); //$NON-NLS-1$//$NON-NLS-2$
+        ArchiveInputTest.__put(zos, "dir/sub/c.txt", "c1\nc2\nc3\n"); //$NON-NLS-1$//$NON-NLS-2$
+        ArchiveInputTest.__put(zos, "skip/x.txt", "x1\n"); //$NON-NLS-1$//$NON-NLS-2$
+      }
+      return bos.toByteArray();
+    }
+  }
+
+  /**
+   * Put an entry into a zip archive
+   *
+   * @param zos
+   *          the stream
+   * @param name
+   *          the name
+   * @param text
+   *          the text
+   * @throws IOException
+   *           if it must
+   */
+  private static final void __put(final ZipOutputStream zos,
+      final String name, final String text) throws IOException {
+    zos.putNextEntry(new ZipEntry(name));
+    zos.write(text.getBytes(StandardCharsets.UTF_8));
+    zos.closeEntry();
+  }
+
+  /**
+   * Create a gzip archive
+   *
+   * @return the archive
+   * @throws IOException
+   *           if it must
+   */
+  private static final byte[] __gzip() throws IOException {
+    try (final ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+      try (final OutputStream gos = new GZIPOutputStream(bos)) {
+        gos.write("a1\na2\nb1\nc1\nc2\nc3\n" //$NON-NLS-1$
+            .getBytes(StandardCharsets.UTF_8));
+      }
+      return bos.toByteArray();
+    }
+  }
+
+  /**
+   * Create an lz4 archive
+   *
+   * @return the archive
+   * @throws IOException
+   *           if it must
+   */
+  private static final byte[] __lz4() throws IOException {
+    try (final ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+      try (final OutputStream los = EArchiveType.LZ4.compressStream(bos,
+          null)) {
+        los.write("a1\na2\nb1\nc1\nc2\nc3\n" //$NON-NLS-1$
+            .getBytes(StandardCharsets.UTF_8));
+      }
+      return bos.toByteArray();
+    }
+  }
+
+  /**
+   * Check the result of a loader
+   *
+   * @param lines
+   *          the lines
+   * @param dirs
+   *          the directory events
+   */
+  private static final void __check(final ArrayList<String> lines,
+      final ArrayList<String> dirs) {
+    int depth;
+
+    Collections.sort(lines);
+    Assert.assertArrayEquals(ArchiveInputTest.EXPECTED,
+        lines.toArray(new String[lines.size()]));
+
+    depth = 0;
+    for (final String event : dirs) {
+      depth += (event.startsWith("+") ? 1 : (-1)); //$NON-NLS-1$
+      Assert.assertTrue(depth >= 0);
+    }
+    Assert.assertEquals(0, depth);
+  }
+
+  /**
+   * Load an archive with the given tool
+   *
+   * @param tool
+   *          the tool
+   * @param dirs
+   *          the list receiving the directory events of the tool
+   * @param bytes
+   *          the archive
+   * @param type
+   *          the archive type
+   * @param asFile
+   *          should the archive be loaded from a file?
+   * @throws Throwable
+   *           if it must
+   */
+  private static final void __load(
+      final IFileInputTool<ArrayList<String>> tool,
+      final ArrayList<String> dirs, final byte[] bytes,
+      final EArchiveType type, final boolean asFile) throws Throwable {
+    final ArrayList<String> lines;
+    Path path;
+
+    lines = new ArrayList<>();
+    if (asFile) {
+      try (final TempDir temp = new TempDir()) {
+        path = temp.getPath().resolve("archive." + //$NON-NLS-1$
+            type.getDefaultSuffix());
+        Files.write(path, bytes);
+        tool.use().setDestination(lines).addPath(path, null, type)
+            .create().call();
+      }
+    } else {
+      tool.use().setDestination(lines)
+          .addArchiveStream(new ByteArrayInputStream(bytes), type)
+          .create().call();
+    }
+    ArchiveInputTest.__check(lines, dirs);
+  }
+
+  /**
+   * test mounting a zip file with a tool which needs paths
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testZipFileMounted() throws Throwable {
+    final __PathLoader tool;
+
+    tool = new __PathLoader();
+    ArchiveInputTest.__load(tool, tool.m_dirs, ArchiveInputTest.__zip(),
+        EArchiveType.ZIP, true);
+  }
+
+  /**
+   * test mounting a zip file with a tool which processes streams
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testZipFileMountedText() throws Throwable {
+    final __TextLoader tool;
+
+    tool = new __TextLoader();
+    ArchiveInputTest.__load(tool, tool.m_dirs, ArchiveInputTest.__zip(),
+        EArchiveType.ZIP, true);
+  }
+
+  /**
+   * test mounting a zip file with a tool which processes text in a given
+   * encoding, which is decoded directly from the files' byte channels
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testZipFileMountedTextEncoded() throws Throwable {
+    final __TextLoader tool;
+    final ArrayList<String> lines;
+    Path path;
+
+    tool = new __TextLoader();
+    lines = new ArrayList<>();
+    try (final TempDir temp = new TempDir()) {
+      path = temp.getPath().resolve("archive.zip"); //$NON-NLS-1$
+      Files.write(path, ArchiveInputTest.__zip());
+      tool.use().setDestination(lines)
+          .addPath(path, StreamEncoding.getUTF8(), EArchiveType.ZIP)
+          .create().call();
+    }
+    ArchiveInputTest.__check(lines, tool.m_dirs);
+  }
+
+  /**
+   * test reading a zip stream in place
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testZipStreamInPlace() throws Throwable {
+    final __TextLoader tool;
+
+    tool = new __TextLoader();
+    ArchiveInputTest.__load(tool, tool.m_dirs, ArchiveInputTest.__zip(),
+        EArchiveType.ZIP, false);
+  }
+
+  /**
+   * test extracting a zip stream for a tool which needs paths
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testZipStreamExtracted() throws Throwable {
+    final __PathLoader tool;
+
+    tool = new __PathLoader();
+    ArchiveInputTest.__load(tool, tool.m_dirs, ArchiveInputTest.__zip(),
+        EArchiveType.ZIP, false);
+  }
+
+  /**
+   * test reading a gzip file in place
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testGZipFileInPlace() throws Throwable {
+    final __TextLoader tool;
+
+    tool = new __TextLoader();
+    ArchiveInputTest.__load(tool, tool.m_dirs, ArchiveInputTest.__gzip(),
+        EArchiveType.GZIP, true);
+  }
+
+  /**
+   * test reading a gzip stream in place
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testGZipStreamInPlace() throws Throwable {
+    final __TextLoader tool;
+
+    tool = new __TextLoader();
+    ArchiveInputTest.__load(tool, tool.m_dirs, ArchiveInputTest.__gzip(),
+        EArchiveType.GZIP, false);
+  }
+
+  /**
+   * test reading an lz4 file in place
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testLZ4FileInPlace() throws Throwable {
+    final __TextLoader tool;
+
+    tool = new __TextLoader();
+    ArchiveInputTest.__load(tool, tool.m_dirs, ArchiveInputTest.__lz4(),
+        EArchiveType.LZ4, true);
+  }
+
+  /**
+   * test reading an lz4 stream in place
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testLZ4StreamInPlace() throws Throwable {
+    final __TextLoader tool;
+
+    tool = new __TextLoader();
+    ArchiveInputTest.__load(tool, tool.m_dirs, ArchiveInputTest.__lz4(),
+        EArchiveType.LZ4, false);
+  }
+
+  /**
+   * Check whether a directory is to be skipped
+   *
+   * @param path
+   *          the path
+   * @return {@code true} if it should be skipped
+   */
+  static final boolean _skip(final Path path) {
+    final Path name;
+    name = path.getFileName();
+    return ((name != null) && name.toString().startsWith("skip")); //$NON-NLS-1$
+  }
+
+  /** a loader which processes text streams */
+  private static final class __TextLoader
+      extends TextInputTool<ArrayList<String>> {
+
+    /** the directory events */
+    final ArrayList<String> m_dirs;
+
+    /** create */
+    __TextLoader() {
+      super();
+      this.m_dirs = new ArrayList<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void reader(final IOJob job,
+        final ArrayList<String> data, final BufferedReader reader)
+        throws Throwable {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        data.add(line);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean enterDirectory(final IOJob job,
+        final ArrayList<String> data, final Path path,
+        final BasicFileAttributes attributes) throws Throwable {
+      if (ArchiveInputTest._skip(path)) {
+        return false;
+      }
+      this.m_dirs.add("+" + path); //$NON-NLS-1$
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void leaveDirectory(final IOJob job,
+        final ArrayList<String> data, final Path path) throws Throwable {
+      this.m_dirs.add("-" + path); //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "text loader"; //$NON-NLS-1$
+    }
+  }
+
+  /** a loader which can only process paths */
+  private static final class __PathLoader
+      extends FileInputTool<ArrayList<String>> {
+
+    /** the directory events */
+    final ArrayList<String> m_dirs;
+
+    /** create */
+    __PathLoader() {
+      super();
+      this.m_dirs = new ArrayList<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void file(final IOJob job,
+        final ArrayList<String> data, final Path path,
+        final BasicFileAttributes attributes,
+        final StreamEncoding<?, ?> encoding) throws Throwable {
+      data.addAll(Files.readAllLines(path, StandardCharsets.UTF_8));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean enterDirectory(final IOJob job,
+        final ArrayList<String> data, final Path path,
+        final BasicFileAttributes attributes) throws Throwable {
+      if (ArchiveInputTest._skip(path)) {
+        return false;
+      }
+      this.m_dirs.add("+" + path); //$NON-NLS-1$
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void leaveDirectory(final IOJob job,
+        final ArrayList<String> data, final Path path) throws Throwable {
+      this.m_dirs.add("-" + path); //$NON-NLS-1$
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "path loader"; //$NON-NLS-1$
+    }
+  }
+}
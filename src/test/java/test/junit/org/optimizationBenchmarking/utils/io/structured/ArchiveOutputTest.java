@@ -0,0 +1,367 @@
+package test.junit.org.optimizationBenchmarking.utils.io.structured;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.ArchiveOutput;
+import org.optimizationBenchmarking.utils.io.EArchiveType;
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.FileOutputTool;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
+
+/**
+ * Test that archives written directly via
+ * {@link org.optimizationBenchmarking.utils.io.ArchiveOutput} equal those
+ * written via a temporary directory.
+ */
+public class ArchiveOutputTest {
+
+  /** the number of files to write */
+  private static final int FILES = 25;
+
+  /** create */
+  public ArchiveOutputTest() {
+    super();
+  }
+
+  /**
+   * Get the name of the {@code i}th file
+   *
+   * @param i
+   *          the index
+   * @return the name
+   */
+  static final String _name(final int i) {
+    return ("d" + (i % 3) + '/' + i + ".txt"); //$NON-NLS-1$//$NON-NLS-2$
+  }
+
+  /**
+   * Get the contents of the {@code i}th file
+   *
+   * @param i
+   *          the index
+   * @return the contents
+   */
+  static final byte[] _contents(final int i) {
+    return ("line " + i + '\n').getBytes(StandardCharsets.UTF_8); //$NON-NLS-1$
+  }
+
+  /**
+   * Read all bytes from a stream
+   *
+   * @param in
+   *          the stream
+   * @return the bytes
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final byte[] __read(final InputStream in)
+      throws IOException {
+    final ByteArrayOutputStream bos;
+    final byte[] buffer;
+    int read;
+
+    bos = new ByteArrayOutputStream();
+    buffer = new byte[4096];
+    while ((read = in.read(buffer)) > 0) {
+      bos.write(buffer, 0, read);
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Get the contents of a compressed archive as comparable text
+   *
+   * @param type
+   *          the archive type
+   * @param data
+   *          the compressed data
+   * @return the text: the entry names and contents for a ZIP archive, the
+   *         sorted lines for single-stream archives
+   * @throws IOException
+   *           if i/o fails
+   */
+  private static final String __contents(final EArchiveType type,
+      final byte[] data) throws IOException {
+    final TreeMap<String, String> entries;
+    final ArrayList<String> lines;
+    ZipEntry entry;
+
+    if (type == EArchiveType.ZIP) {
+      entries = new TreeMap<>();
+      try (final ZipInputStream zis = new ZipInputStream(
+          new ByteArrayInputStream(data))) {
+        while ((entry = zis.getNextEntry()) != null) {
+          entries.put(entry.getName(), new String(
+              ArchiveOutputTest.__read(zis), StandardCharsets.UTF_8));
+        }
+      }
+      return entries.toString();
+    }
+
+    try (final InputStream gis = type.decompressStream(
+        new ByteArrayInputStream(data))) {
+      lines = new ArrayList<>(Arrays.asList(new String(ArchiveOutputTest
+          .__read(gis), StandardCharsets.UTF_8).split("\n"))); //$NON-NLS-1$
+    }
+    Collections.sort(lines);
+    return lines.toString();
+  }
+
+  /**
+   * Get the expected contents of an archive
+   *
+   * @param type
+   *          the archive type
+   * @return the expected contents
+   */
+  private static final String __expected(final EArchiveType type) {
+    final TreeMap<String, String> entries;
+    final ArrayList<String> lines;
+
+    if (type == EArchiveType.ZIP) {
+      entries = new TreeMap<>();
+      for (int i = 0; i < ArchiveOutputTest.FILES; i++) {
+        entries.put(ArchiveOutputTest._name(i), new String(
+            ArchiveOutputTest._contents(i), StandardCharsets.UTF_8));
+      }
+      return entries.toString();
+    }
+
+    lines = new ArrayList<>();
+    for (int i = 0; i < ArchiveOutputTest.FILES; i++) {
+      lines.add(new String(ArchiveOutputTest._contents(i),
+          StandardCharsets.UTF_8).trim());
+    }
+    Collections.sort(lines);
+    return lines.toString();
+  }
+
+  /**
+   * Check that a tool writes the expected archive to a stream and a file
+   *
+   * @param tool
+   *          the tool
+   * @param type
+   *          the archive type
+   * @param parallel
+   *          should the archive be compressed in parallel?
+   * @throws Throwable
+   *           if something fails
+   */
+  private static final void __check(final FileOutputTool<Object> tool,
+      final EArchiveType type, final boolean parallel) throws Throwable {
+    final String expected;
+    final Path file;
+
+    expected = ArchiveOutputTest.__expected(type);
+
+    try (final ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+      tool.use().setSource(tool).setParallel(parallel)
+          .setArchiveStream(bos, type).create().call();
+      Assert.assertEquals(expected,
+          ArchiveOutputTest.__contents(type, bos.toByteArray()));
+    }
+
+    try (final TempDir temp = new TempDir()) {
+      file = temp.getPath().resolve("out." + type.getDefaultSuffix()); //$NON-NLS-1$
+      tool.use().setSource(tool).setParallel(parallel)
+          .setPath(file, null, type).create().call();
+      Assert.assertEquals(expected,
+          ArchiveOutputTest.__contents(type, Files.readAllBytes(file)));
+    }
+
+    try (final TempDir temp = new TempDir()) {
+      tool.use().setSource(tool).setParallel(parallel)
+          .setPath(temp.getPath(), null, type).create().call();
+      Assert.assertEquals(expected, ArchiveOutputTest.__contents(type,
+          Files.readAllBytes(temp.getPath().resolve(//
+              "data." + type.getDefaultSuffix())))); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * test writing a ZIP archive via a temporary directory
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testZipViaPath() throws Throwable {
+    ArchiveOutputTest.__check(new __PathTool(), EArchiveType.ZIP, false);
+  }
+
+  /**
+   * test writing a ZIP archive directly
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testZipDirect() throws Throwable {
+    ArchiveOutputTest.__check(new __ArchiveTool(), EArchiveType.ZIP, false);
+  }
+
+  /**
+   * test writing a GZIP archive via a temporary directory
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testGZIPViaPath() throws Throwable {
+    ArchiveOutputTest.__check(new __PathTool(), EArchiveType.GZIP, false);
+  }
+
+  /**
+   * test writing a GZIP archive directly
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testGZIPDirect() throws Throwable {
+    ArchiveOutputTest.__check(new __ArchiveTool(), EArchiveType.GZIP, false);
+  }
+
+  /**
+   * test writing a ZIP archive directly with parallel compression
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testZipDirectParallel() throws Throwable {
+    ArchiveOutputTest.__check(new __ArchiveTool(), EArchiveType.ZIP, true);
+  }
+
+  /**
+   * test writing a GZIP archive via a temporary directory with parallel
+   * compression
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testGZIPViaPathParallel() throws Throwable {
+    ArchiveOutputTest.__check(new __PathTool(), EArchiveType.GZIP, true);
+  }
+
+  /**
+   * test writing an LZ4 archive via a temporary directory
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testLZ4ViaPath() throws Throwable {
+    ArchiveOutputTest.__check(new __PathTool(), EArchiveType.LZ4, false);
+  }
+
+  /**
+   * test writing an LZ4 archive directly with parallel compression
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testLZ4DirectParallel() throws Throwable {
+    ArchiveOutputTest.__check(new __ArchiveTool(), EArchiveType.LZ4, true);
+  }
+
+  /**
+   * test that only one entry can be open at a time
+   *
+   * @throws Throwable
+   *           if something fails
+   */
+  @Test(timeout = 3600000)
+  public void testOneEntryAtATime() throws Throwable {
+    try (final ArchiveOutput archive = EArchiveType.ZIP
+        .openArchiveOutput(new ByteArrayOutputStream())) {
+      try (final OutputStream entry = archive.openEntry("a.txt")) { //$NON-NLS-1$
+        entry.write(1);
+        try {
+          archive.openEntry("b.txt"); //$NON-NLS-1$
+          Assert.fail("A second entry must not be opened."); //$NON-NLS-1$
+        } catch (final IllegalStateException expected) {
+          // expected
+        }
+      }
+      archive.openEntry("b.txt").close(); //$NON-NLS-1$
+    }
+  }
+
+  /** a tool writing its files into a directory */
+  private static final class __PathTool extends FileOutputTool<Object> {
+
+    /** create */
+    __PathTool() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void path(final IOJob job, final Object data,
+        final Path path, final BasicFileAttributes attributes,
+        final StreamEncoding<?, ?> encoding) throws Throwable {
+      Path file;
+
+      for (int i = 0; i < ArchiveOutputTest.FILES; i++) {
+        file = path.resolve(ArchiveOutputTest._name(i));
+        Files.createDirectories(file.getParent());
+        Files.write(file, ArchiveOutputTest._contents(i));
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "Path Tool"; //$NON-NLS-1$
+    }
+  }
+
+  /** a tool writing its files directly into the archive */
+  private static final class __ArchiveTool extends FileOutputTool<Object> {
+
+    /** create */
+    __ArchiveTool() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void archive(final IOJob job, final Object data,
+        final ArchiveOutput archive, final StreamEncoding<?, ?> encoding)
+        throws Throwable {
+      for (int i = 0; i < ArchiveOutputTest.FILES; i++) {
+        try (final OutputStream entry = archive.openEntry(//
+            ArchiveOutputTest._name(i))) {
+          entry.write(ArchiveOutputTest._contents(i));
+        }
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "Archive Tool"; //$NON-NLS-1$
+    }
+  }
+}
@@ -0,0 +1,358 @@
+package test.junit.org.optimizationBenchmarking.utils.io.structured;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.encoding.StreamEncoding;
+import org.optimizationBenchmarking.utils.io.paths.TempDir;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.FileInputTool;
+import org.optimizationBenchmarking.utils.io.structured.impl.abstr.IOJob;
+
+import shared.junit.TestBase;
+
+/**
+ * Test loading directories in parallel, both into thread-safe
+ * destinations and via merged per-thread partial destinations.
+ */
+public class ParallelInputTest extends TestBase {
+
+  /** the number of top-level directories */
+  private static final int DIRS = 4;
+  /** the number of sub-directories per directory */
+  private static final int SUB_DIRS = 3;
+  /** the number of files per directory */
+  private static final int FILES = 20;
+
+  /** create */
+  public ParallelInputTest() {
+    super();
+  }
+
+  /**
+   * Create the directory tree
+   *
+   * @param root
+   *          the root directory
+   * @return the expected lines, sorted
+   * @throws IOException
+   *           if it must
+   */
+  private static final ArrayList<String> __create(final Path root)
+      throws IOException {
+    final ArrayList<String> expected;
+    Path dir, sub;
+
+    expected = new ArrayList<>();
+    for (int i = 0; i < ParallelInputTest.DIRS; i++) {
+      dir = Files.createDirectory(root.resolve("d" + i)); //$NON-NLS-1$
+      ParallelInputTest.__files(dir, expected);
+      for (int j = 0; j < ParallelInputTest.SUB_DIRS; j++) {
+        sub = Files.createDirectory(dir.resolve("s" + j)); //$NON-NLS-1$
+        ParallelInputTest.__files(sub, expected);
+      }
+    }
+    Files.createDirectory(root.resolve("skip")); //$NON-NLS-1$
+    Files.write(root.resolve("skip").resolve("x.txt"), //$NON-NLS-1$//$NON-NLS-2$
+        "x".getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+    Collections.sort(expected);
+    return expected;
+  }
+
+  /**
+   * Create the files of a directory
+   *
+   * @param dir
+   *          the directory
+   * @param expected
+   *          the list receiving the expected lines
+   * @throws IOException
+   *           if it must
+   */
+  private static final void __files(final Path dir,
+      final ArrayList<String> expected) throws IOException {
+    String text;
+
+    for (int k = 0; k < ParallelInputTest.FILES; k++) {
+      text = (dir.getFileName().toString() + '/' + k);
+      Files.write(dir.resolve("f" + k + ".txt"), //$NON-NLS-1$//$NON-NLS-2$
+          text.getBytes(StandardCharsets.UTF_8));
+      expected.add(text);
+    }
+  }
+
+  /**
+   * Check the loaded lines
+   *
+   * @param expected
+   *          the expected lines
+   * @param lines
+   *          the loaded lines
+   * @param tool
+   *          the tool
+   */
+  private static final void __check(final ArrayList<String> expected,
+      final Collection<String> lines, final _LoaderBase<?> tool) {
+    final ArrayList<String> got;
+
+    got = new ArrayList<>(lines);
+    Collections.sort(got);
+    Assert.assertEquals(expected, got);
+    Assert.assertFalse(tool.m_fileAfterLeave);
+    Assert.assertEquals(tool.m_entered.get(), tool.m_left.get());
+    Assert.assertEquals(
+        (1 + (ParallelInputTest.DIRS * (1 + ParallelInputTest.SUB_DIRS))),
+        tool.m_entered.get());
+  }
+
+  /**
+   * test loading into a thread-safe destination
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testThreadSafeDestination() throws Throwable {
+    final __ThreadSafeLoader tool;
+    final List<String> lines;
+    final ArrayList<String> expected;
+
+    tool = new __ThreadSafeLoader();
+    lines = Collections.synchronizedList(new ArrayList<String>());
+    try (final TempDir temp = new TempDir()) {
+      expected = ParallelInputTest.__create(temp.getPath());
+      tool.use().setDestination(lines).setParallel(true)
+          .addPath(temp.getPath()).create().call();
+    }
+    ParallelInputTest.__check(expected, lines, tool);
+  }
+
+  /**
+   * test loading into per-thread partial destinations
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testPartialDestinations() throws Throwable {
+    final __PartialLoader tool;
+    final ArrayList<String> lines;
+    final ArrayList<String> expected;
+
+    tool = new __PartialLoader();
+    lines = new ArrayList<>();
+    try (final TempDir temp = new TempDir()) {
+      expected = ParallelInputTest.__create(temp.getPath());
+      tool.use().setDestination(lines).setParallel(true)
+          .addPath(temp.getPath()).create().call();
+    }
+    ParallelInputTest.__check(expected, lines, tool);
+    Assert.assertEquals(tool.m_created.get(), tool.m_merged.get());
+    Assert.assertTrue(tool.m_merged.get() > 0);
+  }
+
+  /**
+   * test that a tool without support for parallel loading still works
+   * if parallel loading is requested
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testSequentialFallback() throws Throwable {
+    final __SequentialLoader tool;
+    final ArrayList<String> lines;
+    final ArrayList<String> expected;
+
+    tool = new __SequentialLoader();
+    lines = new ArrayList<>();
+    try (final TempDir temp = new TempDir()) {
+      expected = ParallelInputTest.__create(temp.getPath());
+      tool.use().setDestination(lines).setParallel(true)
+          .addPath(temp.getPath()).create().call();
+    }
+    ParallelInputTest.__check(expected, lines, tool);
+  }
+
+  /**
+   * test that an error in a worker thread is propagated
+   *
+   * @throws Throwable
+   *           if it must
+   */
+  @Test(timeout = 3600000)
+  public void testErrorPropagated() throws Throwable {
+    final __ThreadSafeLoader tool;
+    boolean failed;
+
+    tool = new __ThreadSafeLoader();
+    tool.m_fail = "f7.txt"; //$NON-NLS-1$
+    failed = false;
+    try (final TempDir temp = new TempDir()) {
+      ParallelInputTest.__create(temp.getPath());
+      try {
+        tool.use()
+            .setDestination(
+                Collections.synchronizedList(new ArrayList<String>()))
+            .setParallel(true).addPath(temp.getPath()).create().call();
+      } catch (final Throwable expected) {
+        failed = true;
+      }
+    }
+    Assert.assertTrue(failed);
+  }
+
+  /**
+   * the base class for the loaders
+   *
+   * @param <S>
+   *          the destination type
+   */
+  private static abstract class _LoaderBase<S extends Collection<String>>
+      extends FileInputTool<S> {
+
+    /** the number of entered directories */
+    final AtomicInteger m_entered;
+    /** the number of left directories */
+    final AtomicInteger m_left;
+    /** the directories which have been left */
+    final ConcurrentHashMap<Path, Boolean> m_leftDirs;
+    /** was a file loaded after its directory was left? */
+    volatile boolean m_fileAfterLeave;
+    /** the name of a file whose loading should fail, or {@code null} */
+    volatile String m_fail;
+
+    /** create */
+    _LoaderBase() {
+      super();
+      this.m_entered = new AtomicInteger();
+      this.m_left = new AtomicInteger();
+      this.m_leftDirs = new ConcurrentHashMap<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void file(final IOJob job, final S data,
+        final Path path, final BasicFileAttributes attributes,
+        final StreamEncoding<?, ?> encoding) throws Throwable {
+      if (path.getFileName().toString().equals(this.m_fail)) {
+        throw new IOException("Failing as requested."); //$NON-NLS-1$
+      }
+      if (this.m_leftDirs.containsKey(path.getParent())) {
+        this.m_fileAfterLeave = true;
+      }
+      data.addAll(Files.readAllLines(path, StandardCharsets.UTF_8));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean enterDirectory(final IOJob job, final S data,
+        final Path path, final BasicFileAttributes attributes)
+        throws Throwable {
+      final Path name;
+
+      name = path.getFileName();
+      if ((name != null) && name.toString().startsWith("skip")) { //$NON-NLS-1$
+        return false;
+      }
+      this.m_entered.incrementAndGet();
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void leaveDirectory(final IOJob job, final S data,
+        final Path path) throws Throwable {
+      this.m_leftDirs.put(path, Boolean.TRUE);
+      this.m_left.incrementAndGet();
+    }
+  }
+
+  /** a loader whose destination is thread-safe */
+  private static final class __ThreadSafeLoader
+      extends _LoaderBase<List<String>> {
+
+    /** create */
+    __ThreadSafeLoader() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final boolean isDestinationThreadSafe(final IOJob job,
+        final List<String> data) {
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "thread-safe loader"; //$NON-NLS-1$
+    }
+  }
+
+  /** a loader which merges per-thread partial destinations */
+  private static final class __PartialLoader
+      extends _LoaderBase<ArrayList<String>> {
+
+    /** the number of created partial destinations */
+    final AtomicInteger m_created;
+    /** the number of merged partial destinations */
+    final AtomicInteger m_merged;
+
+    /** create */
+    __PartialLoader() {
+      super();
+      this.m_created = new AtomicInteger();
+      this.m_merged = new AtomicInteger();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final ArrayList<String> createPartialDestination(
+        final IOJob job, final ArrayList<String> data) {
+      this.m_created.incrementAndGet();
+      return new ArrayList<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected final void mergePartialDestination(final IOJob job,
+        final ArrayList<String> data, final ArrayList<String> partial) {
+      this.m_merged.incrementAndGet();
+      data.addAll(partial);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "partial loader"; //$NON-NLS-1$
+    }
+  }
+
+  /** a loader which does not support parallel loading */
+  private static final class __SequentialLoader
+      extends _LoaderBase<ArrayList<String>> {
+
+    /** create */
+    __SequentialLoader() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final String toString() {
+      return "sequential loader"; //$NON-NLS-1$
+    }
+  }
+}
@@ -0,0 +1,6 @@
+/**
+ * Tests of the
+ * {@link org.optimizationBenchmarking.utils.io.structured structured I/O
+ * tools}.
+ */
+package test.junit.org.optimizationBenchmarking.utils.io.structured;
@@ -0,0 +1,143 @@
+package test.junit.org.optimizationBenchmarking.utils.io.xml;
+
+import java.net.URI;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.xml.XMLDocument;
+import org.optimizationBenchmarking.utils.io.xml.XMLElement;
+
+/** Test the XML document output in its two threading modes. */
+public class XMLDocumentTest {
+
+  /** the namespace */
+  private static final URI NAMESPACE = URI
+      .create("http://www.optimizationBenchmarking.org/test"); //$NON-NLS-1$
+
+  /** the other namespace */
+  private static final URI OTHER = URI
+      .create("http://www.optimizationBenchmarking.org/other"); //$NON-NLS-1$
+
+  /** create */
+  public XMLDocumentTest() {
+    super();
+  }
+
+  /**
+   * Write a document with nested elements, namespaces, attributes, and
+   * text.
+   *
+   * @param singleThreaded
+   *          should the document be single-threaded?
+   * @return the document text
+   */
+  private static final String __writeNested(final boolean singleThreaded) {
+    final StringBuilder sb;
+
+    sb = new StringBuilder();
+    try (final XMLDocument doc = new XMLDocument(sb, singleThreaded)) {
+      try (final XMLElement root = doc.element()) {
+        root.namespaceSetPrefix(XMLDocumentTest.NAMESPACE, "t"); //$NON-NLS-1$
+        root.namespaceSetPrefix(XMLDocumentTest.OTHER, "o"); //$NON-NLS-1$
+        root.name(XMLDocumentTest.NAMESPACE, "root"); //$NON-NLS-1$
+        root.attributeRaw(XMLDocumentTest.OTHER, "id", "1"); //$NON-NLS-1$//$NON-NLS-2$
+        for (int i = 0; i < 5; i++) {
+          try (final XMLElement child = root.element()) {
+            child.name(((i & 1) == 0) ? XMLDocumentTest.NAMESPACE
+                : XMLDocumentTest.OTHER, "child"); //$NON-NLS-1$
+            child.attributeEncoded(XMLDocumentTest.NAMESPACE, "value", //$NON-NLS-1$
+                "a<b&\"c\" " + i); //$NON-NLS-1$
+            if (i != 2) {
+              child.textEncoded().append("x > y & " + i);//$NON-NLS-1$
+            }
+            try (final XMLElement leaf = child.element()) {
+              leaf.name(XMLDocumentTest.OTHER, "leaf"); //$NON-NLS-1$
+            }
+          }
+        }
+      }
+    }
+    return sb.toString();
+  }
+
+  /** test that both modes produce the same output */
+  @Test(timeout = 3600000)
+  public void testSingleThreadedEqualsSynchronized() {
+    final String expected;
+
+    expected = XMLDocumentTest.__writeNested(false);
+    Assert.assertEquals(expected, XMLDocumentTest.__writeNested(true));
+    Assert.assertTrue(expected.startsWith("<?xml")); //$NON-NLS-1$
+    Assert.assertTrue(expected.indexOf("a&#x3c;b&#x26;") > 0); //$NON-NLS-1$
+    Assert.assertTrue(expected.endsWith("</t:root>")); //$NON-NLS-1$
+  }
+
+  /**
+   * test that sibling elements which are open at the same time are
+   * buffered correctly in single-threaded mode
+   */
+  @Test(timeout = 3600000)
+  public void testSingleThreadedOverlappingSiblings() {
+    final StringBuilder sb;
+    final String text;
+    final XMLElement a, b, c;
+
+    sb = new StringBuilder();
+    try (final XMLDocument doc = new XMLDocument(sb, true)) {
+      try (final XMLElement root = doc.element()) {
+        root.name(null, "root"); //$NON-NLS-1$
+        a = root.element();
+        a.name(null, "a"); //$NON-NLS-1$
+        b = root.element();
+        b.name(null, "b"); //$NON-NLS-1$
+        b.textEncoded().append("2"); //$NON-NLS-1$
+        c = root.element();
+        c.name(null, "c"); //$NON-NLS-1$
+        c.textEncoded().append("3"); //$NON-NLS-1$
+        a.textEncoded().append("1"); //$NON-NLS-1$
+        c.close();
+        b.close();
+        a.close();
+      }
+    }
+
+    text = sb.toString();
+    Assert.assertTrue(text, text.endsWith(//
+        "<root><a>1</a><b>2</b><c>3</c></root>")); //$NON-NLS-1$
+  }
+
+  /**
+   * test that a single-threaded document cannot be used from another
+   * thread
+   *
+   * @throws InterruptedException
+   *           if the test is interrupted
+   */
+  @Test(timeout = 3600000)
+  public void testSingleThreadedIsConfined() throws InterruptedException {
+    final Throwable[] error;
+    final Thread thread;
+
+    error = new Throwable[1];
+    try (final XMLDocument doc = new XMLDocument(new StringBuilder(),
+        true)) {
+      try (final XMLElement root = doc.element()) {
+        root.name(null, "root"); //$NON-NLS-1$
+        thread = new Thread() {
+          @Override
+          public final void run() {
+            try {
+              root.element().close();
+            } catch (final Throwable t) {
+              error[0] = t;
+            }
+          }
+        };
+        thread.start();
+        thread.join();
+      }
+    }
+
+    Assert.assertTrue(error[0] instanceof IllegalStateException);
+  }
+}
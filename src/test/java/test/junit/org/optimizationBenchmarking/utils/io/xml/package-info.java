@@ -0,0 +1,5 @@
+/**
+ * Tests of the {@link org.optimizationBenchmarking.utils.io.xml XML
+ * output API}.
+ */
+package test.junit.org.optimizationBenchmarking.utils.io.xml;
@@ -0,0 +1,82 @@
+package test.junit.org.optimizationBenchmarking.utils.math.matrix.impl;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.DoubleMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.EMatrixLayout;
+
+import shared.junit.org.optimizationBenchmarking.utils.math.matrix.MatrixTest;
+
+/** A test for the dense {@code double} matrix. */
+public class DoubleMatrixTest extends MatrixTest<DoubleMatrix> {
+
+  /** the random number generator */
+  private final Random m_random;
+
+  /** create */
+  public DoubleMatrixTest() {
+    super();
+    this.m_random = new Random();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected DoubleMatrix getInstance() {
+    final double[] data;
+    final int m, n;
+
+    m = (1 + this.m_random.nextInt(9));
+    n = (1 + this.m_random.nextInt(9));
+    data = new double[m * n];
+    for (int i = data.length; (--i) >= 0;) {
+      data[i] = ((this.m_random.nextInt(2001) - 1000) / 8d);
+    }
+    return new DoubleMatrix(data, m, n, (this.m_random.nextBoolean()
+        ? EMatrixLayout.ROW_MAJOR : EMatrixLayout.COLUMN_MAJOR));
+  }
+
+  /** test that the layouts are respected */
+  @Test(timeout = 3600000)
+  public void testLayouts() {
+    final double[] data;
+    final DoubleMatrix rowMajor, columnMajor;
+
+    data = new double[] { 1d, 2d, 3d, 4d, 5d, 6d };
+    rowMajor = new DoubleMatrix(data, 2, 3, EMatrixLayout.ROW_MAJOR);
+    columnMajor = new DoubleMatrix(data, 2, 3,
+        EMatrixLayout.COLUMN_MAJOR);
+
+    Assert.assertEquals(2d, rowMajor.getDouble(0, 1), 0d);
+    Assert.assertEquals(4d, rowMajor.getDouble(1, 0), 0d);
+    Assert.assertEquals(3d, columnMajor.getDouble(0, 1), 0d);
+    Assert.assertEquals(2d, columnMajor.getDouble(1, 0), 0d);
+    Assert.assertEquals(rowMajor, rowMajor.transpose().copy().transpose());
+    Assert.assertEquals(new DoubleMatrix(new double[] { 1d, 4d, 2d, 5d,
+        3d, 6d }, 2, 3, EMatrixLayout.COLUMN_MAJOR), rowMajor);
+  }
+
+  /** test that the views do not copy the data */
+  @Test(timeout = 3600000)
+  public void testViewsShareData() {
+    final double[] data;
+    final DoubleMatrix matrix;
+    final IMatrix transposed, rows, columns, copy;
+
+    data = new double[] { 1d, 2d, 3d, 4d, 5d, 6d };
+    matrix = new DoubleMatrix(data, 2, 3);
+    transposed = matrix.transpose();
+    rows = matrix.selectRows(1, 0);
+    columns = matrix.selectColumns(2);
+    copy = matrix.copy();
+
+    data[5] = 7d;
+    Assert.assertEquals(7d, matrix.getDouble(1, 2), 0d);
+    Assert.assertEquals(7d, transposed.getDouble(2, 1), 0d);
+    Assert.assertEquals(7d, rows.getDouble(0, 2), 0d);
+    Assert.assertEquals(7d, columns.getDouble(1, 0), 0d);
+    Assert.assertEquals(6d, copy.getDouble(1, 2), 0d);
+  }
+}
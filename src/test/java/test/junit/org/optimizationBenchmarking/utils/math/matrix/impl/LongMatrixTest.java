@@ -0,0 +1,82 @@
+package test.junit.org.optimizationBenchmarking.utils.math.matrix.impl;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.math.matrix.IMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.LongMatrix;
+import org.optimizationBenchmarking.utils.math.matrix.impl.EMatrixLayout;
+
+import shared.junit.org.optimizationBenchmarking.utils.math.matrix.MatrixTest;
+
+/** A test for the dense {@code long} matrix. */
+public class LongMatrixTest extends MatrixTest<LongMatrix> {
+
+  /** the random number generator */
+  private final Random m_random;
+
+  /** create */
+  public LongMatrixTest() {
+    super();
+    this.m_random = new Random();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected LongMatrix getInstance() {
+    final long[] data;
+    final int m, n;
+
+    m = (1 + this.m_random.nextInt(9));
+    n = (1 + this.m_random.nextInt(9));
+    data = new long[m * n];
+    for (int i = data.length; (--i) >= 0;) {
+      data[i] = (this.m_random.nextLong() >> this.m_random.nextInt(64));
+    }
+    return new LongMatrix(data, m, n, (this.m_random.nextBoolean()
+        ? EMatrixLayout.ROW_MAJOR : EMatrixLayout.COLUMN_MAJOR));
+  }
+
+  /** test that the layouts are respected */
+  @Test(timeout = 3600000)
+  public void testLayouts() {
+    final long[] data;
+    final LongMatrix rowMajor, columnMajor;
+
+    data = new long[] { 1L, 2L, 3L, 4L, 5L, 6L };
+    rowMajor = new LongMatrix(data, 2, 3, EMatrixLayout.ROW_MAJOR);
+    columnMajor = new LongMatrix(data, 2, 3,
+        EMatrixLayout.COLUMN_MAJOR);
+
+    Assert.assertEquals(2L, rowMajor.getLong(0, 1));
+    Assert.assertEquals(4L, rowMajor.getLong(1, 0));
+    Assert.assertEquals(3L, columnMajor.getLong(0, 1));
+    Assert.assertEquals(2L, columnMajor.getLong(1, 0));
+    Assert.assertEquals(rowMajor, rowMajor.transpose().copy().transpose());
+    Assert.assertEquals(new LongMatrix(new long[] { 1L, 4L, 2L, 5L,
+        3L, 6L }, 2, 3, EMatrixLayout.COLUMN_MAJOR), rowMajor);
+  }
+
+  /** test that the views do not copy the data */
+  @Test(timeout = 3600000)
+  public void testViewsShareData() {
+    final long[] data;
+    final LongMatrix matrix;
+    final IMatrix transposed, rows, columns, copy;
+
+    data = new long[] { 1L, 2L, 3L, 4L, 5L, 6L };
+    matrix = new LongMatrix(data, 2, 3);
+    transposed = matrix.transpose();
+    rows = matrix.selectRows(1, 0);
+    columns = matrix.selectColumns(2);
+    copy = matrix.copy();
+
+    data[5] = 7L;
+    Assert.assertEquals(7L, matrix.getLong(1, 2));
+    Assert.assertEquals(7L, transposed.getLong(2, 1));
+    Assert.assertEquals(7L, rows.getLong(0, 2));
+    Assert.assertEquals(7L, columns.getLong(1, 0));
+    Assert.assertEquals(6L, copy.getLong(1, 2));
+  }
+}
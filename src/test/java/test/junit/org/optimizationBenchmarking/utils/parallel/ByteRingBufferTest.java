@@ -0,0 +1,166 @@
+package test.junit.org.optimizationBenchmarking.utils.parallel;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.parallel.ByteRingBuffer;
+
+import shared.junit.org.optimizationBenchmarking.utils.parallel.ProducerConsumerBufferTest;
+
+/**
+ * Test the lock-free single-producer/single-consumer byte ring buffer.
+ */
+public class ByteRingBufferTest extends ProducerConsumerBufferTest<byte[]> {
+
+  /** create */
+  public ByteRingBufferTest() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final byte[] createArray(final int size) {
+    return new byte[size];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void randomizeArray(final byte[] array, final Random r) {
+    r.nextBytes(array);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final void assertEquals(final byte[] a, final byte[] b) {
+    Assert.assertArrayEquals(a, b);
+  }
+
+  /**
+   * {@inheritDoc} The readers and writers of the shared test sleep
+   * randomly between their accesses, which would take ages with a tiny
+   * bounded buffer, so we use at least 1 MiB here. Small capacities are
+   * tested in {@link #testSmallCapacity()}.
+   */
+  @Override
+  protected final ByteRingBuffer createBuffer(final int size) {
+    return new ByteRingBuffer(Math.max((1 << 20), size));
+  }
+
+  /** test the capacity rounding and the non-blocking access methods */
+  @Test(timeout = 3600000)
+  public void testNonBlocking() {
+    final byte[] data, read;
+    int index;
+
+    data = new byte[100];
+    for (index = data.length; (--index) >= 0;) {
+      data[index] = ((byte) index);
+    }
+    read = new byte[100];
+
+    try (final ByteRingBuffer buffer = new ByteRingBuffer(33)) {
+      Assert.assertEquals(64, buffer.capacity());
+      Assert.assertEquals(0, buffer.tryReadFromBuffer(read, 0, 10));
+
+      Assert.assertEquals(64, buffer.tryWriteToBuffer(data, 0, 100));
+      Assert.assertEquals(64, buffer.size());
+      Assert.assertEquals(0, buffer.tryWriteToBuffer(data, 64, 36));
+
+      Assert.assertEquals(50, buffer.tryReadFromBuffer(read, 0, 50));
+      Assert.assertEquals(36, buffer.tryWriteToBuffer(data, 64, 36));
+      Assert.assertEquals(50, buffer.size());
+      Assert.assertEquals(50, buffer.readFromBufferFully(read, 50, 50));
+      Assert.assertArrayEquals(data, read);
+
+      buffer.writeToBuffer(data, 0, 10);
+      buffer.close();
+      Assert.assertTrue(buffer.isClosed());
+      Assert.assertEquals(-1, buffer.tryWriteToBuffer(data, 0, 10));
+      Assert.assertEquals(10, buffer.tryReadFromBuffer(read, 0, 20));
+      Assert.assertEquals(-1, buffer.tryReadFromBuffer(read, 0, 20));
+      Assert.assertEquals(-1, buffer.readFromBuffer(read, 0, 20));
+    }
+  }
+
+  /**
+   * Test that a writer blocked on a full buffer is released when the
+   * buffer is closed.
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testCloseReleasesWriter() throws InterruptedException {
+    final ByteRingBuffer buffer;
+    final Thread writer;
+
+    buffer = new ByteRingBuffer(16);
+    writer = new Thread() {
+      @Override
+      public final void run() {
+        buffer.writeToBuffer(new byte[1000], 0, 1000);
+      }
+    };
+    writer.start();
+    Thread.sleep(100L);
+    Assert.assertTrue(writer.isAlive());
+    Assert.assertEquals(16, buffer.size());
+    buffer.close();
+    writer.join();
+  }
+
+  /**
+   * Shovel a lot of data through a very small buffer without any pauses,
+   * so that both the producer and the consumer block very often.
+   *
+   * @throws InterruptedException
+   *           if it fails...
+   */
+  @Test(timeout = 3600000)
+  public void testSmallCapacity() throws InterruptedException {
+    final Random random;
+    final byte[] write, read;
+    final Thread writer;
+    int position, amount;
+
+    random = new Random();
+    write = new byte[1 << 22];
+    random.nextBytes(write);
+    read = new byte[write.length];
+
+    try (final ByteRingBuffer buffer = new ByteRingBuffer(64)) {
+      writer = new Thread() {
+        @Override
+        public final void run() {
+          final Random rand;
+          int pos, w;
+
+          rand = new Random();
+          for (pos = 0; pos < write.length; pos += w) {
+            w = Math.min((write.length - pos), rand.nextInt(200));
+            buffer.writeToBuffer(write, pos, w);
+          }
+          buffer.close();
+        }
+      };
+      writer.start();
+
+      position = 0;
+      for (;;) {
+        amount = Math.min((read.length - position), random.nextInt(200));
+        amount = (random.nextBoolean()
+            ? buffer.readFromBufferFully(read, position, amount)
+            : buffer.readFromBuffer(read, position, amount));
+        if (amount < 0) {
+          break;
+        }
+        position += amount;
+      }
+      writer.join();
+    }
+
+    Assert.assertEquals(write.length, position);
+    Assert.assertArrayEquals(write, read);
+  }
+}
@@ -1,12 +1,21 @@
 package test.junit.org.optimizationBenchmarking.utils.parallel;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.optimizationBenchmarking.utils.io.IOUtils;
+import org.optimizationBenchmarking.utils.parallel.EQueueFullPolicy;
 import org.optimizationBenchmarking.utils.parallel.Execute;
+import org.optimizationBenchmarking.utils.parallel.ExecuteStatistics;
 
 import shared.junit.TestBase;
 
@@ -94,6 +103,307 @@ public class ExecuteTest extends TestBase {
     }
   }
 
+  /**
+   * test that the statistics of the worker pool count the executed tasks
+   *
+   * @throws Throwable
+   *           if it fails
+   */
+  @SuppressWarnings("unchecked")
+  @Test(timeout = 3600000)
+  public void testStatistics() throws Throwable {
+    final Future<Object>[] futures;
+    final ExecuteStatistics before, after;
+    int index;
+
+    before = Execute.getStatistics();
+    Assert.assertNotNull(before);
+    Assert.assertTrue(before.getWorkers() > 0);
+    Assert.assertTrue(before.getQueueBound() > 0);
+    Assert.assertNotNull(before.getQueueFullPolicy());
+    Assert.assertTrue(before.getQueued() >= 0);
+    Assert.assertTrue(before.getRunning() >= 0L);
+
+    futures = new Future[100];
+    for (index = futures.length; (--index) >= 0;) {
+      futures[index] = Execute.parallel(new __SimpleTask());
+    }
+    Execute.join(futures);
+
+    after = Execute.getStatistics();
+    Assert.assertTrue(after.getCompleted() >= //
+        (before.getCompleted() + futures.length));
+    Assert.assertTrue(after.getAverageRunTime() > 0d);
+    Assert.assertTrue(after.getAverageWaitTime() >= 0d);
+    Assert.assertTrue(after.getStolen() >= before.getStolen());
+    Assert.assertNotNull(after.toString());
+  }
+
+  /**
+   * test the execution of many tasks which block for some time
+   *
+   * @throws Throwable
+   *           if it fails
+   */
+  @SuppressWarnings("unchecked")
+  @Test(timeout = 3600000)
+  public void testBlockingTasks() throws Throwable {
+    final Future<Object>[] futures;
+    final __BlockingTask[] tasks;
+    int index;
+
+    futures = new Future[200];
+    tasks = new __BlockingTask[futures.length];
+    for (index = futures.length; (--index) >= 0;) {
+      tasks[index] = new __BlockingTask();
+      futures[index] = Execute.blocking(tasks[index]);
+    }
+
+    for (index = futures.length; (--index) >= 0;) {
+      Assert.assertSame(tasks[index], futures[index].get());
+    }
+  }
+
+  /**
+   * Run {@link __QueueFullCheck} in a new Java virtual machine whose
+   * worker pool has one thread and a queue bound of two, as the
+   * configuration of the worker pool is read only once per virtual
+   * machine. If the scheduler has been selected via
+   * {@link Execute#PARAM_WORK_STEALING} in this virtual machine, the new
+   * one uses the same scheduler.
+   *
+   * @param policy
+   *          the policy to apply if the queue is full
+   * @throws Throwable
+   *           if it fails
+   */
+  private static final void __testQueueFull(final EQueueFullPolicy policy)
+      throws Throwable {
+    final ArrayList<String> command;
+    final String workStealing;
+    final Process process;
+    final ByteArrayOutputStream output;
+
+    command = new ArrayList<>();
+    command.add(System.getProperty("java.home") + File.separatorChar //$NON-NLS-1$
+        + "bin" + File.separatorChar + "java"); //$NON-NLS-1$//$NON-NLS-2$
+    command.add("-cp"); //$NON-NLS-1$
+    command.add(System.getProperty("java.class.path")); //$NON-NLS-1$
+    command.add("-D" + Execute.PARAM_THREADS + "=1"); //$NON-NLS-1$//$NON-NLS-2$
+    command.add("-D" + Execute.PARAM_QUEUE_BOUND + "=2"); //$NON-NLS-1$//$NON-NLS-2$
+    command.add("-D" + Execute.PARAM_QUEUE_FULL_POLICY + '=' //$NON-NLS-1$
+        + policy.name());
+    workStealing = System.getProperty(Execute.PARAM_WORK_STEALING);
+    if (workStealing != null) {
+      command.add("-D" + Execute.PARAM_WORK_STEALING + '=' //$NON-NLS-1$
+          + workStealing);
+    }
+    command.add(__QueueFullCheck.class.getName());
+    command.add(policy.name());
+
+    process = new ProcessBuilder(command).redirectErrorStream(true)
+        .start();
+    output = new ByteArrayOutputStream();
+    try (final InputStream is = process.getInputStream()) {
+      IOUtils.copy(is, output);
+    }
+    Assert.assertEquals(output.toString(), 0, process.waitFor());
+  }
+
+  /**
+   * test that tasks submitted to a full queue are rejected if the policy
+   * is {@link EQueueFullPolicy#REJECT}
+   *
+   * @throws Throwable
+   *           if it fails
+   */
+  @Test(timeout = 3600000)
+  public void testQueueFullReject() throws Throwable {
+    ExecuteTest.__testQueueFull(EQueueFullPolicy.REJECT);
+  }
+
+  /**
+   * test that the submitting thread blocks if the queue is full and the
+   * policy is {@link EQueueFullPolicy#BLOCK}
+   *
+   * @throws Throwable
+   *           if it fails
+   */
+  @Test(timeout = 3600000)
+  public void testQueueFullBlock() throws Throwable {
+    ExecuteTest.__testQueueFull(EQueueFullPolicy.BLOCK);
+  }
+
+  /**
+   * test that the submitting thread runs the task itself if the queue is
+   * full and the policy is {@link EQueueFullPolicy#CALLER_RUNS}
+   *
+   * @throws Throwable
+   *           if it fails
+   */
+  @Test(timeout = 3600000)
+  public void testQueueFullCallerRuns() throws Throwable {
+    ExecuteTest.__testQueueFull(EQueueFullPolicy.CALLER_RUNS);
+  }
+
+  /**
+   * The program run in a separate virtual machine by
+   * {@link ExecuteTest#__testQueueFull(EQueueFullPolicy)}: It occupies the
+   * single worker thread, fills the queue, and then submits one more task.
+   * Failures are reported via the exit code.
+   */
+  private static final class __QueueFullCheck {
+
+    /** the forbidden constructor */
+    private __QueueFullCheck() {
+      super();
+    }
+
+    /**
+     * Fail
+     *
+     * @param message
+     *          the message
+     */
+    private static final void __fail(final String message) {
+      System.out.println(message);
+      System.exit(1);
+    }
+
+    /**
+     * The main routine
+     *
+     * @param args
+     *          the name of the policy
+     * @throws Throwable
+     *           if it fails
+     */
+    public static final void main(final String[] args) throws Throwable {
+      final EQueueFullPolicy policy;
+      final CountDownLatch started, release;
+      final Thread[] ranIn;
+      final Future<?>[] futures;
+      final Thread submitter;
+      final Runnable noop;
+
+      policy = EQueueFullPolicy.valueOf(args[0]);
+      if ((Execute.getStatistics().getQueueBound() != 2)
+          || (Execute.getStatistics().getQueueFullPolicy() != policy)
+          || (Execute.getStatistics().getWorkers() != 1)) {
+        __QueueFullCheck.__fail("Configuration not applied: " //$NON-NLS-1$
+            + Execute.getStatistics());
+      }
+
+      started = new CountDownLatch(1);
+      release = new CountDownLatch(1);
+      ranIn = new Thread[1];
+      futures = new Future<?>[4];
+      noop = new Runnable() {
+        @Override
+        public final void run() {
+          //
+        }
+      };
+
+      // occupy the only worker thread
+      futures[0] = Execute.parallel(new Runnable() {
+        @Override
+        public final void run() {
+          started.countDown();
+          try {
+            release.await();
+          } catch (final InterruptedException error) {
+            //
+          }
+        }
+      });
+      started.await();
+
+      // fill the queue
+      futures[1] = Execute.parallel(noop);
+      futures[2] = Execute.parallel(noop);
+
+      switch (policy) {
+        case REJECT: {
+          try {
+            Execute.parallel(noop);
+            __QueueFullCheck.__fail("Task was not rejected."); //$NON-NLS-1$
+          } catch (final RejectedExecutionException expected) {
+            // expected
+          }
+          if (Execute.getStatistics().getRejected() != 1L) {
+            __QueueFullCheck.__fail("Rejected task not counted."); //$NON-NLS-1$
+          }
+          break;
+        }
+
+        case BLOCK: {
+          submitter = new Thread() {
+            @Override
+            public final void run() {
+              futures[3] = Execute.parallel(new Runnable() {
+                @Override
+                public final void run() {
+                  ranIn[0] = Thread.currentThread();
+                }
+              });
+            }
+          };
+          submitter.start();
+          submitter.join(500L);
+          if ((!(submitter.isAlive())) || (futures[3] != null)) {
+            __QueueFullCheck.__fail("Submitting thread did not block."); //$NON-NLS-1$
+          }
+          release.countDown();
+          submitter.join();
+          futures[3].get();
+          if ((ranIn[0] == null) || (ranIn[0] == submitter)) {
+            __QueueFullCheck.__fail(//
+                "Task was not executed by a worker thread."); //$NON-NLS-1$
+          }
+          break;
+        }
+
+        default: { // CALLER_RUNS
+          futures[3] = Execute.parallel(new Runnable() {
+            @Override
+            public final void run() {
+              ranIn[0] = Thread.currentThread();
+            }
+          });
+          if (ranIn[0] != Thread.currentThread()) {
+            __QueueFullCheck.__fail(//
+                "Task was not executed by the submitting thread."); //$NON-NLS-1$
+          }
+        }
+      }
+
+      release.countDown();
+      for (final Future<?> future : futures) {
+        if (future != null) {
+          future.get();
+        }
+      }
+      System.exit(0);
+    }
+  }
+
+  /** a task which blocks for some time */
+  private static final class __BlockingTask implements Callable<Object> {
+
+    /** create */
+    __BlockingTask() {
+      super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public final __BlockingTask call() throws Exception {
+      Thread.sleep(10L);
+      return this;
+    }
+  }
+
   /** a random task */
   private static final class __SimpleTask implements Callable<Object> {
 
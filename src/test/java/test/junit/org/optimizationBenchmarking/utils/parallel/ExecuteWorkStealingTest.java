@@ -0,0 +1,20 @@
+package test.junit.org.optimizationBenchmarking.utils.parallel;
+
+import org.optimizationBenchmarking.utils.parallel.Execute;
+
+/**
+ * Test the Execute environment with the work-stealing scheduler. Since
+ * the scheduler is chosen when {@link Execute} is loaded, this test only
+ * exercises the work-stealing mode if it runs in a fresh virtual machine.
+ */
+public class ExecuteWorkStealingTest extends ExecuteTest {
+
+  static {
+    System.setProperty(Execute.PARAM_WORK_STEALING, "true"); //$NON-NLS-1$
+  }
+
+  /** create */
+  public ExecuteWorkStealingTest() {
+    super();
+  }
+}
@@ -0,0 +1,368 @@
+package test.junit.org.optimizationBenchmarking.utils.parsers;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.math.NumericalTypes;
+import org.optimizationBenchmarking.utils.parsers.AnyNumberParser;
+import org.optimizationBenchmarking.utils.parsers.LooseDoubleParser;
+import org.optimizationBenchmarking.utils.parsers.LooseFloatParser;
+import org.optimizationBenchmarking.utils.parsers.LooseIntParser;
+import org.optimizationBenchmarking.utils.parsers.LooseLongParser;
+
+import shared.junit.TestBase;
+
+/**
+ * Test that the single-pass recognition of the loose number syntaxes
+ * gives the same results as the general parsing procedure. The general
+ * procedure is enforced by enclosing a string in parentheses, which the
+ * single-pass scanner does not handle.
+ */
+public class LooseNumberSyntaxTest extends TestBase {
+
+  /** the number of random strings to test */
+  private static final int RUNS = 20000;
+
+  /** the signs */
+  private static final String[] SIGNS = { "", "", "", "-", "+", "!", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$//$NON-NLS-6$
+      "--", "- ", " -+" };//$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+
+  /** the divisors */
+  private static final String[] DIVISORS = { "", "", "", "", "%", //$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$//$NON-NLS-4$//$NON-NLS-5$
+      "\u2030", " %", "\u00b5" };//$NON-NLS-1$//$NON-NLS-2$//$NON-NLS-3$
+
+  /** create */
+  public LooseNumberSyntaxTest() {
+    super();
+  }
+
+  /**
+   * Insert underscores and spaces at random positions
+   *
+   * @param text
+   *          the text
+   * @param random
+   *          the random number generator
+   * @return the new text
+   */
+  private static final String __clutter(final String text,
+      final Random random) {
+    final StringBuilder sb;
+
+    if (random.nextInt(3) > 0) {
+      return text;
+    }
+    sb = new StringBuilder();
+    for (int i = 0; i < text.length(); i++) {
+      if ((i > 0) && (random.nextInt(4) == 0)) {
+        sb.append(random.nextBoolean() ? '_' : ' ');
+      }
+      sb.append(text.charAt(i));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Create a random integer token
+   *
+   * @param random
+   *          the random number generator
+   * @return the token
+   */
+  private static final String __randomInteger(final Random random) {
+    final long value;
+
+    switch (random.nextInt(6)) {
+      case 0: {
+        value = random.nextInt(1000);
+        break;
+      }
+      case 1: {
+        value = random.nextInt();
+        break;
+      }
+      case 2: {
+        value = random.nextLong();
+        break;
+      }
+      default: {
+        value = (random.nextLong() >>> random.nextInt(64));
+      }
+    }
+
+    switch (random.nextInt(5)) {
+      case 0: {
+        return ("0x" + Long.toHexString(Math.abs(value))); //$NON-NLS-1$
+      }
+      case 1: {
+        return ("0b" + Long.toBinaryString(Math.abs(value) >>> 40)); //$NON-NLS-1$
+      }
+      case 2: {
+        return ("0o" + Long.toOctalString(Math.abs(value) >>> 10)); //$NON-NLS-1$
+      }
+      default: {
+        return Long.toString(value);
+      }
+    }
+  }
+
+  /**
+   * Create a random floating point token
+   *
+   * @param random
+   *          the random number generator
+   * @return the token
+   */
+  private static final String __randomDouble(final Random random) {
+    final double value;
+
+    switch (random.nextInt(4)) {
+      case 0: {
+        value = (random.nextInt(100000) / 1000d);
+        break;
+      }
+      case 1: {
+        value = Double.longBitsToDouble(random.nextLong());
+        break;
+      }
+      case 2: {
+        value = (random.nextGaussian() * Math.pow(10d,
+            (random.nextInt(60) - 30)));
+        break;
+      }
+      default: {
+        value = random.nextDouble();
+      }
+    }
+
+    switch (random.nextInt(6)) {
+      case 0: {
+        return Float.toString((float) value);
+      }
+      case 1: {
+        return String.format("%e", Double.valueOf(value)); //$NON-NLS-1$
+      }
+      case 2: {
+        return (Double.toString(value) + 'd');
+      }
+      case 3: {
+        return LooseNumberSyntaxTest.__randomInteger(random);
+      }
+      default: {
+        return Double.toString(value);
+      }
+    }
+  }
+
+  /**
+   * Create a random token
+   *
+   * @param core
+   *          the core number
+   * @param random
+   *          the random number generator
+   * @return the token
+   */
+  private static final String __decorate(final String core,
+      final Random random) {
+    return (LooseNumberSyntaxTest.SIGNS[random
+        .nextInt(LooseNumberSyntaxTest.SIGNS.length)]
+        + LooseNumberSyntaxTest.__clutter(core, random)
+        + LooseNumberSyntaxTest.DIVISORS[random
+            .nextInt(LooseNumberSyntaxTest.DIVISORS.length)]);
+  }
+
+  /**
+   * Parse a {@code double} and return its bits or the error class
+   *
+   * @param text
+   *          the text
+   * @return the result
+   */
+  private static final Object __double(final String text) {
+    try {
+      return Long.valueOf(Double.doubleToLongBits(
+          LooseDoubleParser.INSTANCE.parseDouble(text)));
+    } catch (final Throwable error) {
+      return error.getClass();
+    }
+  }
+
+  /**
+   * Parse a {@code long} and return it or the error class
+   *
+   * @param text
+   *          the text
+   * @return the result
+   */
+  private static final Object __long(final String text) {
+    try {
+      return Long.valueOf(LooseLongParser.INSTANCE.parseLong(text));
+    } catch (@SuppressWarnings("unused") final Throwable error) {
+      return IllegalArgumentException.class;
+    }
+  }
+
+  /**
+   * Parse an {@code int} and return it or the error class
+   *
+   * @param text
+   *          the text
+   * @return the result
+   */
+  private static final Object __int(final String text) {
+    try {
+      return Integer.valueOf(LooseIntParser.INSTANCE.parseInt(text));
+    } catch (@SuppressWarnings("unused") final Throwable error) {
+      return IllegalArgumentException.class;
+    }
+  }
+
+  /** test that random doubles are parsed like by the general procedure */
+  @Test(timeout = 3600000)
+  public void testDoubleSameAsGeneralProcedure() {
+    final Random random;
+    String text;
+
+    random = new Random();
+    for (int i = LooseNumberSyntaxTest.RUNS; (--i) >= 0;) {
+      text = LooseNumberSyntaxTest.__decorate(
+          LooseNumberSyntaxTest.__randomDouble(random), random);
+      Assert.assertEquals(text,
+          LooseNumberSyntaxTest.__double('(' + text + ')'),
+          LooseNumberSyntaxTest.__double(text));
+    }
+  }
+
+  /** test that random longs are parsed like by the general procedure */
+  @Test(timeout = 3600000)
+  public void testLongSameAsGeneralProcedure() {
+    final Random random;
+    String text;
+
+    random = new Random();
+    for (int i = LooseNumberSyntaxTest.RUNS; (--i) >= 0;) {
+      text = LooseNumberSyntaxTest.__decorate(
+          LooseNumberSyntaxTest.__randomInteger(random), random);
+      Assert.assertEquals(text,
+          LooseNumberSyntaxTest.__long('(' + text + ')'),
+          LooseNumberSyntaxTest.__long(text));
+    }
+  }
+
+  /** test that random ints are parsed like by the general procedure */
+  @Test(timeout = 3600000)
+  public void testIntSameAsGeneralProcedure() {
+    final Random random;
+    String text;
+
+    random = new Random();
+    for (int i = LooseNumberSyntaxTest.RUNS; (--i) >= 0;) {
+      text = LooseNumberSyntaxTest.__decorate(
+          LooseNumberSyntaxTest.__randomInteger(random), random);
+      Assert.assertEquals(text,
+          LooseNumberSyntaxTest.__int('(' + text + ')'),
+          LooseNumberSyntaxTest.__int(text));
+    }
+  }
+
+  /** test that plain doubles are parsed exactly like by java */
+  @Test(timeout = 3600000)
+  public void testPlainDoublesExact() {
+    final Random random;
+    double value;
+    String text;
+
+    random = new Random();
+    for (int i = LooseNumberSyntaxTest.RUNS; (--i) >= 0;) {
+      value = (random.nextBoolean() ? random.nextDouble()
+          : Double.longBitsToDouble(random.nextLong()));
+      text = Double.toString(value);
+      Assert.assertEquals(text,
+          Double.doubleToLongBits(Double.parseDouble(text)),
+          Double.doubleToLongBits(
+              LooseDoubleParser.INSTANCE.parseDouble(text)));
+      text = Float.toString((float) value);
+      Assert.assertEquals(text, Float.parseFloat(text),
+          LooseFloatParser.INSTANCE.parseFloat(text), 0f);
+    }
+  }
+
+  /** test some examples */
+  @Test(timeout = 3600000)
+  public void testExamples() {
+    Assert.assertEquals(1000d,
+        LooseDoubleParser.INSTANCE.parseDouble("1_000"), 0d); //$NON-NLS-1$
+    Assert.assertEquals(Double.POSITIVE_INFINITY,
+        LooseDoubleParser.INSTANCE.parseDouble("inf"), 0d); //$NON-NLS-1$
+    Assert.assertEquals(Double.NEGATIVE_INFINITY,
+        LooseDoubleParser.INSTANCE.parseDouble(" - INF "), 0d); //$NON-NLS-1$
+    Assert.assertTrue(
+        Double.isNaN(LooseDoubleParser.INSTANCE.parseDouble("nan"))); //$NON-NLS-1$
+    Assert.assertEquals(31d,
+        LooseDoubleParser.INSTANCE.parseDouble("0x1F"), 0d); //$NON-NLS-1$
+    Assert.assertEquals(0.5d,
+        LooseDoubleParser.INSTANCE.parseDouble("50%"), 0d); //$NON-NLS-1$
+    Assert.assertEquals(Double.POSITIVE_INFINITY,
+        LooseDoubleParser.INSTANCE.parseDouble("1e400"), 0d); //$NON-NLS-1$
+    Assert.assertEquals(0.1d,
+        LooseDoubleParser.INSTANCE.parseDouble("0.1"), 0d); //$NON-NLS-1$
+    Assert.assertEquals(-1234567.5d,
+        LooseDoubleParser.INSTANCE.parseDouble("-1 234 567.5"), 0d); //$NON-NLS-1$
+
+    Assert.assertEquals(1000L,
+        LooseLongParser.INSTANCE.parseLong("1_000")); //$NON-NLS-1$
+    Assert.assertEquals(0L, LooseLongParser.INSTANCE.parseLong("50%")); //$NON-NLS-1$
+    Assert.assertEquals(Long.MIN_VALUE,
+        LooseLongParser.INSTANCE.parseLong("-9223372036854775808")); //$NON-NLS-1$
+    Assert.assertEquals(-255,
+        LooseIntParser.INSTANCE.parseInt("-0xff")); //$NON-NLS-1$
+    Assert.assertEquals(12, LooseIntParser.INSTANCE.parseInt("\u216b")); //$NON-NLS-1$
+
+    Assert.assertEquals(Byte.valueOf((byte) 5),
+        AnyNumberParser.INSTANCE.parseString(" 5 ")); //$NON-NLS-1$
+    Assert.assertEquals(Long.valueOf(1L << 40),
+        AnyNumberParser.INSTANCE.parseString("0x100_0000_0000")); //$NON-NLS-1$
+  }
+
+  /**
+   * test that the non-finite constants are parsed to floating point
+   * numbers, exactly as by {@link java.lang.Double#parseDouble(String)}
+   */
+  @Test(timeout = 3600000)
+  public void testAnyNumberConstants() {
+    for (final String text : new String[] { "-Infinity", "Infinity", //$NON-NLS-1$//$NON-NLS-2$
+        "NaN" }) { //$NON-NLS-1$
+      Assert.assertEquals(text,
+          NumericalTypes.valueOf(Double.parseDouble(text)),
+          AnyNumberParser.INSTANCE.parseString(text));
+    }
+    Assert.assertEquals(Float.valueOf(Float.NEGATIVE_INFINITY),
+        AnyNumberParser.INSTANCE.parseString("-Infinity")); //$NON-NLS-1$
+  }
+
+  /** test parsing ranges of character sequences and arrays */
+  @Test(timeout = 3600000)
+  public void testRanges() {
+    final String text;
+    final char[] chars;
+
+    text = "a;-1_5;0x10;inf;2.5e1;b"; //$NON-NLS-1$
+    chars = text.toCharArray();
+
+    Assert.assertEquals(-15L,
+        LooseLongParser.INSTANCE.parseLong(text, 2, 6));
+    Assert.assertEquals(-15L,
+        LooseLongParser.INSTANCE.parseLong(chars, 2, 6));
+    Assert.assertEquals(16, LooseIntParser.INSTANCE.parseInt(text, 7, 11));
+    Assert.assertEquals(16,
+        LooseIntParser.INSTANCE.parseInt(chars, 7, 11));
+    Assert.assertEquals(Double.POSITIVE_INFINITY,
+        LooseDoubleParser.INSTANCE.parseDouble(text, 12, 15), 0d);
+    Assert.assertEquals(25d,
+        LooseDoubleParser.INSTANCE.parseDouble(chars, 16, 21), 0d);
+    Assert.assertEquals(Math.PI, LooseDoubleParser.INSTANCE
+        .parseDouble("x Math#PI y", 1, 10), 0d); //$NON-NLS-1$
+  }
+}
@@ -0,0 +1,224 @@
+package test.junit.org.optimizationBenchmarking.utils.text.numbers;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.text.numbers.NumberFormatUtils;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+/** Test the allocation-free number formatting */
+public class NumberFormatUtilsTest {
+
+  /** the special {@code double} values */
+  private static final double[] SPECIAL = { 0d, -0d, 1d, -1d,
+      Double.MIN_VALUE, -Double.MIN_VALUE, 2d * Double.MIN_VALUE,
+      3d * Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE,
+      Double.MIN_NORMAL, 1e7d, 9999999d, 1e-3d, 9.999e-4d, 123.456d,
+      1e22d, 1e23d, -7.66e22d, 100d, 1e16d, 0.1d, 0.3d, 1.1e-20d,
+      Math.PI, Math.E, Long.MAX_VALUE, Long.MIN_VALUE, };
+
+  /** create */
+  public NumberFormatUtilsTest() {
+    super();
+  }
+
+  /**
+   * Format a {@code double}
+   *
+   * @param value
+   *          the value
+   * @return the string
+   */
+  private static final String __format(final double value) {
+    final char[] data;
+    final int end;
+
+    data = new char[NumberFormatUtils.MAX_CHARS + 5];
+    end = NumberFormatUtils.formatDouble(value, data, 5);
+    Assert.assertTrue((end - 5) <= NumberFormatUtils.MAX_CHARS);
+    return String.valueOf(data, 5, end - 5);
+  }
+
+  /**
+   * check a formatted {@code double}
+   *
+   * @param value
+   *          the value
+   */
+  private static final void __check(final double value) {
+    final String string, java;
+    final BigDecimal exact, decimal;
+    final MemoryTextOutput mto;
+    BigDecimal shorter;
+    int digits;
+
+    string = NumberFormatUtilsTest.__format(value);
+    java = Double.toString(value);
+
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      Assert.assertEquals(java, string);
+      return;
+    }
+
+    // the layout must be the one of Java, with the same exponent
+    Assert.assertEquals(java.indexOf('E') < 0, string.indexOf('E') < 0);
+    Assert.assertEquals(java.startsWith("-"), string.startsWith("-")); //$NON-NLS-1$//$NON-NLS-2$
+    Assert.assertTrue(string.indexOf('.') > 0);
+
+    // the value must survive the round trip
+    Assert.assertEquals(Double.doubleToLongBits(value),
+        Double.doubleToLongBits(Double.parseDouble(string)));
+
+    if (value == 0d) {
+      Assert.assertEquals(java, string);
+      return;
+    }
+
+    // we must never be longer than Java, and if we have the same length,
+    // we must be at least as close to the exact value
+    exact = new BigDecimal(value);
+    decimal = new BigDecimal(string);
+    Assert.assertTrue(string.length() <= java.length());
+    if (string.length() == java.length()) {
+      Assert.assertTrue(exact.subtract(decimal).abs()
+          .compareTo(exact.subtract(new BigDecimal(java)).abs()) <= 0);
+    }
+
+    // no representation with fewer digits may round to the same value
+    digits = decimal.stripTrailingZeros().precision();
+    if (digits > 2) {
+      for (final RoundingMode mode : new RoundingMode[] {
+          RoundingMode.FLOOR, RoundingMode.CEILING }) {
+        shorter = exact.round(new MathContext(digits - 1, mode));
+        Assert.assertNotEquals(value, shorter.doubleValue(), 0d);
+      }
+    }
+
+    // appending must give the same result
+    mto = new MemoryTextOutput();
+    NumberFormatUtils.appendDouble(value, mto);
+    Assert.assertEquals(string, mto.toString());
+  }
+
+  /**
+   * check a formatted {@code long}
+   *
+   * @param value
+   *          the value
+   */
+  private static final void __check(final long value) {
+    final char[] data;
+    final int end;
+    final MemoryTextOutput mto;
+
+    data = new char[NumberFormatUtils.MAX_CHARS + 3];
+    end = NumberFormatUtils.formatLong(value, data, 3);
+    Assert.assertEquals(Long.toString(value),
+        String.valueOf(data, 3, end - 3));
+
+    mto = new MemoryTextOutput();
+    NumberFormatUtils.appendLong(value, mto);
+    Assert.assertEquals(Long.toString(value), mto.toString());
+  }
+
+  /** test the special {@code double} values */
+  @Test(timeout = 3600000)
+  public void testSpecialDoubles() {
+    for (final double d : NumberFormatUtilsTest.SPECIAL) {
+      NumberFormatUtilsTest.__check(d);
+    }
+    Assert.assertEquals("NaN", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(Double.NaN));
+    Assert.assertEquals("Infinity", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(Double.POSITIVE_INFINITY));
+    Assert.assertEquals("-Infinity", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(Double.NEGATIVE_INFINITY));
+    Assert.assertEquals("0.0", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(0d));
+    Assert.assertEquals("-0.0", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(-0d));
+    Assert.assertEquals("-7.66E22", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(-7.66e22d));
+    Assert.assertEquals("1.0E23", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(1e23d));
+    Assert.assertEquals("4.9E-324", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(Double.MIN_VALUE));
+    Assert.assertEquals("1.7976931348623157E308", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(Double.MAX_VALUE));
+    Assert.assertEquals("0.001", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(1e-3d));
+    Assert.assertEquals("1.0E7", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(1e7d));
+    Assert.assertEquals("123.456", //$NON-NLS-1$
+        NumberFormatUtilsTest.__format(123.456d));
+  }
+
+  /** test random {@code double} bit patterns */
+  @Test(timeout = 3600000)
+  public void testRandomDoubleBits() {
+    final Random random;
+    double d;
+
+    random = new Random();
+    for (int i = 100000; (--i) >= 0;) {
+      d = Double.longBitsToDouble(random.nextLong());
+      NumberFormatUtilsTest.__check(d);
+    }
+  }
+
+  /** test random {@code double}s of moderate magnitude */
+  @Test(timeout = 3600000)
+  public void testRandomDoubles() {
+    final Random random;
+
+    random = new Random();
+    for (int i = 100000; (--i) >= 0;) {
+      NumberFormatUtilsTest.__check(//
+          ((random.nextBoolean() ? 1d : (-1d)) * //
+              ((random.nextInt(1000000) / 1000d)
+                  + random.nextDouble()))
+              * Math.pow(10d, (random.nextInt(30) - 15)));
+    }
+  }
+
+  /** test {@code double}s which are integers */
+  @Test(timeout = 3600000)
+  public void testIntegerDoubles() {
+    final Random random;
+
+    random = new Random();
+    for (int i = 100000; (--i) >= 0;) {
+      NumberFormatUtilsTest
+          .__check((double) (random.nextLong() >> random.nextInt(64)));
+    }
+  }
+
+  /** test {@code long}s */
+  @Test(timeout = 3600000)
+  public void testLongs() {
+    final Random random;
+    long l;
+
+    NumberFormatUtilsTest.__check(0L);
+    NumberFormatUtilsTest.__check(Long.MIN_VALUE);
+    NumberFormatUtilsTest.__check(Long.MAX_VALUE);
+    NumberFormatUtilsTest.__check(Long.MIN_VALUE + 1L);
+    l = 1L;
+    for (int i = 0; i < 19; i++) {
+      NumberFormatUtilsTest.__check(l);
+      NumberFormatUtilsTest.__check(l - 1L);
+      NumberFormatUtilsTest.__check(-l);
+      NumberFormatUtilsTest.__check(1L - l);
+      l *= 10L;
+    }
+
+    random = new Random();
+    for (int i = 100000; (--i) >= 0;) {
+      NumberFormatUtilsTest.__check(random.nextLong() >> random.nextInt(64));
+    }
+  }
+}
@@ -0,0 +1,265 @@
+package test.junit.org.optimizationBenchmarking.utils.text.textOutput;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.optimizationBenchmarking.utils.text.textOutput.ChunkedTextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.ITextOutput;
+import org.optimizationBenchmarking.utils.text.textOutput.MemoryTextOutput;
+
+import shared.junit.org.optimizationBenchmarking.utils.text.textOutput.TextOutputTest;
+import shared.randomization.LoremIpsum;
+
+/**
+ * A test of the class
+ * {@link org.optimizationBenchmarking.utils.text.textOutput.ChunkedTextOutput}
+ */
+public class ChunkedTextOutputTest
+    extends TextOutputTest<ChunkedTextOutput> {
+
+  /** create */
+  public ChunkedTextOutputTest() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final ChunkedTextOutput createRootObject() {
+    return new ChunkedTextOutput();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final String getString(final ChunkedTextOutput root) {
+    return root.toString();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected final ITextOutput wrap(final ChunkedTextOutput root) {
+    return root;
+  }
+
+  /**
+   * Create a long random text
+   *
+   * @param rand
+   *          the random number generator
+   * @return the text
+   */
+  private static final String __text(final Random rand) {
+    final StringBuilder sb;
+
+    sb = new StringBuilder();
+    while (sb.length() < 20000) {
+      sb.append(LoremIpsum.loremIpsum(rand, (1 + rand.nextInt(100))));
+    }
+    return sb.toString();
+  }
+
+  /** test the char sequence methods and the sub-sequence views */
+  @Test(timeout = 3600000)
+  public void testCharSequence() {
+    final Random rand;
+    final ChunkedTextOutput cto;
+    final String text;
+    CharSequence sub;
+    int start, end;
+
+    rand = new Random();
+    text = ChunkedTextOutputTest.__text(rand);
+    cto = new ChunkedTextOutput();
+    for (start = 0; start < text.length(); start = end) {
+      end = Math.min(text.length(), (start + rand.nextInt(5000)));
+      cto.append(text, start, end);
+    }
+
+    Assert.assertEquals(text.length(), cto.length());
+    Assert.assertEquals(text, cto.toString());
+    Assert.assertTrue(cto.equals(text));
+    Assert.assertEquals(
+        new MemoryTextOutput().append((CharSequence) text).hashCode(),
+        cto.hashCode());
+    for (int i = text.length(); (--i) >= 0;) {
+      Assert.assertEquals(text.charAt(i), cto.charAt(i));
+    }
+
+    for (int i = 100; (--i) >= 0;) {
+      start = rand.nextInt(text.length());
+      end = (start + rand.nextInt(text.length() - start));
+      sub = cto.subSequence(start, end);
+      Assert.assertEquals(text.substring(start, end), sub.toString());
+      Assert.assertEquals((end - start), sub.length());
+      if (end > start) {
+        Assert.assertEquals(text.charAt(start), sub.charAt(0));
+        Assert.assertEquals(text.substring(start + 1, end),
+            sub.subSequence(1, sub.length()).toString());
+      }
+    }
+  }
+
+  /** test writing the contents to another text output */
+  @Test(timeout = 3600000)
+  public void testToText() {
+    final Random rand;
+    final ChunkedTextOutput cto;
+    final MemoryTextOutput mto;
+    final String text;
+
+    rand = new Random();
+    text = ChunkedTextOutputTest.__text(rand);
+    cto = new ChunkedTextOutput();
+    cto.append(text);
+
+    mto = new MemoryTextOutput();
+    cto.toText(mto);
+    Assert.assertEquals(text, mto.toString());
+
+    mto.clear();
+    mto.append(cto.subSequence(5, 10000));
+    Assert.assertEquals(text.substring(5, 10000), mto.toString());
+  }
+
+  /** test that cleared and released text outputs can be re-used */
+  @Test(timeout = 3600000)
+  public void testClearAndRelease() {
+    final Random rand;
+    final ChunkedTextOutput cto;
+    String text;
+
+    rand = new Random();
+    cto = new ChunkedTextOutput();
+    for (int i = 10; (--i) >= 0;) {
+      text = ChunkedTextOutputTest.__text(rand);
+      cto.append(text);
+      Assert.assertEquals(text, cto.toString());
+      if (rand.nextBoolean()) {
+        cto.clear();
+      } else {
+        cto.release();
+      }
+      Assert.assertEquals(0, cto.length());
+      Assert.assertEquals("", cto.toString()); //$NON-NLS-1$
+    }
+  }
+
+  /** test appending numbers */
+  @Test(timeout = 3600000)
+  public void testNumbers() {
+    final Random rand;
+    final ChunkedTextOutput cto;
+    final StringBuilder sb;
+    long l;
+    int i;
+
+    rand = new Random();
+    cto = new ChunkedTextOutput();
+    sb = new StringBuilder();
+
+    cto.append(Long.MIN_VALUE);
+    sb.append(Long.MIN_VALUE);
+    cto.append(Long.MAX_VALUE);
+    sb.append(Long.MAX_VALUE);
+    cto.append(Integer.MIN_VALUE);
+    sb.append(Integer.MIN_VALUE);
+    cto.append(0);
+    sb.append(0);
+
+    for (int j = 10000; (--j) >= 0;) {
+      l = (rand.nextLong() >> rand.nextInt(64));
+      cto.append(l);
+      sb.append(l);
+      i = (rand.nextInt() >> rand.nextInt(32));
+      cto.append(i);
+      sb.append(i);
+      cto.append(' ');
+      sb.append(' ');
+    }
+
+    Assert.assertEquals(sb.toString(), cto.toString());
+  }
+
+  /**
+   * test reading from a reader
+   *
+   * @throws IOException
+   *           if i/o fails: but should not
+   */
+  @Test(timeout = 3600000)
+  public void testAppendAll() throws IOException {
+    final Random rand;
+    final ChunkedTextOutput cto;
+    String text;
+
+    rand = new Random();
+    cto = new ChunkedTextOutput();
+    for (int i = 10; (--i) >= 0;) {
+      text = ChunkedTextOutputTest.__text(rand);
+      cto.clear();
+      cto.append(text, 0, 100);
+      cto.appendAll(new StringReader(text));
+      Assert.assertEquals((text.substring(0, 100) + text), cto.toString());
+    }
+  }
+
+  /** test that text spilled to a temporary file is read back correctly */
+  @Test(timeout = 3600000)
+  public void testSpill() {
+    final Random rand;
+    final ChunkedTextOutput cto;
+    final MemoryTextOutput mto;
+    char[] chars;
+    String text;
+    int start, end;
+
+    rand = new Random();
+    cto = new ChunkedTextOutput(4096);
+    mto = new MemoryTextOutput();
+    for (int j = 3; (--j) >= 0;) {
+      text = ChunkedTextOutputTest.__text(rand) + '\ud800'
+          + ChunkedTextOutputTest.__text(rand);
+      for (start = 0; start < text.length(); start = end) {
+        end = Math.min(text.length(), (start + rand.nextInt(3000)));
+        cto.append(text, start, end);
+      }
+
+      Assert.assertTrue(cto.isSpilled());
+      Assert.assertEquals(text.length(), cto.length());
+      Assert.assertEquals(text, cto.toString());
+      Assert.assertTrue(cto.equals(text));
+      Assert.assertEquals(
+          new MemoryTextOutput().append((CharSequence) text).hashCode(),
+          cto.hashCode());
+
+      mto.clear();
+      cto.toText(mto);
+      Assert.assertEquals(text, mto.toString());
+
+      for (int i = 100; (--i) >= 0;) {
+        start = rand.nextInt(text.length());
+        end = (start + rand.nextInt(text.length() - start));
+        Assert.assertEquals(text.charAt(start), cto.charAt(start));
+        Assert.assertEquals(text.substring(start, end),
+            cto.subSequence(start, end).toString());
+        chars = new char[end - start];
+        cto.getChars(start, end, chars, 0);
+        Assert.assertEquals(text.substring(start, end),
+            String.valueOf(chars));
+        mto.clear();
+        mto.append(cto.subSequence(start, end));
+        Assert.assertEquals(text.substring(start, end), mto.toString());
+      }
+
+      if (rand.nextBoolean()) {
+        cto.clear();
+      } else {
+        cto.release();
+      }
+      Assert.assertFalse(cto.isSpilled());
+      Assert.assertEquals(0, cto.length());
+    }
+  }
+}